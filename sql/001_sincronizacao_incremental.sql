@@ -0,0 +1,17 @@
+-- Sincronização incremental da tela principal (UsuarioDAO.listarAlteradosDesde).
+-- MySQL 8. Execute uma vez sobre o banco user_management:
+--   mysql -u root -p user_management < sql/001_sincronizacao_incremental.sql
+
+-- data_atualizacao avança a cada escrita na linha (inclusive desativação e reativação)
+ALTER TABLE usuarios
+    MODIFY data_atualizacao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP;
+
+-- Leitura das alterações desde a marca, em ordem de data
+CREATE INDEX idx_usuarios_data_atualizacao ON usuarios (data_atualizacao, id);
+
+-- Exclusões permanentes (a linha some de usuarios; o registro fica aqui)
+CREATE TABLE IF NOT EXISTS usuarios_excluidos (
+    id INT PRIMARY KEY,
+    data_exclusao TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    INDEX idx_usuarios_excluidos_data (data_exclusao)
+);
@@ -0,0 +1,353 @@
+package api;
+
+import config.DatabaseConfig;
+import service.UsuarioService;
+import util.Histograma;
+import util.PasswordUtil;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Teste de carga local da API HTTP: sobe o ServidorApi sobre um banco H2 populado,
+ * dispara clientes concorrentes (uma thread virtual cada) com uma mistura de leituras
+ * e escritas durante um tempo fixo e informa a vazão e os percentis de latência
+ * por operação, além da contagem de respostas por status.
+ * 
+ * O login é feito uma única vez e o token é compartilhado pelos clientes: logins
+ * repetidos do mesmo endereço seriam recusados pelo LimitadorLogin, e o custo do
+ * BCrypt já é medido pelos benchmarks JMH.
+ * 
+ * Argumentos: clientes (padrão: 64), duração em segundos (20) e usuários na tabela (10000).
+ * Apaga e recria os dados da tabela usuarios, por isso só executa em banco H2. Fica
+ * fora do pacote de produção, no perfil benchmark (informe sempre exec.args: sem ele
+ * o exec:java recebe os argumentos configurados para o JMH):
+ * mvn -Pbenchmark,embedded compile exec:java -Dexec.mainClass="api.BenchmarkApi" \
+ *     -Ddb.url="jdbc:h2:mem:carga;MODE=MySQL;DB_CLOSE_DELAY=-1" -Dexec.args="64 20 10000"
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class BenchmarkApi {
+    
+    /**
+     * Operações sorteadas por cada cliente, com o peso (em %) de cada uma na mistura.
+     */
+    private enum Operacao {
+        LISTAR(40), BUSCAR(20), OBTER(20), ESTATISTICAS(5), ATUALIZAR(9), EXCLUIR_REATIVAR(4), CADASTRAR(2);
+        
+        final int peso;
+        
+        Operacao(int peso) {
+            this.peso = peso;
+        }
+    }
+    
+    private static final String[] PRENOMES = {
+        "João", "José", "Maria", "Ana", "Antônio", "Francisco", "Carlos", "Paulo", "Pedro", "Lucas"
+    };
+    
+    private static final String[] SOBRENOMES = {
+        "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes"
+    };
+    
+    private static final String[] CIDADES = { "Porto Alegre", "São Paulo", "Curitiba", "Recife", "Manaus" };
+    
+    private static final String[] TERMOS = { "silva", "maria", "usuario12", "joã", "xyz" };
+    
+    private static final String EMAIL_ADMIN = "admin.carga@exemplo.com";
+    private static final String SENHA_ADMIN = "Carga@2024!";
+    
+    private static final String SENHA_CRIPTOGRAFADA =
+            "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX5vKQ8Qe3.XcGSyGfS3/mRyB9m";
+    
+    private static final int AQUECIMENTO_SEGUNDOS = 5;
+    
+    private final HttpClient http;
+    private final String base;
+    private final String token;
+    private final int totalUsuarios;
+    
+    private final Map<Operacao, Histograma> latencias = new EnumMap<>(Operacao.class);
+    private final Map<Integer, LongAdder> statusRecebidos = new ConcurrentHashMap<>();
+    private final LongAdder falhasConexao = new LongAdder();
+    private final AtomicInteger proximoCadastro = new AtomicInteger();
+    
+    private BenchmarkApi(HttpClient http, String base, String token, int totalUsuarios) {
+        this.http = http;
+        this.base = base;
+        this.token = token;
+        this.totalUsuarios = totalUsuarios;
+        for (Operacao operacao : Operacao.values()) {
+            latencias.put(operacao, new Histograma());
+        }
+    }
+    
+    public static void main(String[] args) throws Exception {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            if (!conn.getMetaData().getURL().startsWith("jdbc:h2:")) {
+                System.err.println("✗ O teste de carga apaga a tabela usuarios; execute-o apenas com db.url jdbc:h2:...");
+                System.exit(1);
+            }
+        }
+        
+        int clientes = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+        int duracaoSegundos = args.length > 1 ? Integer.parseInt(args[1]) : 20;
+        int totalUsuarios = args.length > 2 ? Integer.parseInt(args[2]) : 10_000;
+        
+        ServidorApi api = null;
+        try (ExecutorService threads = Executors.newVirtualThreadPerTaskExecutor()) {
+            popular(totalUsuarios);
+            
+            api = new ServidorApi(0, 1024, new UsuarioService());
+            api.iniciar();
+            
+            HttpClient http = HttpClient.newBuilder()
+                    .executor(threads)
+                    .connectTimeout(Duration.ofSeconds(5))
+                    .build();
+            String base = "http://localhost:" + api.getPorta() + "/api";
+            BenchmarkApi carga = new BenchmarkApi(http, base, login(http, base), totalUsuarios);
+            
+            System.out.printf("%nAquecimento: %d clientes por %d s%n", clientes, AQUECIMENTO_SEGUNDOS);
+            carga.executar(threads, clientes, AQUECIMENTO_SEGUNDOS);
+            carga.limpar();
+            
+            System.out.printf("Medição: %d clientes por %d s%n", clientes, duracaoSegundos);
+            long inicio = System.nanoTime();
+            carga.executar(threads, clientes, duracaoSegundos);
+            carga.relatar((System.nanoTime() - inicio) / 1e9);
+        } finally {
+            if (api != null) {
+                api.parar(1);
+            }
+            DatabaseConfig.closeConnection();
+        }
+    }
+    
+    /**
+     * Executa os clientes até o fim do prazo e aguarda todos terminarem.
+     */
+    private void executar(ExecutorService threads, int clientes, int segundos) throws InterruptedException {
+        long prazo = System.nanoTime() + segundos * 1_000_000_000L;
+        List<Thread> executando = new ArrayList<>(clientes);
+        for (int i = 0; i < clientes; i++) {
+            executando.add(Thread.ofVirtual().name("carga-", i).start(() -> cliente(prazo)));
+        }
+        for (Thread thread : executando) {
+            thread.join();
+        }
+    }
+    
+    /**
+     * Laço de um cliente: sorteia a operação pelo peso, executa e registra a latência.
+     * A listagem segue o cursor da página anterior, como um cliente que pagina a tabela.
+     */
+    private void cliente(long prazo) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String cursor = null;
+        
+        while (System.nanoTime() < prazo) {
+            Operacao operacao = sortear(random.nextInt(100));
+            long inicio = System.nanoTime();
+            try {
+                HttpResponse<String> resposta = switch (operacao) {
+                    case LISTAR -> get("/usuarios?tamanho=50" + (cursor == null ? "" : "&apos=" + cursor));
+                    case BUSCAR -> get("/usuarios?tamanho=50&q="
+                                       + URLEncoder.encode(TERMOS[random.nextInt(TERMOS.length)], StandardCharsets.UTF_8));
+                    case OBTER -> get("/usuarios/" + idAleatorio(random));
+                    case ESTATISTICAS -> get("/estatisticas");
+                    case ATUALIZAR -> enviar("PUT", "/usuarios/" + idAleatorio(random),
+                                             "{\"cidade\":\"" + CIDADES[random.nextInt(CIDADES.length)] + "\"}");
+                    case EXCLUIR_REATIVAR -> excluirReativar(idAleatorio(random));
+                    case CADASTRAR -> {
+                        int n = proximoCadastro.incrementAndGet();
+                        yield enviar("POST", "/usuarios", "{\"nome\":\"Carga " + n + "\",\"email\":\"carga" + n
+                                                          + "@exemplo.com\",\"senha\":\"Carga@" + n + "xY\"}");
+                    }
+                };
+                latencias.get(operacao).registrar(System.nanoTime() - inicio);
+                statusRecebidos.computeIfAbsent(resposta.statusCode(), s -> new LongAdder()).increment();
+                
+                if (operacao == Operacao.LISTAR && resposta.statusCode() == 200) {
+                    cursor = proximoCursor(resposta.body());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException e) {
+                falhasConexao.increment();
+            }
+        }
+    }
+    
+    private static Operacao sortear(int sorteio) {
+        int acumulado = 0;
+        for (Operacao operacao : Operacao.values()) {
+            acumulado += operacao.peso;
+            if (sorteio < acumulado) {
+                return operacao;
+            }
+        }
+        return Operacao.LISTAR;
+    }
+    
+    /**
+     * Um usuário comum qualquer (o ID 1 é o administrador usado no login).
+     */
+    private int idAleatorio(ThreadLocalRandom random) {
+        return 2 + random.nextInt(totalUsuarios);
+    }
+    
+    private HttpResponse<String> excluirReativar(int id) throws IOException, InterruptedException {
+        HttpResponse<String> exclusao = enviar("DELETE", "/usuarios/" + id, null);
+        return exclusao.statusCode() == 204 ? enviar("POST", "/usuarios/" + id + "/reativar", "") : exclusao;
+    }
+    
+    private HttpResponse<String> get(String caminho) throws IOException, InterruptedException {
+        return enviar("GET", caminho, null);
+    }
+    
+    private HttpResponse<String> enviar(String metodo, String caminho, String corpo)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder requisicao = HttpRequest.newBuilder(URI.create(base + caminho))
+                .timeout(Duration.ofSeconds(30))
+                .header("Authorization", "Bearer " + token);
+        if (corpo == null) {
+            requisicao.method(metodo, HttpRequest.BodyPublishers.noBody());
+        } else {
+            requisicao.header("Content-Type", "application/json")
+                      .method(metodo, HttpRequest.BodyPublishers.ofString(corpo, StandardCharsets.UTF_8));
+        }
+        return http.send(requisicao.build(), HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+    }
+    
+    private static String proximoCursor(String corpo) {
+        Object proximo = Json.lerObjeto(corpo).get("proximo");
+        return proximo == null ? null : proximo.toString();
+    }
+    
+    private static String login(HttpClient http, String base) throws IOException, InterruptedException {
+        String corpo = Json.escrever(Map.of("email", EMAIL_ADMIN, "senha", SENHA_ADMIN));
+        HttpRequest requisicao = HttpRequest.newBuilder(URI.create(base + "/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(corpo, StandardCharsets.UTF_8))
+                .build();
+        HttpResponse<String> resposta = http.send(requisicao, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        if (resposta.statusCode() != 200) {
+            throw new IllegalStateException("Login falhou (" + resposta.statusCode() + "): " + resposta.body());
+        }
+        return Json.lerObjeto(resposta.body()).get("token").toString();
+    }
+    
+    private void limpar() {
+        latencias.values().forEach(Histograma::limpar);
+        statusRecebidos.clear();
+        falhasConexao.reset();
+    }
+    
+    private void relatar(double segundos) {
+        long total = 0;
+        for (Histograma histograma : latencias.values()) {
+            total += histograma.getContagem();
+        }
+        
+        System.out.printf("%n%,d requisições em %.1f s: %,.0f req/s%n", total, segundos, total / segundos);
+        System.out.printf("%-17s %9s %9s %9s %9s %9s %9s%n",
+                          "operação", "n", "média", "p50", "p95", "p99", "máx (ms)");
+        for (Map.Entry<Operacao, Histograma> entrada : latencias.entrySet()) {
+            Histograma h = entrada.getValue();
+            System.out.printf("%-17s %9d %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                              entrada.getKey().name().toLowerCase(), h.getContagem(), h.getMediaMs(),
+                              h.getPercentilMs(50), h.getPercentilMs(95), h.getPercentilMs(99), h.getMaximoMs());
+        }
+        System.out.println("(percentis estimados por faixas de potência de 2, erro máximo de 2x;"
+                           + " excluir_reativar conta as duas requisições)");
+        
+        System.out.print("Status:");
+        statusRecebidos.entrySet().stream()
+                .sorted(Map.Entry.comparingByKey())
+                .forEach(e -> System.out.printf(" %d=%,d", e.getKey(), e.getValue().sum()));
+        System.out.printf("; falhas de conexão=%,d%n", falhasConexao.sum());
+        System.out.println(DatabaseConfig.getPoolInfo());
+    }
+    
+    /**
+     * Recria o conteúdo da tabela com o administrador do login (ID 1) e usuários
+     * sintéticos, todos ativos.
+     */
+    private static void popular(int tamanho) throws SQLException {
+        String ddl = "CREATE TABLE IF NOT EXISTS usuarios (" +
+                     "id INT AUTO_INCREMENT PRIMARY KEY, nome VARCHAR(100) NOT NULL, " +
+                     "email VARCHAR(100) NOT NULL UNIQUE, senha VARCHAR(255) NOT NULL, telefone VARCHAR(20), " +
+                     "perfil VARCHAR(10) DEFAULT 'user', endereco VARCHAR(200), cidade VARCHAR(100), " +
+                     "estado VARCHAR(100), pais VARCHAR(100), codigo_postal VARCHAR(20), ativo BOOLEAN DEFAULT TRUE, " +
+                     "data_criacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP, data_atualizacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+        String ddlExcluidos = "CREATE TABLE IF NOT EXISTS usuarios_excluidos (" +
+                              "id INT PRIMARY KEY, data_exclusao TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+        String sql = "INSERT INTO usuarios (nome, email, senha, perfil, cidade, pais) VALUES (?, ?, ?, ?, ?, 'Brasil')";
+        Random random = new Random(42);
+        long inicio = System.nanoTime();
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(ddl);
+                stmt.execute(ddlExcluidos);
+                stmt.execute("TRUNCATE TABLE usuarios RESTART IDENTITY");
+                stmt.execute("TRUNCATE TABLE usuarios_excluidos");
+            }
+            
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setString(1, "Administrador Carga");
+                stmt.setString(2, EMAIL_ADMIN);
+                stmt.setString(3, PasswordUtil.criptografarSenha(SENHA_ADMIN));
+                stmt.setString(4, "admin");
+                stmt.setString(5, CIDADES[0]);
+                stmt.addBatch();
+                
+                for (int i = 1; i <= tamanho; i++) {
+                    stmt.setString(1, PRENOMES[random.nextInt(PRENOMES.length)] + " " +
+                                      SOBRENOMES[random.nextInt(SOBRENOMES.length)]);
+                    stmt.setString(2, "usuario" + i + "@exemplo.com");
+                    stmt.setString(3, SENHA_CRIPTOGRAFADA);
+                    stmt.setString(4, "user");
+                    stmt.setString(5, CIDADES[random.nextInt(CIDADES.length)]);
+                    stmt.addBatch();
+                    
+                    if (i % 5_000 == 0) {
+                        stmt.executeBatch();
+                        conn.commit();
+                    }
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        
+        System.out.printf("Tabela populada: %,d usuários em %.1f s%n", tamanho, (System.nanoTime() - inicio) / 1e9);
+    }
+}
@@ -0,0 +1,183 @@
+package dao;
+
+import config.DatabaseConfig;
+import model.UsuarioResumo;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Compara a busca por substring do nome via LIKE '%termo%' com a busca pelo índice
+ * de trigramas em memória, em tabelas de 100 mil e 1 milhão de usuários (ou nos
+ * tamanhos informados como argumentos).
+ * 
+ * Apaga e recria os dados da tabela usuarios, por isso só executa em banco H2. Fica
+ * fora do pacote de produção, no perfil benchmark (informe sempre exec.args: sem ele
+ * o exec:java recebe os argumentos configurados para o JMH):
+ * mvn -Pbenchmark,embedded compile exec:java -Dexec.mainClass="dao.BenchmarkBuscaNome" \
+ *     -Ddb.url="jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1" -Dexec.args="100000 1000000"
+ * (com MAVEN_OPTS="-Xmx2g" para 1 milhão de linhas)
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class BenchmarkBuscaNome {
+    
+    private static final String[] PRENOMES = {
+        "João", "José", "Maria", "Ana", "Antônio", "Francisco", "Carlos", "Paulo", "Pedro", "Lucas",
+        "Luíza", "Márcia", "Fábio", "Sérgio", "Cecília", "Letícia", "Inês", "Otávio", "Vinícius", "Flávia"
+    };
+    
+    private static final String[] SOBRENOMES = {
+        "Silva", "Santos", "Oliveira", "Souza", "Rodrigues", "Ferreira", "Alves", "Pereira", "Lima", "Gomes",
+        "Conceição", "Araújo", "Simões", "Magalhães", "Gonçalves", "Brandão", "Falcão", "Assunção", "Leão", "Mendonça"
+    };
+    
+    private static final String[] TERMOS = { "silva", "Conceição", "joao", "ão", "Vinícius Falcão", "xyz" };
+    
+    private static final String[] PREFIXOS = { "jo", "conceicao s", "usuario99", "xyz" };
+    
+    private static final int REPETICOES = 5;
+    
+    private static final int REPETICOES_SUGESTAO = 10_000;
+    
+    private static final String SENHA_CRIPTOGRAFADA =
+            "$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX5vKQ8Qe3.XcGSyGfS3/mRyB9m";
+    
+    public static void main(String[] args) throws Exception {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            if (!conn.getMetaData().getURL().startsWith("jdbc:h2:")) {
+                System.err.println("✗ O benchmark apaga a tabela usuarios; execute-o apenas com db.url jdbc:h2:...");
+                System.exit(1);
+            }
+        }
+        
+        int[] tamanhos = args.length > 0
+                ? Arrays.stream(args).mapToInt(Integer::parseInt).toArray()
+                : new int[] { 100_000, 1_000_000 };
+        
+        try {
+            for (int tamanho : tamanhos) {
+                executar(tamanho);
+            }
+        } finally {
+            DatabaseConfig.closeConnection();
+        }
+    }
+    
+    private static void executar(int tamanho) throws SQLException, InterruptedException {
+        System.out.printf("%n==================== %,d usuários ====================%n", tamanho);
+        popular(tamanho);
+        
+        // Índice
+        UsuarioDAO.reiniciarIndiceBusca();
+        long inicio = System.nanoTime();
+        UsuarioDAO.prepararIndiceBusca();
+        while (!UsuarioDAO.isIndiceBuscaPronto()) {
+            Thread.sleep(10);
+        }
+        System.out.printf("Carga do índice: %.1f s (~%d MB estimados)%n",
+                          (System.nanoTime() - inicio) / 1e9, UsuarioDAO.getMemoriaIndiceBuscaBytes() / (1024 * 1024));
+        
+        UsuarioDAO dao = new UsuarioDAO();
+        System.out.printf("%-18s %10s %8s %13s %12s %8s %7s%n",
+                          "termo", "LIKE (ms)", "linhas", "só índice (ms)", "índice (ms)", "linhas", "ganho");
+        
+        for (String termo : TERMOS) {
+            // Uma execução de aquecimento para cada caminho antes de medir
+            dao.buscarResumosPorNomeLike(termo);
+            dao.buscarResumosPorNome(termo);
+            
+            long likeNs = 0, somenteIndiceNs = 0, indiceNs = 0;
+            int linhasLike = 0, linhasIndice = 0;
+            for (int i = 0; i < REPETICOES; i++) {
+                long t0 = System.nanoTime();
+                List<UsuarioResumo> viaLike = dao.buscarResumosPorNomeLike(termo);
+                long t1 = System.nanoTime();
+                UsuarioDAO.buscarIdsPorNomeNoIndice(termo);
+                long t2 = System.nanoTime();
+                List<UsuarioResumo> viaIndice = dao.buscarResumosPorNome(termo);
+                long t3 = System.nanoTime();
+                
+                likeNs += t1 - t0;
+                somenteIndiceNs += t2 - t1;
+                indiceNs += t3 - t2;
+                linhasLike = viaLike.size();
+                linhasIndice = viaIndice.size();
+            }
+            
+            double likeMs = likeNs / 1e6 / REPETICOES;
+            double indiceMs = indiceNs / 1e6 / REPETICOES;
+            System.out.printf("%-18s %10.2f %8d %14.2f %12.2f %8d %6.1fx%n",
+                              termo, likeMs, linhasLike, somenteIndiceNs / 1e6 / REPETICOES, indiceMs, linhasIndice,
+                              likeMs / Math.max(indiceMs, 0.001));
+        }
+        System.out.println("(\"só índice\" exclui a leitura das linhas no banco; o índice ignora acentos e maiúsculas,");
+        System.out.println(" o LIKE do H2 não, por isso as contagens podem diferir)");
+        
+        // Sugestões de autocompletar (sem banco)
+        System.out.printf("%nSugestões (~%d MB estimados):%n", UsuarioDAO.getMemoriaSugestoesBytes() / (1024 * 1024));
+        for (String prefixo : PREFIXOS) {
+            dao.sugerirPorPrefixo(prefixo, 8);
+            long t0 = System.nanoTime();
+            int quantidade = 0;
+            for (int i = 0; i < REPETICOES_SUGESTAO; i++) {
+                quantidade = dao.sugerirPorPrefixo(prefixo, 8).size();
+            }
+            System.out.printf("%-18s %8.1f µs %3d sugestões%n",
+                              prefixo, (System.nanoTime() - t0) / 1e3 / REPETICOES_SUGESTAO, quantidade);
+        }
+    }
+    
+    /**
+     * Recria o conteúdo da tabela com nomes e emails sintéticos (90% ativos).
+     */
+    private static void popular(int tamanho) throws SQLException {
+        String ddl = "CREATE TABLE IF NOT EXISTS usuarios (" +
+                     "id INT AUTO_INCREMENT PRIMARY KEY, nome VARCHAR(100) NOT NULL, " +
+                     "email VARCHAR(100) NOT NULL UNIQUE, senha VARCHAR(255) NOT NULL, telefone VARCHAR(20), " +
+                     "perfil VARCHAR(10) DEFAULT 'user', endereco VARCHAR(200), cidade VARCHAR(100), " +
+                     "estado VARCHAR(100), pais VARCHAR(100), codigo_postal VARCHAR(20), ativo BOOLEAN DEFAULT TRUE, " +
+                     "data_criacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP, data_atualizacao TIMESTAMP DEFAULT CURRENT_TIMESTAMP)";
+        String sql = "INSERT INTO usuarios (nome, email, senha, perfil, ativo) VALUES (?, ?, ?, 'user', ?)";
+        Random random = new Random(42);
+        long inicio = System.nanoTime();
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            try (Statement stmt = conn.createStatement()) {
+                stmt.execute(ddl);
+                stmt.execute("TRUNCATE TABLE usuarios");
+            }
+            
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 1; i <= tamanho; i++) {
+                    String nome = PRENOMES[random.nextInt(PRENOMES.length)] + " " +
+                                  SOBRENOMES[random.nextInt(SOBRENOMES.length)] + " " +
+                                  SOBRENOMES[random.nextInt(SOBRENOMES.length)];
+                    stmt.setString(1, nome);
+                    stmt.setString(2, "usuario" + i + "@exemplo.com");
+                    stmt.setString(3, SENHA_CRIPTOGRAFADA);
+                    stmt.setBoolean(4, random.nextInt(10) != 0);
+                    stmt.addBatch();
+                    
+                    if (i % 5_000 == 0) {
+                        stmt.executeBatch();
+                        conn.commit();
+                    }
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } finally {
+                conn.setAutoCommit(true);
+            }
+        }
+        
+        System.out.printf("Tabela populada: %,d usuários em %.1f s%n", tamanho, (System.nanoTime() - inicio) / 1e9);
+    }
+}
@@ -0,0 +1,94 @@
+package dao;
+
+import model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.PasswordUtil;
+
+import java.lang.reflect.Proxy;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede a conversão de uma linha do ResultSet em Usuario (extrairUsuarioDoResultSet),
+ * executada para cada linha de toda listagem, sem o custo do banco: o ResultSet é
+ * um proxy que devolve valores fixos de um mapa.
+ * 
+ * mvn -Pbenchmark compile exec:exec -Djmh.incluir=BenchmarkMapeamentoUsuario
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkMapeamentoUsuario {
+    
+    private UsuarioDAO dao;
+    private ResultSet linha;
+    
+    @Setup
+    public void preparar() {
+        Timestamp agora = Timestamp.valueOf(LocalDateTime.of(2024, 5, 10, 14, 30));
+        
+        Map<String, Object> valores = new HashMap<>();
+        valores.put("id", 42);
+        valores.put("nome", "Maria da Conceição Silva");
+        valores.put("email", "maria.silva@exemplo.com.br");
+        valores.put("senha", PasswordUtil.criptografarSenha("Senha@Forte123", 4));
+        valores.put("telefone", "+55 11 98765-4321");
+        valores.put("perfil", "user");
+        valores.put("endereco", "Rua das Flores, 123");
+        valores.put("cidade", "São Paulo");
+        valores.put("estado", "SP");
+        valores.put("pais", "Brasil");
+        valores.put("codigo_postal", "01310-100");
+        valores.put("ativo", Boolean.TRUE);
+        valores.put("data_criacao", agora);
+        valores.put("data_atualizacao", agora);
+        
+        dao = new UsuarioDAO();
+        linha = criarResultSet(valores);
+    }
+    
+    @Benchmark
+    public Usuario extrairUsuarioDoResultSet() throws SQLException {
+        return dao.extrairUsuarioDoResultSet(linha);
+    }
+    
+    /**
+     * ResultSet de uma linha só, respondendo aos getters por nome de coluna.
+     */
+    private static ResultSet criarResultSet(Map<String, Object> valores) {
+        return (ResultSet) Proxy.newProxyInstance(
+                ResultSet.class.getClassLoader(),
+                new Class<?>[] { ResultSet.class },
+                (proxy, metodo, args) -> {
+                    Object valor = args != null && args.length == 1 && args[0] instanceof String coluna
+                                   ? valores.get(coluna) : null;
+                    return switch (metodo.getName()) {
+                        case "getInt" -> valor != null ? (Integer) valor : 0;
+                        case "getBoolean" -> valor != null && (Boolean) valor;
+                        case "getString", "getTimestamp", "getObject" -> valor;
+                        case "wasNull" -> false;
+                        default -> throw new UnsupportedOperationException(metodo.getName());
+                    };
+                });
+    }
+}
@@ -0,0 +1,57 @@
+package util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara a verificação de senha nos algoritmos suportados, com os parâmetros
+ * padrão de PasswordUtil. Com o profiler de GC mostra a alocação por verificação:
+ * praticamente nenhuma no PBKDF2 e os 16 MiB da tabela do scrypt.
+ *
+ * mvn -Pbenchmark compile exec:exec -Djmh.incluir=BenchmarkAlgoritmosSenha
+ *
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchmarkAlgoritmosSenha {
+
+    private static final String SENHA = "Senha@Forte123";
+
+    @Param({ "bcrypt", "pbkdf2", "scrypt" })
+    private String algoritmo;
+
+    private AlgoritmoSenha implementacao;
+    private String hash;
+
+    @Setup
+    public void preparar() {
+        implementacao = switch (algoritmo) {
+            case "bcrypt" -> new AlgoritmoBCrypt(10);
+            case "pbkdf2" -> new AlgoritmoPbkdf2(600_000);
+            default -> new AlgoritmoScrypt(14, 8, 1);
+        };
+        hash = implementacao.criptografar(SENHA);
+    }
+
+    @Benchmark
+    public boolean verificar() {
+        return implementacao.verificar(SENHA, hash);
+    }
+}
@@ -0,0 +1,60 @@
+package util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede o custo do BCrypt (hash e verificação) em cada fator de custo, para
+ * escolher o custo pelo tempo aceitável de login no hardware de produção.
+ * 
+ * mvn -Pbenchmark compile exec:exec -Djmh.incluir=BenchmarkSenhas
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BenchmarkSenhas {
+    
+    private static final String SENHA = "Senha@Forte123";
+    
+    @Param({ "4", "8", "10", "12" })
+    private int custo;
+    
+    private String hash;
+    
+    @Setup
+    public void preparar() {
+        hash = PasswordUtil.criptografarSenha(SENHA, custo);
+    }
+    
+    @Benchmark
+    public String criptografarSenha() {
+        return PasswordUtil.criptografarSenha(SENHA, custo);
+    }
+    
+    @Benchmark
+    public boolean verificarSenhaCorreta() {
+        return PasswordUtil.verificarSenha(SENHA, hash);
+    }
+    
+    @Benchmark
+    public boolean verificarSenhaIncorreta() {
+        return PasswordUtil.verificarSenha("senhaErrada", hash);
+    }
+}
@@ -0,0 +1,78 @@
+package util;
+
+import model.Usuario;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mede as validações baseadas em expressões regulares executadas a cada cadastro,
+ * edição e importação: formato do hash, força da senha, email e telefone.
+ * Com o profiler de GC mostra também quanto cada chamada aloca (String.matches
+ * compila o Pattern a cada chamada).
+ * 
+ * mvn -Pbenchmark compile exec:exec -Djmh.incluir=BenchmarkValidacao
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BenchmarkValidacao {
+    
+    /**
+     * Entradas válidas e inválidas, para medir os dois caminhos das expressões.
+     */
+    @Param({ "valido", "invalido" })
+    private String caso;
+    
+    private String hash;
+    private String senha;
+    private String telefone;
+    private Usuario usuario;
+    
+    @Setup
+    public void preparar() {
+        boolean valido = caso.equals("valido");
+        hash = valido ? PasswordUtil.criptografarSenha("Senha@Forte123", 4) : "senhaEmTextoPlano";
+        senha = valido ? "Senha@Forte123" : "abc";
+        telefone = valido ? "+55 11 98765-4321" : "11 98765 4321 ramal";
+        
+        usuario = new Usuario();
+        usuario.setEmail(valido ? "maria.silva@exemplo.com.br" : "maria.silva.exemplo.com.br");
+    }
+    
+    @Benchmark
+    public boolean isSenhaCriptografada() {
+        return PasswordUtil.isSenhaCriptografada(hash);
+    }
+    
+    @Benchmark
+    public String avaliarForcaSenha() {
+        return PasswordUtil.avaliarForcaSenha(senha);
+    }
+    
+    @Benchmark
+    public boolean isEmailValido() {
+        return usuario.isEmailValido();
+    }
+    
+    @Benchmark
+    public boolean validarTelefone() {
+        return ValidadorUsuario.validarTelefone(telefone);
+    }
+}
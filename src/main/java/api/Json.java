@@ -0,0 +1,304 @@
+package api;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Leitura e escrita mínimas de JSON para a API HTTP, sem dependências externas.
+ * 
+ * Escreve Map (objeto), Iterable (lista), String, Number, Boolean, Enum (pelo nome)
+ * e null. Lê objetos para Map&lt;String, Object&gt; com os mesmos tipos; números viram
+ * Long quando inteiros e Double caso contrário.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+final class Json {
+    
+    // Limite de aninhamento aceito na leitura (o corpo vem de clientes externos)
+    private static final int PROFUNDIDADE_MAXIMA = 32;
+    
+    private final String texto;
+    private int posicao;
+    
+    private Json(String texto) {
+        this.texto = texto;
+    }
+    
+    // ==================== ESCRITA ====================
+    
+    /**
+     * Converte um valor para texto JSON.
+     * 
+     * @param valor Map, Iterable, String, Number, Boolean, Enum ou null
+     * @return Texto JSON
+     */
+    static String escrever(Object valor) {
+        StringBuilder sb = new StringBuilder(256);
+        escrever(sb, valor);
+        return sb.toString();
+    }
+    
+    private static void escrever(StringBuilder sb, Object valor) {
+        if (valor == null) {
+            sb.append("null");
+        } else if (valor instanceof String s) {
+            escreverTexto(sb, s);
+        } else if (valor instanceof Boolean || valor instanceof Integer || valor instanceof Long) {
+            sb.append(valor);
+        } else if (valor instanceof Number n) {
+            double d = n.doubleValue();
+            sb.append(Double.isFinite(d) ? String.valueOf(d) : "null");
+        } else if (valor instanceof Enum<?> e) {
+            escreverTexto(sb, e.name());
+        } else if (valor instanceof Map<?, ?> mapa) {
+            sb.append('{');
+            boolean primeiro = true;
+            for (Map.Entry<?, ?> campo : mapa.entrySet()) {
+                if (!primeiro) {
+                    sb.append(',');
+                }
+                primeiro = false;
+                escreverTexto(sb, String.valueOf(campo.getKey()));
+                sb.append(':');
+                escrever(sb, campo.getValue());
+            }
+            sb.append('}');
+        } else if (valor instanceof Iterable<?> lista) {
+            sb.append('[');
+            boolean primeiro = true;
+            for (Object item : lista) {
+                if (!primeiro) {
+                    sb.append(',');
+                }
+                primeiro = false;
+                escrever(sb, item);
+            }
+            sb.append(']');
+        } else {
+            escreverTexto(sb, valor.toString());
+        }
+    }
+    
+    private static void escreverTexto(StringBuilder sb, String valor) {
+        sb.append('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> sb.append("\\\"");
+                case '\\' -> sb.append("\\\\");
+                case '\n' -> sb.append("\\n");
+                case '\r' -> sb.append("\\r");
+                case '\t' -> sb.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+                }
+            }
+        }
+        sb.append('"');
+    }
+    
+    // ==================== LEITURA ====================
+    
+    /**
+     * Lê um objeto JSON.
+     * 
+     * @param texto Texto JSON
+     * @return Campos do objeto na ordem em que aparecem
+     * @throws IllegalArgumentException Se o texto não for um objeto JSON válido
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Object> lerObjeto(String texto) {
+        Json leitor = new Json(texto);
+        leitor.pularEspacos();
+        if (leitor.posicao >= texto.length() || texto.charAt(leitor.posicao) != '{') {
+            throw leitor.erro("objeto esperado");
+        }
+        Object valor = leitor.lerValor(0);
+        leitor.pularEspacos();
+        if (leitor.posicao != texto.length()) {
+            throw leitor.erro("conteúdo após o fim do objeto");
+        }
+        return (Map<String, Object>) valor;
+    }
+    
+    private Object lerValor(int profundidade) {
+        if (profundidade > PROFUNDIDADE_MAXIMA) {
+            throw erro("aninhamento excessivo");
+        }
+        pularEspacos();
+        if (posicao >= texto.length()) {
+            throw erro("fim inesperado");
+        }
+        
+        char c = texto.charAt(posicao);
+        switch (c) {
+            case '{':
+                return lerMapa(profundidade);
+            case '[':
+                return lerLista(profundidade);
+            case '"':
+                return lerTexto();
+            case 't':
+                return lerLiteral("true", Boolean.TRUE);
+            case 'f':
+                return lerLiteral("false", Boolean.FALSE);
+            case 'n':
+                return lerLiteral("null", null);
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    return lerNumero();
+                }
+                throw erro("caractere inesperado '" + c + "'");
+        }
+    }
+    
+    private Map<String, Object> lerMapa(int profundidade) {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        posicao++;
+        pularEspacos();
+        if (consumir('}')) {
+            return mapa;
+        }
+        
+        do {
+            pularEspacos();
+            if (posicao >= texto.length() || texto.charAt(posicao) != '"') {
+                throw erro("nome de campo esperado");
+            }
+            String nome = lerTexto();
+            pularEspacos();
+            if (!consumir(':')) {
+                throw erro("':' esperado");
+            }
+            mapa.put(nome, lerValor(profundidade + 1));
+            pularEspacos();
+        } while (consumir(','));
+        
+        if (!consumir('}')) {
+            throw erro("',' ou '}' esperado");
+        }
+        return mapa;
+    }
+    
+    private List<Object> lerLista(int profundidade) {
+        List<Object> lista = new ArrayList<>();
+        posicao++;
+        pularEspacos();
+        if (consumir(']')) {
+            return lista;
+        }
+        
+        do {
+            lista.add(lerValor(profundidade + 1));
+            pularEspacos();
+        } while (consumir(','));
+        
+        if (!consumir(']')) {
+            throw erro("',' ou ']' esperado");
+        }
+        return lista;
+    }
+    
+    private String lerTexto() {
+        StringBuilder sb = new StringBuilder();
+        posicao++;
+        while (posicao < texto.length()) {
+            char c = texto.charAt(posicao++);
+            if (c == '"') {
+                return sb.toString();
+            }
+            if (c < 0x20) {
+                throw erro("caractere de controle em texto");
+            }
+            if (c != '\\') {
+                sb.append(c);
+                continue;
+            }
+            if (posicao >= texto.length()) {
+                break;
+            }
+            char escape = texto.charAt(posicao++);
+            switch (escape) {
+                case '"' -> sb.append('"');
+                case '\\' -> sb.append('\\');
+                case '/' -> sb.append('/');
+                case 'b' -> sb.append('\b');
+                case 'f' -> sb.append('\f');
+                case 'n' -> sb.append('\n');
+                case 'r' -> sb.append('\r');
+                case 't' -> sb.append('\t');
+                case 'u' -> {
+                    if (posicao + 4 > texto.length()) {
+                        throw erro("escape \\u incompleto");
+                    }
+                    try {
+                        sb.append((char) Integer.parseInt(texto.substring(posicao, posicao + 4), 16));
+                    } catch (NumberFormatException e) {
+                        throw erro("escape \\u inválido");
+                    }
+                    posicao += 4;
+                }
+                default -> throw erro("escape inválido '\\" + escape + "'");
+            }
+        }
+        throw erro("texto não terminado");
+    }
+    
+    private Object lerNumero() {
+        int inicio = posicao;
+        boolean decimal = false;
+        while (posicao < texto.length()) {
+            char c = texto.charAt(posicao);
+            if (c == '.' || c == 'e' || c == 'E') {
+                decimal = true;
+            } else if (!(c == '-' || c == '+' || (c >= '0' && c <= '9'))) {
+                break;
+            }
+            posicao++;
+        }
+        
+        String numero = texto.substring(inicio, posicao);
+        try {
+            return decimal ? (Object) Double.parseDouble(numero) : (Object) Long.parseLong(numero);
+        } catch (NumberFormatException e) {
+            throw erro("número inválido '" + numero + "'");
+        }
+    }
+    
+    private Object lerLiteral(String literal, Object valor) {
+        if (!texto.startsWith(literal, posicao)) {
+            throw erro("literal inválido");
+        }
+        posicao += literal.length();
+        return valor;
+    }
+    
+    private boolean consumir(char c) {
+        if (posicao < texto.length() && texto.charAt(posicao) == c) {
+            posicao++;
+            return true;
+        }
+        return false;
+    }
+    
+    private void pularEspacos() {
+        while (posicao < texto.length()) {
+            char c = texto.charAt(posicao);
+            if (c != ' ' && c != '\t' && c != '\n' && c != '\r') {
+                return;
+            }
+            posicao++;
+        }
+    }
+    
+    private IllegalArgumentException erro(String motivo) {
+        return new IllegalArgumentException("JSON inválido na posição " + posicao + ": " + motivo);
+    }
+}
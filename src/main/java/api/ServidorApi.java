@@ -0,0 +1,592 @@
+package api;
+
+import com.sun.net.httpserver.Headers;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import model.CursorPagina;
+import model.EstatisticasUsuarios;
+import model.Pagina;
+import model.Resultado;
+import model.Usuario;
+import model.Usuario.Perfil;
+import model.UsuarioResumo;
+import service.UsuarioService;
+import util.PasswordUtil;
+import util.Sessao;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Servidor HTTP/JSON embarcado sobre o UsuarioService, para que outras ferramentas
+ * internas administrem usuários sem o cliente Swing.
+ * 
+ * Usa o com.sun.net.httpserver do JDK e atende cada requisição em uma thread virtual
+ * própria: as esperas por conexão, banco e BCrypt não ocupam threads de plataforma.
+ * A concorrência real fica limitada pelo pool de conexões e pela fila do
+ * ExecutorSenhas, que recusam o excesso (503) em vez de acumular requisições.
+ * 
+ * Rotas (JSON em UTF-8; exceto o login, todas exigem "Authorization: Bearer &lt;token&gt;"):
+ *   POST   /api/login                                   {"email", "senha"} → token e usuário
+ *   POST   /api/logout
+ *   GET    /api/usuarios?apos=&amp;tamanho=&amp;ativo=&amp;perfil=  página; o cursor da próxima vem em "proximo"
+ *   GET    /api/usuarios?q=termo&amp;apos=&amp;tamanho=       busca por nome ou email (3+ caracteres), em ordem de ID
+ *   POST   /api/usuarios                                cadastro
+ *   GET    /api/usuarios/{id}
+ *   PUT    /api/usuarios/{id}                           atualização (campos ausentes mantêm o valor)
+ *   DELETE /api/usuarios/{id}                           exclusão lógica
+ *   POST   /api/usuarios/{id}/reativar
+ *   GET    /api/estatisticas[?porPais=true]
+ * 
+ * Falhas retornam {"situacao": "...", "erros": [...]} com o status da situação do
+ * Resultado: 400, 401, 403, 404, 409, 429 ou 503 (com Retry-After) e 500.
+ * A senha (hash) nunca é enviada nas respostas.
+ * 
+ * Configurável por propriedades de sistema: api.porta (padrão: 8080) e api.backlog (1024).
+ * mvn compile exec:java -Dexec.mainClass="api.ServidorApi" -Dapi.porta=8080
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class ServidorApi {
+    
+    private static final int PORTA_PADRAO = 8080;
+    private static final int BACKLOG_PADRAO = 1024;
+    private static final int TAMANHO_PAGINA_PADRAO = 50;
+    private static final int TAMANHO_MAXIMO_CORPO = 64 * 1024;
+    
+    private static final String TIPO_JSON = "application/json; charset=utf-8";
+    
+    private static final Base64.Encoder CODIFICADOR_CURSOR = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODIFICADOR_CURSOR = Base64.getUrlDecoder();
+    
+    private final UsuarioService service;
+    private final HttpServer servidor;
+    private final ExecutorService executor;
+    
+    /**
+     * Rota da API: atende a requisição e retorna a resposta a enviar.
+     */
+    @FunctionalInterface
+    private interface Rota {
+        Resposta atender(HttpExchange troca) throws IOException;
+    }
+    
+    /**
+     * Cria o servidor (ainda parado).
+     * 
+     * @param porta Porta TCP (0 para uma porta livre qualquer)
+     * @param backlog Conexões aguardando aceite antes de recusar
+     * @param service Serviço de usuários
+     * @throws IOException Se a porta não puder ser aberta
+     */
+    public ServidorApi(int porta, int backlog, UsuarioService service) throws IOException {
+        this.service = service;
+        this.servidor = HttpServer.create(new InetSocketAddress(porta), backlog);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        servidor.setExecutor(executor);
+        
+        servidor.createContext("/api/login", troca -> tratar(troca, this::login));
+        servidor.createContext("/api/logout", troca -> tratar(troca, this::logout));
+        servidor.createContext("/api/usuarios", troca -> tratar(troca, this::usuarios));
+        servidor.createContext("/api/estatisticas", troca -> tratar(troca, this::estatisticas));
+    }
+    
+    /**
+     * Inicia o atendimento das requisições.
+     */
+    public void iniciar() {
+        servidor.start();
+        System.out.println("✓ API HTTP escutando na porta " + getPorta());
+    }
+    
+    /**
+     * Para de aceitar conexões e aguarda as requisições em andamento.
+     * 
+     * @param esperaSegundos Tempo máximo de espera pelas requisições em andamento
+     */
+    public void parar(int esperaSegundos) {
+        servidor.stop(esperaSegundos);
+        executor.shutdown();
+        try {
+            executor.awaitTermination(esperaSegundos, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        System.out.println("✓ API HTTP parada");
+    }
+    
+    /**
+     * @return Porta em que o servidor escuta
+     */
+    public int getPorta() {
+        return servidor.getAddress().getPort();
+    }
+    
+    // ==================== AUTENTICAÇÃO ====================
+    
+    private Resposta login(HttpExchange troca) throws IOException {
+        if (!exigirMetodo(troca, "POST")) {
+            return Resposta.metodoNaoPermitido("POST");
+        }
+        
+        Map<String, Object> corpo = lerCorpo(troca);
+        String cliente = troca.getRemoteAddress().getAddress().getHostAddress();
+        Resultado<Usuario> autenticacao = service.autenticar(texto(corpo, "email"), texto(corpo, "senha"), cliente);
+        if (!autenticacao.isSucesso()) {
+            return Resposta.de(autenticacao);
+        }
+        
+        Usuario usuario = autenticacao.getValor();
+        Sessao sessao = service.abrirSessao(usuario);
+        Map<String, Object> resposta = new LinkedHashMap<>();
+        resposta.put("token", sessao.getToken());
+        resposta.put("usuario", usuarioJson(usuario));
+        return Resposta.ok(resposta);
+    }
+    
+    private Resposta logout(HttpExchange troca) {
+        if (!exigirMetodo(troca, "POST")) {
+            return Resposta.metodoNaoPermitido("POST");
+        }
+        
+        Sessao sessao = sessao(troca);
+        if (sessao == null) {
+            return Resposta.de(Resultado.naoAutenticado("Sessão inválida ou expirada."));
+        }
+        service.encerrarSessao(sessao);
+        return Resposta.semConteudo();
+    }
+    
+    // ==================== USUÁRIOS ====================
+    
+    private Resposta usuarios(HttpExchange troca) throws IOException {
+        Sessao sessao = sessao(troca);
+        if (sessao == null) {
+            return Resposta.de(Resultado.naoAutenticado("Sessão inválida ou expirada."));
+        }
+        
+        // /api/usuarios, /api/usuarios/{id} ou /api/usuarios/{id}/reativar
+        String[] partes = troca.getRequestURI().getPath().substring("/api/usuarios".length()).split("/");
+        List<String> segmentos = new ArrayList<>(partes.length);
+        for (String parte : partes) {
+            if (!parte.isEmpty()) {
+                segmentos.add(parte);
+            }
+        }
+        String metodo = troca.getRequestMethod();
+        
+        if (segmentos.isEmpty()) {
+            return switch (metodo) {
+                case "GET" -> listar(consulta(troca));
+                case "POST" -> cadastrar(sessao, lerCorpo(troca));
+                default -> Resposta.metodoNaoPermitido("GET, POST");
+            };
+        }
+        
+        int id;
+        try {
+            id = Integer.parseInt(segmentos.get(0));
+        } catch (NumberFormatException e) {
+            return Resposta.de(Resultado.naoEncontrado("Recurso não encontrado."));
+        }
+        
+        if (segmentos.size() == 1) {
+            return switch (metodo) {
+                case "GET" -> Resposta.de(service.buscarPorId(id), ServidorApi::usuarioJson);
+                case "PUT" -> atualizar(sessao, id, lerCorpo(troca));
+                case "DELETE" -> Resposta.de(service.excluir(sessao, id));
+                default -> Resposta.metodoNaoPermitido("GET, PUT, DELETE");
+            };
+        }
+        
+        if (segmentos.size() == 2 && segmentos.get(1).equals("reativar")) {
+            return metodo.equals("POST")
+                    ? Resposta.de(service.reativar(sessao, id))
+                    : Resposta.metodoNaoPermitido("POST");
+        }
+        
+        return Resposta.de(Resultado.naoEncontrado("Recurso não encontrado."));
+    }
+    
+    /**
+     * Lista uma página (cursor em "apos") ou, com o parâmetro "q", busca por nome ou email.
+     * A busca também é paginada por cursor e limitada no DAO; termos curtos demais retornam 400.
+     */
+    private Resposta listar(Map<String, String> parametros) {
+        int tamanho = inteiro(parametros, "tamanho", TAMANHO_PAGINA_PADRAO);
+        CursorPagina apos = decodificarCursor(parametros.get("apos"));
+        
+        String termo = parametros.get("q");
+        if (termo != null) {
+            return Resposta.de(service.buscarPaginaResumosPorNomeOuEmail(termo, apos, tamanho), ServidorApi::paginaJson);
+        }
+        
+        String ativo = parametros.get("ativo");
+        String perfil = parametros.get("perfil");
+        Resultado<Pagina<UsuarioResumo>> pagina = service.listarPaginaResumos(
+                apos, 0, tamanho,
+                ativo == null ? null : Boolean.valueOf(ativo),
+                perfil == null ? null : perfil(perfil));
+        return Resposta.de(pagina, ServidorApi::paginaJson);
+    }
+    
+    private Resposta cadastrar(Sessao sessao, Map<String, Object> corpo) {
+        Usuario usuario = new Usuario();
+        aplicarCampos(corpo, usuario);
+        usuario.setSenha(texto(corpo, "senha"));
+        
+        Resultado<Usuario> resultado = service.cadastrar(sessao, usuario);
+        return resultado.isSucesso()
+                ? Resposta.criado(usuarioJson(resultado.getValor()))
+                : Resposta.de(resultado);
+    }
+    
+    private Resposta atualizar(Sessao sessao, int id, Map<String, Object> corpo) {
+        if (corpo.containsKey("senha")) {
+            return Resposta.de(Resultado.invalido("A senha não é alterada por esta rota."));
+        }
+        
+        Resultado<Usuario> atual = service.buscarPorId(id);
+        if (!atual.isSucesso()) {
+            return Resposta.de(atual);
+        }
+        
+        Usuario usuario = atual.getValor();
+        aplicarCampos(corpo, usuario);
+        return Resposta.de(service.atualizar(sessao, usuario), ServidorApi::usuarioJson);
+    }
+    
+    // ==================== ESTATÍSTICAS ====================
+    
+    private Resposta estatisticas(HttpExchange troca) {
+        if (!exigirMetodo(troca, "GET")) {
+            return Resposta.metodoNaoPermitido("GET");
+        }
+        if (sessao(troca) == null) {
+            return Resposta.de(Resultado.naoAutenticado("Sessão inválida ou expirada."));
+        }
+        
+        boolean porPais = Boolean.parseBoolean(consulta(troca).get("porPais"));
+        Resultado<EstatisticasUsuarios> resultado = porPais ? service.obterEstatisticasPorPais()
+                                                            : service.obterEstatisticas();
+        return Resposta.de(resultado, e -> {
+            Map<Perfil, Integer> porPerfil = new EnumMap<>(Perfil.class);
+            for (Perfil perfil : Perfil.values()) {
+                porPerfil.put(perfil, e.getAtivosPorPerfil(perfil));
+            }
+            Map<String, Object> resposta = new LinkedHashMap<>();
+            resposta.put("total", e.getTotal());
+            resposta.put("ativos", e.getAtivos());
+            resposta.put("inativos", e.getInativos());
+            resposta.put("ativosPorPerfil", porPerfil);
+            if (porPais) {
+                resposta.put("ativosPorPais", e.getAtivosPorPais());
+            }
+            return resposta;
+        });
+    }
+    
+    // ==================== REQUISIÇÃO ====================
+    
+    /**
+     * Atende a requisição com a rota e envia a resposta. Erros de leitura do corpo
+     * ou dos parâmetros viram 400; falhas inesperadas, 500.
+     */
+    private void tratar(HttpExchange troca, Rota rota) {
+        try (troca) {
+            Resposta resposta;
+            try {
+                resposta = rota.atender(troca);
+            } catch (IllegalArgumentException e) {
+                resposta = Resposta.de(Resultado.invalido(e.getMessage()));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("✗ Erro ao atender " + troca.getRequestMethod() + " "
+                                   + troca.getRequestURI().getPath() + ": " + e.getMessage());
+                e.printStackTrace();
+                resposta = Resposta.de(Resultado.erro("Erro interno do servidor."));
+            }
+            enviar(troca, resposta);
+        } catch (IOException e) {
+            // O cliente fechou a conexão antes de receber a resposta
+        }
+    }
+    
+    private static void enviar(HttpExchange troca, Resposta resposta) throws IOException {
+        Headers cabecalhos = troca.getResponseHeaders();
+        cabecalhos.putAll(resposta.cabecalhos);
+        if (resposta.corpo == null) {
+            troca.sendResponseHeaders(resposta.status, -1);
+            return;
+        }
+        
+        byte[] bytes = Json.escrever(resposta.corpo).getBytes(StandardCharsets.UTF_8);
+        cabecalhos.set("Content-Type", TIPO_JSON);
+        troca.sendResponseHeaders(resposta.status, bytes.length);
+        try (OutputStream saida = troca.getResponseBody()) {
+            saida.write(bytes);
+        }
+    }
+    
+    private static boolean exigirMetodo(HttpExchange troca, String metodo) {
+        return troca.getRequestMethod().equals(metodo);
+    }
+    
+    /**
+     * Retorna a sessão do cabeçalho "Authorization: Bearer &lt;token&gt;", ou null se
+     * ausente, desconhecida ou expirada.
+     */
+    private Sessao sessao(HttpExchange troca) {
+        String autorizacao = troca.getRequestHeaders().getFirst("Authorization");
+        if (autorizacao == null || !autorizacao.regionMatches(true, 0, "Bearer ", 0, 7)) {
+            return null;
+        }
+        return service.validarSessao(autorizacao.substring(7).trim());
+    }
+    
+    private static Map<String, Object> lerCorpo(HttpExchange troca) throws IOException {
+        try (InputStream entrada = troca.getRequestBody()) {
+            byte[] bytes = entrada.readNBytes(TAMANHO_MAXIMO_CORPO + 1);
+            if (bytes.length > TAMANHO_MAXIMO_CORPO) {
+                throw new IllegalArgumentException("Corpo da requisição maior que " + TAMANHO_MAXIMO_CORPO + " bytes.");
+            }
+            return Json.lerObjeto(new String(bytes, StandardCharsets.UTF_8));
+        }
+    }
+    
+    private static Map<String, String> consulta(HttpExchange troca) {
+        String bruta = troca.getRequestURI().getRawQuery();
+        Map<String, String> parametros = new HashMap<>();
+        if (bruta == null || bruta.isEmpty()) {
+            return parametros;
+        }
+        for (String par : bruta.split("&")) {
+            int igual = par.indexOf('=');
+            String nome = igual < 0 ? par : par.substring(0, igual);
+            String valor = igual < 0 ? "" : par.substring(igual + 1);
+            parametros.putIfAbsent(URLDecoder.decode(nome, StandardCharsets.UTF_8),
+                                   URLDecoder.decode(valor, StandardCharsets.UTF_8));
+        }
+        return parametros;
+    }
+    
+    private static int inteiro(Map<String, String> parametros, String nome, int padrao) {
+        String valor = parametros.get(nome);
+        if (valor == null) {
+            return padrao;
+        }
+        try {
+            return Integer.parseInt(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Parâmetro '" + nome + "' deve ser um número inteiro.");
+        }
+    }
+    
+    private static String texto(Map<String, Object> corpo, String campo) {
+        Object valor = corpo.get(campo);
+        if (valor != null && !(valor instanceof String)) {
+            throw new IllegalArgumentException("Campo '" + campo + "' deve ser texto.");
+        }
+        return (String) valor;
+    }
+    
+    private static Perfil perfil(String valor) {
+        try {
+            return Perfil.valueOf(valor.toLowerCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Perfil inválido: " + valor);
+        }
+    }
+    
+    /**
+     * Copia para o usuário os campos editáveis presentes no corpo (exceto a senha).
+     */
+    private static void aplicarCampos(Map<String, Object> corpo, Usuario usuario) {
+        if (corpo.containsKey("nome")) usuario.setNome(texto(corpo, "nome"));
+        if (corpo.containsKey("email")) usuario.setEmail(texto(corpo, "email"));
+        if (corpo.containsKey("telefone")) usuario.setTelefone(texto(corpo, "telefone"));
+        if (corpo.containsKey("endereco")) usuario.setEndereco(texto(corpo, "endereco"));
+        if (corpo.containsKey("cidade")) usuario.setCidade(texto(corpo, "cidade"));
+        if (corpo.containsKey("estado")) usuario.setEstado(texto(corpo, "estado"));
+        if (corpo.containsKey("pais")) usuario.setPais(texto(corpo, "pais"));
+        if (corpo.containsKey("codigoPostal")) usuario.setCodigoPostal(texto(corpo, "codigoPostal"));
+        if (corpo.get("perfil") != null) usuario.setPerfil(perfil(texto(corpo, "perfil")));
+    }
+    
+    // ==================== CONVERSÃO PARA JSON ====================
+    
+    private static Map<String, Object> usuarioJson(Usuario usuario) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", usuario.getId());
+        json.put("nome", usuario.getNome());
+        json.put("email", usuario.getEmail());
+        json.put("telefone", usuario.getTelefone());
+        json.put("perfil", usuario.getPerfil());
+        json.put("endereco", usuario.getEndereco());
+        json.put("cidade", usuario.getCidade());
+        json.put("estado", usuario.getEstado());
+        json.put("pais", usuario.getPais());
+        json.put("codigoPostal", usuario.getCodigoPostal());
+        json.put("ativo", usuario.isAtivo());
+        json.put("dataCriacao", dataHora(usuario.getDataCriacao()));
+        json.put("dataAtualizacao", dataHora(usuario.getDataAtualizacao()));
+        return json;
+    }
+    
+    private static Map<String, Object> resumoJson(UsuarioResumo resumo) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", resumo.getId());
+        json.put("nome", resumo.getNome());
+        json.put("email", resumo.getEmail());
+        json.put("telefone", resumo.getTelefone());
+        json.put("perfil", resumo.getPerfil());
+        json.put("cidade", resumo.getCidade());
+        json.put("estado", resumo.getEstado());
+        json.put("pais", resumo.getPais());
+        json.put("ativo", resumo.isAtivo());
+        return json;
+    }
+    
+    private static Map<String, Object> paginaJson(Pagina<UsuarioResumo> pagina) {
+        List<Object> itens = new ArrayList<>(pagina.getTamanho());
+        for (UsuarioResumo resumo : pagina.getItens()) {
+            itens.add(resumoJson(resumo));
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("itens", itens);
+        json.put("proximo", codificarCursor(pagina.getProximoCursor()));
+        return json;
+    }
+    
+    private static String dataHora(LocalDateTime valor) {
+        return valor == null ? null : valor.toString();
+    }
+    
+    /**
+     * Codifica o cursor como texto opaco para o cliente (id e nome em Base64 URL).
+     */
+    private static String codificarCursor(CursorPagina cursor) {
+        if (cursor == null) {
+            return null;
+        }
+        String bruto = cursor.getId() + ":" + cursor.getNome();
+        return CODIFICADOR_CURSOR.encodeToString(bruto.getBytes(StandardCharsets.UTF_8));
+    }
+    
+    private static CursorPagina decodificarCursor(String valor) {
+        if (valor == null || valor.isEmpty()) {
+            return null;
+        }
+        try {
+            String bruto = new String(DECODIFICADOR_CURSOR.decode(valor), StandardCharsets.UTF_8);
+            int separador = bruto.indexOf(':');
+            return new CursorPagina(bruto.substring(separador + 1), Integer.parseInt(bruto.substring(0, separador)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("Cursor de página inválido.");
+        }
+    }
+    
+    // ==================== RESPOSTA ====================
+    
+    /**
+     * Status, corpo (convertido para JSON) e cabeçalhos extras de uma resposta.
+     */
+    private static final class Resposta {
+        final int status;
+        final Object corpo;
+        final Map<String, List<String>> cabecalhos;
+        
+        private Resposta(int status, Object corpo, Map<String, List<String>> cabecalhos) {
+            this.status = status;
+            this.corpo = corpo;
+            this.cabecalhos = cabecalhos;
+        }
+        
+        static Resposta ok(Object corpo) {
+            return new Resposta(200, corpo, Map.of());
+        }
+        
+        static Resposta criado(Object corpo) {
+            return new Resposta(201, corpo, Map.of());
+        }
+        
+        static Resposta semConteudo() {
+            return new Resposta(204, null, Map.of());
+        }
+        
+        static Resposta metodoNaoPermitido(String permitidos) {
+            Map<String, Object> corpo = new LinkedHashMap<>();
+            corpo.put("situacao", "METODO_NAO_PERMITIDO");
+            corpo.put("erros", List.of("Método não permitido. Use: " + permitidos));
+            return new Resposta(405, corpo, Map.of("Allow", List.of(permitidos)));
+        }
+        
+        /**
+         * Resposta de uma operação sem valor: 204 no sucesso ou a falha.
+         */
+        static Resposta de(Resultado<?> resultado) {
+            return resultado.isSucesso() ? semConteudo() : falha(resultado);
+        }
+        
+        /**
+         * Resposta de uma operação com valor: 200 com o valor convertido ou a falha.
+         */
+        static <T> Resposta de(Resultado<T> resultado, Function<T, Object> conversor) {
+            return resultado.isSucesso() ? ok(conversor.apply(resultado.getValor())) : falha(resultado);
+        }
+        
+        private static Resposta falha(Resultado<?> resultado) {
+            Map<String, Object> corpo = new LinkedHashMap<>();
+            corpo.put("situacao", resultado.getSituacao());
+            corpo.put("erros", resultado.getErros());
+            
+            Map<String, List<String>> cabecalhos = Map.of();
+            int status = switch (resultado.getSituacao()) {
+                case INVALIDO -> 400;
+                case NAO_AUTENTICADO -> 401;
+                case PROIBIDO -> 403;
+                case NAO_ENCONTRADO -> 404;
+                case CONFLITO -> 409;
+                case RECUSADO -> resultado.getEsperaMs() > 0 ? 429 : 503;
+                default -> 500;
+            };
+            if (resultado.getSituacao() == Resultado.Situacao.RECUSADO) {
+                // Sobrecarga (sem espera conhecida) sugere uma nova tentativa em 1 segundo
+                long segundos = Math.max(1, (resultado.getEsperaMs() + 999) / 1000);
+                cabecalhos = Map.of("Retry-After", List.of(String.valueOf(segundos)));
+            }
+            return new Resposta(status, corpo, cabecalhos);
+        }
+    }
+    
+    /**
+     * Inicia a API na porta de api.porta e a mantém até o processo ser encerrado.
+     */
+    public static void main(String[] args) throws IOException {
+        // Ajusta o custo do BCrypt a este host em segundo plano
+        PasswordUtil.calibrarNaInicializacao();
+        
+        ServidorApi api = new ServidorApi(Integer.getInteger("api.porta", PORTA_PADRAO),
+                                          Integer.getInteger("api.backlog", BACKLOG_PADRAO),
+                                          new UsuarioService());
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> api.parar(5), "api-parada"));
+        api.iniciar();
+    }
+}
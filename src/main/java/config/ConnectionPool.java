@@ -0,0 +1,585 @@
+package config;
+
+import util.Histograma;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool de conexões JDBC com tamanho limitado.
+ * Mantém conexões físicas abertas e as reutiliza entre chamadas, evitando
+ * o custo de handshake (TCP + autenticação) a cada consulta.
+ * 
+ * As conexões entregues são proxies: chamar close() devolve a conexão ao pool
+ * em vez de fechá-la, permitindo manter o uso com try-with-resources.
+ * 
+ * Expõe métricas de ocupação e tempos via JMX (ver {@link ConnectionPoolMXBean})
+ * e registra a pilha de chamadas de conexões retidas além do limite de vazamento.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class ConnectionPool implements ConnectionPoolMXBean {
+    
+    /**
+     * Conexões usadas há menos tempo que este limite não são revalidadas no empréstimo.
+     * Evita um ping ao banco em rajadas de consultas consecutivas.
+     */
+    private static final long JANELA_SEM_VALIDACAO_MS = 500;
+    
+    // Tempo máximo (em segundos) aguardado pela validação de uma conexão
+    private static final int TIMEOUT_VALIDACAO_SEGUNDOS = 2;
+    
+    // Intervalo entre execuções da rotina de manutenção
+    private static final long INTERVALO_MANUTENCAO_MS = 30_000;
+    
+    // Configurações do pool
+    private final String nome;
+    private final String url;
+    private final String usuario;
+    private final String senha;
+    private final int tamanhoMinimo;
+    private final int tamanhoMaximo;
+    private final long timeoutAquisicaoMs;
+    private final long tempoOciosoMaxMs;
+    private final long tempoVidaMaxMs;
+    private final long limiteVazamentoMs;
+    
+    // Estado do pool
+    private final Semaphore permissoes;
+    private final LinkedBlockingDeque<ConexaoFisica> ociosas = new LinkedBlockingDeque<>();
+    private final AtomicInteger totalConexoes = new AtomicInteger();
+    private final Set<ConexaoEmprestada> emprestadas = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService manutencao;
+    private volatile boolean encerrado;
+    private ObjectName nomeMBean;
+    
+    // Métricas
+    private final Histograma esperaAquisicao = new Histograma();
+    private final Histograma usoConexao = new Histograma();
+    private final LongAdder timeoutsAquisicao = new LongAdder();
+    private final LongAdder conexoesCriadas = new LongAdder();
+    private final LongAdder vazamentosDetectados = new LongAdder();
+    private volatile double taxaCriacaoPorMinuto;
+    private long criadasNaUltimaManutencao;
+    private long instanteUltimaManutencao = System.currentTimeMillis();
+    
+    /**
+     * Cria um novo pool e abre as conexões mínimas.
+     * 
+     * @param nome Nome do pool (usado nos logs)
+     * @param url URL JDBC do banco
+     * @param usuario Usuário do banco
+     * @param senha Senha do banco
+     * @param tamanhoMinimo Quantidade mínima de conexões mantidas abertas
+     * @param tamanhoMaximo Quantidade máxima de conexões simultâneas
+     * @param timeoutAquisicaoMs Tempo máximo de espera por uma conexão livre
+     * @param tempoOciosoMaxMs Tempo máximo que uma conexão pode ficar ociosa acima do mínimo
+     * @param tempoVidaMaxMs Tempo máximo de vida de uma conexão física
+     * @param limiteVazamentoMs Tempo de retenção a partir do qual uma conexão é considerada
+     *                          vazada (0 desativa a detecção)
+     */
+    public ConnectionPool(String nome, String url, String usuario, String senha,
+                          int tamanhoMinimo, int tamanhoMaximo, long timeoutAquisicaoMs,
+                          long tempoOciosoMaxMs, long tempoVidaMaxMs, long limiteVazamentoMs) {
+        if (tamanhoMinimo < 0 || tamanhoMaximo < 1 || tamanhoMinimo > tamanhoMaximo) {
+            throw new IllegalArgumentException("Tamanhos do pool inválidos: mínimo=" + tamanhoMinimo
+                                               + ", máximo=" + tamanhoMaximo);
+        }
+        
+        this.nome = nome;
+        this.url = url;
+        this.usuario = usuario;
+        this.senha = senha;
+        this.tamanhoMinimo = tamanhoMinimo;
+        this.tamanhoMaximo = tamanhoMaximo;
+        this.timeoutAquisicaoMs = timeoutAquisicaoMs;
+        this.tempoOciosoMaxMs = tempoOciosoMaxMs;
+        this.tempoVidaMaxMs = tempoVidaMaxMs;
+        this.limiteVazamentoMs = limiteVazamentoMs;
+        this.permissoes = new Semaphore(tamanhoMaximo, true);
+        
+        this.manutencao = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "pool-" + nome + "-manutencao");
+            t.setDaemon(true);
+            return t;
+        });
+        
+        preencherMinimo();
+        manutencao.scheduleWithFixedDelay(this::executarManutencao,
+                INTERVALO_MANUTENCAO_MS, INTERVALO_MANUTENCAO_MS, TimeUnit.MILLISECONDS);
+        
+        if (limiteVazamentoMs > 0) {
+            long intervalo = Math.max(1_000, limiteVazamentoMs / 2);
+            manutencao.scheduleWithFixedDelay(this::verificarVazamentos,
+                    intervalo, intervalo, TimeUnit.MILLISECONDS);
+        }
+    }
+    
+    // ==================== EMPRÉSTIMO E DEVOLUÇÃO ====================
+    
+    /**
+     * Obtém uma conexão do pool.
+     * Reutiliza uma conexão ociosa válida ou abre uma nova se o limite permitir.
+     * Aguarda no máximo o timeout de aquisição configurado.
+     * 
+     * @return Connection - Conexão que volta ao pool quando fechada
+     * @throws SQLTimeoutException Se nenhuma conexão ficar livre dentro do timeout
+     * @throws SQLException Se houver erro ao abrir uma nova conexão
+     */
+    public Connection obterConexao() throws SQLException {
+        if (encerrado) {
+            throw new SQLException("Pool de conexões '" + nome + "' foi encerrado.");
+        }
+        
+        long inicio = System.nanoTime();
+        
+        try {
+            if (!permissoes.tryAcquire(timeoutAquisicaoMs, TimeUnit.MILLISECONDS)) {
+                timeoutsAquisicao.increment();
+                throw new SQLTimeoutException("Tempo esgotado aguardando conexão livre no pool '" + nome
+                                              + "' (" + timeoutAquisicaoMs + " ms, máximo de "
+                                              + tamanhoMaximo + " conexões).");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrompido aguardando conexão do pool '" + nome + "'.", e);
+        }
+        
+        try {
+            ConexaoFisica fisica;
+            while ((fisica = ociosas.pollFirst()) != null) {
+                if (expirou(fisica) || !valida(fisica)) {
+                    destruir(fisica);
+                    continue;
+                }
+                return embrulhar(fisica, inicio);
+            }
+            
+            return embrulhar(criarConexao(), inicio);
+            
+        } catch (SQLException | RuntimeException e) {
+            permissoes.release();
+            throw e;
+        }
+    }
+    
+    /**
+     * Devolve uma conexão física ao pool após o close() do proxy.
+     * Conexões quebradas, expiradas ou com o pool encerrado são descartadas.
+     * 
+     * @param emprestimo Empréstimo sendo encerrado
+     */
+    private void devolver(ConexaoEmprestada emprestimo) {
+        ConexaoFisica fisica = emprestimo.fisica;
+        emprestadas.remove(emprestimo);
+        usoConexao.registrar(System.nanoTime() - emprestimo.emprestadaEm);
+        
+        try {
+            if (encerrado || expirou(fisica) || fisica.conexao.isClosed()) {
+                destruir(fisica);
+                return;
+            }
+            
+            // Desfaz transações pendentes para não vazar estado ao próximo usuário
+            if (!fisica.conexao.getAutoCommit()) {
+                fisica.conexao.rollback();
+                fisica.conexao.setAutoCommit(true);
+            }
+            
+            fisica.ultimoUso = System.currentTimeMillis();
+            ociosas.offerFirst(fisica);
+            
+        } catch (SQLException e) {
+            destruir(fisica);
+        } finally {
+            permissoes.release();
+        }
+    }
+    
+    // ==================== CICLO DE VIDA ====================
+    
+    /**
+     * Encerra o pool fechando todas as conexões ociosas.
+     * Conexões emprestadas são fechadas assim que forem devolvidas.
+     */
+    public void encerrar() {
+        encerrado = true;
+        manutencao.shutdownNow();
+        desregistrarMBean();
+        
+        ConexaoFisica fisica;
+        while ((fisica = ociosas.pollFirst()) != null) {
+            destruir(fisica);
+        }
+    }
+    
+    /**
+     * Remove conexões ociosas além do mínimo ou que excederam o tempo de vida,
+     * e reabre conexões até atingir o tamanho mínimo.
+     */
+    private void executarManutencao() {
+        try {
+            long agora = System.currentTimeMillis();
+            
+            for (ConexaoFisica fisica : ociosas) {
+                boolean ociosaDemais = totalConexoes.get() > tamanhoMinimo
+                                       && agora - fisica.ultimoUso > tempoOciosoMaxMs;
+                
+                // remove() só retorna true se ninguém emprestou a conexão nesse meio tempo
+                if ((ociosaDemais || expirou(fisica)) && ociosas.remove(fisica)) {
+                    destruir(fisica);
+                }
+            }
+            
+            preencherMinimo();
+            atualizarTaxaCriacao(agora);
+            
+        } catch (RuntimeException e) {
+            System.err.println("✗ Erro na manutenção do pool '" + nome + "': " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Abre conexões ociosas até atingir o tamanho mínimo.
+     * Cada abertura reserva uma permissão para nunca ultrapassar o máximo.
+     */
+    private void preencherMinimo() {
+        while (!encerrado && totalConexoes.get() < tamanhoMinimo && permissoes.tryAcquire()) {
+            try {
+                ociosas.offerLast(criarConexao());
+            } catch (SQLException e) {
+                System.err.println("✗ Não foi possível abrir conexão mínima do pool '" + nome + "': "
+                                   + e.getMessage());
+                return;
+            } finally {
+                permissoes.release();
+            }
+        }
+    }
+    
+    /**
+     * Procura conexões retidas além do limite de vazamento e registra no log
+     * a pilha de chamadas de quem as obteve. Cada empréstimo é reportado uma única vez.
+     */
+    private void verificarVazamentos() {
+        long agora = System.nanoTime();
+        long limiteNanos = TimeUnit.MILLISECONDS.toNanos(limiteVazamentoMs);
+        
+        for (ConexaoEmprestada emprestimo : emprestadas) {
+            long retidaNanos = agora - emprestimo.emprestadaEm;
+            if (retidaNanos > limiteNanos && !emprestimo.vazamentoReportado) {
+                emprestimo.vazamentoReportado = true;
+                vazamentosDetectados.increment();
+                
+                System.err.println("✗ Possível vazamento de conexão no pool '" + nome + "': retida há "
+                                   + TimeUnit.NANOSECONDS.toMillis(retidaNanos) + " ms pela thread '"
+                                   + emprestimo.thread + "'. Obtida em:");
+                emprestimo.origem.printStackTrace();
+            }
+        }
+    }
+    
+    /**
+     * Calcula a taxa de abertura de conexões desde a última manutenção.
+     */
+    private void atualizarTaxaCriacao(long agora) {
+        long criadas = conexoesCriadas.sum();
+        long decorridoMs = Math.max(1, agora - instanteUltimaManutencao);
+        
+        taxaCriacaoPorMinuto = (criadas - criadasNaUltimaManutencao) * 60_000.0 / decorridoMs;
+        criadasNaUltimaManutencao = criadas;
+        instanteUltimaManutencao = agora;
+    }
+    
+    // ==================== JMX ====================
+    
+    /**
+     * Registra o pool no MBeanServer da plataforma como "config:type=ConnectionPool,name=&lt;nome&gt;".
+     * Falhas de registro apenas são registradas no log; o pool continua funcionando.
+     */
+    public void registrarMBean() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objeto = new ObjectName("config:type=ConnectionPool,name=" + ObjectName.quote(nome));
+            if (!servidor.isRegistered(objeto)) {
+                servidor.registerMBean(this, objeto);
+            }
+            nomeMBean = objeto;
+        } catch (JMException e) {
+            System.err.println("✗ Não foi possível registrar o MBean do pool '" + nome + "': " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Remove o registro do pool no MBeanServer, se existir.
+     */
+    private void desregistrarMBean() {
+        if (nomeMBean == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(nomeMBean);
+        } catch (JMException e) {
+            // Já removido; nada a fazer
+        }
+        nomeMBean = null;
+    }
+    
+    // ==================== MÉTODOS AUXILIARES PRIVADOS ====================
+    
+    /**
+     * Abre uma nova conexão física com o banco.
+     */
+    private ConexaoFisica criarConexao() throws SQLException {
+        Connection conexao = DriverManager.getConnection(url, usuario, senha);
+        totalConexoes.incrementAndGet();
+        conexoesCriadas.increment();
+        return new ConexaoFisica(conexao);
+    }
+    
+    /**
+     * Fecha uma conexão física e a remove da contagem do pool.
+     */
+    private void destruir(ConexaoFisica fisica) {
+        totalConexoes.decrementAndGet();
+        try {
+            fisica.conexao.close();
+        } catch (SQLException e) {
+            // Conexão já estava quebrada; nada a fazer
+        }
+    }
+    
+    /**
+     * Verifica se a conexão ultrapassou o tempo máximo de vida.
+     */
+    private boolean expirou(ConexaoFisica fisica) {
+        return System.currentTimeMillis() - fisica.criadaEm > tempoVidaMaxMs;
+    }
+    
+    /**
+     * Valida a conexão antes de entregá-la, exceto se foi usada muito recentemente.
+     */
+    private boolean valida(ConexaoFisica fisica) {
+        if (System.currentTimeMillis() - fisica.ultimoUso < JANELA_SEM_VALIDACAO_MS) {
+            return true;
+        }
+        try {
+            return fisica.conexao.isValid(TIMEOUT_VALIDACAO_SEGUNDOS);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Cria o proxy entregue ao chamador e registra o tempo de espera da aquisição.
+     */
+    private Connection embrulhar(ConexaoFisica fisica, long inicioAquisicao) {
+        ConexaoEmprestada emprestimo = new ConexaoEmprestada(fisica);
+        esperaAquisicao.registrar(emprestimo.emprestadaEm - inicioAquisicao);
+        emprestadas.add(emprestimo);
+        
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] { Connection.class },
+            emprestimo
+        );
+    }
+    
+    // ==================== MÉTRICAS ====================
+    
+    /**
+     * @return Nome do pool
+     */
+    public String getNome() {
+        return nome;
+    }
+    
+    @Override
+    public int getTotalConexoes() {
+        return totalConexoes.get();
+    }
+    
+    @Override
+    public int getConexoesOciosas() {
+        return ociosas.size();
+    }
+    
+    @Override
+    public int getConexoesAtivas() {
+        return emprestadas.size();
+    }
+    
+    @Override
+    public int getThreadsAguardando() {
+        return permissoes.getQueueLength();
+    }
+    
+    @Override
+    public long getTimeoutsAquisicao() {
+        return timeoutsAquisicao.sum();
+    }
+    
+    @Override
+    public long getConexoesCriadas() {
+        return conexoesCriadas.sum();
+    }
+    
+    @Override
+    public double getTaxaCriacaoPorMinuto() {
+        return taxaCriacaoPorMinuto;
+    }
+    
+    @Override
+    public long getVazamentosDetectados() {
+        return vazamentosDetectados.sum();
+    }
+    
+    @Override
+    public double getEsperaAquisicaoMediaMs() {
+        return esperaAquisicao.getMediaMs();
+    }
+    
+    @Override
+    public double getEsperaAquisicaoP99Ms() {
+        return esperaAquisicao.getPercentilMs(99);
+    }
+    
+    @Override
+    public double getEsperaAquisicaoMaximaMs() {
+        return esperaAquisicao.getMaximoMs();
+    }
+    
+    @Override
+    public double getUsoConexaoMedioMs() {
+        return usoConexao.getMediaMs();
+    }
+    
+    @Override
+    public double getUsoConexaoP99Ms() {
+        return usoConexao.getPercentilMs(99);
+    }
+    
+    @Override
+    public double getUsoConexaoMaximoMs() {
+        return usoConexao.getMaximoMs();
+    }
+    
+    @Override
+    public void limparHistogramas() {
+        esperaAquisicao.limpar();
+        usoConexao.limpar();
+    }
+    
+    @Override
+    public String getResumo() {
+        return "Pool '" + nome + "':\n" +
+               "  Conexões: ativas=" + getConexoesAtivas() + ", ociosas=" + getConexoesOciosas()
+               + ", total=" + getTotalConexoes() + "/" + tamanhoMaximo
+               + ", aguardando=" + getThreadsAguardando() + "\n" +
+               "  Espera aquisição: " + esperaAquisicao.getResumo() + "\n" +
+               "  Uso da conexão: " + usoConexao.getResumo() + "\n" +
+               "  Timeouts: " + getTimeoutsAquisicao()
+               + ", criadas: " + getConexoesCriadas()
+               + String.format(" (%.1f/min)", getTaxaCriacaoPorMinuto())
+               + ", vazamentos: " + getVazamentosDetectados();
+    }
+    
+    // ==================== CLASSES INTERNAS ====================
+    
+    /**
+     * Conexão física mantida pelo pool.
+     */
+    private static class ConexaoFisica {
+        final Connection conexao;
+        final long criadaEm;
+        volatile long ultimoUso;
+        
+        ConexaoFisica(Connection conexao) {
+            this.conexao = conexao;
+            this.criadaEm = System.currentTimeMillis();
+            this.ultimoUso = this.criadaEm;
+        }
+    }
+    
+    /**
+     * Handler do proxy entregue ao chamador.
+     * Intercepta close() para devolver a conexão ao pool e bloqueia o uso após a devolução;
+     * unwrap() retorna o próprio proxy, nunca a conexão física.
+     */
+    private class ConexaoEmprestada implements InvocationHandler {
+        private final ConexaoFisica fisica;
+        private final AtomicBoolean fechada = new AtomicBoolean(false);
+        private final long emprestadaEm = System.nanoTime();
+        private final String thread = Thread.currentThread().getName();
+        // Pilha de chamadas só é capturada com a detecção de vazamento ativa
+        private final Throwable origem = limiteVazamentoMs > 0
+                                         ? new Throwable("Conexão obtida do pool '" + nome + "'")
+                                         : null;
+        private volatile boolean vazamentoReportado;
+        
+        ConexaoEmprestada(ConexaoFisica fisica) {
+            this.fisica = fisica;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "close":
+                    if (fechada.compareAndSet(false, true)) {
+                        devolver(this);
+                    }
+                    return null;
+                case "isClosed":
+                    return fechada.get() || fisica.conexao.isClosed();
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "ConexaoPool[" + nome + "]@" + Integer.toHexString(System.identityHashCode(proxy));
+                case "isWrapperFor":
+                    return ((Class<?>) args[0]).isInstance(proxy);
+                case "unwrap":
+                    // Nunca expõe a conexão física: ela escaparia da devolução ao pool
+                    // e da detecção de vazamentos
+                    if (((Class<?>) args[0]).isInstance(proxy)) {
+                        return proxy;
+                    }
+                    throw new SQLException("Conexão do pool não expõe " + ((Class<?>) args[0]).getName());
+                default:
+                    break;
+            }
+            
+            if (fechada.get()) {
+                throw new SQLException("Conexão já foi devolvida ao pool.");
+            }
+            
+            try {
+                return method.invoke(fisica.conexao, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package config;
+
+/**
+ * Interface de monitoramento (JMX) do pool de conexões.
+ * Visível em ferramentas como JConsole e VisualVM sob o domínio "config".
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public interface ConnectionPoolMXBean {
+    
+    // ==================== OCUPAÇÃO ====================
+    
+    /**
+     * @return Quantidade de conexões emprestadas no momento
+     */
+    int getConexoesAtivas();
+    
+    /**
+     * @return Quantidade de conexões ociosas
+     */
+    int getConexoesOciosas();
+    
+    /**
+     * @return Quantidade de conexões físicas abertas (ociosas + em uso)
+     */
+    int getTotalConexoes();
+    
+    /**
+     * @return Quantidade de threads aguardando uma conexão livre
+     */
+    int getThreadsAguardando();
+    
+    // ==================== CONTADORES ====================
+    
+    /**
+     * @return Quantidade de pedidos que excederam o timeout de aquisição
+     */
+    long getTimeoutsAquisicao();
+    
+    /**
+     * @return Quantidade de conexões físicas abertas desde a criação do pool
+     */
+    long getConexoesCriadas();
+    
+    /**
+     * @return Conexões físicas abertas por minuto no último intervalo de manutenção
+     */
+    double getTaxaCriacaoPorMinuto();
+    
+    /**
+     * @return Quantidade de conexões retidas além do limite de detecção de vazamento
+     */
+    long getVazamentosDetectados();
+    
+    // ==================== TEMPOS ====================
+    
+    /**
+     * @return Tempo médio de espera para obter uma conexão (ms)
+     */
+    double getEsperaAquisicaoMediaMs();
+    
+    /**
+     * @return Percentil 99 do tempo de espera para obter uma conexão (ms)
+     */
+    double getEsperaAquisicaoP99Ms();
+    
+    /**
+     * @return Maior tempo de espera para obter uma conexão (ms)
+     */
+    double getEsperaAquisicaoMaximaMs();
+    
+    /**
+     * @return Tempo médio de retenção de uma conexão pelo chamador (ms)
+     */
+    double getUsoConexaoMedioMs();
+    
+    /**
+     * @return Percentil 99 do tempo de retenção de uma conexão (ms)
+     */
+    double getUsoConexaoP99Ms();
+    
+    /**
+     * @return Maior tempo de retenção de uma conexão (ms)
+     */
+    double getUsoConexaoMaximoMs();
+    
+    // ==================== OPERAÇÕES ====================
+    
+    /**
+     * @return Resumo textual de todas as métricas
+     */
+    String getResumo();
+    
+    /**
+     * Zera os histogramas de tempo.
+     */
+    void limparHistogramas();
+}
@@ -1,12 +1,19 @@
 package config;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.sql.SQLTimeoutException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * Classe responsável pela configuração e gerenciamento da conexão com o banco de dados MySQL.
- * Implementa o padrão Singleton para garantir uma única instância de conexão.
+ * Mantém um único pool de conexões (Singleton) com o banco primário, compartilhado por
+ * toda a aplicação, e pools opcionais com réplicas de leitura.
+ * 
+ * URL, credenciais e réplicas podem ser sobrescritas pelas propriedades de sistema
+ * db.url, db.user, db.password e db.replicas (URLs separadas por vírgula).
  * 
  * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
  * @version 1.0
@@ -17,22 +24,56 @@ public class DatabaseConfig {
     private static final String HOST = "localhost";
     private static final String PORT = "3306";
     private static final String DATABASE = "user_management";
-    private static final String URL = "jdbc:mysql://" + HOST + ":" + PORT + "/" + DATABASE 
+    private static final String URL = System.getProperty("db.url",
+                                       "jdbc:mysql://" + HOST + ":" + PORT + "/" + DATABASE
                                      + "?useSSL=false"
                                      + "&serverTimezone=UTC"
                                      + "&allowPublicKeyRetrieval=true"
                                      + "&useUnicode=true"
-                                     + "&characterEncoding=UTF-8";
+                                     + "&characterEncoding=UTF-8"
+                                     + "&rewriteBatchedStatements=true");
+    
+    // Réplicas de leitura (URLs separadas por vírgula) - vazio usa apenas o primário
+    private static final String REPLICAS = System.getProperty("db.replicas", "");
     
     // Credenciais do banco de dados - ALTERE COM SUAS CREDENCIAIS
-    private static final String USER = "usr_mgmt";
-    private static final String PASSWORD = "P@ssw0rd";  // Coloque sua senha do MySQL aqui
+    // As réplicas usam as mesmas credenciais do primário
+    private static final String USER = System.getProperty("db.user", "usr_mgmt");
+    private static final String PASSWORD = System.getProperty("db.password", "P@ssw0rd");  // Coloque sua senha do MySQL aqui
     
     // Driver JDBC do MySQL
     private static final String DRIVER = "com.mysql.cj.jdbc.Driver";
     
-    // Instância única da conexão (Singleton)
-    private static Connection connection = null;
+    // Configurações do pool de conexões
+    private static final int POOL_TAMANHO_MINIMO = 2;
+    private static final int POOL_TAMANHO_MAXIMO = 10;
+    private static final long POOL_TIMEOUT_AQUISICAO_MS = 5_000;
+    private static final long POOL_TEMPO_OCIOSO_MAX_MS = 10 * 60_000;
+    private static final long POOL_TEMPO_VIDA_MAX_MS = 30 * 60_000;
+    // Detecção de vazamentos: captura a pilha de cada empréstimo, por isso fica desativada
+    // (0) por padrão; ative em diagnóstico com -Ddb.limiteVazamentoMs=60000
+    private static final long POOL_LIMITE_VAZAMENTO_MS = Long.getLong("db.limiteVazamentoMs", 0L);
+    
+    // Seleção de réplica e tempo em que uma réplica com falha fica fora de uso
+    private static final EstrategiaReplica ESTRATEGIA_REPLICA = EstrategiaReplica.MENOS_CARREGADA;
+    private static final long REPLICA_QUARENTENA_MS = 30_000;
+    
+    /**
+     * Estratégias de escolha da réplica de leitura.
+     */
+    public enum EstrategiaReplica {
+        /** Alterna entre as réplicas em sequência */
+        ROUND_ROBIN,
+        /** Escolhe a réplica com menos conexões em uso e threads aguardando */
+        MENOS_CARREGADA
+    }
+    
+    // Instância única do pool de conexões com o primário (Singleton)
+    private static volatile ConnectionPool pool = null;
+    
+    // Pools das réplicas de leitura (vazio quando não configuradas)
+    private static volatile List<Replica> replicas = List.of();
+    private static final AtomicInteger proximaReplica = new AtomicInteger();
     
     /**
      * Construtor privado para impedir instanciação direta da classe.
@@ -43,35 +84,24 @@ public class DatabaseConfig {
     }
     
     /**
-     * Obtém uma conexão ativa com o banco de dados.
-     * Se a conexão não existir ou estiver fechada, cria uma nova.
-     * Implementa o padrão Singleton.
+     * Obtém uma conexão do pool do banco primário.
+     * Use para escritas e para leituras que precisam enxergar escritas recentes.
+     * Ao ser fechada (try-with-resources), a conexão volta ao pool em vez de ser encerrada.
+     * Cria o pool na primeira chamada.
      * 
      * @return Connection - Conexão ativa com o banco de dados
      * @throws SQLException - Se houver erro ao conectar com o banco
      */
     public static Connection getConnection() throws SQLException {
+        ConnectionPool poolAtual = obterPool();
+        
         try {
-            // Verifica se a conexão está nula ou fechada
-            if (connection == null || connection.isClosed()) {
-                // Carrega o driver JDBC do MySQL
-                Class.forName(DRIVER);
-                
-                // Estabelece a conexão
-                connection = DriverManager.getConnection(URL, USER, PASSWORD);
-                
-                System.out.println("✓ Conexão com banco de dados estabelecida com sucesso!");
-                System.out.println("  Database: " + DATABASE);
-                System.out.println("  Host: " + HOST + ":" + PORT);
-            }
+            return poolAtual.obterConexao();
             
-            return connection;
-            
-        } catch (ClassNotFoundException e) {
-            String mensagem = "Driver JDBC do MySQL não encontrado!\n" +
-                            "Certifique-se de que o MySQL Connector está no classpath.";
-            System.err.println("✗ " + mensagem);
-            throw new SQLException(mensagem, e);
+        } catch (SQLTimeoutException e) {
+            // Pool saturado: não é erro de configuração, repassa a mensagem original
+            System.err.println("✗ " + e.getMessage());
+            throw e;
             
         } catch (SQLException e) {
             String mensagem = "Erro ao conectar com o banco de dados!\n" +
@@ -87,21 +117,163 @@ public class DatabaseConfig {
     }
     
     /**
-     * Fecha a conexão com o banco de dados se ela estiver aberta.
+     * Obtém uma conexão para consultas somente leitura.
+     * Usa uma réplica saudável conforme a estratégia configurada e recorre ao
+     * primário quando não há réplicas configuradas ou nenhuma está disponível.
+     * 
+     * @return Connection - Conexão com uma réplica ou com o primário
+     * @throws SQLException - Se houver erro ao conectar com o banco
+     */
+    public static Connection getReadConnection() throws SQLException {
+        obterPool();
+        List<Replica> candidatas = replicas;
+        
+        if (!candidatas.isEmpty()) {
+            long agora = System.currentTimeMillis();
+            int inicio = indiceInicial(candidatas, agora);
+            
+            for (int i = 0; i < candidatas.size(); i++) {
+                Replica replica = candidatas.get((inicio + i) % candidatas.size());
+                if (!replica.disponivel(agora)) {
+                    continue;
+                }
+                
+                try {
+                    return replica.pool.obterConexao();
+                } catch (SQLTimeoutException e) {
+                    // Réplica saturada: tenta a próxima sem colocá-la em quarentena
+                } catch (SQLException e) {
+                    replica.indisponivelAte = agora + REPLICA_QUARENTENA_MS;
+                    System.err.println("✗ Réplica '" + replica.pool.getNome() + "' indisponível por "
+                                       + REPLICA_QUARENTENA_MS + " ms: " + e.getMessage());
+                }
+            }
+        }
+        
+        return getConnection();
+    }
+    
+    /**
+     * Retorna o fetchSize que faz o driver ler o resultado em partes, sem carregá-lo
+     * inteiro na memória. O MySQL Connector/J só transmite linha a linha com
+     * Integer.MIN_VALUE; os demais drivers respeitam um tamanho de lote positivo.
+     * 
+     * @param conn Conexão que executará a consulta
+     * @param tamanhoLote Linhas por lote para drivers que não são MySQL
+     * @return Valor a passar para Statement.setFetchSize
+     * @throws SQLException Se não for possível consultar os metadados da conexão
+     */
+    public static int tamanhoBuscaStreaming(Connection conn, int tamanhoLote) throws SQLException {
+        String banco = conn.getMetaData().getDatabaseProductName();
+        return banco != null && banco.toLowerCase().contains("mysql") ? Integer.MIN_VALUE : tamanhoLote;
+    }
+    
+    /**
+     * Define por qual réplica a busca começa, conforme a estratégia configurada.
+     */
+    private static int indiceInicial(List<Replica> candidatas, long agora) {
+        if (ESTRATEGIA_REPLICA == EstrategiaReplica.ROUND_ROBIN) {
+            return Math.floorMod(proximaReplica.getAndIncrement(), candidatas.size());
+        }
+        
+        int melhor = 0;
+        int menorCarga = Integer.MAX_VALUE;
+        for (int i = 0; i < candidatas.size(); i++) {
+            Replica replica = candidatas.get(i);
+            if (!replica.disponivel(agora)) {
+                continue;
+            }
+            int carga = replica.pool.getConexoesAtivas() + replica.pool.getThreadsAguardando();
+            if (carga < menorCarga) {
+                menorCarga = carga;
+                melhor = i;
+            }
+        }
+        return melhor;
+    }
+    
+    /**
+     * Retorna o pool de conexões, criando-o na primeira chamada.
+     * Os pools das réplicas são criados junto com o do primário.
+     * 
+     * @return ConnectionPool - Pool de conexões da aplicação
+     * @throws SQLException - Se o driver JDBC não for encontrado
+     */
+    private static ConnectionPool obterPool() throws SQLException {
+        ConnectionPool atual = pool;
+        if (atual != null) {
+            return atual;
+        }
+        
+        synchronized (DatabaseConfig.class) {
+            if (pool == null) {
+                try {
+                    // Carrega o driver JDBC do MySQL
+                    Class.forName(DRIVER);
+                } catch (ClassNotFoundException e) {
+                    String mensagem = "Driver JDBC do MySQL não encontrado!\n" +
+                                    "Certifique-se de que o MySQL Connector está no classpath.";
+                    System.err.println("✗ " + mensagem);
+                    throw new SQLException(mensagem, e);
+                }
+                
+                pool = new ConnectionPool("principal", URL, USER, PASSWORD,
+                                          POOL_TAMANHO_MINIMO, POOL_TAMANHO_MAXIMO,
+                                          POOL_TIMEOUT_AQUISICAO_MS, POOL_TEMPO_OCIOSO_MAX_MS,
+                                          POOL_TEMPO_VIDA_MAX_MS, POOL_LIMITE_VAZAMENTO_MS);
+                pool.registrarMBean();
+                replicas = criarReplicas();
+                
+                System.out.println("✓ Pool de conexões com banco de dados inicializado!");
+                System.out.println("  Database: " + DATABASE);
+                System.out.println("  Host: " + HOST + ":" + PORT);
+                if (!replicas.isEmpty()) {
+                    System.out.println("  Réplicas de leitura: " + replicas.size());
+                }
+            }
+            return pool;
+        }
+    }
+    
+    /**
+     * Cria um pool para cada URL de réplica configurada.
+     * 
+     * @return Lista imutável de réplicas
+     */
+    private static List<Replica> criarReplicas() {
+        List<Replica> novas = new ArrayList<>();
+        
+        for (String url : REPLICAS.split(",")) {
+            if (url.isBlank()) {
+                continue;
+            }
+            ConnectionPool poolReplica = new ConnectionPool("replica-" + (novas.size() + 1), url.trim(),
+                                                            USER, PASSWORD,
+                                                            POOL_TAMANHO_MINIMO, POOL_TAMANHO_MAXIMO,
+                                                            POOL_TIMEOUT_AQUISICAO_MS, POOL_TEMPO_OCIOSO_MAX_MS,
+                                                            POOL_TEMPO_VIDA_MAX_MS, POOL_LIMITE_VAZAMENTO_MS);
+            poolReplica.registrarMBean();
+            novas.add(new Replica(poolReplica));
+        }
+        
+        return List.copyOf(novas);
+    }
+    
+    /**
+     * Encerra os pools de conexões com o banco de dados (primário e réplicas).
      * Deve ser chamado ao finalizar a aplicação.
      */
     public static void closeConnection() {
-        if (connection != null) {
-            try {
-                if (!connection.isClosed()) {
-                    connection.close();
-                    System.out.println("✓ Conexão com banco de dados fechada.");
-                }
-            } catch (SQLException e) {
-                System.err.println("✗ Erro ao fechar conexão: " + e.getMessage());
-                e.printStackTrace();
-            } finally {
-                connection = null;
+        synchronized (DatabaseConfig.class) {
+            for (Replica replica : replicas) {
+                replica.pool.encerrar();
+            }
+            replicas = List.of();
+            
+            if (pool != null) {
+                pool.encerrar();
+                pool = null;
+                System.out.println("✓ Pool de conexões com banco de dados encerrado.");
             }
         }
     }
@@ -113,9 +285,8 @@ public class DatabaseConfig {
      * @return boolean - true se a conexão foi bem-sucedida, false caso contrário
      */
     public static boolean testarConexao() {
-        try {
-            Connection conn = getConnection();
-            if (conn != null && !conn.isClosed()) {
+        try (Connection conn = getConnection()) {
+            if (conn != null && conn.isValid(2)) {
                 System.out.println("✓ Teste de conexão: SUCESSO");
                 return true;
             }
@@ -138,7 +309,50 @@ public class DatabaseConfig {
                "  Porta: " + PORT + "\n" +
                "  Database: " + DATABASE + "\n" +
                "  Usuário: " + USER + "\n" +
-               "  Driver: " + DRIVER;
+               "  Driver: " + DRIVER + "\n" +
+               "  Pool: mínimo=" + POOL_TAMANHO_MINIMO + ", máximo=" + POOL_TAMANHO_MAXIMO +
+               ", timeout aquisição=" + POOL_TIMEOUT_AQUISICAO_MS + " ms\n" +
+               "  Réplicas: " + (REPLICAS.isBlank() ? "nenhuma" : REPLICAS.split(",").length
+                                + " (" + ESTRATEGIA_REPLICA + ")");
+    }
+    
+    /**
+     * Retorna um retrato das métricas dos pools de conexões (primário e réplicas).
+     * As mesmas métricas ficam disponíveis via JMX em "config:type=ConnectionPool".
+     * 
+     * @return String com ocupação, tempos de espera/uso e contadores de cada pool
+     */
+    public static String getPoolInfo() {
+        ConnectionPool atual = pool;
+        if (atual == null) {
+            return "Pool de conexões ainda não inicializado.";
+        }
+        
+        StringBuilder sb = new StringBuilder(atual.getResumo());
+        long agora = System.currentTimeMillis();
+        for (Replica replica : replicas) {
+            sb.append("\n").append(replica.pool.getResumo());
+            if (!replica.disponivel(agora)) {
+                sb.append("\n  (em quarentena)");
+            }
+        }
+        return sb.toString();
+    }
+    
+    /**
+     * Réplica de leitura com seu pool e estado de saúde.
+     */
+    private static class Replica {
+        final ConnectionPool pool;
+        volatile long indisponivelAte;
+        
+        Replica(ConnectionPool pool) {
+            this.pool = pool;
+        }
+        
+        boolean disponivel(long agora) {
+            return agora >= indisponivelAte;
+        }
     }
     
     /**
@@ -162,6 +376,7 @@ public class DatabaseConfig {
             System.out.println("=".repeat(60));
             System.out.println("CONEXÃO BEM-SUCEDIDA! Sistema pronto para usar.");
             System.out.println("=".repeat(60));
+            System.out.println(getPoolInfo());
             closeConnection();
         } else {
             System.out.println();
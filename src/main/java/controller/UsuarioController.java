@@ -1,72 +1,104 @@
 package controller;
 
-import dao.UsuarioDAO;
+import model.AlteracaoUsuario;
+import model.CursorPagina;
+import model.EstatisticasUsuarios;
+import model.Pagina;
+import model.Resultado;
+import model.ResultadoCadastro;
+import model.SugestaoUsuario;
 import model.Usuario;
 import model.Usuario.Perfil;
-import util.PasswordUtil;
+import model.UsuarioResumo;
+import service.UsuarioService;
+import util.Sessao;
 
 import javax.swing.*;
-import java.sql.SQLException;
+import java.lang.reflect.InvocationTargetException;
+import java.time.Instant;
 import java.util.List;
 
 /**
- * Controller responsável pela lógica de negócio relacionada aos usuários.
- * Faz a intermediação entre a camada View e a camada DAO.
+ * Controller responsável pela intermediação entre a camada View e as regras de negócio.
+ * 
+ * As regras ficam em {@link UsuarioService}, que retorna resultados sem exibir nada;
+ * este controller apenas apresenta esses resultados às telas Swing (diálogos de erro,
+ * sucesso e confirmação) e converte falhas nos valores padrão esperados pelas telas.
  * 
  * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
  * @version 1.0
  */
 public class UsuarioController {
     
-    private final UsuarioDAO usuarioDAO;
+    // Cliente dos logins feitos pela própria interface (não há endereço remoto)
+    private static final String CLIENTE_LOCAL = "local";
+    
+    private final UsuarioService usuarioService;
     
     /**
      * Construtor do controller.
-     * Inicializa o DAO de usuários.
+     * Inicializa o serviço de usuários.
      */
     public UsuarioController() {
-        this.usuarioDAO = new UsuarioDAO();
+        this.usuarioService = new UsuarioService();
     }
     
     // ==================== MÉTODOS DE AUTENTICAÇÃO ====================
     
     /**
-     * Autentica um usuário no sistema.
+     * Autentica um usuário no sistema a partir desta estação.
      * 
      * @param email Email do usuário
      * @param senha Senha em texto plano
      * @return Usuario autenticado ou null se falhar
      */
     public Usuario autenticar(String email, String senha) {
-        try {
-            // Validações básicas
-            if (email == null || email.trim().isEmpty()) {
-                exibirErro("Email é obrigatório!");
-                return null;
-            }
-            
-            if (senha == null || senha.trim().isEmpty()) {
-                exibirErro("Senha é obrigatória!");
-                return null;
-            }
-            
-            // Tenta autenticar
-            Usuario usuario = usuarioDAO.autenticar(email.trim(), senha);
-            
-            if (usuario == null) {
-                exibirErro("Email ou senha inválidos!");
-                return null;
-            }
-            
-            // Sucesso
-            System.out.println("✓ Login bem-sucedido: " + usuario.getNome());
-            return usuario;
-            
-        } catch (SQLException e) {
-            exibirErro("Erro ao autenticar usuário: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return autenticar(email, senha, CLIENTE_LOCAL);
+    }
+    
+    /**
+     * Autentica um usuário no sistema.
+     * 
+     * @param email Email do usuário
+     * @param senha Senha em texto plano
+     * @param cliente Identificador de quem tenta o login (ex.: endereço IP)
+     * @return Usuario autenticado ou null se falhar
+     * @see UsuarioService#autenticar(String, String, String)
+     */
+    public Usuario autenticar(String email, String senha, String cliente) {
+        return apresentar(usuarioService.autenticar(email, senha, cliente), null);
+    }
+    
+    // ==================== MÉTODOS DE SESSÃO ====================
+    
+    /**
+     * Emite uma sessão para um usuário recém-autenticado. As operações feitas com a
+     * sessão são autorizadas pelo perfil guardado nela, sem novo acesso ao banco.
+     * 
+     * @param usuario Usuario retornado por autenticar
+     * @return Sessão do usuário
+     */
+    public Sessao abrirSessao(Usuario usuario) {
+        return usuarioService.abrirSessao(usuario);
+    }
+    
+    /**
+     * Valida o token de uma sessão e renova a sua expiração.
+     * 
+     * @param token Token da sessão
+     * @return Sessão ativa ou null se o token for inválido ou tiver expirado
+     */
+    public Sessao validarSessao(String token) {
+        return usuarioService.validarSessao(token);
+    }
+    
+    /**
+     * Encerra a sessão (logout).
+     * 
+     * @param sessao Sessão a encerrar
+     */
+    public void encerrarSessao(Sessao sessao) {
+        usuarioService.encerrarSessao(sessao);
     }
     
     // ==================== MÉTODOS DE CONSULTA ====================
@@ -77,13 +109,7 @@ public class UsuarioController {
      * @return Lista de usuários ou lista vazia em caso de erro
      */
     public List<Usuario> listarTodos() {
-        try {
-            return usuarioDAO.listarTodos();
-        } catch (SQLException e) {
-            exibirErro("Erro ao listar usuários: " + e.getMessage());
-            e.printStackTrace();
-            return List.of();
-        }
+        return apresentar(usuarioService.listarTodos(), List.of());
     }
     
     /**
@@ -92,13 +118,7 @@ public class UsuarioController {
      * @return Lista completa de usuários
      */
     public List<Usuario> listarTodosIncluindoInativos() {
-        try {
-            return usuarioDAO.listarTodosIncluindoInativos();
-        } catch (SQLException e) {
-            exibirErro("Erro ao listar usuários: " + e.getMessage());
-            e.printStackTrace();
-            return List.of();
-        }
+        return apresentar(usuarioService.listarTodosIncluindoInativos(), List.of());
     }
     
     /**
@@ -108,13 +128,7 @@ public class UsuarioController {
      * @return Usuario encontrado ou null
      */
     public Usuario buscarPorId(int id) {
-        try {
-            return usuarioDAO.buscarPorId(id);
-        } catch (SQLException e) {
-            exibirErro("Erro ao buscar usuário: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return apresentarBusca(usuarioService.buscarPorId(id));
     }
     
     /**
@@ -124,13 +138,7 @@ public class UsuarioController {
      * @return Usuario encontrado ou null
      */
     public Usuario buscarPorEmail(String email) {
-        try {
-            return usuarioDAO.buscarPorEmail(email);
-        } catch (SQLException e) {
-            exibirErro("Erro ao buscar usuário: " + e.getMessage());
-            e.printStackTrace();
-            return null;
-        }
+        return apresentarBusca(usuarioService.buscarPorEmail(email));
     }
     
     /**
@@ -140,13 +148,7 @@ public class UsuarioController {
      * @return Lista de usuários encontrados
      */
     public List<Usuario> buscarPorNome(String nome) {
-        try {
-            return usuarioDAO.buscarPorNome(nome);
-        } catch (SQLException e) {
-            exibirErro("Erro ao buscar usuários: " + e.getMessage());
-            e.printStackTrace();
-            return List.of();
-        }
+        return apresentar(usuarioService.buscarPorNome(nome), List.of());
     }
     
     /**
@@ -156,13 +158,134 @@ public class UsuarioController {
      * @return Lista de usuários com o perfil
      */
     public List<Usuario> listarPorPerfil(Perfil perfil) {
-        try {
-            return usuarioDAO.listarPorPerfil(perfil);
-        } catch (SQLException e) {
-            exibirErro("Erro ao listar usuários por perfil: " + e.getMessage());
-            e.printStackTrace();
-            return List.of();
-        }
+        return apresentar(usuarioService.listarPorPerfil(perfil), List.of());
+    }
+    
+    /**
+     * Lista usuários página a página, sem carregar a tabela inteira.
+     * Use o cursor da página retornada para buscar a seguinte.
+     * 
+     * @param apos Cursor da página anterior ou null para a primeira página
+     * @param tamanho Quantidade de usuários por página
+     * @param ativo Filtra por status ativo/inativo ou null para todos
+     * @param perfil Filtra por perfil ou null para todos
+     * @return Página de usuários ou página vazia em caso de erro
+     */
+    public Pagina<Usuario> listarPagina(CursorPagina apos, int tamanho, Boolean ativo, Perfil perfil) {
+        return apresentar(usuarioService.listarPagina(apos, tamanho, ativo, perfil), Pagina.vazia());
+    }
+    
+    /**
+     * Lista os resumos de todos os usuários ativos, para exibição em tabelas.
+     * Não carrega senha, endereço nem datas.
+     * 
+     * @return Lista de resumos ou lista vazia em caso de erro
+     */
+    public List<UsuarioResumo> listarResumos() {
+        return apresentar(usuarioService.listarResumos(), List.of());
+    }
+    
+    /**
+     * Busca resumos de usuários por nome (busca parcial), para exibição em tabelas.
+     * 
+     * @param nome Nome ou parte do nome
+     * @return Lista de resumos encontrados
+     */
+    public List<UsuarioResumo> buscarResumosPorNome(String nome) {
+        return apresentar(usuarioService.buscarResumosPorNome(nome), List.of());
+    }
+    
+    /**
+     * Busca resumos de usuários por parte do nome ou do email, sem diferenciar
+     * acentos e maiúsculas/minúsculas.
+     * 
+     * @param termo Parte do nome ou do email
+     * @return Lista de resumos encontrados
+     */
+    public List<UsuarioResumo> buscarResumosPorNomeOuEmail(String termo) {
+        return apresentar(usuarioService.buscarResumosPorNomeOuEmail(termo), List.of());
+    }
+    
+    /**
+     * Inicia em segundo plano a preparação do índice de busca,
+     * para que as buscas da tela principal não varram a tabela.
+     */
+    public void prepararBusca() {
+        usuarioService.prepararBusca();
+    }
+    
+    /**
+     * Sugere usuários ativos cujo nome tem uma palavra, ou cujo email, começa com o
+     * texto digitado. Responde da memória, sem consultar o banco.
+     * 
+     * @param prefixo Texto digitado
+     * @return Sugestões (lista vazia enquanto o índice de busca não está pronto)
+     */
+    public List<SugestaoUsuario> sugerirUsuarios(String prefixo) {
+        return usuarioService.sugerirUsuarios(prefixo);
+    }
+    
+    /**
+     * Lista resumos de usuários página a página, para exibição em tabelas.
+     * 
+     * @param apos Cursor da página anterior ou null para a primeira página
+     * @param tamanho Quantidade de usuários por página
+     * @param ativo Filtra por status ativo/inativo ou null para todos
+     * @param perfil Filtra por perfil ou null para todos
+     * @return Página de resumos ou página vazia em caso de erro
+     */
+    public Pagina<UsuarioResumo> listarPaginaResumos(CursorPagina apos, int tamanho, Boolean ativo, Perfil perfil) {
+        return listarPaginaResumos(apos, 0, tamanho, ativo, perfil);
+    }
+    
+    /**
+     * Lista uma página de resumos que começa "pular" usuários depois do cursor,
+     * para tabelas que saltam para uma posição distante.
+     * 
+     * @param apos Cursor conhecido antes da página ou null para o início
+     * @param pular Quantidade de usuários a ignorar depois do cursor
+     * @param tamanho Quantidade de usuários por página
+     * @param ativo Filtra por status ativo/inativo ou null para todos
+     * @param perfil Filtra por perfil ou null para todos
+     * @return Página de resumos ou página vazia em caso de erro
+     */
+    public Pagina<UsuarioResumo> listarPaginaResumos(CursorPagina apos, int pular, int tamanho,
+                                                    Boolean ativo, Perfil perfil) {
+        return apresentar(usuarioService.listarPaginaResumos(apos, pular, tamanho, ativo, perfil), Pagina.vazia());
+    }
+    
+    // ==================== SINCRONIZAÇÃO INCREMENTAL ====================
+    
+    /**
+     * Retorna o instante atual do banco, marca inicial da sincronização.
+     * Chamado periodicamente em segundo plano: erros são apenas registrados no log.
+     * 
+     * @return Instante atual ou null em caso de erro
+     */
+    public Instant obterInstanteAtual() {
+        return registrar(usuarioService.obterInstanteAtual());
+    }
+    
+    /**
+     * Lista os usuários alterados, desativados ou excluídos desde a marca, sem
+     * alterar caches nem sessões. Erros são apenas registrados no log.
+     * 
+     * @param marca Instante a partir do qual as alterações são lidas
+     * @return Alterações em ordem de data ou null em caso de erro
+     */
+    public List<AlteracaoUsuario> listarAlteradosDesde(Instant marca) {
+        return registrar(usuarioService.listarAlteradosDesde(marca));
+    }
+    
+    /**
+     * Lê as alterações desde a marca e as aplica aos caches e às sessões.
+     * Chamado periodicamente em segundo plano: erros são apenas registrados no log.
+     * 
+     * @param marca Instante a partir do qual as alterações são lidas
+     * @return Alterações em ordem de data ou null em caso de erro
+     */
+    public List<AlteracaoUsuario> sincronizarAlteradosDesde(Instant marca) {
+        return registrar(usuarioService.sincronizarAlteradosDesde(marca));
     }
     
     // ==================== MÉTODOS DE CADASTRO ====================
@@ -172,41 +295,22 @@ public class UsuarioController {
      * Realiza todas as validações necessárias.
      * 
      * @param usuario Usuario a ser cadastrado
-     * @return true se cadastro foi bem-sucedido, false caso contrário
+     * @return Usuário cadastrado (com ID, sem senha) ou null se o cadastro falhou
      */
-    public boolean cadastrar(Usuario usuario) {
-        try {
-            // Validações
-            if (!validarUsuario(usuario)) {
-                return false;
-            }
-            
-            // Valida senha
-            if (!validarSenha(usuario.getSenha())) {
-                return false;
-            }
-            
-            // Verifica se email já existe
-            if (usuarioDAO.emailExiste(usuario.getEmail())) {
-                exibirErro("Este email já está cadastrado!");
-                return false;
-            }
-            
-            // Insere no banco (senha será criptografada automaticamente no DAO)
-            boolean sucesso = usuarioDAO.inserir(usuario);
-            
-            if (sucesso) {
-                exibirSucesso("Usuário cadastrado com sucesso!");
-                System.out.println("✓ Usuário cadastrado: " + usuario.getEmail());
-            }
-            
-            return sucesso;
-            
-        } catch (SQLException e) {
-            exibirErro("Erro ao cadastrar usuário: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+    public Usuario cadastrar(Usuario usuario) {
+        return apresentar(usuarioService.cadastrar(usuario), null);
+    }
+    
+    /**
+     * Cadastra vários usuários de uma vez (ex.: carga inicial de um cliente),
+     * sem exibir diálogos por linha.
+     * 
+     * @param usuarios Usuários a cadastrar
+     * @return Um resultado por usuário, na ordem da lista de entrada
+     * @see UsuarioService#cadastrarEmLote(List)
+     */
+    public List<ResultadoCadastro> cadastrarEmLote(List<Usuario> usuarios) {
+        return usuarioService.cadastrarEmLote(usuarios);
     }
     
     // ==================== MÉTODOS DE ATUALIZAÇÃO ====================
@@ -216,36 +320,37 @@ public class UsuarioController {
      * Não atualiza a senha (use alterarSenha para isso).
      * 
      * @param usuario Usuario com dados atualizados
-     * @return true se atualização foi bem-sucedida, false caso contrário
+     * @return Usuário atualizado (sem senha) ou null se a atualização falhou
      */
-    public boolean atualizar(Usuario usuario) {
-        try {
-            // Validações
-            if (!validarUsuario(usuario)) {
-                return false;
-            }
-            
-            // Verifica se email já existe para outro usuário
-            if (usuarioDAO.emailExisteParaOutroUsuario(usuario.getEmail(), usuario.getId())) {
-                exibirErro("Este email já está sendo usado por outro usuário!");
-                return false;
-            }
-            
-            // Atualiza no banco
-            boolean sucesso = usuarioDAO.atualizar(usuario);
-            
-            if (sucesso) {
-                exibirSucesso("Usuário atualizado com sucesso!");
-                System.out.println("✓ Usuário atualizado: " + usuario.getEmail());
-            }
-            
-            return sucesso;
-            
-        } catch (SQLException e) {
-            exibirErro("Erro ao atualizar usuário: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+    public Usuario atualizar(Usuario usuario) {
+        return apresentar(usuarioService.atualizar(usuario), null);
+    }
+    
+    /**
+     * Atualiza os dados de um usuário em nome da sessão informada.
+     * Administradores atualizam qualquer usuário; os demais apenas os próprios
+     * dados, sem alterar o perfil.
+     * 
+     * @param sessao Sessão de quem faz a alteração
+     * @param usuario Usuario com dados atualizados
+     * @return Usuário atualizado (sem senha) ou null se a atualização falhou
+     */
+    public Usuario atualizar(Sessao sessao, Usuario usuario) {
+        return apresentar(usuarioService.atualizar(sessao, usuario), null);
+    }
+    
+    /**
+     * Altera a senha do usuário da sessão.
+     * As sessões do usuário (inclusive esta) são encerradas após a alteração.
+     * 
+     * @param sessao Sessão do usuário
+     * @param senhaAtual Senha atual do usuário
+     * @param novaSenha Nova senha
+     * @param confirmacaoSenha Confirmação da nova senha
+     * @return true se alteração foi bem-sucedida, false caso contrário
+     */
+    public boolean alterarSenha(Sessao sessao, String senhaAtual, String novaSenha, String confirmacaoSenha) {
+        return apresentar(usuarioService.alterarSenha(sessao, senhaAtual, novaSenha, confirmacaoSenha));
     }
     
     /**
@@ -259,58 +364,19 @@ public class UsuarioController {
      * @return true se alteração foi bem-sucedida, false caso contrário
      */
     public boolean alterarSenha(int id, String senhaAtual, String novaSenha, String confirmacaoSenha) {
-        try {
-            // Busca usuário
-            Usuario usuario = usuarioDAO.buscarPorId(id);
-            
-            if (usuario == null) {
-                exibirErro("Usuário não encontrado!");
-                return false;
-            }
-            
-            // Valida senha atual
-            if (!PasswordUtil.verificarSenha(senhaAtual, usuario.getSenha())) {
-                exibirErro("Senha atual incorreta!");
-                return false;
-            }
-            
-            // Valida nova senha
-            if (novaSenha == null || novaSenha.trim().isEmpty()) {
-                exibirErro("Nova senha não pode ser vazia!");
-                return false;
-            }
-            
-            if (!validarSenha(novaSenha)) {
-                return false;
-            }
-            
-            // Verifica confirmação
-            if (!novaSenha.equals(confirmacaoSenha)) {
-                exibirErro("A nova senha e a confirmação não coincidem!");
-                return false;
-            }
-            
-            // Verifica se a nova senha é diferente da atual
-            if (PasswordUtil.verificarSenha(novaSenha, usuario.getSenha())) {
-                exibirErro("A nova senha deve ser diferente da senha atual!");
-                return false;
-            }
-            
-            // Atualiza senha (será criptografada automaticamente no DAO)
-            boolean sucesso = usuarioDAO.atualizarSenha(id, novaSenha);
-            
-            if (sucesso) {
-                exibirSucesso("Senha alterada com sucesso!");
-                System.out.println("✓ Senha alterada para usuário ID: " + id);
-            }
-            
-            return sucesso;
-            
-        } catch (SQLException e) {
-            exibirErro("Erro ao alterar senha: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+        return apresentar(usuarioService.alterarSenha(id, senhaAtual, novaSenha, confirmacaoSenha));
+    }
+    
+    /**
+     * Atualiza o perfil de um usuário; exige sessão de administrador.
+     * 
+     * @param sessao Sessão de quem faz a alteração
+     * @param id ID do usuário
+     * @param perfil Novo perfil
+     * @return true se atualização foi bem-sucedida, false caso contrário
+     */
+    public boolean atualizarPerfil(Sessao sessao, int id, Perfil perfil) {
+        return apresentar(usuarioService.atualizarPerfil(sessao, id, perfil));
     }
     
     /**
@@ -321,59 +387,42 @@ public class UsuarioController {
      * @return true se atualização foi bem-sucedida, false caso contrário
      */
     public boolean atualizarPerfil(int id, Perfil perfil) {
-        try {
-            boolean sucesso = usuarioDAO.atualizarPerfil(id, perfil);
-            
-            if (sucesso) {
-                exibirSucesso("Perfil atualizado com sucesso!");
-                System.out.println("✓ Perfil atualizado para: " + perfil);
-            }
-            
-            return sucesso;
-            
-        } catch (SQLException e) {
-            exibirErro("Erro ao atualizar perfil: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+        return apresentar(usuarioService.atualizarPerfil(id, perfil));
     }
     
     // ==================== MÉTODOS DE EXCLUSÃO ====================
     
     /**
-     * Exclui (desativa) um usuário do sistema.
+     * Exclui (desativa) um usuário do sistema, após confirmação;
+     * exige sessão de administrador.
+     * 
+     * @param sessao Sessão de quem faz a exclusão
+     * @param id ID do usuário
+     * @return true se exclusão foi bem-sucedida, false caso contrário
+     */
+    public boolean excluir(Sessao sessao, int id) {
+        return confirmarExclusao() && apresentar(usuarioService.excluir(sessao, id));
+    }
+    
+    /**
+     * Exclui (desativa) um usuário do sistema, após confirmação.
      * 
      * @param id ID do usuário
      * @return true se exclusão foi bem-sucedida, false caso contrário
      */
     public boolean excluir(int id) {
-        try {
-            int confirmacao = JOptionPane.showConfirmDialog(
-                null,
-                "Tem certeza que deseja excluir este usuário?\nEsta ação pode ser revertida posteriormente.",
-                "Confirmar Exclusão",
-                JOptionPane.YES_NO_OPTION,
-                JOptionPane.WARNING_MESSAGE
-            );
-            
-            if (confirmacao == JOptionPane.YES_OPTION) {
-                boolean sucesso = usuarioDAO.excluir(id);
-                
-                if (sucesso) {
-                    exibirSucesso("Usuário excluído com sucesso!");
-                    System.out.println("✓ Usuário ID " + id + " foi desativado");
-                }
-                
-                return sucesso;
-            }
-            
-            return false;
-            
-        } catch (SQLException e) {
-            exibirErro("Erro ao excluir usuário: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+        return confirmarExclusao() && apresentar(usuarioService.excluir(id));
+    }
+    
+    /**
+     * Reativa um usuário previamente desativado; exige sessão de administrador.
+     * 
+     * @param sessao Sessão de quem faz a reativação
+     * @param id ID do usuário
+     * @return true se reativação foi bem-sucedida, false caso contrário
+     */
+    public boolean reativar(Sessao sessao, int id) {
+        return apresentar(usuarioService.reativar(sessao, id));
     }
     
     /**
@@ -383,61 +432,33 @@ public class UsuarioController {
      * @return true se reativação foi bem-sucedida, false caso contrário
      */
     public boolean reativar(int id) {
-        try {
-            boolean sucesso = usuarioDAO.reativar(id);
-            
-            if (sucesso) {
-                exibirSucesso("Usuário reativado com sucesso!");
-                System.out.println("✓ Usuário ID " + id + " foi reativado");
-            }
-            
-            return sucesso;
-            
-        } catch (SQLException e) {
-            exibirErro("Erro ao reativar usuário: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+        return apresentar(usuarioService.reativar(id));
     }
     
     /**
-     * Exclui permanentemente um usuário.
+     * Exclui permanentemente um usuário, após confirmação;
+     * exige sessão de administrador.
+     * CUIDADO: Esta ação é irreversível!
+     * 
+     * @param sessao Sessão de quem faz a exclusão
+     * @param id ID do usuário
+     * @return true se exclusão foi bem-sucedida, false caso contrário
+     */
+    public boolean excluirPermanentemente(Sessao sessao, int id) {
+        return confirmarExclusaoPermanente()
+               && apresentarExclusaoPermanente(usuarioService.excluirPermanentemente(sessao, id));
+    }
+    
+    /**
+     * Exclui permanentemente um usuário, após confirmação.
      * CUIDADO: Esta ação é irreversível!
      * 
      * @param id ID do usuário
      * @return true se exclusão foi bem-sucedida, false caso contrário
      */
     public boolean excluirPermanentemente(int id) {
-        try {
-            int confirmacao = JOptionPane.showConfirmDialog(
-                null,
-                "ATENÇÃO: Esta ação é IRREVERSÍVEL!\n\n" +
-                "O usuário será excluído PERMANENTEMENTE do banco de dados.\n" +
-                "Todos os seus dados serão perdidos.\n\n" +
-                "Deseja realmente continuar?",
-                "Confirmar Exclusão Permanente",
-                JOptionPane.YES_NO_OPTION,
-                JOptionPane.ERROR_MESSAGE
-            );
-            
-            if (confirmacao == JOptionPane.YES_OPTION) {
-                boolean sucesso = usuarioDAO.excluirPermanentemente(id);
-                
-                if (sucesso) {
-                    exibirAviso("Usuário excluído PERMANENTEMENTE!");
-                    System.out.println("✓ Usuário ID " + id + " foi excluído permanentemente");
-                }
-                
-                return sucesso;
-            }
-            
-            return false;
-            
-        } catch (SQLException e) {
-            exibirErro("Erro ao excluir usuário permanentemente: " + e.getMessage());
-            e.printStackTrace();
-            return false;
-        }
+        return confirmarExclusaoPermanente()
+               && apresentarExclusaoPermanente(usuarioService.excluirPermanentemente(id));
     }
     
     // ==================== MÉTODOS ESTATÍSTICOS ====================
@@ -448,13 +469,7 @@ public class UsuarioController {
      * @return Quantidade de usuários ativos
      */
     public int contarUsuariosAtivos() {
-        try {
-            return usuarioDAO.contarUsuariosAtivos();
-        } catch (SQLException e) {
-            exibirErro("Erro ao contar usuários: " + e.getMessage());
-            e.printStackTrace();
-            return 0;
-        }
+        return apresentar(usuarioService.contarUsuariosAtivos(), 0);
     }
     
     /**
@@ -464,133 +479,157 @@ public class UsuarioController {
      * @return Quantidade de usuários
      */
     public int contarPorPerfil(Perfil perfil) {
-        try {
-            return usuarioDAO.contarPorPerfil(perfil);
-        } catch (SQLException e) {
-            exibirErro("Erro ao contar usuários por perfil: " + e.getMessage());
-            e.printStackTrace();
-            return 0;
-        }
+        return apresentar(usuarioService.contarPorPerfil(perfil), 0);
     }
     
-    // ==================== MÉTODOS DE VALIDAÇÃO ====================
+    /**
+     * Retorna total, ativos, inativos e ativos por perfil obtidos em uma única consulta.
+     * O resultado fica em cache por alguns segundos e é invalidado pelas gravações.
+     * 
+     * @return Estatísticas ou estatísticas zeradas em caso de erro
+     */
+    public EstatisticasUsuarios obterEstatisticas() {
+        return apresentar(usuarioService.obterEstatisticas(), EstatisticasUsuarios.vazia());
+    }
     
     /**
-     * Valida os dados básicos de um usuário.
+     * Retorna as estatísticas incluindo a distribuição de usuários ativos por país.
      * 
-     * @param usuario Usuario a ser validado
-     * @return true se válido, false caso contrário
+     * @return Estatísticas com contagem por país ou estatísticas zeradas em caso de erro
      */
-    private boolean validarUsuario(Usuario usuario) {
-        if (usuario == null) {
-            exibirErro("Dados do usuário inválidos!");
-            return false;
-        }
-        
-        // Valida nome
-        if (usuario.getNome() == null || usuario.getNome().trim().isEmpty()) {
-            exibirErro("Nome é obrigatório!");
-            return false;
-        }
-        
-        if (usuario.getNome().trim().length() < 3) {
-            exibirErro("Nome deve ter no mínimo 3 caracteres!");
-            return false;
-        }
-        
-        // Valida email
-        if (usuario.getEmail() == null || usuario.getEmail().trim().isEmpty()) {
-            exibirErro("Email é obrigatório!");
-            return false;
-        }
-        
-        if (!usuario.isEmailValido()) {
-            exibirErro("Email inválido! Use o formato: exemplo@dominio.com");
-            return false;
-        }
-        
-        // Valida telefone (se fornecido)
-        if (usuario.getTelefone() != null && !usuario.getTelefone().trim().isEmpty()) {
-            if (!validarTelefone(usuario.getTelefone())) {
-                exibirErro("Telefone inválido! Use o formato internacional: +55 51 99999-9999");
-                return false;
-            }
-        }
-        
-        // Valida perfil
-        if (usuario.getPerfil() == null) {
-            exibirErro("Perfil é obrigatório!");
-            return false;
-        }
-        
-        return true;
+    public EstatisticasUsuarios obterEstatisticasPorPais() {
+        return apresentar(usuarioService.obterEstatisticasPorPais(), EstatisticasUsuarios.vazia());
     }
     
+    // ==================== APRESENTAÇÃO DOS RESULTADOS ====================
+    
     /**
-     * Valida uma senha.
+     * Exibe o erro ou a confirmação do resultado.
      * 
-     * @param senha Senha a ser validada
-     * @return true se válida, false caso contrário
+     * @param resultado Resultado retornado pelo serviço
+     * @param seFalhar Valor retornado à tela em caso de falha
+     * @return Valor do resultado ou seFalhar
      */
-    private boolean validarSenha(String senha) {
-        if (senha == null || senha.isEmpty()) {
-            exibirErro("Senha é obrigatória!");
-            return false;
+    private <T> T apresentar(Resultado<T> resultado, T seFalhar) {
+        if (!resultado.isSucesso()) {
+            exibirErro(resultado.getMensagem());
+            return seFalhar;
         }
-        
-        if (senha.length() < 6) {
-            exibirErro("Senha deve ter no mínimo 6 caracteres!");
-            return false;
+        if (resultado.getMensagem() != null) {
+            exibirSucesso(resultado.getMensagem());
         }
-        
-        if (senha.length() > 50) {
-            exibirErro("Senha deve ter no máximo 50 caracteres!");
-            return false;
+        return resultado.getValor();
+    }
+    
+    /**
+     * Exibe o erro ou a confirmação de uma operação sem valor de retorno.
+     * 
+     * @return true se a operação foi concluída
+     */
+    private boolean apresentar(Resultado<Void> resultado) {
+        apresentar(resultado, null);
+        return resultado.isSucesso();
+    }
+    
+    /**
+     * Buscas por ID/email retornam null sem diálogo quando o usuário não existe.
+     */
+    private Usuario apresentarBusca(Resultado<Usuario> resultado) {
+        if (resultado.getSituacao() == Resultado.Situacao.NAO_ENCONTRADO) {
+            return null;
         }
-        
-        // Avalia força da senha
-        String forcaSenha = PasswordUtil.avaliarForcaSenha(senha);
-        if (forcaSenha.equals("Senha muito fraca (mínimo 6 caracteres)")) {
-            exibirErro(forcaSenha);
+        return apresentar(resultado, null);
+    }
+    
+    /**
+     * A exclusão permanente é confirmada com um aviso, não com mensagem de sucesso.
+     */
+    private boolean apresentarExclusaoPermanente(Resultado<Void> resultado) {
+        if (!resultado.isSucesso()) {
+            exibirErro(resultado.getMensagem());
             return false;
         }
-        
+        exibirAviso(resultado.getMensagem());
         return true;
     }
     
     /**
-     * Valida formato de telefone internacional.
-     * 
-     * @param telefone Telefone a ser validado
-     * @return true se válido, false caso contrário
+     * Para consultas periódicas em segundo plano: falhas só vão para o log.
      */
-    private boolean validarTelefone(String telefone) {
-        if (telefone == null || telefone.trim().isEmpty()) {
-            return true; // Telefone é opcional
+    private static <T> T registrar(Resultado<T> resultado) {
+        if (!resultado.isSucesso()) {
+            System.err.println("✗ " + resultado.getMensagem());
+            return null;
         }
-        
-        // Remove espaços para validação
-        String tel = telefone.replaceAll("\\s", "");
-        
-        // Formato básico: deve começar com + e ter números
-        return tel.matches("^\\+\\d{1,3}\\s?\\d{2,3}\\s?\\d{4,5}-?\\d{4}$") ||
-               tel.matches("^\\+\\d{10,15}$");
+        return resultado.getValor();
     }
     
     // ==================== MÉTODOS DE INTERFACE ====================
     
+    private boolean confirmarExclusao() {
+        return confirmar(
+            "Tem certeza que deseja excluir este usuário?\nEsta ação pode ser revertida posteriormente.",
+            "Confirmar Exclusão",
+            JOptionPane.WARNING_MESSAGE
+        );
+    }
+    
+    private boolean confirmarExclusaoPermanente() {
+        return confirmar(
+            "ATENÇÃO: Esta ação é IRREVERSÍVEL!\n\n" +
+            "O usuário será excluído PERMANENTEMENTE do banco de dados.\n" +
+            "Todos os seus dados serão perdidos.\n\n" +
+            "Deseja realmente continuar?",
+            "Confirmar Exclusão Permanente",
+            JOptionPane.ERROR_MESSAGE
+        );
+    }
+    
+    /**
+     * Pede confirmação (Sim/Não) na EDT, aguardando a resposta se chamado de outra thread.
+     * 
+     * @return true se o usuário respondeu Sim
+     */
+    private boolean confirmar(String mensagem, String titulo, int tipo) {
+        int[] resposta = { JOptionPane.NO_OPTION };
+        executarNaEdt(() -> resposta[0] = JOptionPane.showConfirmDialog(
+                null, mensagem, titulo, JOptionPane.YES_NO_OPTION, tipo));
+        return resposta[0] == JOptionPane.YES_OPTION;
+    }
+    
+    /**
+     * Exibe um diálogo de mensagem na EDT. Chamado de uma thread de segundo plano
+     * (SwingWorker das telas), aguarda o diálogo ser fechado antes de retornar.
+     * 
+     * @param mensagem Mensagem a ser exibida
+     * @param titulo Título do diálogo
+     * @param tipo Tipo de mensagem do JOptionPane
+     */
+    private void exibirMensagem(String mensagem, String titulo, int tipo) {
+        executarNaEdt(() -> JOptionPane.showMessageDialog(null, mensagem, titulo, tipo));
+    }
+    
+    private void executarNaEdt(Runnable acao) {
+        if (SwingUtilities.isEventDispatchThread()) {
+            acao.run();
+            return;
+        }
+        try {
+            SwingUtilities.invokeAndWait(acao);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (InvocationTargetException e) {
+            e.getCause().printStackTrace();
+        }
+    }
+    
     /**
      * Exibe mensagem de erro.
      * 
      * @param mensagem Mensagem a ser exibida
      */
     private void exibirErro(String mensagem) {
-        JOptionPane.showMessageDialog(
-            null,
-            mensagem,
-            "Erro",
-            JOptionPane.ERROR_MESSAGE
-        );
+        exibirMensagem(mensagem, "Erro", JOptionPane.ERROR_MESSAGE);
     }
     
     /**
@@ -599,12 +638,7 @@ public class UsuarioController {
      * @param mensagem Mensagem a ser exibida
      */
     private void exibirSucesso(String mensagem) {
-        JOptionPane.showMessageDialog(
-            null,
-            mensagem,
-            "Sucesso",
-            JOptionPane.INFORMATION_MESSAGE
-        );
+        exibirMensagem(mensagem, "Sucesso", JOptionPane.INFORMATION_MESSAGE);
     }
     
     /**
@@ -613,11 +647,6 @@ public class UsuarioController {
      * @param mensagem Mensagem a ser exibida
      */
     private void exibirAviso(String mensagem) {
-        JOptionPane.showMessageDialog(
-            null,
-            mensagem,
-            "Aviso",
-            JOptionPane.WARNING_MESSAGE
-        );
+        exibirMensagem(mensagem, "Aviso", JOptionPane.WARNING_MESSAGE);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,278 @@
+package dao;
+
+import config.DatabaseConfig;
+import model.SugestaoUsuario;
+import util.IndicePrefixos;
+import util.IndiceTrigramas;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Índices de texto em memória sobre nome e email dos usuários ativos, usados pelas buscas
+ * por substring do UsuarioDAO no lugar de LIKE '%termo%' (que não usa índice do banco)
+ * e pelas sugestões de autocompletar da busca (prefixo de uma palavra do nome ou do email).
+ * 
+ * O índice é carregado do banco em segundo plano na primeira solicitação e mantido
+ * pelos métodos de escrita do DAO. Enquanto não fica pronto, as buscas usam LIKE.
+ * Alterações que acontecem durante a carga são anotadas e relidas do banco ao final,
+ * para que a carga não sobrescreva um valor mais novo.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+class IndiceBuscaUsuarios {
+    
+    private enum Estado { VAZIO, CARREGANDO, PRONTO }
+    
+    private final IndiceTrigramas nomes = new IndiceTrigramas();
+    private final IndiceTrigramas emails = new IndiceTrigramas();
+    
+    // Texto "nome\nemail": indexa cada palavra do nome e o início do email
+    private final IndicePrefixos prefixos = new IndicePrefixos();
+    
+    private Estado estado = Estado.VAZIO;
+    private final Set<Integer> alteradosDuranteCarga = new HashSet<>();
+    
+    // ==================== CICLO DE VIDA ====================
+    
+    /**
+     * Inicia a carga em segundo plano, se ainda não foi iniciada.
+     */
+    synchronized void iniciarCarga() {
+        if (estado != Estado.VAZIO) {
+            return;
+        }
+        estado = Estado.CARREGANDO;
+        
+        Thread thread = new Thread(this::carregar, "indice-busca-usuarios");
+        thread.setDaemon(true);
+        thread.start();
+    }
+    
+    /**
+     * @return true se as buscas podem usar o índice
+     */
+    synchronized boolean isPronto() {
+        return estado == Estado.PRONTO;
+    }
+    
+    /**
+     * Descarta o conteúdo do índice; a próxima chamada a iniciarCarga() recarrega do banco.
+     * Uma carga em andamento conclui normalmente e substitui o estado descartado.
+     */
+    synchronized void reiniciar() {
+        if (estado == Estado.PRONTO) {
+            limpar();
+            estado = Estado.VAZIO;
+        }
+    }
+    
+    /**
+     * Carrega nome e email de todos os usuários ativos e, em seguida, relê os
+     * usuários alterados durante a carga.
+     */
+    private void carregar() {
+        long inicio = System.nanoTime();
+        String sql = "SELECT id, nome, email FROM usuarios WHERE ativo = TRUE";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            stmt.setFetchSize(DatabaseConfig.tamanhoBuscaStreaming(conn, 1_000));
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                while (rs.next()) {
+                    indexar(rs.getInt("id"), rs.getString("nome"), rs.getString("email"));
+                }
+            }
+            prefixos.consolidar();
+            
+            // Escritas ficam bloqueadas enquanto os alterados são relidos; a partir
+            // daqui elas atualizam o índice diretamente
+            synchronized (this) {
+                reler(conn, new ArrayList<>(alteradosDuranteCarga));
+                alteradosDuranteCarga.clear();
+                estado = Estado.PRONTO;
+            }
+            
+            System.out.printf("✓ Índice de busca carregado: %d usuários em %.1f s (~%d MB, sugestões ~%d MB)%n",
+                              nomes.getQuantidade(), (System.nanoTime() - inicio) / 1e9,
+                              getMemoriaEstimadaBytes() / (1024 * 1024), getMemoriaSugestoesBytes() / (1024 * 1024));
+            
+        } catch (SQLException e) {
+            System.err.println("✗ Falha ao carregar índice de busca; buscas continuam usando LIKE: " + e.getMessage());
+            synchronized (this) {
+                limpar();
+                alteradosDuranteCarga.clear();
+                estado = Estado.VAZIO;
+            }
+        }
+    }
+    
+    /**
+     * Relê nome, email e status dos IDs informados e atualiza o índice.
+     */
+    private void reler(Connection conn, List<Integer> ids) throws SQLException {
+        for (int inicio = 0; inicio < ids.size(); inicio += 1_000) {
+            List<Integer> trecho = ids.subList(inicio, Math.min(inicio + 1_000, ids.size()));
+            String sql = "SELECT id, nome, email, ativo FROM usuarios WHERE id IN (" +
+                         String.join(", ", Collections.nCopies(trecho.size(), "?")) + ")";
+            Set<Integer> encontrados = new HashSet<>();
+            
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (int i = 0; i < trecho.size(); i++) {
+                    stmt.setInt(i + 1, trecho.get(i));
+                }
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        int id = rs.getInt("id");
+                        encontrados.add(id);
+                        if (rs.getBoolean("ativo")) {
+                            indexar(id, rs.getString("nome"), rs.getString("email"));
+                        } else {
+                            desindexar(id);
+                        }
+                    }
+                }
+            }
+            
+            for (int id : trecho) {
+                if (!encontrados.contains(id)) {
+                    desindexar(id);
+                }
+            }
+        }
+    }
+    
+    // ==================== MANUTENÇÃO (chamada pelo DAO após cada escrita) ====================
+    
+    /**
+     * Indexa um usuário ativo (inserção ou reativação).
+     */
+    synchronized void definir(int id, String nome, String email) {
+        if (anotarSeCarregando(id)) {
+            return;
+        }
+        indexar(id, nome, email);
+    }
+    
+    /**
+     * Atualiza nome e email de um usuário, se ele estiver indexado (ativo).
+     */
+    synchronized void atualizar(int id, String nome, String email) {
+        if (anotarSeCarregando(id) || !nomes.contem(id)) {
+            return;
+        }
+        indexar(id, nome, email);
+    }
+    
+    /**
+     * Remove um usuário (desativação ou exclusão).
+     */
+    synchronized void remover(int id) {
+        if (anotarSeCarregando(id)) {
+            return;
+        }
+        desindexar(id);
+    }
+    
+    private boolean anotarSeCarregando(int id) {
+        if (estado == Estado.CARREGANDO) {
+            alteradosDuranteCarga.add(id);
+            return true;
+        }
+        return estado == Estado.VAZIO;
+    }
+    
+    private void indexar(int id, String nome, String email) {
+        nomes.definir(id, nome);
+        emails.definir(id, email);
+        prefixos.definir(id, nome + "\n" + email);
+    }
+    
+    private void desindexar(int id) {
+        nomes.remover(id);
+        emails.remover(id);
+        prefixos.remover(id);
+    }
+    
+    private void limpar() {
+        nomes.limpar();
+        emails.limpar();
+        prefixos.limpar();
+    }
+    
+    // ==================== CONSULTA ====================
+    
+    /**
+     * @param termo Substring do nome
+     * @return IDs de usuários ativos cujo nome contém o termo, em ordem crescente
+     */
+    int[] buscarPorNome(String termo) {
+        return nomes.buscar(termo);
+    }
+    
+    /**
+     * @param termo Substring do nome ou do email
+     * @return IDs de usuários ativos cujo nome ou email contém o termo, em ordem crescente
+     */
+    int[] buscarPorNomeOuEmail(String termo) {
+        int[] porNome = nomes.buscar(termo);
+        int[] porEmail = emails.buscar(termo);
+        
+        // União de duas listas ordenadas
+        int[] uniao = new int[porNome.length + porEmail.length];
+        int i = 0, j = 0, k = 0;
+        while (i < porNome.length || j < porEmail.length) {
+            if (j == porEmail.length || (i < porNome.length && porNome[i] < porEmail[j])) {
+                uniao[k++] = porNome[i++];
+            } else if (i == porNome.length || porEmail[j] < porNome[i]) {
+                uniao[k++] = porEmail[j++];
+            } else {
+                uniao[k++] = porNome[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(uniao, k);
+    }
+    
+    /**
+     * @param prefixo Início de uma palavra do nome ou do email
+     * @param limite Quantidade máxima de sugestões
+     * @return Usuários ativos encontrados, em ordem alfabética da palavra que casou
+     */
+    List<SugestaoUsuario> sugerir(String prefixo, int limite) {
+        List<SugestaoUsuario> sugestoes = new ArrayList<>();
+        for (int id : prefixos.buscar(prefixo, limite)) {
+            String texto = prefixos.getTexto(id);
+            if (texto != null) {  // removido entre a busca e a leitura
+                int quebra = texto.indexOf('\n');
+                sugestoes.add(new SugestaoUsuario(id, texto.substring(0, quebra), texto.substring(quebra + 1)));
+            }
+        }
+        return sugestoes;
+    }
+    
+    /**
+     * @return Memória aproximada ocupada pelos índices de busca e de sugestões
+     */
+    long getMemoriaEstimadaBytes() {
+        return nomes.estimarMemoriaBytes() + emails.estimarMemoriaBytes() + getMemoriaSugestoesBytes();
+    }
+    
+    /**
+     * @return Memória aproximada ocupada pelo índice de sugestões
+     */
+    long getMemoriaSugestoesBytes() {
+        return prefixos.estimarMemoriaBytes();
+    }
+}
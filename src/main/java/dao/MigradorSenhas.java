@@ -0,0 +1,233 @@
+package dao;
+
+import config.DatabaseConfig;
+import util.PasswordUtil;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Converte as senhas legadas em texto plano para hash, fora do login.
+ * 
+ * Percorre a tabela em ordem de ID, em lotes: separa as senhas que não são hash (pela
+ * mesma verificação estrutural do login, PasswordUtil.isSenhaCriptografada), gera os
+ * hashes em paralelo (com menos threads que núcleos, para não disputar CPU com os
+ * logins) e grava o lote em uma transação. Entre lotes faz uma pausa, limitando a
+ * carga no banco.
+ * 
+ * Após cada lote gravado, o último ID é salvo no arquivo de checkpoint: uma migração
+ * interrompida continua de onde parou. Ao terminar, o checkpoint é apagado.
+ * 
+ * Cada instância executa uma migração; cancelar() pode ser chamado de outra thread.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class MigradorSenhas {
+    
+    /**
+     * Quantidade de usuários por lote quando não informada.
+     */
+    public static final int TAMANHO_LOTE_PADRAO = 500;
+    
+    /**
+     * Pausa entre lotes quando não informada.
+     */
+    public static final long PAUSA_PADRAO_MS = 200;
+    
+    private static final Path CHECKPOINT_PADRAO = Paths.get("migracao-senhas.checkpoint");
+    
+    private final UsuarioDAO usuarioDAO = new UsuarioDAO();
+    private final int tamanhoLote;
+    private final int threads;
+    private final long pausaMs;
+    private final Path checkpoint;
+    
+    private volatile boolean cancelado;
+    
+    /**
+     * Cria um migrador com o lote e a pausa padrão, metade dos núcleos para os
+     * hashes e o checkpoint em migracao-senhas.checkpoint.
+     */
+    public MigradorSenhas() {
+        this(TAMANHO_LOTE_PADRAO, Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+             PAUSA_PADRAO_MS, CHECKPOINT_PADRAO);
+    }
+    
+    /**
+     * Cria um migrador.
+     * 
+     * @param tamanhoLote Usuários por lote (uma transação por lote)
+     * @param threads Threads que geram os hashes
+     * @param pausaMs Pausa entre lotes, em milissegundos
+     * @param checkpoint Arquivo com o último ID migrado
+     */
+    public MigradorSenhas(int tamanhoLote, int threads, long pausaMs, Path checkpoint) {
+        if (tamanhoLote < 1 || threads < 1 || pausaMs < 0) {
+            throw new IllegalArgumentException("Migração inválida: lote=" + tamanhoLote
+                                               + ", threads=" + threads + ", pausa=" + pausaMs);
+        }
+        this.tamanhoLote = tamanhoLote;
+        this.threads = threads;
+        this.pausaMs = pausaMs;
+        this.checkpoint = checkpoint;
+    }
+    
+    /**
+     * Interrompe a migração ao fim do lote atual; o checkpoint permite continuar depois.
+     */
+    public void cancelar() {
+        cancelado = true;
+    }
+    
+    /**
+     * Executa a migração a partir do checkpoint (ou do início, se não houver).
+     * 
+     * @return Quantidade de senhas convertidas
+     * @throws SQLException Se houver erro no banco (os lotes já gravados permanecem)
+     * @throws IOException Se não for possível ler ou gravar o checkpoint
+     */
+    public long migrar() throws SQLException, IOException {
+        int ultimoId = lerCheckpoint();
+        if (ultimoId > 0) {
+            System.out.println("✓ Continuando a migração de senhas após o ID " + ultimoId);
+        }
+        
+        long migradas = 0;
+        long ignoradas = 0;
+        long inicio = System.nanoTime();
+        
+        AtomicInteger contador = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "migracao-senhas-" + contador.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        
+        try {
+            while (!cancelado) {
+                Map<Integer, String> senhas = usuarioDAO.listarSenhas(ultimoId, tamanhoLote);
+                if (senhas.isEmpty()) {
+                    break;
+                }
+                
+                // Hashes já migrados são pulados; senha vazia não tem hash possível
+                // (e nunca autentica): fica como está
+                List<Integer> ids = new ArrayList<>(senhas.size());
+                List<CompletableFuture<String>> hashes = new ArrayList<>(senhas.size());
+                for (Map.Entry<Integer, String> senha : senhas.entrySet()) {
+                    ultimoId = senha.getKey();
+                    if (senha.getValue() == null || senha.getValue().isEmpty()) {
+                        ignoradas++;
+                        continue;
+                    }
+                    if (PasswordUtil.isSenhaCriptografada(senha.getValue())) {
+                        continue;
+                    }
+                    ids.add(senha.getKey());
+                    hashes.add(CompletableFuture.supplyAsync(
+                            () -> PasswordUtil.criptografarSenha(senha.getValue()), executor));
+                }
+                
+                Map<Integer, String> novosHashes = new LinkedHashMap<>();
+                for (int i = 0; i < ids.size(); i++) {
+                    novosHashes.put(ids.get(i), hashes.get(i).join());
+                }
+                if (!novosHashes.isEmpty()) {
+                    migradas += usuarioDAO.substituirSenhas(senhas, novosHashes);
+                }
+                gravarCheckpoint(ultimoId);
+                System.out.println("✓ Senhas migradas: " + migradas + " (até o ID " + ultimoId + ")");
+                
+                if (pausaMs > 0 && senhas.size() == tamanhoLote) {
+                    Thread.sleep(pausaMs);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancelado = true;
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        long duracaoMs = (System.nanoTime() - inicio) / 1_000_000;
+        if (cancelado) {
+            System.out.println("✗ Migração de senhas interrompida após o ID " + ultimoId
+                               + "; execute novamente para continuar");
+        } else {
+            Files.deleteIfExists(checkpoint);
+            System.out.println("✓ Migração de senhas concluída: " + migradas + " convertidas, "
+                               + ignoradas + " ignoradas em " + duracaoMs + " ms");
+        }
+        return migradas;
+    }
+    
+    // ==================== CHECKPOINT ====================
+    
+    private int lerCheckpoint() throws IOException {
+        if (!Files.exists(checkpoint)) {
+            return 0;
+        }
+        String conteudo = Files.readString(checkpoint, StandardCharsets.UTF_8).trim();
+        try {
+            return Integer.parseInt(conteudo);
+        } catch (NumberFormatException e) {
+            throw new IOException("Checkpoint inválido em " + checkpoint + ": " + conteudo, e);
+        }
+    }
+    
+    /**
+     * Grava o checkpoint em um arquivo temporário e o move por cima do anterior,
+     * para uma interrupção no meio da gravação não corromper o arquivo.
+     */
+    private void gravarCheckpoint(int ultimoId) throws IOException {
+        Path temporario = checkpoint.resolveSibling(checkpoint.getFileName() + ".tmp");
+        Files.writeString(temporario, Integer.toString(ultimoId), StandardCharsets.UTF_8);
+        Files.move(temporario, checkpoint, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    
+    /**
+     * Converte as senhas em texto plano do banco configurado.
+     * Uso: MigradorSenhas [tamanhoLote] [pausaMs] [arquivoCheckpoint]
+     */
+    public static void main(String[] args) throws Exception {
+        int tamanhoLote = args.length > 0 ? Integer.parseInt(args[0]) : TAMANHO_LOTE_PADRAO;
+        long pausaMs = args.length > 1 ? Long.parseLong(args[1]) : PAUSA_PADRAO_MS;
+        Path checkpoint = args.length > 2 ? Paths.get(args[2]) : CHECKPOINT_PADRAO;
+        
+        // Ajusta o custo do BCrypt a este host em segundo plano
+        PasswordUtil.calibrarNaInicializacao();
+        
+        MigradorSenhas migrador = new MigradorSenhas(tamanhoLote, Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                                                     pausaMs, checkpoint);
+        
+        // Ctrl+C termina o lote atual e grava o checkpoint antes de sair
+        Thread principal = Thread.currentThread();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            migrador.cancelar();
+            try {
+                principal.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        try {
+            migrador.migrar();
+        } finally {
+            DatabaseConfig.closeConnection();
+        }
+    }
+}
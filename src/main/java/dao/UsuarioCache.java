@@ -0,0 +1,203 @@
+package dao;
+
+import model.Usuario;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Cache em memória de usuários ativos, indexado por ID e com índice secundário por email.
+ * Remove o usuário usado há mais tempo (LRU) ao atingir a capacidade e, opcionalmente,
+ * descarta entradas mais antigas que o TTL.
+ * 
+ * Guarda e devolve cópias, pois Usuario é mutável: alterar o objeto retornado
+ * não altera o que está em cache.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+class UsuarioCache {
+    
+    private final int capacidade;
+    private final long ttlMs;
+    
+    // Ordem de acesso: o primeiro elemento é o menos usado recentemente
+    private final LinkedHashMap<Integer, Entrada> porId = new LinkedHashMap<>(16, 0.75f, true);
+    private final Map<String, Integer> idPorEmail = new HashMap<>();
+    
+    // Incrementada a cada invalidação; cargas iniciadas antes dela não são armazenadas
+    private long geracao;
+    
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder faltas = new LongAdder();
+    private final LongAdder remocoes = new LongAdder();
+    
+    /**
+     * Cria um cache vazio.
+     * 
+     * @param capacidade Quantidade máxima de usuários em cache
+     * @param ttlMs Tempo de vida de cada entrada em milissegundos (0 desativa o TTL)
+     */
+    UsuarioCache(int capacidade, long ttlMs) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade do cache deve ser positiva");
+        }
+        this.capacidade = capacidade;
+        this.ttlMs = ttlMs;
+    }
+    
+    // ==================== CONSULTA ====================
+    
+    /**
+     * Busca um usuário pelo ID.
+     * 
+     * @param id ID do usuário
+     * @return Cópia do usuário ou null se não estiver em cache
+     */
+    synchronized Usuario buscarPorId(int id) {
+        Entrada entrada = porId.get(id);
+        if (entrada == null || expirada(entrada)) {
+            if (entrada != null) {
+                remover(id);
+            }
+            faltas.increment();
+            return null;
+        }
+        acertos.increment();
+        return entrada.usuario.copiar();
+    }
+    
+    /**
+     * Busca um usuário pelo email (sem diferenciar maiúsculas/minúsculas).
+     * 
+     * @param email Email do usuário
+     * @return Cópia do usuário ou null se não estiver em cache
+     */
+    synchronized Usuario buscarPorEmail(String email) {
+        Integer id = email == null ? null : idPorEmail.get(normalizar(email));
+        if (id == null) {
+            faltas.increment();
+            return null;
+        }
+        return buscarPorId(id);
+    }
+    
+    /**
+     * Marca o início de uma carga no banco.
+     * O valor retornado deve ser passado a armazenar() quando a carga terminar.
+     * 
+     * @return Geração atual do cache
+     */
+    synchronized long iniciarCarga() {
+        return geracao;
+    }
+    
+    // ==================== ATUALIZAÇÃO ====================
+    
+    /**
+     * Armazena uma cópia do usuário carregado do banco, exceto se alguma
+     * invalidação ocorreu desde iniciarCarga() (o valor lido pode estar desatualizado).
+     * 
+     * @param usuario Usuario lido do banco
+     * @param geracaoCarga Valor retornado por iniciarCarga()
+     */
+    synchronized void armazenar(Usuario usuario, long geracaoCarga) {
+        if (usuario == null || geracaoCarga != geracao) {
+            return;
+        }
+        
+        remover(usuario.getId());
+        porId.put(usuario.getId(), new Entrada(usuario.copiar(), System.currentTimeMillis()));
+        if (usuario.getEmail() != null) {
+            idPorEmail.put(normalizar(usuario.getEmail()), usuario.getId());
+        }
+        
+        while (porId.size() > capacidade) {
+            remover(porId.keySet().iterator().next());
+            remocoes.increment();
+        }
+    }
+    
+    /**
+     * Remove um usuário do cache após uma escrita.
+     * 
+     * @param id ID do usuário alterado
+     */
+    synchronized void invalidar(int id) {
+        geracao++;
+        remover(id);
+    }
+    
+    /**
+     * Remove o mapeamento de um email após uma escrita que pode tê-lo alterado.
+     * 
+     * @param email Email afetado
+     */
+    synchronized void invalidarEmail(String email) {
+        geracao++;
+        if (email != null) {
+            Integer id = idPorEmail.remove(normalizar(email));
+            if (id != null) {
+                remover(id);
+            }
+        }
+    }
+    
+    /**
+     * Esvazia o cache (os contadores são mantidos).
+     */
+    synchronized void limpar() {
+        geracao++;
+        porId.clear();
+        idPorEmail.clear();
+    }
+    
+    // ==================== MÉTRICAS ====================
+    
+    /**
+     * Retorna um resumo das métricas do cache.
+     * 
+     * @return String com ocupação, acertos, faltas, taxa de acerto e remoções por capacidade
+     */
+    synchronized String getResumo() {
+        long a = acertos.sum();
+        long f = faltas.sum();
+        double taxa = a + f == 0 ? 0.0 : 100.0 * a / (a + f);
+        return String.format("Cache de usuários: %d/%d entradas, TTL=%s, acertos=%d, faltas=%d (%.1f%% de acerto), remoções=%d",
+                             porId.size(), capacidade, ttlMs > 0 ? ttlMs + " ms" : "desativado",
+                             a, f, taxa, remocoes.sum());
+    }
+    
+    // ==================== AUXILIARES ====================
+    
+    private boolean expirada(Entrada entrada) {
+        return ttlMs > 0 && System.currentTimeMillis() - entrada.carregadoEm >= ttlMs;
+    }
+    
+    private void remover(int id) {
+        Entrada entrada = porId.remove(id);
+        if (entrada != null && entrada.usuario.getEmail() != null) {
+            idPorEmail.remove(normalizar(entrada.usuario.getEmail()), id);
+        }
+    }
+    
+    private static String normalizar(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+    
+    /**
+     * Usuário em cache com o instante em que foi carregado.
+     */
+    private static final class Entrada {
+        final Usuario usuario;
+        final long carregadoEm;
+        
+        Entrada(Usuario usuario, long carregadoEm) {
+            this.usuario = usuario;
+            this.carregadoEm = carregadoEm;
+        }
+    }
+}
@@ -1,70 +1,206 @@
 package dao;
 
 import config.DatabaseConfig;
+import model.AlteracaoUsuario;
+import model.CursorPagina;
+import model.EstatisticasUsuarios;
+import model.Pagina;
+import model.ResultadoCadastro;
+import model.SugestaoUsuario;
 import model.Usuario;
 import model.Usuario.Perfil;
+import model.UsuarioResumo;
+import util.GerenciadorSessoes;
+import util.IndiceTrigramas;
 import util.PasswordUtil;
 
 import java.sql.*;
+import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
 
 /**
  * Data Access Object (DAO) para a entidade Usuario.
  * Responsável por todas as operações de banco de dados relacionadas a usuários.
  * 
+ * Listagens, buscas por nome e contagens são lidas de uma réplica quando configurada.
+ * Escritas e leituras que precisam refletir escritas recentes (autenticação, busca por
+ * ID/email e verificação de email) usam sempre o banco primário.
+ * 
+ * Buscas por ID e email passam por um cache compartilhado de usuários ativos,
+ * invalidado por todos os métodos de escrita desta classe.
+ * 
+ * Alterações de senha e de perfil e exclusões encerram as sessões do usuário
+ * (GerenciadorSessoes), que guardam o perfil do login.
+ * 
+ * Buscas por substring de nome/email usam um índice de trigramas em memória
+ * (IndiceBuscaUsuarios), também mantido pelos métodos de escrita; enquanto o índice
+ * não está carregado, usam LIKE.
+ * 
  * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
  * @version 1.0
  */
 public class UsuarioDAO {
     
+    /**
+     * Tamanho máximo de página aceito pelas listagens paginadas.
+     */
+    public static final int TAMANHO_MAXIMO_PAGINA = 1000;
+    
+    /**
+     * Tamanho mínimo do termo aceito pela busca paginada (um trigrama do índice).
+     */
+    public static final int TAMANHO_MINIMO_TERMO = 3;
+    
+    /**
+     * Quantidade de linhas por lote JDBC usada por inserirEmLote quando não informada.
+     */
+    public static final int TAMANHO_LOTE_PADRAO = 500;
+    
+    /**
+     * Colunas carregadas nas projeções de listagem (UsuarioResumo).
+     */
+    private static final String COLUNAS_RESUMO = "id, nome, email, telefone, perfil, cidade, estado, pais, ativo";
+    
+    // Cache de entidades compartilhado por todas as instâncias do DAO.
+    // O TTL limita a defasagem quando o banco é alterado por outro processo.
+    private static final int CACHE_CAPACIDADE = 1_000;
+    private static final long CACHE_TTL_MS = 5 * 60_000;  // 0 desativa o TTL
+    private static final UsuarioCache CACHE = new UsuarioCache(CACHE_CAPACIDADE, CACHE_TTL_MS);
+    
+    // Índice de busca por substring compartilhado por todas as instâncias do DAO
+    private static final IndiceBuscaUsuarios INDICE = new IndiceBuscaUsuarios();
+    
+    // Limite de parâmetros por consulta IN ao buscar os usuários encontrados no índice
+    private static final int TAMANHO_MAXIMO_IN = 1000;
+    
+    // Trechos de IDs em que ao menos 1 a cada 32 IDs da faixa foi encontrado são lidos
+    // com BETWEEN na chave primária, mais barato que o IN para resultados densos
+    private static final int DENSIDADE_MINIMA_FAIXA = 32;
+    
+    // Thread que grava os hashes refeitos no login (custo do BCrypt alterado), fora
+    // do caminho do login e sem ocupar as threads do BCrypt com I/O
+    private static final ExecutorService REHASH = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "rehash-senhas");
+        t.setDaemon(true);
+        return t;
+    });
+    
+    /**
+     * Converte a linha atual de um ResultSet em um objeto.
+     */
+    @FunctionalInterface
+    private interface MapeadorLinha<T> {
+        T mapear(ResultSet rs) throws SQLException;
+    }
+    
     // ==================== MÉTODOS DE AUTENTICAÇÃO ====================
     
     /**
      * Autentica um usuário no sistema usando BCrypt.
      * 
+     * A verificação roda no executor dedicado de BCrypt (PasswordUtil.verificarSenhaAsync),
+     * sem reter conexão do pool enquanto aguarda.
+     * 
      * @param email Email do usuário
      * @param senha Senha do usuário em texto plano
      * @return Usuario autenticado ou null se credenciais inválidas
      * @throws SQLException Se houver erro na consulta ao banco
+     * @throws util.SobrecargaException Se o executor de BCrypt estiver saturado
      */
     public Usuario autenticar(String email, String senha) throws SQLException {
-        String sql = "SELECT * FROM usuarios WHERE email = ? AND ativo = TRUE";
+        // Busca apenas as credenciais; o registro completo só é lido se a senha conferir
+        String sql = "SELECT id, senha FROM usuarios WHERE email = ? AND ativo = TRUE";
         
+        int userId;
+        String senhaArmazenada;
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, email);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    String senhaArmazenada = rs.getString("senha");
-                    
-                    // Verifica se a senha armazenada é BCrypt ou texto plano
-                    boolean senhaValida;
-                    if (PasswordUtil.isSenhaCriptografada(senhaArmazenada)) {
-                        // Senha já está criptografada, usa BCrypt
-                        senhaValida = PasswordUtil.verificarSenha(senha, senhaArmazenada);
-                    } else {
-                        // Senha em texto plano (legado), compara diretamente
-                        senhaValida = senha.equals(senhaArmazenada);
-                        
-                        // Se senha está correta, aproveita para criptografar
-                        if (senhaValida) {
-                            int userId = rs.getInt("id");
-                            String senhaCriptografada = PasswordUtil.criptografarSenha(senha);
-                            atualizarSenha(userId, senhaCriptografada);
-                            System.out.println("✓ Senha migrada para BCrypt para usuário: " + email);
-                        }
-                    }
-                    
-                    if (senhaValida) {
-                        return extrairUsuarioDoResultSet(rs);
-                    }
+                if (!rs.next()) {
+                    return null;
                 }
+                userId = rs.getInt("id");
+                senhaArmazenada = rs.getString("senha");
             }
         }
-        return null;
+        
+        // Verifica se a senha armazenada é um hash (BCrypt, PBKDF2, scrypt) ou texto plano
+        boolean senhaValida;
+        if (PasswordUtil.isSenhaCriptografada(senhaArmazenada)) {
+            // Senha já está criptografada, usa o algoritmo que o hash declara
+            senhaValida = PasswordUtil.aguardar(PasswordUtil.verificarSenhaAsync(senha, senhaArmazenada));
+        } else {
+            // Senha em texto plano (legado), compara diretamente. A conversão para hash
+            // é feita pelo MigradorSenhas, fora do login
+            senhaValida = senha.equals(senhaArmazenada);
+            if (senhaValida) {
+                System.err.println("✗ Senha em texto plano para o usuário ID " + userId
+                                   + "; execute o dao.MigradorSenhas");
+            }
+        }
+        
+        if (!senhaValida) {
+            return null;
+        }
+        if (PasswordUtil.precisaRehash(senhaArmazenada)) {
+            refazerHashEmSegundoPlano(userId, senha, senhaArmazenada);
+        }
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            return buscarPorId(conn, userId);
+        }
+    }
+    
+    /**
+     * Refaz o hash da senha com o algoritmo e os parâmetros atuais, sem atrasar o login.
+     * O hash só é gravado se a senha não foi trocada nesse meio tempo; se o executor
+     * de senhas estiver saturado, o rehash fica para o próximo login.
+     * 
+     * @param userId ID do usuário autenticado
+     * @param senha Senha em texto plano já verificada
+     * @param hashAnterior Hash armazenado no momento do login
+     */
+    private void refazerHashEmSegundoPlano(int userId, String senha, String hashAnterior) {
+        String sql = "UPDATE usuarios SET senha = ? WHERE id = ? AND senha = ?";
+        
+        PasswordUtil.criptografarSenhaAsync(senha)
+                .thenAcceptAsync(novoHash -> {
+                    try (Connection conn = DatabaseConfig.getConnection();
+                         PreparedStatement stmt = conn.prepareStatement(sql)) {
+                        
+                        stmt.setString(1, novoHash);
+                        stmt.setInt(2, userId);
+                        stmt.setString(3, hashAnterior);
+                        
+                        if (stmt.executeUpdate() > 0) {
+                            CACHE.invalidar(userId);
+                            System.out.println("✓ Hash da senha refeito com " + PasswordUtil.getAlgoritmoPadrao()
+                                               + " para o usuário ID: " + userId);
+                        }
+                    } catch (SQLException e) {
+                        System.err.println("✗ Erro ao gravar o novo hash da senha: " + e.getMessage());
+                    }
+                }, REHASH)
+                .exceptionally(e -> {
+                    System.err.println("✗ Rehash da senha adiado para o próximo login: " + e.getMessage());
+                    return null;
+                });
     }
     
     // ==================== MÉTODOS DE CONSULTA ====================
@@ -79,7 +215,7 @@ public class UsuarioDAO {
         List<Usuario> usuarios = new ArrayList<>();
         String sql = "SELECT * FROM usuarios WHERE ativo = TRUE ORDER BY nome";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -100,7 +236,7 @@ public class UsuarioDAO {
         List<Usuario> usuarios = new ArrayList<>();
         String sql = "SELECT * FROM usuarios ORDER BY nome";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -119,11 +255,31 @@ public class UsuarioDAO {
      * @throws SQLException Se houver erro na consulta ao banco
      */
     public Usuario buscarPorId(int id) throws SQLException {
+        Usuario emCache = CACHE.buscarPorId(id);
+        if (emCache != null) {
+            return emCache;
+        }
+        
+        long geracao = CACHE.iniciarCarga();
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            Usuario usuario = buscarPorId(conn, id);
+            CACHE.armazenar(usuario, geracao);
+            return usuario;
+        }
+    }
+    
+    /**
+     * Busca um usuário ativo por ID usando uma conexão já aberta.
+     * 
+     * @param conn Conexão a ser usada
+     * @param id ID do usuário
+     * @return Usuario encontrado ou null se não existir
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    private Usuario buscarPorId(Connection conn, int id) throws SQLException {
         String sql = "SELECT * FROM usuarios WHERE id = ? AND ativo = TRUE";
         
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setInt(1, id);
             
             try (ResultSet rs = stmt.executeQuery()) {
@@ -143,7 +299,13 @@ public class UsuarioDAO {
      * @throws SQLException Se houver erro na consulta ao banco
      */
     public Usuario buscarPorEmail(String email) throws SQLException {
+        Usuario emCache = CACHE.buscarPorEmail(email);
+        if (emCache != null) {
+            return emCache;
+        }
+        
         String sql = "SELECT * FROM usuarios WHERE email = ? AND ativo = TRUE";
+        long geracao = CACHE.iniciarCarga();
         
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
@@ -152,7 +314,9 @@ public class UsuarioDAO {
             
             try (ResultSet rs = stmt.executeQuery()) {
                 if (rs.next()) {
-                    return extrairUsuarioDoResultSet(rs);
+                    Usuario usuario = extrairUsuarioDoResultSet(rs);
+                    CACHE.armazenar(usuario, geracao);
+                    return usuario;
                 }
             }
         }
@@ -170,7 +334,7 @@ public class UsuarioDAO {
         List<Usuario> usuarios = new ArrayList<>();
         String sql = "SELECT * FROM usuarios WHERE perfil = ? AND ativo = TRUE ORDER BY nome";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, perfil.name());
@@ -192,10 +356,15 @@ public class UsuarioDAO {
      * @throws SQLException Se houver erro na consulta ao banco
      */
     public List<Usuario> buscarPorNome(String nome) throws SQLException {
+        if (INDICE.isPronto()) {
+            return consultarPorIds("*", this::extrairUsuarioDoResultSet, Usuario::getNome, INDICE.buscarPorNome(nome));
+        }
+        INDICE.iniciarCarga();
+        
         List<Usuario> usuarios = new ArrayList<>();
         String sql = "SELECT * FROM usuarios WHERE nome LIKE ? AND ativo = TRUE ORDER BY nome";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, "%" + nome + "%");
@@ -209,30 +378,534 @@ public class UsuarioDAO {
         return usuarios;
     }
     
+    /**
+     * Lista os resumos de todos os usuários ativos (apenas colunas de listagem).
+     * 
+     * @return Lista de resumos de usuários ativos
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public List<UsuarioResumo> listarResumos() throws SQLException {
+        List<UsuarioResumo> resumos = new ArrayList<>();
+        String sql = "SELECT " + COLUNAS_RESUMO + " FROM usuarios WHERE ativo = TRUE ORDER BY nome";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            while (rs.next()) {
+                resumos.add(extrairResumoDoResultSet(rs));
+            }
+        }
+        return resumos;
+    }
+    
+    /**
+     * Busca resumos de usuários ativos por nome (busca parcial, apenas colunas de listagem).
+     * 
+     * @param nome Nome ou parte do nome para buscar
+     * @return Lista de resumos encontrados
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public List<UsuarioResumo> buscarResumosPorNome(String nome) throws SQLException {
+        if (INDICE.isPronto()) {
+            return consultarPorIds(COLUNAS_RESUMO, this::extrairResumoDoResultSet, UsuarioResumo::getNome,
+                                   INDICE.buscarPorNome(nome));
+        }
+        INDICE.iniciarCarga();
+        return buscarResumosPorNomeLike(nome);
+    }
+    
+    /**
+     * Busca resumos de usuários ativos cujo nome ou email contém o termo
+     * (sem diferenciar acentos e maiúsculas/minúsculas quando o índice está carregado).
+     * 
+     * @param termo Parte do nome ou do email
+     * @return Lista de resumos encontrados, ordenada por nome
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public List<UsuarioResumo> buscarResumosPorNomeOuEmail(String termo) throws SQLException {
+        if (INDICE.isPronto()) {
+            return consultarPorIds(COLUNAS_RESUMO, this::extrairResumoDoResultSet, UsuarioResumo::getNome,
+                                   INDICE.buscarPorNomeOuEmail(termo));
+        }
+        INDICE.iniciarCarga();
+        
+        List<UsuarioResumo> resumos = new ArrayList<>();
+        String sql = "SELECT " + COLUNAS_RESUMO + " FROM usuarios " +
+                     "WHERE (nome LIKE ? OR email LIKE ?) AND ativo = TRUE ORDER BY nome";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setString(1, "%" + termo + "%");
+            stmt.setString(2, "%" + termo + "%");
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    resumos.add(extrairResumoDoResultSet(rs));
+                }
+            }
+        }
+        return resumos;
+    }
+    
+    /**
+     * Busca uma página de resumos de usuários ativos cujo nome ou email contém o termo.
+     * 
+     * A página segue a ordem de ID, a mesma das listas do índice: com o índice carregado
+     * apenas os IDs da página são lidos do banco, e sem ele o LIKE para no LIMIT. Do
+     * cursor só o ID é usado.
+     * 
+     * @param termo Parte do nome ou do email (ao menos TAMANHO_MINIMO_TERMO caracteres)
+     * @param apos Cursor retornado pela página anterior ou null para a primeira página
+     * @param tamanho Quantidade de usuários por página (1 a TAMANHO_MAXIMO_PAGINA)
+     * @return Página com os resumos e o cursor da próxima página
+     * @throws IllegalArgumentException Se o termo for curto demais ou o tamanho estiver fora do limite
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public Pagina<UsuarioResumo> buscarPaginaResumosPorNomeOuEmail(String termo, CursorPagina apos, int tamanho)
+            throws SQLException {
+        if (termo == null || IndiceTrigramas.normalizar(termo.trim()).length() < TAMANHO_MINIMO_TERMO) {
+            throw new IllegalArgumentException("Termo de busca deve ter ao menos " + TAMANHO_MINIMO_TERMO + " caracteres");
+        }
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("Tamanho de página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
+        }
+        int aposId = apos == null ? 0 : apos.getId();
+        
+        // Busca um registro a mais para saber se existe próxima página
+        List<UsuarioResumo> itens = new ArrayList<>(tamanho + 1);
+        if (INDICE.isPronto()) {
+            int[] ids = INDICE.buscarPorNomeOuEmail(termo);
+            int posicao = Arrays.binarySearch(ids, aposId + 1);
+            posicao = posicao < 0 ? -posicao - 1 : posicao;
+            
+            // Um ID desativado após a busca no índice não volta do banco; lê o trecho seguinte
+            while (itens.size() <= tamanho && posicao < ids.length) {
+                int fim = Math.min(posicao + tamanho + 1 - itens.size(), ids.length);
+                List<UsuarioResumo> trecho = consultarPorIds(COLUNAS_RESUMO, this::extrairResumoDoResultSet,
+                                                             UsuarioResumo::getNome,
+                                                             Arrays.copyOfRange(ids, posicao, fim));
+                trecho.sort(Comparator.comparingInt(UsuarioResumo::getId));
+                itens.addAll(trecho);
+                posicao = fim;
+            }
+        } else {
+            INDICE.iniciarCarga();
+            
+            String sql = "SELECT " + COLUNAS_RESUMO + " FROM usuarios " +
+                         "WHERE (nome LIKE ? OR email LIKE ?) AND ativo = TRUE AND id > ? ORDER BY id LIMIT ?";
+            
+            try (Connection conn = DatabaseConfig.getReadConnection();
+                 PreparedStatement stmt = conn.prepareStatement(sql)) {
+                
+                stmt.setString(1, "%" + termo + "%");
+                stmt.setString(2, "%" + termo + "%");
+                stmt.setInt(3, aposId);
+                stmt.setInt(4, tamanho + 1);
+                
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        itens.add(extrairResumoDoResultSet(rs));
+                    }
+                }
+            }
+        }
+        
+        if (itens.size() <= tamanho) {
+            return new Pagina<>(itens, null);
+        }
+        itens.remove(tamanho);
+        UsuarioResumo ultimo = itens.get(tamanho - 1);
+        return new Pagina<>(itens, new CursorPagina(ultimo.getNome(), ultimo.getId()));
+    }
+    
+    /**
+     * Sugestões de autocompletar: usuários ativos com uma palavra do nome, ou o email,
+     * começando pelo prefixo (sem diferenciar acentos e maiúsculas/minúsculas).
+     * Não consulta o banco; enquanto o índice carrega, retorna lista vazia.
+     * 
+     * @param prefixo Texto digitado
+     * @param limite Quantidade máxima de sugestões
+     * @return Sugestões em ordem alfabética
+     */
+    public List<SugestaoUsuario> sugerirPorPrefixo(String prefixo, int limite) {
+        if (!INDICE.isPronto()) {
+            INDICE.iniciarCarga();
+            return new ArrayList<>();
+        }
+        return INDICE.sugerir(prefixo, limite);
+    }
+    
+    /**
+     * Busca resumos por nome com LIKE '%nome%' (varredura completa da tabela).
+     * Usada enquanto o índice em memória não está carregado e como referência no benchmark.
+     * 
+     * @param nome Nome ou parte do nome para buscar
+     * @return Lista de resumos encontrados
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    List<UsuarioResumo> buscarResumosPorNomeLike(String nome) throws SQLException {
+        List<UsuarioResumo> resumos = new ArrayList<>();
+        String sql = "SELECT " + COLUNAS_RESUMO + " FROM usuarios WHERE nome LIKE ? AND ativo = TRUE ORDER BY nome";
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setString(1, "%" + nome + "%");
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    resumos.add(extrairResumoDoResultSet(rs));
+                }
+            }
+        }
+        return resumos;
+    }
+    
+    /**
+     * Verifica em uma única consulta IN quais emails da lista já estão cadastrados
+     * (ativos ou não). A comparação ignora maiúsculas/minúsculas.
+     * 
+     * @param emails Emails a verificar
+     * @return Emails já cadastrados, em minúsculas
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public Set<String> buscarEmailsExistentes(List<String> emails) throws SQLException {
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            return buscarEmailsExistentes(conn, emails);
+        }
+    }
+    
+    /**
+     * Busca apenas o ID do usuário com o email informado (ativo ou não).
+     * Um usuário em cache responde sem consultar o banco; a ausência é sempre
+     * confirmada no banco, pois o cache contém apenas usuários ativos.
+     * 
+     * @param email Email do usuário
+     * @return ID do usuário ou null se o email não estiver cadastrado
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public Integer buscarIdPorEmail(String email) throws SQLException {
+        Usuario emCache = CACHE.buscarPorEmail(email);
+        if (emCache != null) {
+            return emCache.getId();
+        }
+        
+        String sql = "SELECT id FROM usuarios WHERE email = ?";
+        
+        try (Connection conn = DatabaseConfig.getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            
+            stmt.setString(1, email);
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                if (rs.next()) {
+                    return rs.getInt(1);
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Lista usuários paginados por cursor (keyset) na ordem (nome, id).
+     * Cada página custa O(tamanho) independente da profundidade, ao contrário de OFFSET.
+     * Requer o índice (nome, id) — ver README — para evitar ordenação em memória.
+     * 
+     * @param apos Cursor retornado pela página anterior ou null para a primeira página
+     * @param tamanho Quantidade de usuários por página (1 a TAMANHO_MAXIMO_PAGINA)
+     * @param ativo Filtra por status ativo/inativo ou null para todos
+     * @param perfil Filtra por perfil ou null para todos
+     * @return Página com os usuários e o cursor da próxima página
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public Pagina<Usuario> listarPagina(CursorPagina apos, int tamanho, Boolean ativo, Perfil perfil)
+            throws SQLException {
+        return consultarPagina("*", this::extrairUsuarioDoResultSet,
+                               u -> new CursorPagina(u.getNome(), u.getId()),
+                               apos, 0, tamanho, ativo, perfil);
+    }
+    
+    /**
+     * Lista resumos de usuários paginados por cursor (keyset) na ordem (nome, id).
+     * Mesmo comportamento de listarPagina, mas carrega apenas as colunas de listagem.
+     * 
+     * @param apos Cursor retornado pela página anterior ou null para a primeira página
+     * @param tamanho Quantidade de usuários por página (1 a TAMANHO_MAXIMO_PAGINA)
+     * @param ativo Filtra por status ativo/inativo ou null para todos
+     * @param perfil Filtra por perfil ou null para todos
+     * @return Página com os resumos e o cursor da próxima página
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public Pagina<UsuarioResumo> listarPaginaResumos(CursorPagina apos, int tamanho, Boolean ativo, Perfil perfil)
+            throws SQLException {
+        return listarPaginaResumos(apos, 0, tamanho, ativo, perfil);
+    }
+    
+    /**
+     * Lista uma página de resumos que começa "pular" usuários depois do cursor.
+     * Permite chegar a uma página distante (ex.: barra de rolagem arrastada) a partir
+     * do cursor conhecido mais próximo; o custo cresce com "pular", como em OFFSET.
+     * 
+     * @param apos Cursor conhecido antes da página ou null para o início
+     * @param pular Quantidade de usuários a ignorar depois do cursor
+     * @param tamanho Quantidade de usuários por página (1 a TAMANHO_MAXIMO_PAGINA)
+     * @param ativo Filtra por status ativo/inativo ou null para todos
+     * @param perfil Filtra por perfil ou null para todos
+     * @return Página com os resumos e o cursor da próxima página
+     * @throws SQLException Se houver erro na consulta ao banco
+     */
+    public Pagina<UsuarioResumo> listarPaginaResumos(CursorPagina apos, int pular, int tamanho,
+                                                    Boolean ativo, Perfil perfil) throws SQLException {
+        return consultarPagina(COLUNAS_RESUMO, this::extrairResumoDoResultSet,
+                               r -> new CursorPagina(r.getNome(), r.getId()),
+                               apos, pular, tamanho, ativo, perfil);
+    }
+    
+    /**
+     * Executa uma consulta paginada por cursor (nome, id) com as colunas e o mapeamento informados.
+     */
+    private <T> Pagina<T> consultarPagina(String colunas, MapeadorLinha<T> mapeador,
+                                          Function<T, CursorPagina> cursorDe, CursorPagina apos, int pular,
+                                          int tamanho, Boolean ativo, Perfil perfil) throws SQLException {
+        if (tamanho < 1 || tamanho > TAMANHO_MAXIMO_PAGINA) {
+            throw new IllegalArgumentException("Tamanho de página deve estar entre 1 e " + TAMANHO_MAXIMO_PAGINA);
+        }
+        if (pular < 0) {
+            throw new IllegalArgumentException("Quantidade a pular não pode ser negativa");
+        }
+        
+        StringBuilder sql = new StringBuilder("SELECT " + colunas + " FROM usuarios WHERE 1 = 1");
+        if (apos != null) {
+            sql.append(" AND (nome > ? OR (nome = ? AND id > ?))");
+        }
+        if (ativo != null) {
+            sql.append(" AND ativo = ?");
+        }
+        if (perfil != null) {
+            sql.append(" AND perfil = ?");
+        }
+        // Busca um registro a mais para saber se existe próxima página
+        sql.append(" ORDER BY nome, id LIMIT ?");
+        if (pular > 0) {
+            sql.append(" OFFSET ?");
+        }
+        
+        List<T> itens = new ArrayList<>(tamanho + 1);
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql.toString())) {
+            
+            int indice = 1;
+            if (apos != null) {
+                stmt.setString(indice++, apos.getNome());
+                stmt.setString(indice++, apos.getNome());
+                stmt.setInt(indice++, apos.getId());
+            }
+            if (ativo != null) {
+                stmt.setBoolean(indice++, ativo);
+            }
+            if (perfil != null) {
+                stmt.setString(indice++, perfil.name());
+            }
+            stmt.setInt(indice++, tamanho + 1);
+            if (pular > 0) {
+                stmt.setInt(indice, pular);
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    itens.add(mapeador.mapear(rs));
+                }
+            }
+        }
+        
+        if (itens.size() <= tamanho) {
+            return new Pagina<>(itens, null);
+        }
+        
+        itens.remove(tamanho);
+        return new Pagina<>(itens, cursorDe.apply(itens.get(tamanho - 1)));
+    }
+    
+    /**
+     * Carrega os usuários ativos com os IDs informados (resultado de uma busca no índice),
+     * em trechos de até TAMANHO_MAXIMO_IN IDs, ordenados por nome. Cada trecho é lido
+     * com IN ou, se os IDs forem densos na faixa, com BETWEEN filtrando os demais IDs.
+     */
+    private <T> List<T> consultarPorIds(String colunas, MapeadorLinha<T> mapeador,
+                                        Function<T, String> nomeDe, int[] ids) throws SQLException {
+        List<T> itens = new ArrayList<>(ids.length);
+        if (ids.length == 0) {
+            return itens;
+        }
+        
+        try (Connection conn = DatabaseConfig.getReadConnection()) {
+            for (int inicio = 0; inicio < ids.length; inicio += TAMANHO_MAXIMO_IN) {
+                int fim = Math.min(inicio + TAMANHO_MAXIMO_IN, ids.length);
+                boolean faixa = (long) ids[fim - 1] - ids[inicio] < (long) (fim - inicio) * DENSIDADE_MINIMA_FAIXA;
+                String sql = faixa
+                        ? "SELECT " + colunas + " FROM usuarios WHERE id BETWEEN ? AND ? AND ativo = TRUE"
+                        : "SELECT " + colunas + " FROM usuarios WHERE id IN (" +
+                          String.join(", ", Collections.nCopies(fim - inicio, "?")) + ") AND ativo = TRUE";
+                
+                try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                    if (faixa) {
+                        stmt.setInt(1, ids[inicio]);
+                        stmt.setInt(2, ids[fim - 1]);
+                    } else {
+                        for (int i = inicio; i < fim; i++) {
+                            stmt.setInt(i - inicio + 1, ids[i]);
+                        }
+                    }
+                    try (ResultSet rs = stmt.executeQuery()) {
+                        while (rs.next()) {
+                            if (!faixa || Arrays.binarySearch(ids, inicio, fim, rs.getInt("id")) >= 0) {
+                                itens.add(mapeador.mapear(rs));
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        
+        itens.sort(Comparator.comparing(nomeDe, String.CASE_INSENSITIVE_ORDER));
+        return itens;
+    }
+    
+    // ==================== SINCRONIZAÇÃO INCREMENTAL ====================
+    
+    /**
+     * Retorna o instante atual segundo o relógio do banco, usado como marca
+     * inicial da sincronização (evita depender do relógio da máquina cliente).
+     * 
+     * @return Instante atual do banco
+     * @throws SQLException Se houver erro na consulta
+     */
+    public Instant obterInstanteAtual() throws SQLException {
+        try (Connection conn = DatabaseConfig.getConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery("SELECT CURRENT_TIMESTAMP")) {
+            
+            rs.next();
+            return rs.getTimestamp(1).toInstant();
+        }
+    }
+    
+    /**
+     * Lista os usuários alterados (inclusive desativados) e excluídos permanentemente
+     * a partir da marca informada, em ordem de alteração.
+     * 
+     * A comparação é inclusiva (>=): alterações gravadas no mesmo instante da marca
+     * voltam na próxima consulta e cabe a quem sincroniza ignorar as já aplicadas.
+     * Lê sempre do primário, pois uma réplica atrasada gravaria alterações com data
+     * anterior a uma marca já lida. Apenas lê: para aplicar as alterações de outros
+     * processos aos caches em memória e às sessões, use reconciliarAlteracoes.
+     * 
+     * Usa os índices (data_atualizacao, id) de usuarios e (data_exclusao) de usuarios_excluidos.
+     * 
+     * @param marca Instante da última alteração já conhecida
+     * @return Alterações desde a marca, ordenadas por data
+     * @throws SQLException Se houver erro na consulta
+     */
+    public List<AlteracaoUsuario> listarAlteradosDesde(Instant marca) throws SQLException {
+        String sqlAlterados = "SELECT " + COLUNAS_RESUMO + ", data_atualizacao FROM usuarios " +
+                              "WHERE data_atualizacao >= ? ORDER BY data_atualizacao, id";
+        String sqlExcluidos = "SELECT id, data_exclusao FROM usuarios_excluidos WHERE data_exclusao >= ?";
+        List<AlteracaoUsuario> alteracoes = new ArrayList<>();
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            try (PreparedStatement stmt = conn.prepareStatement(sqlAlterados)) {
+                stmt.setTimestamp(1, Timestamp.from(marca));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        UsuarioResumo usuario = extrairResumoDoResultSet(rs);
+                        alteracoes.add(AlteracaoUsuario.alterado(usuario, rs.getTimestamp("data_atualizacao").toInstant()));
+                    }
+                }
+            }
+            
+            try (PreparedStatement stmt = conn.prepareStatement(sqlExcluidos)) {
+                stmt.setTimestamp(1, Timestamp.from(marca));
+                try (ResultSet rs = stmt.executeQuery()) {
+                    while (rs.next()) {
+                        alteracoes.add(AlteracaoUsuario.excluido(rs.getInt("id"), rs.getTimestamp("data_exclusao").toInstant()));
+                    }
+                }
+            }
+        }
+        alteracoes.sort(Comparator.comparing(AlteracaoUsuario::getData));
+        return alteracoes;
+    }
+    
+    /**
+     * Aplica aos caches em memória do DAO (usuários por ID e índice de busca) e às
+     * sessões abertas as alterações lidas por listarAlteradosDesde, inclusive as feitas
+     * por outros processos: usuários desativados ou excluídos perdem as sessões e os
+     * que mudaram de perfil precisam entrar de novo.
+     * 
+     * Reaplicar uma alteração não tem efeito, então as repetidas pela janela de
+     * sobreposição da sincronização podem ser passadas de novo.
+     * 
+     * @param alteracoes Alterações em ordem de data
+     */
+    public void reconciliarAlteracoes(List<AlteracaoUsuario> alteracoes) {
+        for (AlteracaoUsuario alteracao : alteracoes) {
+            CACHE.invalidar(alteracao.getId());
+            if (alteracao.isAtivo()) {
+                INDICE.definir(alteracao.getId(), alteracao.getUsuario().getNome(), alteracao.getUsuario().getEmail());
+                GerenciadorSessoes.getInstancia().invalidarUsuarioSePerfilMudou(alteracao.getId(), alteracao.getUsuario().getPerfil());
+            } else {
+                INDICE.remover(alteracao.getId());
+                GerenciadorSessoes.getInstancia().invalidarUsuario(alteracao.getId());
+            }
+        }
+    }
+    
     // ==================== MÉTODOS DE INSERÇÃO ====================
     
     /**
      * Insere um novo usuário no banco de dados.
-     * A senha será automaticamente criptografada com BCrypt.
+     * A senha é sempre tratada como texto plano e criptografada (no executor dedicado),
+     * mesmo que pareça um hash: quem cadastra não escolhe o hash armazenado.
      * 
-     * @param usuario Usuario a ser inserido
+     * @param usuario Usuario a ser inserido (senha em texto plano)
      * @return true se inserção foi bem-sucedida, false caso contrário
      * @throws SQLException Se houver erro na inserção
      */
     public boolean inserir(Usuario usuario) throws SQLException {
+        return inserir(usuario, false);
+    }
+    
+    /**
+     * Insere um novo usuário no banco de dados.
+     * 
+     * @param usuario Usuario a ser inserido
+     * @param senhaCriptografada true se a senha já é um hash gerado pelo PasswordUtil
+     *        (ex.: calculado em paralelo pelo chamador), false se é texto plano
+     * @return true se inserção foi bem-sucedida, false caso contrário
+     * @throws SQLException Se houver erro na inserção
+     * @throws IllegalArgumentException Se senhaCriptografada for true e a senha não for um hash
+     */
+    public boolean inserir(Usuario usuario, boolean senhaCriptografada) throws SQLException {
         String sql = "INSERT INTO usuarios (nome, email, senha, telefone, perfil, endereco, cidade, estado, pais, codigo_postal) " +
                      "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
         
+        // Criptografa a senha antes de obter a conexão. O hash não é gravado no objeto:
+        // após uma falha, repetir com o mesmo usuário não criptografa o hash
+        String hash;
+        if (senhaCriptografada) {
+            exigirHash(usuario.getSenha());
+            hash = usuario.getSenha();
+        } else {
+            hash = PasswordUtil.aguardar(PasswordUtil.criptografarSenhaAsync(usuario.getSenha()));
+        }
+        
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             
-            // Criptografa a senha antes de inserir
-            String senhaOriginal = usuario.getSenha();
-            if (!PasswordUtil.isSenhaCriptografada(senhaOriginal)) {
-                usuario.setSenha(PasswordUtil.criptografarSenha(senhaOriginal));
-            }
-            
-            preencherStatementParaInsercao(stmt, usuario);
+            preencherStatementParaInsercao(stmt, usuario, hash);
             
             int linhasAfetadas = stmt.executeUpdate();
             
@@ -242,12 +915,162 @@ public class UsuarioDAO {
                         usuario.setId(rs.getInt(1));
                     }
                 }
+                CACHE.invalidarEmail(usuario.getEmail());
+                INDICE.definir(usuario.getId(), usuario.getNome(), usuario.getEmail());
                 return true;
             }
         }
         return false;
     }
     
+    /**
+     * Insere vários usuários em lote usando o tamanho de lote padrão.
+     * 
+     * @param usuarios Usuários a inserir
+     * @return Um resultado por usuário, na ordem da lista de entrada
+     * @throws SQLException Se houver erro na inserção (nenhum usuário é gravado)
+     * @see #inserirEmLote(List, int)
+     */
+    public List<ResultadoCadastro> inserirEmLote(List<Usuario> usuarios) throws SQLException {
+        return inserirEmLote(usuarios, TAMANHO_LOTE_PADRAO, false);
+    }
+    
+    /**
+     * Insere vários usuários com senhas em texto plano em uma única transação.
+     * 
+     * @param usuarios Usuários a inserir (já validados)
+     * @param tamanhoLote Quantidade de linhas por consulta IN e por lote JDBC
+     * @return Um resultado por usuário, na ordem da lista de entrada
+     * @throws SQLException Se houver erro na inserção (nenhum usuário é gravado)
+     * @see #inserirEmLote(List, int, boolean)
+     */
+    public List<ResultadoCadastro> inserirEmLote(List<Usuario> usuarios, int tamanhoLote) throws SQLException {
+        return inserirEmLote(usuarios, tamanhoLote, false);
+    }
+    
+    /**
+     * Insere vários usuários em uma única transação.
+     * Os emails são verificados com uma consulta IN por lote, as senhas são
+     * criptografadas em paralelo e as linhas são enviadas em lotes JDBC.
+     * 
+     * Usuários com email já cadastrado ou repetido na própria lista são rejeitados
+     * individualmente; os demais recebem o ID gerado. Um erro de banco desfaz a
+     * transação inteira e é propagado.
+     * 
+     * @param usuarios Usuários a inserir (já validados)
+     * @param tamanhoLote Quantidade de linhas por consulta IN e por lote JDBC
+     * @param senhasCriptografadas true se as senhas já são hashes gerados pelo PasswordUtil
+     *        (ex.: pelo estágio de criptografia do importador), false se são texto plano
+     * @return Um resultado por usuário, na ordem da lista de entrada
+     * @throws SQLException Se houver erro na inserção (nenhum usuário é gravado)
+     */
+    public List<ResultadoCadastro> inserirEmLote(List<Usuario> usuarios, int tamanhoLote,
+                                                 boolean senhasCriptografadas) throws SQLException {
+        if (tamanhoLote < 1) {
+            throw new IllegalArgumentException("Tamanho do lote deve ser positivo");
+        }
+        
+        ResultadoCadastro[] resultados = new ResultadoCadastro[usuarios.size()];
+        String sql = "INSERT INTO usuarios (nome, email, senha, telefone, perfil, endereco, cidade, estado, pais, codigo_postal) " +
+                     "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+        
+        // Descarta emails repetidos no lote e já cadastrados no banco
+        List<Integer> aceitos = new ArrayList<>();
+        Set<String> emailsDoLote = new HashSet<>();
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            for (int inicio = 0; inicio < usuarios.size(); inicio += tamanhoLote) {
+                List<Usuario> trecho = usuarios.subList(inicio, Math.min(inicio + tamanhoLote, usuarios.size()));
+                List<String> emails = new ArrayList<>(trecho.size());
+                for (Usuario usuario : trecho) {
+                    emails.add(usuario.getEmail());
+                }
+                Set<String> existentes = buscarEmailsExistentes(conn, emails);
+                
+                for (int i = 0; i < trecho.size(); i++) {
+                    int indice = inicio + i;
+                    String email = trecho.get(i).getEmail();
+                    String chave = email.toLowerCase(Locale.ROOT);
+                    
+                    if (existentes.contains(chave)) {
+                        resultados[indice] = ResultadoCadastro.falha(indice, email, "Este email já está cadastrado!");
+                    } else if (!emailsDoLote.add(chave)) {
+                        resultados[indice] = ResultadoCadastro.falha(indice, email, "Email repetido no lote!");
+                    } else {
+                        aceitos.add(indice);
+                    }
+                }
+            }
+        }
+        
+        // Criptografa as senhas no executor de senhas sem reter conexão do pool. Os hashes ficam
+        // fora dos objetos: após um rollback o chamador pode repetir a mesma lista
+        List<String> hashes;
+        if (senhasCriptografadas) {
+            hashes = new ArrayList<>(aceitos.size());
+            for (int indice : aceitos) {
+                String senha = usuarios.get(indice).getSenha();
+                exigirHash(senha);
+                hashes.add(senha);
+            }
+        } else {
+            List<String> senhas = new ArrayList<>(aceitos.size());
+            for (int indice : aceitos) {
+                senhas.add(usuarios.get(indice).getSenha());
+            }
+            hashes = PasswordUtil.criptografarSenhas(senhas);
+        }
+        
+        // Um email cadastrado por outro processo após a verificação viola o índice
+        // único e desfaz a transação
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+                for (int inicio = 0; inicio < aceitos.size(); inicio += tamanhoLote) {
+                    List<Integer> trecho = aceitos.subList(inicio, Math.min(inicio + tamanhoLote, aceitos.size()));
+                    
+                    for (int i = 0; i < trecho.size(); i++) {
+                        preencherStatementParaInsercao(stmt, usuarios.get(trecho.get(i)), hashes.get(inicio + i));
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                    
+                    // As chaves geradas chegam na ordem das linhas do lote
+                    try (ResultSet rs = stmt.getGeneratedKeys()) {
+                        for (int indice : trecho) {
+                            if (!rs.next()) {
+                                throw new SQLException("Banco não retornou o ID gerado para " + usuarios.get(indice).getEmail());
+                            }
+                            Usuario usuario = usuarios.get(indice);
+                            usuario.setId(rs.getInt(1));
+                            resultados[indice] = ResultadoCadastro.sucesso(indice, usuario.getEmail(), usuario.getId());
+                        }
+                    }
+                }
+                conn.commit();
+                
+                for (int indice : aceitos) {
+                    Usuario usuario = usuarios.get(indice);
+                    INDICE.definir(usuario.getId(), usuario.getNome(), usuario.getEmail());
+                }
+                
+            } catch (SQLException e) {
+                conn.rollback();
+                for (int indice : aceitos) {
+                    usuarios.get(indice).setId(0);
+                }
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+                for (int indice : aceitos) {
+                    CACHE.invalidarEmail(usuarios.get(indice).getEmail());
+                }
+            }
+        }
+        
+        return List.of(resultados);
+    }
+    
     // ==================== MÉTODOS DE ATUALIZAÇÃO ====================
     
     /**
@@ -277,13 +1100,20 @@ public class UsuarioDAO {
             stmt.setString(9, usuario.getCodigoPostal());
             stmt.setInt(10, usuario.getId());
             
-            return stmt.executeUpdate() > 0;
+            boolean sucesso = stmt.executeUpdate() > 0;
+            CACHE.invalidar(usuario.getId());
+            CACHE.invalidarEmail(usuario.getEmail());
+            if (sucesso) {
+                INDICE.atualizar(usuario.getId(), usuario.getNome(), usuario.getEmail());
+                GerenciadorSessoes.getInstancia().invalidarUsuarioSePerfilMudou(usuario.getId(), usuario.getPerfil());
+            }
+            return sucesso;
         }
     }
     
     /**
      * Atualiza a senha de um usuário.
-     * A senha será automaticamente criptografada com BCrypt.
+     * A senha é sempre tratada como texto plano e criptografada, mesmo que pareça um hash.
      * 
      * @param id ID do usuário
      * @param novaSenha Nova senha em texto plano
@@ -293,18 +1123,21 @@ public class UsuarioDAO {
     public boolean atualizarSenha(int id, String novaSenha) throws SQLException {
         String sql = "UPDATE usuarios SET senha = ? WHERE id = ?";
         
+        // Criptografa a senha antes de obter a conexão
+        String senhaCriptografada = PasswordUtil.aguardar(PasswordUtil.criptografarSenhaAsync(novaSenha));
+        
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            // Criptografa a senha antes de atualizar
-            String senhaCriptografada = PasswordUtil.isSenhaCriptografada(novaSenha) 
-                                        ? novaSenha 
-                                        : PasswordUtil.criptografarSenha(novaSenha);
-            
             stmt.setString(1, senhaCriptografada);
             stmt.setInt(2, id);
             
-            return stmt.executeUpdate() > 0;
+            boolean sucesso = stmt.executeUpdate() > 0;
+            CACHE.invalidar(id);
+            if (sucesso) {
+                GerenciadorSessoes.getInstancia().invalidarUsuario(id);
+            }
+            return sucesso;
         }
     }
     
@@ -325,7 +1158,12 @@ public class UsuarioDAO {
             stmt.setString(1, perfil.name());
             stmt.setInt(2, id);
             
-            return stmt.executeUpdate() > 0;
+            boolean sucesso = stmt.executeUpdate() > 0;
+            CACHE.invalidar(id);
+            if (sucesso) {
+                GerenciadorSessoes.getInstancia().invalidarUsuarioSePerfilMudou(id, perfil);
+            }
+            return sucesso;
         }
     }
     
@@ -346,7 +1184,13 @@ public class UsuarioDAO {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            boolean sucesso = stmt.executeUpdate() > 0;
+            CACHE.invalidar(id);
+            if (sucesso) {
+                INDICE.remover(id);
+                GerenciadorSessoes.getInstancia().invalidarUsuario(id);
+            }
+            return sucesso;
         }
     }
     
@@ -364,7 +1208,16 @@ public class UsuarioDAO {
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            boolean sucesso = stmt.executeUpdate() > 0;
+            CACHE.invalidar(id);
+            if (sucesso) {
+                // Relê na mesma conexão: pedir outra ao pool segurando esta pode esgotá-lo
+                Usuario reativado = buscarPorId(conn, id);
+                if (reativado != null) {
+                    INDICE.definir(id, reativado.getNome(), reativado.getEmail());
+                }
+            }
+            return sucesso;
         }
     }
     
@@ -378,39 +1231,126 @@ public class UsuarioDAO {
      */
     public boolean excluirPermanentemente(int id) throws SQLException {
         String sql = "DELETE FROM usuarios WHERE id = ?";
+        String sqlLapide = "INSERT INTO usuarios_excluidos (id, data_exclusao) VALUES (?, CURRENT_TIMESTAMP)";
         
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
+        // A exclusão e o registro em usuarios_excluidos (lido por listarAlteradosDesde)
+        // são gravados na mesma transação
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            boolean sucesso;
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                stmt.setInt(1, id);
+                sucesso = stmt.executeUpdate() > 0;
+                
+                if (sucesso) {
+                    try (PreparedStatement lapide = conn.prepareStatement(sqlLapide)) {
+                        lapide.setInt(1, id);
+                        lapide.executeUpdate();
+                    }
+                }
+                conn.commit();
+                
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+                CACHE.invalidar(id);
+            }
             
-            stmt.setInt(1, id);
-            return stmt.executeUpdate() > 0;
+            if (sucesso) {
+                INDICE.remover(id);
+                GerenciadorSessoes.getInstancia().invalidarUsuario(id);
+            }
+            return sucesso;
         }
     }
     
-    // ==================== MÉTODOS DE VALIDAÇÃO ====================
+    // ==================== MIGRAÇÃO DE SENHAS ====================
     
     /**
-     * Verifica se um email já está cadastrado no sistema.
+     * Lista, em ordem de ID, as senhas armazenadas, para a migração das senhas em texto
+     * plano. Não filtra por prefixo no SQL: uma senha legada que apenas começa como um
+     * hash (ex.: "$2a$...") seria pulada para sempre, enquanto o login a trata como texto
+     * plano. Quem chama separa os hashes com PasswordUtil.isSenhaCriptografada.
      * 
-     * @param email Email a ser verificado
-     * @return true se o email já existe, false caso contrário
+     * @param aposId Lê apenas IDs maiores que este (0 para começar do início)
+     * @param limite Quantidade máxima de usuários
+     * @return ID → senha armazenada, em ordem de ID
      * @throws SQLException Se houver erro na consulta
      */
-    public boolean emailExiste(String email) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM usuarios WHERE email = ?";
+    public Map<Integer, String> listarSenhas(int aposId, int limite) throws SQLException {
+        String sql = "SELECT id, senha FROM usuarios WHERE id > ? ORDER BY id LIMIT ?";
+        Map<Integer, String> senhas = new LinkedHashMap<>();
         
         try (Connection conn = DatabaseConfig.getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
-            stmt.setString(1, email);
+            stmt.setInt(1, aposId);
+            stmt.setInt(2, limite);
             
             try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) > 0;
+                while (rs.next()) {
+                    senhas.put(rs.getInt("id"), rs.getString("senha"));
                 }
             }
         }
-        return false;
+        return senhas;
+    }
+    
+    /**
+     * Grava os hashes de um lote em uma transação, com lotes JDBC. Cada senha só é
+     * substituída se ainda for a lida antes (uma troca de senha nesse meio tempo prevalece).
+     * 
+     * @param senhasAnteriores ID → senha lida do banco
+     * @param novosHashes ID → hash a gravar
+     * @return Quantidade de senhas substituídas
+     * @throws SQLException Se houver erro na gravação (o lote inteiro é desfeito)
+     */
+    public int substituirSenhas(Map<Integer, String> senhasAnteriores, Map<Integer, String> novosHashes) throws SQLException {
+        String sql = "UPDATE usuarios SET senha = ? WHERE id = ? AND senha = ?";
+        int substituidas = 0;
+        
+        try (Connection conn = DatabaseConfig.getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (Map.Entry<Integer, String> hash : novosHashes.entrySet()) {
+                    stmt.setString(1, hash.getValue());
+                    stmt.setInt(2, hash.getKey());
+                    stmt.setString(3, senhasAnteriores.get(hash.getKey()));
+                    stmt.addBatch();
+                }
+                for (int linhas : stmt.executeBatch()) {
+                    // SUCCESS_NO_INFO (-2): o driver não informa; conta como gravada
+                    if (linhas != 0) {
+                        substituidas++;
+                    }
+                }
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
+                for (int id : novosHashes.keySet()) {
+                    CACHE.invalidar(id);
+                }
+            }
+        }
+        return substituidas;
+    }
+    
+    // ==================== MÉTODOS DE VALIDAÇÃO ====================
+    
+    /**
+     * Verifica se um email já está cadastrado no sistema.
+     * 
+     * @param email Email a ser verificado
+     * @return true se o email já existe, false caso contrário
+     * @throws SQLException Se houver erro na consulta
+     */
+    public boolean emailExiste(String email) throws SQLException {
+        return buscarIdPorEmail(email) != null;
     }
     
     /**
@@ -423,21 +1363,8 @@ public class UsuarioDAO {
      * @throws SQLException Se houver erro na consulta
      */
     public boolean emailExisteParaOutroUsuario(String email, int idUsuarioAtual) throws SQLException {
-        String sql = "SELECT COUNT(*) FROM usuarios WHERE email = ? AND id != ?";
-        
-        try (Connection conn = DatabaseConfig.getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            
-            stmt.setString(1, email);
-            stmt.setInt(2, idUsuarioAtual);
-            
-            try (ResultSet rs = stmt.executeQuery()) {
-                if (rs.next()) {
-                    return rs.getInt(1) > 0;
-                }
-            }
-        }
-        return false;
+        Integer id = buscarIdPorEmail(email);
+        return id != null && id != idUsuarioAtual;
     }
     
     // ==================== MÉTODOS ESTATÍSTICOS ====================
@@ -451,7 +1378,7 @@ public class UsuarioDAO {
     public int contarUsuariosAtivos() throws SQLException {
         String sql = "SELECT COUNT(*) FROM usuarios WHERE ativo = TRUE";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              Statement stmt = conn.createStatement();
              ResultSet rs = stmt.executeQuery(sql)) {
             
@@ -472,7 +1399,7 @@ public class UsuarioDAO {
     public int contarPorPerfil(Perfil perfil) throws SQLException {
         String sql = "SELECT COUNT(*) FROM usuarios WHERE perfil = ? AND ativo = TRUE";
         
-        try (Connection conn = DatabaseConfig.getConnection();
+        try (Connection conn = DatabaseConfig.getReadConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
             
             stmt.setString(1, perfil.name());
@@ -486,19 +1413,167 @@ public class UsuarioDAO {
         return 0;
     }
     
+    /**
+     * Calcula total, ativos, ativos por perfil e, opcionalmente, ativos por país
+     * em uma única consulta agrupada (um round-trip ao banco).
+     * 
+     * @param incluirPaises true para também agrupar por país
+     * @return Estatísticas agregadas
+     * @throws SQLException Se houver erro na consulta
+     */
+    public EstatisticasUsuarios obterEstatisticas(boolean incluirPaises) throws SQLException {
+        String sql = incluirPaises
+                ? "SELECT perfil, ativo, pais, COUNT(*) FROM usuarios GROUP BY perfil, ativo, pais"
+                : "SELECT perfil, ativo, COUNT(*) FROM usuarios GROUP BY perfil, ativo";
+        
+        int total = 0;
+        int ativos = 0;
+        Map<Perfil, Integer> porPerfil = new EnumMap<>(Perfil.class);
+        Map<String, Integer> porPais = new HashMap<>();
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             Statement stmt = conn.createStatement();
+             ResultSet rs = stmt.executeQuery(sql)) {
+            
+            while (rs.next()) {
+                int quantidade = rs.getInt(incluirPaises ? 4 : 3);
+                total += quantidade;
+                
+                if (rs.getBoolean("ativo")) {
+                    ativos += quantidade;
+                    porPerfil.merge(Perfil.valueOf(rs.getString("perfil")), quantidade, Integer::sum);
+                    
+                    if (incluirPaises) {
+                        String pais = rs.getString("pais");
+                        porPais.merge(pais == null || pais.isBlank() ? "(não informado)" : pais,
+                                      quantidade, Integer::sum);
+                    }
+                }
+            }
+        }
+        
+        return new EstatisticasUsuarios(total, ativos, porPerfil, porPais);
+    }
+    
+    /**
+     * Retorna as métricas do cache de usuários (ocupação, acertos, faltas e remoções).
+     * 
+     * @return String com o resumo do cache
+     */
+    public static String getCacheInfo() {
+        return CACHE.getResumo();
+    }
+    
+    /**
+     * Esvazia o cache de usuários.
+     * Útil após alterações feitas diretamente no banco, fora desta classe.
+     */
+    public static void limparCache() {
+        CACHE.limpar();
+    }
+    
+    /**
+     * Inicia em segundo plano a carga do índice de busca por nome/email.
+     * Chamado ao abrir a tela principal para que as primeiras buscas já usem o índice.
+     */
+    public static void prepararIndiceBusca() {
+        INDICE.iniciarCarga();
+    }
+    
+    /**
+     * @return true se as buscas por nome/email já usam o índice em memória
+     */
+    public static boolean isIndiceBuscaPronto() {
+        return INDICE.isPronto();
+    }
+    
+    /**
+     * IDs encontrados pelo índice para o termo, sem ler os usuários do banco.
+     * Usado pelo benchmark para separar o custo da busca do custo da leitura.
+     */
+    static int[] buscarIdsPorNomeNoIndice(String nome) {
+        return INDICE.buscarPorNome(nome);
+    }
+    
+    /**
+     * @return Memória aproximada ocupada pelo índice de busca (incluindo sugestões), em bytes
+     */
+    public static long getMemoriaIndiceBuscaBytes() {
+        return INDICE.getMemoriaEstimadaBytes();
+    }
+    
+    /**
+     * @return Memória aproximada ocupada apenas pelo índice de sugestões, em bytes
+     */
+    public static long getMemoriaSugestoesBytes() {
+        return INDICE.getMemoriaSugestoesBytes();
+    }
+    
+    /**
+     * Descarta o índice de busca para que seja recarregado do banco.
+     * Útil após alterações feitas diretamente no banco, fora desta classe.
+     */
+    public static void reiniciarIndiceBusca() {
+        INDICE.reiniciar();
+    }
+    
     // ==================== MÉTODOS AUXILIARES PRIVADOS ====================
     
+    /**
+     * Retorna quais emails da lista já estão cadastrados, em uma única consulta IN.
+     * 
+     * @param conn Conexão a ser usada
+     * @param emails Emails a verificar
+     * @return Emails existentes em minúsculas
+     * @throws SQLException Se houver erro na consulta
+     */
+    private Set<String> buscarEmailsExistentes(Connection conn, List<String> emails) throws SQLException {
+        Set<String> existentes = new HashSet<>();
+        if (emails.isEmpty()) {
+            return existentes;
+        }
+        
+        String sql = "SELECT email FROM usuarios WHERE email IN (" +
+                     String.join(", ", Collections.nCopies(emails.size(), "?")) + ")";
+        
+        try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+            for (int i = 0; i < emails.size(); i++) {
+                stmt.setString(i + 1, emails.get(i));
+            }
+            
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    existentes.add(rs.getString(1).toLowerCase(Locale.ROOT));
+                }
+            }
+        }
+        return existentes;
+    }
+    
+    /**
+     * Garante que uma senha declarada como já criptografada é um hash reconhecido.
+     * 
+     * @param senha Senha recebida como hash
+     * @throws IllegalArgumentException Se não for um hash de algoritmo suportado
+     */
+    private static void exigirHash(String senha) {
+        if (!PasswordUtil.isSenhaCriptografada(senha)) {
+            throw new IllegalArgumentException("Senha informada como criptografada não é um hash válido");
+        }
+    }
+    
     /**
      * Preenche o PreparedStatement com os dados do usuário para inserção.
      * 
      * @param stmt PreparedStatement a ser preenchido
      * @param usuario Usuario com os dados
+     * @param hash Senha já criptografada
      * @throws SQLException Se houver erro ao preencher
      */
-    private void preencherStatementParaInsercao(PreparedStatement stmt, Usuario usuario) throws SQLException {
+    private void preencherStatementParaInsercao(PreparedStatement stmt, Usuario usuario, String hash) throws SQLException {
         stmt.setString(1, usuario.getNome());
         stmt.setString(2, usuario.getEmail());
-        stmt.setString(3, usuario.getSenha());
+        stmt.setString(3, hash);
         stmt.setString(4, usuario.getTelefone());
         stmt.setString(5, usuario.getPerfil().name());
         stmt.setString(6, usuario.getEndereco());
@@ -515,7 +1590,7 @@ public class UsuarioDAO {
      * @return Usuario extraído do ResultSet
      * @throws SQLException Se houver erro ao extrair dados
      */
-    private Usuario extrairUsuarioDoResultSet(ResultSet rs) throws SQLException {
+    Usuario extrairUsuarioDoResultSet(ResultSet rs) throws SQLException {
         Usuario usuario = new Usuario();
         
         // Dados principais
@@ -549,4 +1624,25 @@ public class UsuarioDAO {
         
         return usuario;
     }
+    
+    /**
+     * Extrai um UsuarioResumo de um ResultSet com as colunas COLUNAS_RESUMO.
+     * 
+     * @param rs ResultSet com os dados do usuário
+     * @return UsuarioResumo extraído do ResultSet
+     * @throws SQLException Se houver erro ao extrair dados
+     */
+    private UsuarioResumo extrairResumoDoResultSet(ResultSet rs) throws SQLException {
+        return new UsuarioResumo(
+            rs.getInt("id"),
+            rs.getString("nome"),
+            rs.getString("email"),
+            rs.getString("telefone"),
+            Perfil.valueOf(rs.getString("perfil")),
+            rs.getString("cidade"),
+            rs.getString("estado"),
+            rs.getString("pais"),
+            rs.getBoolean("ativo")
+        );
+    }
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+package dao;
+
+import config.DatabaseConfig;
+
+import java.io.BufferedWriter;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.*;
+import java.util.function.LongConsumer;
+
+/**
+ * Exporta a tabela de usuários (ativos e inativos) em CSV ou NDJSON sem carregá-la em memória.
+ * 
+ * As linhas são lidas com um ResultSet somente leitura e somente para frente, em modo
+ * de streaming do driver, e escritas diretamente na saída; o uso de heap não depende
+ * do tamanho da tabela. O hash da senha nunca é lido nem exportado.
+ * 
+ * Cada instância executa uma exportação; cancelar() pode ser chamado de outra thread.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class UsuarioExportador {
+    
+    /**
+     * Formatos de exportação suportados.
+     */
+    public enum Formato {
+        /** Valores separados por vírgula, com cabeçalho (RFC 4180) */
+        CSV,
+        /** Um objeto JSON por linha */
+        NDJSON
+    }
+    
+    /**
+     * Intervalo, em linhas, entre as notificações de progresso.
+     */
+    public static final int INTERVALO_PROGRESSO = 10_000;
+    
+    // Tamanho do lote buscado por vez em drivers sem modo de streaming linha a linha
+    private static final int TAMANHO_BUSCA = 1_000;
+    private static final int TAMANHO_BUFFER = 64 * 1024;
+    
+    // Colunas exportadas, na ordem do arquivo (senha fica de fora deliberadamente)
+    private static final String[] COLUNAS = {
+        "id", "nome", "email", "telefone", "perfil", "endereco", "cidade", "estado",
+        "pais", "codigo_postal", "ativo", "data_criacao", "data_atualizacao"
+    };
+    
+    private volatile boolean cancelado;
+    
+    /**
+     * Solicita a interrupção da exportação em andamento.
+     * A exportação para antes da próxima linha e a saída fica com o que já foi escrito.
+     */
+    public void cancelar() {
+        cancelado = true;
+    }
+    
+    /**
+     * @return true se a exportação foi cancelada
+     */
+    public boolean isCancelado() {
+        return cancelado;
+    }
+    
+    /**
+     * Exporta os usuários para um canal.
+     * 
+     * @param canal Canal de destino (não é fechado)
+     * @param formato Formato do arquivo
+     * @param progresso Recebe a quantidade de linhas já escritas a cada INTERVALO_PROGRESSO
+     *                  linhas e ao final (pode ser null)
+     * @return Quantidade de usuários exportados
+     * @throws SQLException Se houver erro na consulta
+     * @throws IOException Se houver erro ao escrever
+     */
+    public long exportar(WritableByteChannel canal, Formato formato, LongConsumer progresso)
+            throws SQLException, IOException {
+        return exportar(Channels.newOutputStream(canal), formato, progresso);
+    }
+    
+    /**
+     * Exporta os usuários para um OutputStream em UTF-8.
+     * 
+     * @param saida Stream de destino (não é fechado)
+     * @param formato Formato do arquivo
+     * @param progresso Recebe a quantidade de linhas já escritas a cada INTERVALO_PROGRESSO
+     *                  linhas e ao final (pode ser null)
+     * @return Quantidade de usuários exportados
+     * @throws SQLException Se houver erro na consulta
+     * @throws IOException Se houver erro ao escrever
+     */
+    public long exportar(OutputStream saida, Formato formato, LongConsumer progresso)
+            throws SQLException, IOException {
+        String sql = "SELECT " + String.join(", ", COLUNAS) + " FROM usuarios ORDER BY id";
+        Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8), TAMANHO_BUFFER);
+        long linhas = 0;
+        
+        try (Connection conn = DatabaseConfig.getReadConnection();
+             Statement stmt = conn.createStatement(ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            
+            stmt.setFetchSize(DatabaseConfig.tamanhoBuscaStreaming(conn, TAMANHO_BUSCA));
+            
+            try (ResultSet rs = stmt.executeQuery(sql)) {
+                if (formato == Formato.CSV) {
+                    writer.write(String.join(",", COLUNAS));
+                    writer.write("\r\n");
+                }
+                
+                String[] valores = new String[COLUNAS.length];
+                while (!cancelado && rs.next()) {
+                    lerLinha(rs, valores);
+                    if (formato == Formato.CSV) {
+                        escreverCsv(writer, valores);
+                    } else {
+                        escreverJson(writer, valores);
+                    }
+                    
+                    linhas++;
+                    if (progresso != null && linhas % INTERVALO_PROGRESSO == 0) {
+                        progresso.accept(linhas);
+                    }
+                }
+            }
+        } finally {
+            writer.flush();
+        }
+        
+        if (progresso != null && (linhas == 0 || linhas % INTERVALO_PROGRESSO != 0)) {
+            progresso.accept(linhas);
+        }
+        return linhas;
+    }
+    
+    // ==================== MÉTODOS AUXILIARES PRIVADOS ====================
+    
+    /**
+     * Lê a linha atual como texto, na ordem de COLUNAS (null para valores ausentes).
+     */
+    private static void lerLinha(ResultSet rs, String[] valores) throws SQLException {
+        valores[0] = String.valueOf(rs.getInt("id"));
+        for (int i = 1; i <= 9; i++) {
+            valores[i] = rs.getString(COLUNAS[i]);
+        }
+        valores[10] = String.valueOf(rs.getBoolean("ativo"));
+        
+        Timestamp dataCriacao = rs.getTimestamp("data_criacao");
+        valores[11] = dataCriacao == null ? null : dataCriacao.toLocalDateTime().toString();
+        Timestamp dataAtualizacao = rs.getTimestamp("data_atualizacao");
+        valores[12] = dataAtualizacao == null ? null : dataAtualizacao.toLocalDateTime().toString();
+    }
+    
+    /**
+     * Escreve uma linha CSV; campos com vírgula, aspas ou quebra de linha vão entre aspas.
+     */
+    private static void escreverCsv(Writer writer, String[] valores) throws IOException {
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String valor = valores[i];
+            if (valor == null) {
+                continue;
+            }
+            if (valor.indexOf(',') >= 0 || valor.indexOf('"') >= 0
+                    || valor.indexOf('\n') >= 0 || valor.indexOf('\r') >= 0) {
+                writer.write('"');
+                writer.write(valor.replace("\"", "\"\""));
+                writer.write('"');
+            } else {
+                writer.write(valor);
+            }
+        }
+        writer.write("\r\n");
+    }
+    
+    /**
+     * Escreve uma linha como objeto JSON; id e ativo são escritos como número e booleano.
+     */
+    private static void escreverJson(Writer writer, String[] valores) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < valores.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write('"');
+            writer.write(COLUNAS[i]);
+            writer.write("\":");
+            
+            String valor = valores[i];
+            if (valor == null) {
+                writer.write("null");
+            } else if (i == 0 || i == 10) {
+                writer.write(valor);
+            } else {
+                escreverTextoJson(writer, valor);
+            }
+        }
+        writer.write("}\n");
+    }
+    
+    private static void escreverTextoJson(Writer writer, String valor) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+    
+    /**
+     * Exporta todos os usuários para um arquivo (ex.: rotina noturna de conformidade).
+     * Uso: UsuarioExportador &lt;arquivo&gt; [csv|ndjson]
+     */
+    public static void main(String[] args) throws Exception {
+        if (args.length < 1) {
+            System.err.println("Uso: UsuarioExportador <arquivo> [csv|ndjson]");
+            System.exit(1);
+        }
+        
+        Formato formato = args.length > 1 ? Formato.valueOf(args[1].toUpperCase()) : Formato.CSV;
+        UsuarioExportador exportador = new UsuarioExportador();
+        long inicio = System.nanoTime();
+        
+        try (OutputStream saida = new FileOutputStream(args[0])) {
+            long total = exportador.exportar(saida, formato,
+                    linhas -> System.out.println("  " + linhas + " usuários exportados..."));
+            
+            double segundos = (System.nanoTime() - inicio) / 1e9;
+            System.out.printf("✓ Exportação concluída: %d usuários em %.1f s (%s)%n", total, segundos, args[0]);
+        } finally {
+            DatabaseConfig.closeConnection();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package model;
+
+import java.time.Instant;
+
+/**
+ * Alteração de um usuário lida na sincronização incremental: o estado atual
+ * da linha (inclusive desativada) ou a exclusão permanente.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class AlteracaoUsuario {
+    
+    private final int id;
+    private final UsuarioResumo usuario;
+    private final Instant data;
+    
+    private AlteracaoUsuario(int id, UsuarioResumo usuario, Instant data) {
+        this.id = id;
+        this.usuario = usuario;
+        this.data = data;
+    }
+    
+    /**
+     * Cria a alteração de um usuário que continua no banco (ativo ou desativado).
+     * 
+     * @param usuario Estado atual do usuário
+     * @param data Data da alteração (data_atualizacao)
+     * @return Alteração
+     */
+    public static AlteracaoUsuario alterado(UsuarioResumo usuario, Instant data) {
+        return new AlteracaoUsuario(usuario.getId(), usuario, data);
+    }
+    
+    /**
+     * Cria a alteração de um usuário excluído permanentemente.
+     * 
+     * @param id ID do usuário excluído
+     * @param data Data da exclusão
+     * @return Alteração
+     */
+    public static AlteracaoUsuario excluido(int id, Instant data) {
+        return new AlteracaoUsuario(id, null, data);
+    }
+    
+    /**
+     * @return ID do usuário
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * @return Estado atual do usuário ou null se ele foi excluído permanentemente
+     */
+    public UsuarioResumo getUsuario() {
+        return usuario;
+    }
+    
+    /**
+     * @return Data da alteração
+     */
+    public Instant getData() {
+        return data;
+    }
+    
+    /**
+     * @return true se o usuário continua ativo (deve aparecer nas listagens)
+     */
+    public boolean isAtivo() {
+        return usuario != null && usuario.isAtivo();
+    }
+    
+    @Override
+    public String toString() {
+        return "AlteracaoUsuario{id=" + id + ", " + (usuario == null ? "excluído" : usuario.isAtivo() ? "ativo" : "inativo") +
+               ", data=" + data + "}";
+    }
+}
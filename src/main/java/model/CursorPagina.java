@@ -0,0 +1,60 @@
+package model;
+
+import java.util.Objects;
+
+/**
+ * Cursor de paginação por chave (keyset) sobre a ordenação (nome, id).
+ * Guarda a posição do último registro de uma página; a próxima página começa
+ * logo depois dele, sem precisar de OFFSET.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class CursorPagina {
+    
+    private final String nome;
+    private final int id;
+    
+    /**
+     * Cria um cursor posicionado após o registro informado.
+     * 
+     * @param nome Nome do último registro da página
+     * @param id ID do último registro da página
+     */
+    public CursorPagina(String nome, int id) {
+        this.nome = Objects.requireNonNull(nome, "nome");
+        this.id = id;
+    }
+    
+    /**
+     * @return Nome do último registro da página anterior
+     */
+    public String getNome() {
+        return nome;
+    }
+    
+    /**
+     * @return ID do último registro da página anterior
+     */
+    public int getId() {
+        return id;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        CursorPagina that = (CursorPagina) o;
+        return id == that.id && nome.equals(that.nome);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(nome, id);
+    }
+    
+    @Override
+    public String toString() {
+        return "CursorPagina{nome='" + nome + "', id=" + id + '}';
+    }
+}
@@ -0,0 +1,102 @@
+package model;
+
+import model.Usuario.Perfil;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Contadores agregados de usuários obtidos em uma única consulta.
+ * Contagens por perfil e por país consideram apenas usuários ativos,
+ * no mesmo critério de contarPorPerfil.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class EstatisticasUsuarios {
+    
+    private final int total;
+    private final int ativos;
+    private final Map<Perfil, Integer> ativosPorPerfil;
+    private final Map<String, Integer> ativosPorPais;
+    
+    /**
+     * Construtor completo.
+     * 
+     * @param total Total de usuários (ativos e inativos)
+     * @param ativos Total de usuários ativos
+     * @param ativosPorPerfil Usuários ativos por perfil
+     * @param ativosPorPais Usuários ativos por país (vazio se não calculado)
+     */
+    public EstatisticasUsuarios(int total, int ativos, Map<Perfil, Integer> ativosPorPerfil,
+                                Map<String, Integer> ativosPorPais) {
+        this.total = total;
+        this.ativos = ativos;
+        
+        EnumMap<Perfil, Integer> perfis = new EnumMap<>(Perfil.class);
+        for (Perfil perfil : Perfil.values()) {
+            perfis.put(perfil, ativosPorPerfil.getOrDefault(perfil, 0));
+        }
+        this.ativosPorPerfil = Collections.unmodifiableMap(perfis);
+        this.ativosPorPais = Collections.unmodifiableMap(new TreeMap<>(ativosPorPais));
+    }
+    
+    /**
+     * Retorna estatísticas zeradas (usado quando a consulta falha).
+     * 
+     * @return Estatísticas com todos os contadores em zero
+     */
+    public static EstatisticasUsuarios vazia() {
+        return new EstatisticasUsuarios(0, 0, Map.of(), Map.of());
+    }
+    
+    /**
+     * @return Total de usuários cadastrados (ativos e inativos)
+     */
+    public int getTotal() {
+        return total;
+    }
+    
+    /**
+     * @return Total de usuários ativos
+     */
+    public int getAtivos() {
+        return ativos;
+    }
+    
+    /**
+     * @return Total de usuários inativos
+     */
+    public int getInativos() {
+        return total - ativos;
+    }
+    
+    /**
+     * Retorna a quantidade de usuários ativos com o perfil informado.
+     * 
+     * @param perfil Perfil a consultar
+     * @return Quantidade de usuários ativos com o perfil
+     */
+    public int getAtivosPorPerfil(Perfil perfil) {
+        return ativosPorPerfil.get(perfil);
+    }
+    
+    /**
+     * @return Usuários ativos por país em ordem alfabética (vazio se não calculado)
+     */
+    public Map<String, Integer> getAtivosPorPais() {
+        return ativosPorPais;
+    }
+    
+    @Override
+    public String toString() {
+        return "EstatisticasUsuarios{" +
+                "total=" + total +
+                ", ativos=" + ativos +
+                ", ativosPorPerfil=" + ativosPorPerfil +
+                ", ativosPorPais=" + ativosPorPais +
+                '}';
+    }
+}
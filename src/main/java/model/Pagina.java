@@ -0,0 +1,66 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Página de resultados de uma listagem paginada.
+ * Contém os itens da página e o cursor para buscar a próxima.
+ * 
+ * @param <T> Tipo dos itens da página
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class Pagina<T> {
+    
+    private final List<T> itens;
+    private final CursorPagina proximoCursor;
+    
+    /**
+     * Cria uma página.
+     * 
+     * @param itens Itens da página
+     * @param proximoCursor Cursor da próxima página ou null se esta for a última
+     */
+    public Pagina(List<T> itens, CursorPagina proximoCursor) {
+        this.itens = List.copyOf(itens);
+        this.proximoCursor = proximoCursor;
+    }
+    
+    /**
+     * Retorna uma página vazia, sem próxima página.
+     * 
+     * @param <T> Tipo dos itens
+     * @return Página vazia
+     */
+    public static <T> Pagina<T> vazia() {
+        return new Pagina<>(List.of(), null);
+    }
+    
+    /**
+     * @return Itens da página (lista imutável)
+     */
+    public List<T> getItens() {
+        return itens;
+    }
+    
+    /**
+     * @return Cursor para buscar a próxima página ou null se esta for a última
+     */
+    public CursorPagina getProximoCursor() {
+        return proximoCursor;
+    }
+    
+    /**
+     * @return true se existe uma próxima página
+     */
+    public boolean temProxima() {
+        return proximoCursor != null;
+    }
+    
+    /**
+     * @return Quantidade de itens nesta página
+     */
+    public int getTamanho() {
+        return itens.size();
+    }
+}
@@ -0,0 +1,185 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Resultado de uma operação do UsuarioService: o valor em caso de sucesso ou a
+ * situação e os erros em caso de falha. Não exibe nada; cabe a quem chama (telas
+ * Swing, API HTTP, processos em lote) apresentar as mensagens.
+ * 
+ * @param <T> Tipo do valor retornado em caso de sucesso
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class Resultado<T> {
+    
+    /**
+     * Situação em que a operação terminou.
+     */
+    public enum Situacao {
+        SUCESSO,
+        INVALIDO,          // dados de entrada inválidos
+        NAO_AUTENTICADO,   // credenciais inválidas ou sessão expirada
+        PROIBIDO,          // sessão sem permissão para a operação
+        NAO_ENCONTRADO,
+        CONFLITO,          // ex.: email já cadastrado
+        RECUSADO,          // excesso de tentativas ou sistema sobrecarregado
+        ERRO               // erro de banco
+    }
+    
+    private final Situacao situacao;
+    private final T valor;
+    private final String mensagem;
+    private final List<String> erros;
+    private final long esperaMs;
+    
+    private Resultado(Situacao situacao, T valor, String mensagem, List<String> erros, long esperaMs) {
+        this.situacao = situacao;
+        this.valor = valor;
+        this.mensagem = mensagem;
+        this.erros = erros;
+        this.esperaMs = esperaMs;
+    }
+    
+    // ==================== SUCESSO ====================
+    
+    /**
+     * @param valor Valor retornado pela operação
+     * @return Resultado de sucesso sem mensagem (ex.: consultas)
+     */
+    public static <T> Resultado<T> sucesso(T valor) {
+        return new Resultado<>(Situacao.SUCESSO, valor, null, List.of(), 0);
+    }
+    
+    /**
+     * @param valor Valor retornado pela operação
+     * @param mensagem Mensagem de confirmação (ex.: "Usuário cadastrado com sucesso!")
+     * @return Resultado de sucesso
+     */
+    public static <T> Resultado<T> sucesso(T valor, String mensagem) {
+        return new Resultado<>(Situacao.SUCESSO, valor, mensagem, List.of(), 0);
+    }
+    
+    // ==================== FALHAS ====================
+    
+    /**
+     * @param erros Erros de validação (ao menos um)
+     * @return Resultado de dados inválidos
+     */
+    public static <T> Resultado<T> invalido(List<String> erros) {
+        return new Resultado<>(Situacao.INVALIDO, null, null, List.copyOf(erros), 0);
+    }
+    
+    /**
+     * @param erro Erro de validação
+     * @return Resultado de dados inválidos
+     */
+    public static <T> Resultado<T> invalido(String erro) {
+        return falha(Situacao.INVALIDO, erro);
+    }
+    
+    /**
+     * @param erro Motivo (credenciais inválidas, sessão expirada)
+     * @return Resultado de acesso não autenticado
+     */
+    public static <T> Resultado<T> naoAutenticado(String erro) {
+        return falha(Situacao.NAO_AUTENTICADO, erro);
+    }
+    
+    /**
+     * @param erro Motivo da recusa
+     * @return Resultado de operação não permitida para a sessão
+     */
+    public static <T> Resultado<T> proibido(String erro) {
+        return falha(Situacao.PROIBIDO, erro);
+    }
+    
+    /**
+     * @param erro Descrição do que não foi encontrado
+     * @return Resultado de registro inexistente
+     */
+    public static <T> Resultado<T> naoEncontrado(String erro) {
+        return falha(Situacao.NAO_ENCONTRADO, erro);
+    }
+    
+    /**
+     * @param erro Descrição do conflito
+     * @return Resultado de conflito com dados existentes
+     */
+    public static <T> Resultado<T> conflito(String erro) {
+        return falha(Situacao.CONFLITO, erro);
+    }
+    
+    /**
+     * @param erro Motivo da recusa
+     * @param esperaMs Tempo sugerido antes de tentar novamente (0 se desconhecido)
+     * @return Resultado de operação recusada por limite ou sobrecarga
+     */
+    public static <T> Resultado<T> recusado(String erro, long esperaMs) {
+        return new Resultado<>(Situacao.RECUSADO, null, null, List.of(erro), esperaMs);
+    }
+    
+    /**
+     * @param erro Descrição do erro
+     * @return Resultado de erro de banco
+     */
+    public static <T> Resultado<T> erro(String erro) {
+        return falha(Situacao.ERRO, erro);
+    }
+    
+    private static <T> Resultado<T> falha(Situacao situacao, String erro) {
+        return new Resultado<>(situacao, null, null, List.of(erro), 0);
+    }
+    
+    // ==================== GETTERS ====================
+    
+    /**
+     * @return Situação em que a operação terminou
+     */
+    public Situacao getSituacao() {
+        return situacao;
+    }
+    
+    /**
+     * @return true se a operação foi concluída
+     */
+    public boolean isSucesso() {
+        return situacao == Situacao.SUCESSO;
+    }
+    
+    /**
+     * @return Valor retornado (null em caso de falha)
+     */
+    public T getValor() {
+        return valor;
+    }
+    
+    /**
+     * @return Erros da falha (vazia em caso de sucesso)
+     */
+    public List<String> getErros() {
+        return erros;
+    }
+    
+    /**
+     * @return Mensagem para o usuário: a confirmação do sucesso (pode ser null) ou
+     *         os erros da falha, um por linha
+     */
+    public String getMensagem() {
+        return isSucesso() ? mensagem : String.join("\n", erros);
+    }
+    
+    /**
+     * @return Milissegundos sugeridos antes de tentar novamente, em recusas
+     */
+    public long getEsperaMs() {
+        return esperaMs;
+    }
+    
+    @Override
+    public String toString() {
+        return isSucesso()
+                ? "Resultado{" + situacao + ", " + valor + "}"
+                : "Resultado{" + situacao + ", " + erros + "}";
+    }
+}
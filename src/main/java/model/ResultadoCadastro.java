@@ -0,0 +1,90 @@
+package model;
+
+/**
+ * Resultado do cadastro de um usuário dentro de um lote.
+ * Mantém a posição do usuário na lista de entrada para que o chamador
+ * relacione cada resultado à linha original.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class ResultadoCadastro {
+    
+    private final int indice;
+    private final String email;
+    private final int id;
+    private final String erro;
+    
+    private ResultadoCadastro(int indice, String email, int id, String erro) {
+        this.indice = indice;
+        this.email = email;
+        this.id = id;
+        this.erro = erro;
+    }
+    
+    /**
+     * Cria o resultado de um usuário inserido.
+     * 
+     * @param indice Posição do usuário no lote
+     * @param email Email do usuário
+     * @param id ID gerado pelo banco
+     * @return Resultado de sucesso
+     */
+    public static ResultadoCadastro sucesso(int indice, String email, int id) {
+        return new ResultadoCadastro(indice, email, id, null);
+    }
+    
+    /**
+     * Cria o resultado de um usuário rejeitado.
+     * 
+     * @param indice Posição do usuário no lote
+     * @param email Email do usuário (pode ser null)
+     * @param erro Motivo da rejeição
+     * @return Resultado de falha
+     */
+    public static ResultadoCadastro falha(int indice, String email, String erro) {
+        return new ResultadoCadastro(indice, email, 0, erro);
+    }
+    
+    /**
+     * @return Posição do usuário na lista de entrada (a partir de 0)
+     */
+    public int getIndice() {
+        return indice;
+    }
+    
+    /**
+     * @return Email do usuário
+     */
+    public String getEmail() {
+        return email;
+    }
+    
+    /**
+     * @return ID gerado ou 0 se o usuário foi rejeitado
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * @return Motivo da rejeição ou null em caso de sucesso
+     */
+    public String getErro() {
+        return erro;
+    }
+    
+    /**
+     * @return true se o usuário foi inserido
+     */
+    public boolean isSucesso() {
+        return erro == null;
+    }
+    
+    @Override
+    public String toString() {
+        return isSucesso()
+                ? "[" + indice + "] " + email + " → ID " + id
+                : "[" + indice + "] " + email + " → " + erro;
+    }
+}
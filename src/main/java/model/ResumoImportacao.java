@@ -0,0 +1,82 @@
+package model;
+
+/**
+ * Resumo de uma importação de usuários: contadores e vazão.
+ *
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class ResumoImportacao {
+
+    private final long linhasLidas;
+    private final long importados;
+    private final long rejeitados;
+    private final long duracaoMs;
+    private final boolean cancelada;
+
+    /**
+     * Construtor completo.
+     *
+     * @param linhasLidas Registros lidos do arquivo (sem o cabeçalho)
+     * @param importados Usuários gravados no banco
+     * @param rejeitados Registros enviados ao arquivo de rejeitados
+     * @param duracaoMs Duração total em milissegundos
+     * @param cancelada true se a importação foi interrompida antes do fim
+     */
+    public ResumoImportacao(long linhasLidas, long importados, long rejeitados, long duracaoMs, boolean cancelada) {
+        this.linhasLidas = linhasLidas;
+        this.importados = importados;
+        this.rejeitados = rejeitados;
+        this.duracaoMs = duracaoMs;
+        this.cancelada = cancelada;
+    }
+
+    /**
+     * @return Registros lidos do arquivo (sem o cabeçalho)
+     */
+    public long getLinhasLidas() {
+        return linhasLidas;
+    }
+
+    /**
+     * @return Usuários gravados no banco
+     */
+    public long getImportados() {
+        return importados;
+    }
+
+    /**
+     * @return Registros rejeitados
+     */
+    public long getRejeitados() {
+        return rejeitados;
+    }
+
+    /**
+     * @return Duração total em milissegundos
+     */
+    public long getDuracaoMs() {
+        return duracaoMs;
+    }
+
+    /**
+     * @return true se a importação foi interrompida antes do fim
+     */
+    public boolean isCancelada() {
+        return cancelada;
+    }
+
+    /**
+     * @return Registros processados por segundo
+     */
+    public double getLinhasPorSegundo() {
+        return duracaoMs == 0 ? 0.0 : linhasLidas * 1000.0 / duracaoMs;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s: %d linhas lidas, %d importadas, %d rejeitadas em %.1f s (%.0f linhas/s)",
+                             cancelada ? "Importação cancelada" : "Importação concluída",
+                             linhasLidas, importados, rejeitados, duracaoMs / 1000.0, getLinhasPorSegundo());
+    }
+}
@@ -0,0 +1,57 @@
+package model;
+
+/**
+ * Sugestão de autocompletar da busca: identifica um usuário ativo pelo nome e email,
+ * sem consultar o banco.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class SugestaoUsuario {
+    
+    private final int id;
+    private final String nome;
+    private final String email;
+    
+    /**
+     * Construtor completo.
+     * 
+     * @param id ID do usuário
+     * @param nome Nome completo
+     * @param email Email
+     */
+    public SugestaoUsuario(int id, String nome, String email) {
+        this.id = id;
+        this.nome = nome;
+        this.email = email;
+    }
+    
+    /**
+     * @return ID do usuário
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * @return Nome completo
+     */
+    public String getNome() {
+        return nome;
+    }
+    
+    /**
+     * @return Email
+     */
+    public String getEmail() {
+        return email;
+    }
+    
+    /**
+     * Texto exibido na lista de sugestões.
+     */
+    @Override
+    public String toString() {
+        return nome + " <" + email + ">";
+    }
+}
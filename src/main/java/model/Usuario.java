@@ -385,6 +385,17 @@ public class Usuario {
         return email.matches("^[A-Za-z0-9+_.-]+@(.+)$");
     }
     
+    /**
+     * Retorna uma cópia completa do usuário, incluindo a senha.
+     * Usada onde o objeto não pode ser compartilhado (ex.: cache).
+     * @return Novo objeto Usuario com os mesmos dados
+     */
+    public Usuario copiar() {
+        Usuario copia = semSenha();
+        copia.senha = this.senha;
+        return copia;
+    }
+    
     /**
      * Retorna uma cópia do usuário sem a senha (para segurança).
      * @return Novo objeto Usuario sem senha
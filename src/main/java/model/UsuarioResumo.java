@@ -0,0 +1,164 @@
+package model;
+
+import model.Usuario.Perfil;
+
+import java.util.Objects;
+
+/**
+ * Projeção somente leitura de um usuário com as colunas exibidas nas listagens.
+ * Não carrega senha, endereço nem datas, reduzindo tráfego e memória em listas grandes.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class UsuarioResumo {
+    
+    private final int id;
+    private final String nome;
+    private final String email;
+    private final String telefone;
+    private final Perfil perfil;
+    private final String cidade;
+    private final String estado;
+    private final String pais;
+    private final boolean ativo;
+    
+    /**
+     * Construtor completo.
+     * 
+     * @param id ID do usuário
+     * @param nome Nome completo
+     * @param email Email
+     * @param telefone Telefone (pode ser null)
+     * @param perfil Perfil de acesso
+     * @param cidade Cidade (pode ser null)
+     * @param estado Estado (pode ser null)
+     * @param pais País (pode ser null)
+     * @param ativo Status ativo
+     */
+    public UsuarioResumo(int id, String nome, String email, String telefone, Perfil perfil,
+                         String cidade, String estado, String pais, boolean ativo) {
+        this.id = id;
+        this.nome = nome;
+        this.email = email;
+        this.telefone = telefone;
+        this.perfil = perfil;
+        this.cidade = cidade;
+        this.estado = estado;
+        this.pais = pais;
+        this.ativo = ativo;
+    }
+    
+    /**
+     * Cria o resumo a partir de um usuário completo.
+     * 
+     * @param usuario Usuario de origem
+     * @return Resumo com as colunas de listagem
+     */
+    public static UsuarioResumo de(Usuario usuario) {
+        return new UsuarioResumo(usuario.getId(), usuario.getNome(), usuario.getEmail(),
+                                 usuario.getTelefone(), usuario.getPerfil(), usuario.getCidade(),
+                                 usuario.getEstado(), usuario.getPais(), usuario.isAtivo());
+    }
+    
+    // ==================== GETTERS ====================
+    
+    /**
+     * @return ID do usuário
+     */
+    public int getId() {
+        return id;
+    }
+    
+    /**
+     * @return Nome completo do usuário
+     */
+    public String getNome() {
+        return nome;
+    }
+    
+    /**
+     * @return Email do usuário
+     */
+    public String getEmail() {
+        return email;
+    }
+    
+    /**
+     * @return Telefone em formato internacional
+     */
+    public String getTelefone() {
+        return telefone;
+    }
+    
+    /**
+     * @return Perfil de acesso do usuário
+     */
+    public Perfil getPerfil() {
+        return perfil;
+    }
+    
+    /**
+     * @return Cidade do usuário
+     */
+    public String getCidade() {
+        return cidade;
+    }
+    
+    /**
+     * @return Estado do usuário
+     */
+    public String getEstado() {
+        return estado;
+    }
+    
+    /**
+     * @return País do usuário
+     */
+    public String getPais() {
+        return pais;
+    }
+    
+    /**
+     * @return true se o usuário está ativo, false caso contrário
+     */
+    public boolean isAtivo() {
+        return ativo;
+    }
+    
+    /**
+     * @return true se for admin, false caso contrário
+     */
+    public boolean isAdmin() {
+        return perfil == Perfil.admin;
+    }
+    
+    // ==================== MÉTODOS SOBRESCRITOS ====================
+    
+    @Override
+    public String toString() {
+        return "UsuarioResumo{" +
+                "id=" + id +
+                ", nome='" + nome + '\'' +
+                ", email='" + email + '\'' +
+                ", perfil=" + perfil +
+                ", ativo=" + ativo +
+                '}';
+    }
+    
+    /**
+     * Verifica igualdade entre resumos baseado no ID e email (mesmo critério de Usuario).
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        UsuarioResumo that = (UsuarioResumo) o;
+        return id == that.id && Objects.equals(email, that.email);
+    }
+    
+    @Override
+    public int hashCode() {
+        return Objects.hash(id, email);
+    }
+}
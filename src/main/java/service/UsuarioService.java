@@ -0,0 +1,897 @@
+package service;
+
+import dao.UsuarioDAO;
+import model.AlteracaoUsuario;
+import model.CursorPagina;
+import model.EstatisticasUsuarios;
+import model.Pagina;
+import model.Resultado;
+import model.ResultadoCadastro;
+import model.SugestaoUsuario;
+import model.Usuario;
+import model.Usuario.Perfil;
+import model.UsuarioResumo;
+import util.CacheTTL;
+import util.GerenciadorSessoes;
+import util.LimitadorLogin;
+import util.PasswordUtil;
+import util.Sessao;
+import util.SobrecargaException;
+import util.ValidadorUsuario;
+
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Regras de negócio dos usuários, sem interface gráfica.
+ * 
+ * Cada operação retorna um {@link Resultado} com o valor ou com a situação e os erros
+ * da falha (validação, conflito, registro inexistente, sessão inválida, recusa por
+ * limite ou erro de banco); nada é exibido nem confirmado aqui. Assim as mesmas regras
+ * atendem as telas Swing (via UsuarioController), a API HTTP e processos em lote.
+ * 
+ * Não guarda estado por chamada: uma instância pode ser usada por várias threads ao
+ * mesmo tempo. Os caches e índices usados são compartilhados e seguros para threads.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class UsuarioService {
+    
+    // Estatísticas ficam em cache por poucos segundos; a partir de 80% do TTL
+    // são recarregadas em segundo plano sem bloquear quem consulta
+    private static final long ESTATISTICAS_TTL_MS = 5_000;
+    private static final double ESTATISTICAS_ATUALIZACAO_ANTECIPADA = 0.8;
+    
+    // Compartilhado entre as instâncias para que qualquer gravação invalide o cache
+    private static final CacheTTL<EstatisticasUsuarios> ESTATISTICAS = new CacheTTL<>(
+            () -> new UsuarioDAO().obterEstatisticas(false),
+            ESTATISTICAS_TTL_MS, ESTATISTICAS_ATUALIZACAO_ANTECIPADA);
+    
+    // Quantidade de sugestões retornadas enquanto o usuário digita na busca
+    private static final int LIMITE_SUGESTOES = 8;
+    
+    private final UsuarioDAO usuarioDAO;
+    
+    /**
+     * Construtor do serviço.
+     * Inicializa o DAO de usuários.
+     */
+    public UsuarioService() {
+        this.usuarioDAO = new UsuarioDAO();
+    }
+    
+    // ==================== MÉTODOS DE AUTENTICAÇÃO ====================
+    
+    /**
+     * Autentica um usuário.
+     * 
+     * Antes de consultar o banco, a tentativa passa pelo {@link LimitadorLogin}: emails
+     * e clientes com muitas tentativas recentes são recusados sem custo de BCrypt.
+     * 
+     * @param email Email do usuário
+     * @param senha Senha em texto plano
+     * @param cliente Identificador de quem tenta o login (ex.: endereço IP)
+     * @return Usuario autenticado; NAO_AUTENTICADO se as credenciais não conferem ou
+     *         RECUSADO (com a espera) se houve tentativas demais
+     */
+    public Resultado<Usuario> autenticar(String email, String senha, String cliente) {
+        // Validações básicas
+        List<String> erros = new ArrayList<>(0);
+        if (email == null || email.trim().isEmpty()) {
+            erros.add("Email é obrigatório!");
+        }
+        if (senha == null || senha.trim().isEmpty()) {
+            erros.add("Senha é obrigatória!");
+        }
+        if (!erros.isEmpty()) {
+            return Resultado.invalido(erros);
+        }
+        
+        long espera = LimitadorLogin.getInstancia().tentar(email, cliente);
+        if (espera > 0) {
+            return Resultado.recusado("Muitas tentativas de login. Tente novamente em "
+                                      + Math.max(1, (espera + 999) / 1000) + " segundos.", espera);
+        }
+        
+        try {
+            Usuario usuario = usuarioDAO.autenticar(email.trim(), senha);
+            if (usuario == null) {
+                return Resultado.naoAutenticado("Email ou senha inválidos!");
+            }
+            
+            LimitadorLogin.getInstancia().registrarSucesso(email, cliente);
+            System.out.println("✓ Login bem-sucedido: " + usuario.getNome());
+            return Resultado.sucesso(usuario);
+            
+        } catch (SobrecargaException e) {
+            return Resultado.recusado(e.getMessage(), 0);
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao autenticar usuário", e);
+        }
+    }
+    
+    // ==================== MÉTODOS DE SESSÃO ====================
+    
+    /**
+     * Emite uma sessão para um usuário recém-autenticado. As operações feitas com a
+     * sessão são autorizadas pelo perfil guardado nela, sem novo acesso ao banco.
+     * 
+     * @param usuario Usuario retornado por autenticar
+     * @return Sessão do usuário
+     */
+    public Sessao abrirSessao(Usuario usuario) {
+        return GerenciadorSessoes.getInstancia().criar(usuario);
+    }
+    
+    /**
+     * Valida o token de uma sessão e renova a sua expiração.
+     * 
+     * @param token Token da sessão
+     * @return Sessão ativa ou null se o token for inválido ou tiver expirado
+     */
+    public Sessao validarSessao(String token) {
+        return GerenciadorSessoes.getInstancia().validar(token);
+    }
+    
+    /**
+     * Encerra a sessão (logout).
+     * 
+     * @param sessao Sessão a encerrar
+     */
+    public void encerrarSessao(Sessao sessao) {
+        GerenciadorSessoes.getInstancia().encerrar(sessao);
+    }
+    
+    /**
+     * Confere se a sessão ainda está ativa e, se exigido, se é de um administrador.
+     * 
+     * @return null se a operação pode prosseguir; senão, o resultado da recusa
+     */
+    private <T> Resultado<T> autorizar(Sessao sessao, boolean exigeAdmin) {
+        if (GerenciadorSessoes.getInstancia().validar(sessao) == null) {
+            return Resultado.naoAutenticado("Sua sessão expirou. Entre novamente no sistema.");
+        }
+        if (exigeAdmin && !sessao.isAdmin()) {
+            return Resultado.proibido("Apenas administradores podem realizar esta operação!");
+        }
+        return null;
+    }
+    
+    // ==================== MÉTODOS DE CONSULTA ====================
+    
+    /**
+     * Lista todos os usuários ativos do sistema.
+     * 
+     * @return Lista de usuários
+     */
+    public Resultado<List<Usuario>> listarTodos() {
+        try {
+            return Resultado.sucesso(usuarioDAO.listarTodos());
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao listar usuários", e);
+        }
+    }
+    
+    /**
+     * Lista todos os usuários incluindo inativos.
+     * 
+     * @return Lista completa de usuários
+     */
+    public Resultado<List<Usuario>> listarTodosIncluindoInativos() {
+        try {
+            return Resultado.sucesso(usuarioDAO.listarTodosIncluindoInativos());
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao listar usuários", e);
+        }
+    }
+    
+    /**
+     * Busca um usuário por ID.
+     * 
+     * @param id ID do usuário
+     * @return Usuario encontrado ou NAO_ENCONTRADO
+     */
+    public Resultado<Usuario> buscarPorId(int id) {
+        try {
+            return encontrado(usuarioDAO.buscarPorId(id));
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao buscar usuário", e);
+        }
+    }
+    
+    /**
+     * Busca um usuário por email.
+     * 
+     * @param email Email do usuário
+     * @return Usuario encontrado ou NAO_ENCONTRADO
+     */
+    public Resultado<Usuario> buscarPorEmail(String email) {
+        try {
+            return encontrado(usuarioDAO.buscarPorEmail(email));
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao buscar usuário", e);
+        }
+    }
+    
+    /**
+     * Busca usuários por nome (busca parcial).
+     * 
+     * @param nome Nome ou parte do nome
+     * @return Lista de usuários encontrados
+     */
+    public Resultado<List<Usuario>> buscarPorNome(String nome) {
+        try {
+            return Resultado.sucesso(usuarioDAO.buscarPorNome(nome));
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao buscar usuários", e);
+        }
+    }
+    
+    /**
+     * Lista usuários por perfil.
+     * 
+     * @param perfil Perfil desejado
+     * @return Lista de usuários com o perfil
+     */
+    public Resultado<List<Usuario>> listarPorPerfil(Perfil perfil) {
+        try {
+            return Resultado.sucesso(usuarioDAO.listarPorPerfil(perfil));
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao listar usuários por perfil", e);
+        }
+    }
+    
+    /**
+     * Lista usuários página a página, sem carregar a tabela inteira.
+     * Use o cursor da página retornada para buscar a seguinte.
+     * 
+     * @param apos Cursor da página anterior ou null para a primeira página
+     * @param tamanho Quantidade de usuários por página
+     * @param ativo Filtra por status ativo/inativo ou null para todos
+     * @param perfil Filtra por perfil ou null para todos
+     * @return Página de usuários ou INVALIDO se o tamanho estiver fora do limite
+     */
+    public Resultado<Pagina<Usuario>> listarPagina(CursorPagina apos, int tamanho, Boolean ativo, Perfil perfil) {
+        try {
+            return Resultado.sucesso(usuarioDAO.listarPagina(apos, tamanho, ativo, perfil));
+        } catch (IllegalArgumentException e) {
+            return Resultado.invalido(e.getMessage());
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao listar usuários", e);
+        }
+    }
+    
+    /**
+     * Lista os resumos de todos os usuários ativos, para exibição em tabelas.
+     * Não carrega senha, endereço nem datas.
+     * 
+     * @return Lista de resumos
+     */
+    public Resultado<List<UsuarioResumo>> listarResumos() {
+        try {
+            return Resultado.sucesso(usuarioDAO.listarResumos());
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao listar usuários", e);
+        }
+    }
+    
+    /**
+     * Busca resumos de usuários por nome (busca parcial), para exibição em tabelas.
+     * 
+     * @param nome Nome ou parte do nome
+     * @return Lista de resumos encontrados
+     */
+    public Resultado<List<UsuarioResumo>> buscarResumosPorNome(String nome) {
+        try {
+            return Resultado.sucesso(usuarioDAO.buscarResumosPorNome(nome));
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao buscar usuários", e);
+        }
+    }
+    
+    /**
+     * Busca resumos de usuários por parte do nome ou do email, sem diferenciar
+     * acentos e maiúsculas/minúsculas.
+     * 
+     * @param termo Parte do nome ou do email
+     * @return Lista de resumos encontrados
+     */
+    public Resultado<List<UsuarioResumo>> buscarResumosPorNomeOuEmail(String termo) {
+        try {
+            return Resultado.sucesso(usuarioDAO.buscarResumosPorNomeOuEmail(termo));
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao buscar usuários", e);
+        }
+    }
+    
+    /**
+     * Busca uma página de resumos de usuários por parte do nome ou do email, em ordem de ID.
+     * 
+     * @param termo Parte do nome ou do email (ao menos UsuarioDAO.TAMANHO_MINIMO_TERMO caracteres)
+     * @param apos Cursor retornado pela página anterior ou null para a primeira página
+     * @param tamanho Quantidade de usuários por página
+     * @return Página de resumos ou INVALIDO se o termo for curto demais ou o tamanho estiver fora do limite
+     */
+    public Resultado<Pagina<UsuarioResumo>> buscarPaginaResumosPorNomeOuEmail(String termo, CursorPagina apos,
+                                                                             int tamanho) {
+        try {
+            return Resultado.sucesso(usuarioDAO.buscarPaginaResumosPorNomeOuEmail(termo, apos, tamanho));
+        } catch (IllegalArgumentException e) {
+            return Resultado.invalido(e.getMessage());
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao buscar usuários", e);
+        }
+    }
+    
+    /**
+     * Inicia em segundo plano a preparação do índice de busca, para que as buscas
+     * não varram a tabela.
+     */
+    public void prepararBusca() {
+        UsuarioDAO.prepararIndiceBusca();
+    }
+    
+    /**
+     * Sugere usuários ativos cujo nome tem uma palavra, ou cujo email, começa com o
+     * texto digitado. Responde da memória, sem consultar o banco; retorna lista vazia
+     * enquanto o índice de busca não está pronto.
+     * 
+     * @param prefixo Texto digitado
+     * @return Até LIMITE_SUGESTOES sugestões
+     */
+    public List<SugestaoUsuario> sugerirUsuarios(String prefixo) {
+        return usuarioDAO.sugerirPorPrefixo(prefixo, LIMITE_SUGESTOES);
+    }
+    
+    /**
+     * Lista uma página de resumos que começa "pular" usuários depois do cursor.
+     * 
+     * @param apos Cursor conhecido antes da página ou null para o início
+     * @param pular Quantidade de usuários a ignorar depois do cursor
+     * @param tamanho Quantidade de usuários por página
+     * @param ativo Filtra por status ativo/inativo ou null para todos
+     * @param perfil Filtra por perfil ou null para todos
+     * @return Página de resumos ou INVALIDO se o tamanho estiver fora do limite
+     */
+    public Resultado<Pagina<UsuarioResumo>> listarPaginaResumos(CursorPagina apos, int pular, int tamanho,
+                                                               Boolean ativo, Perfil perfil) {
+        try {
+            return Resultado.sucesso(usuarioDAO.listarPaginaResumos(apos, pular, tamanho, ativo, perfil));
+        } catch (IllegalArgumentException e) {
+            return Resultado.invalido(e.getMessage());
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao listar usuários", e);
+        }
+    }
+    
+    // ==================== SINCRONIZAÇÃO INCREMENTAL ====================
+    
+    /**
+     * Retorna o instante atual do banco, marca inicial da sincronização.
+     * 
+     * @return Instante atual do banco
+     */
+    public Resultado<Instant> obterInstanteAtual() {
+        try {
+            return Resultado.sucesso(usuarioDAO.obterInstanteAtual());
+        } catch (SQLException e) {
+            return Resultado.erro("Erro ao ler o relógio do banco: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Lista os usuários alterados, desativados ou excluídos desde a marca, sem
+     * alterar caches nem sessões.
+     * 
+     * @param marca Instante a partir do qual as alterações são lidas
+     * @return Alterações em ordem de data
+     */
+    public Resultado<List<AlteracaoUsuario>> listarAlteradosDesde(Instant marca) {
+        try {
+            return Resultado.sucesso(usuarioDAO.listarAlteradosDesde(marca));
+        } catch (SQLException e) {
+            return Resultado.erro("Erro ao sincronizar usuários: " + e.getMessage());
+        }
+    }
+    
+    /**
+     * Lê as alterações desde a marca e as aplica aos caches do DAO e às sessões
+     * (ver UsuarioDAO.reconciliarAlteracoes). Se houve alterações, as estatísticas
+     * em cache deixam de valer.
+     * 
+     * @param marca Instante a partir do qual as alterações são lidas
+     * @return Alterações em ordem de data
+     */
+    public Resultado<List<AlteracaoUsuario>> sincronizarAlteradosDesde(Instant marca) {
+        Resultado<List<AlteracaoUsuario>> resultado = listarAlteradosDesde(marca);
+        if (resultado.isSucesso() && !resultado.getValor().isEmpty()) {
+            usuarioDAO.reconciliarAlteracoes(resultado.getValor());
+            ESTATISTICAS.invalidar();
+        }
+        return resultado;
+    }
+    
+    // ==================== MÉTODOS DE CADASTRO ====================
+    
+    /**
+     * Cadastra um novo usuário no sistema.
+     * Realiza todas as validações necessárias.
+     * 
+     * @param usuario Usuario a ser cadastrado
+     * @return Usuário cadastrado (com ID, sem senha); INVALIDO com todos os erros de
+     *         validação ou CONFLITO se o email já existe
+     */
+    public Resultado<Usuario> cadastrar(Usuario usuario) {
+        // Validações
+        List<String> erros = new ArrayList<>(ValidadorUsuario.listarErros(usuario));
+        if (usuario != null) {
+            String erroSenha = ValidadorUsuario.verificarSenha(usuario.getSenha());
+            if (erroSenha != null) {
+                erros.add(erroSenha);
+            }
+        }
+        if (!erros.isEmpty()) {
+            return Resultado.invalido(erros);
+        }
+        
+        try {
+            // O hash roda no executor de BCrypt enquanto o email é verificado no banco
+            CompletableFuture<String> hash = PasswordUtil.criptografarSenhaAsync(usuario.getSenha());
+            
+            // Verifica se email já existe
+            if (usuarioDAO.emailExiste(usuario.getEmail())) {
+                hash.cancel(false);
+                return Resultado.conflito("Este email já está cadastrado!");
+            }
+            
+            // Insere uma cópia com a senha já criptografada: o usuário recebido mantém
+            // a senha digitada, e uma nova tentativa após erro não criptografa o hash
+            Usuario gravado = usuario.semSenha();
+            gravado.setSenha(PasswordUtil.aguardar(hash));
+            if (!usuarioDAO.inserir(gravado, true)) {
+                return Resultado.erro("Não foi possível cadastrar o usuário.");
+            }
+            usuario.setId(gravado.getId());
+            
+            ESTATISTICAS.invalidar();
+            System.out.println("✓ Usuário cadastrado: " + usuario.getEmail());
+            return Resultado.sucesso(gravado.semSenha(), "Usuário cadastrado com sucesso!");
+            
+        } catch (SobrecargaException e) {
+            return Resultado.recusado(e.getMessage(), 0);
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao cadastrar usuário", e);
+        }
+    }
+    
+    /**
+     * Cadastra um usuário em nome da sessão informada.
+     * Administradores cadastram qualquer perfil; os demais apenas usuários comuns.
+     * 
+     * @param sessao Sessão de quem faz o cadastro
+     * @param usuario Usuario a ser cadastrado (senha em texto plano)
+     * @return Como cadastrar(Usuario), ou NAO_AUTENTICADO/PROIBIDO
+     */
+    public Resultado<Usuario> cadastrar(Sessao sessao, Usuario usuario) {
+        Resultado<Usuario> recusa = autorizar(sessao, false);
+        if (recusa != null) {
+            return recusa;
+        }
+        if (!sessao.isAdmin() && usuario != null && usuario.getPerfil() != Perfil.user) {
+            return Resultado.proibido("Apenas administradores podem cadastrar administradores!");
+        }
+        return cadastrar(usuario);
+    }
+    
+    /**
+     * Cadastra vários usuários de uma vez (ex.: carga inicial de um cliente).
+     * Aplica as mesmas validações de cadastrar() a cada usuário; os válidos são
+     * gravados em uma única transação.
+     * 
+     * @param usuarios Usuários a cadastrar
+     * @return Um resultado por usuário, na ordem da lista de entrada. Em caso de erro
+     *         de banco nenhum usuário é gravado e todos os resultados indicam o erro.
+     */
+    public List<ResultadoCadastro> cadastrarEmLote(List<Usuario> usuarios) {
+        ResultadoCadastro[] resultados = new ResultadoCadastro[usuarios.size()];
+        List<Usuario> validos = new ArrayList<>();
+        List<Integer> indicesValidos = new ArrayList<>();
+        
+        for (int i = 0; i < usuarios.size(); i++) {
+            Usuario usuario = usuarios.get(i);
+            String erro = ValidadorUsuario.verificarUsuario(usuario);
+            if (erro == null) {
+                erro = ValidadorUsuario.verificarSenha(usuario.getSenha());
+            }
+            
+            if (erro != null) {
+                resultados[i] = ResultadoCadastro.falha(i, usuario == null ? null : usuario.getEmail(), erro);
+            } else {
+                usuario.setEmail(usuario.getEmail().trim());
+                validos.add(usuario);
+                indicesValidos.add(i);
+            }
+        }
+        
+        try {
+            // O DAO numera os resultados pela posição na lista de válidos
+            List<ResultadoCadastro> gravados = usuarioDAO.inserirEmLote(validos);
+            for (ResultadoCadastro r : gravados) {
+                int indice = indicesValidos.get(r.getIndice());
+                resultados[indice] = r.isSucesso()
+                        ? ResultadoCadastro.sucesso(indice, r.getEmail(), r.getId())
+                        : ResultadoCadastro.falha(indice, r.getEmail(), r.getErro());
+            }
+            
+        } catch (SQLException e) {
+            System.err.println("✗ Erro ao cadastrar usuários em lote: " + e.getMessage());
+            e.printStackTrace();
+            for (int indice : indicesValidos) {
+                resultados[indice] = ResultadoCadastro.falha(indice, usuarios.get(indice).getEmail(),
+                                                             "Lote não gravado: " + e.getMessage());
+            }
+        }
+        
+        long sucessos = Arrays.stream(resultados).filter(ResultadoCadastro::isSucesso).count();
+        if (sucessos > 0) {
+            ESTATISTICAS.invalidar();
+        }
+        System.out.println("✓ Cadastro em lote: " + sucessos + " de " + usuarios.size() + " usuários cadastrados");
+        
+        return List.of(resultados);
+    }
+    
+    // ==================== MÉTODOS DE ATUALIZAÇÃO ====================
+    
+    /**
+     * Atualiza os dados de um usuário existente.
+     * Não atualiza a senha (use alterarSenha para isso).
+     * 
+     * @param usuario Usuario com dados atualizados
+     * @return Usuário atualizado (sem senha); INVALIDO, CONFLITO (email de outro
+     *         usuário) ou NAO_ENCONTRADO
+     */
+    public Resultado<Usuario> atualizar(Usuario usuario) {
+        List<String> erros = ValidadorUsuario.listarErros(usuario);
+        if (!erros.isEmpty()) {
+            return Resultado.invalido(erros);
+        }
+        
+        try {
+            // Verifica se email já existe para outro usuário
+            if (usuarioDAO.emailExisteParaOutroUsuario(usuario.getEmail(), usuario.getId())) {
+                return Resultado.conflito("Este email já está sendo usado por outro usuário!");
+            }
+            
+            if (!usuarioDAO.atualizar(usuario)) {
+                return Resultado.naoEncontrado("Usuário não encontrado!");
+            }
+            
+            ESTATISTICAS.invalidar();
+            System.out.println("✓ Usuário atualizado: " + usuario.getEmail());
+            return Resultado.sucesso(usuario.semSenha(), "Usuário atualizado com sucesso!");
+            
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao atualizar usuário", e);
+        }
+    }
+    
+    /**
+     * Atualiza os dados de um usuário em nome da sessão informada.
+     * Administradores atualizam qualquer usuário; os demais apenas os próprios
+     * dados, sem alterar o perfil.
+     * 
+     * @param sessao Sessão de quem faz a alteração
+     * @param usuario Usuario com dados atualizados
+     * @return Como atualizar(Usuario), ou NAO_AUTENTICADO/PROIBIDO
+     */
+    public Resultado<Usuario> atualizar(Sessao sessao, Usuario usuario) {
+        Resultado<Usuario> recusa = autorizar(sessao, false);
+        if (recusa != null) {
+            return recusa;
+        }
+        if (!sessao.isAdmin() && (usuario == null || usuario.getId() != sessao.getUsuarioId()
+                                  || usuario.getPerfil() != sessao.getPerfil())) {
+            return Resultado.proibido("Apenas administradores podem alterar outros usuários ou perfis!");
+        }
+        return atualizar(usuario);
+    }
+    
+    /**
+     * Altera a senha de um usuário.
+     * Valida a senha atual antes de alterar.
+     * 
+     * @param id ID do usuário
+     * @param senhaAtual Senha atual do usuário
+     * @param novaSenha Nova senha
+     * @param confirmacaoSenha Confirmação da nova senha
+     * @return Sucesso; NAO_AUTENTICADO se a senha atual não confere ou INVALIDO
+     */
+    public Resultado<Void> alterarSenha(int id, String senhaAtual, String novaSenha, String confirmacaoSenha) {
+        try {
+            // Busca usuário
+            Usuario usuario = usuarioDAO.buscarPorId(id);
+            if (usuario == null) {
+                return Resultado.naoEncontrado("Usuário não encontrado!");
+            }
+            
+            // Valida senha atual
+            if (!PasswordUtil.aguardar(PasswordUtil.verificarSenhaAsync(senhaAtual, usuario.getSenha()))) {
+                return Resultado.naoAutenticado("Senha atual incorreta!");
+            }
+            
+            // Valida nova senha
+            if (novaSenha == null || novaSenha.trim().isEmpty()) {
+                return Resultado.invalido("Nova senha não pode ser vazia!");
+            }
+            
+            String erroSenha = ValidadorUsuario.verificarSenha(novaSenha);
+            if (erroSenha != null) {
+                return Resultado.invalido(erroSenha);
+            }
+            
+            // Verifica confirmação
+            if (!novaSenha.equals(confirmacaoSenha)) {
+                return Resultado.invalido("A nova senha e a confirmação não coincidem!");
+            }
+            
+            // Verifica se a nova senha é diferente da atual
+            if (PasswordUtil.aguardar(PasswordUtil.verificarSenhaAsync(novaSenha, usuario.getSenha()))) {
+                return Resultado.invalido("A nova senha deve ser diferente da senha atual!");
+            }
+            
+            // Atualiza senha (será criptografada automaticamente no DAO)
+            if (!usuarioDAO.atualizarSenha(id, novaSenha)) {
+                return Resultado.naoEncontrado("Usuário não encontrado!");
+            }
+            
+            System.out.println("✓ Senha alterada para usuário ID: " + id);
+            return Resultado.sucesso(null, "Senha alterada com sucesso!");
+            
+        } catch (SobrecargaException e) {
+            return Resultado.recusado(e.getMessage(), 0);
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao alterar senha", e);
+        }
+    }
+    
+    /**
+     * Altera a senha do usuário da sessão.
+     * As sessões do usuário (inclusive esta) são encerradas após a alteração.
+     * 
+     * @param sessao Sessão do usuário
+     * @param senhaAtual Senha atual do usuário
+     * @param novaSenha Nova senha
+     * @param confirmacaoSenha Confirmação da nova senha
+     * @return Como alterarSenha(int, ...), ou NAO_AUTENTICADO se a sessão expirou
+     */
+    public Resultado<Void> alterarSenha(Sessao sessao, String senhaAtual, String novaSenha, String confirmacaoSenha) {
+        Resultado<Void> recusa = autorizar(sessao, false);
+        return recusa != null ? recusa : alterarSenha(sessao.getUsuarioId(), senhaAtual, novaSenha, confirmacaoSenha);
+    }
+    
+    /**
+     * Atualiza o perfil de um usuário.
+     * 
+     * @param id ID do usuário
+     * @param perfil Novo perfil
+     * @return Sucesso, INVALIDO ou NAO_ENCONTRADO
+     */
+    public Resultado<Void> atualizarPerfil(int id, Perfil perfil) {
+        if (perfil == null) {
+            return Resultado.invalido("Perfil é obrigatório!");
+        }
+        try {
+            if (!usuarioDAO.atualizarPerfil(id, perfil)) {
+                return Resultado.naoEncontrado("Usuário não encontrado!");
+            }
+            
+            ESTATISTICAS.invalidar();
+            System.out.println("✓ Perfil atualizado para: " + perfil);
+            return Resultado.sucesso(null, "Perfil atualizado com sucesso!");
+            
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao atualizar perfil", e);
+        }
+    }
+    
+    /**
+     * Atualiza o perfil de um usuário; exige sessão de administrador.
+     * 
+     * @param sessao Sessão de quem faz a alteração
+     * @param id ID do usuário
+     * @param perfil Novo perfil
+     * @return Como atualizarPerfil(int, Perfil), ou NAO_AUTENTICADO/PROIBIDO
+     */
+    public Resultado<Void> atualizarPerfil(Sessao sessao, int id, Perfil perfil) {
+        Resultado<Void> recusa = autorizar(sessao, true);
+        return recusa != null ? recusa : atualizarPerfil(id, perfil);
+    }
+    
+    // ==================== MÉTODOS DE EXCLUSÃO ====================
+    
+    /**
+     * Exclui (desativa) um usuário do sistema. A confirmação, se houver, é
+     * responsabilidade de quem chama.
+     * 
+     * @param id ID do usuário
+     * @return Sucesso ou NAO_ENCONTRADO
+     */
+    public Resultado<Void> excluir(int id) {
+        try {
+            if (!usuarioDAO.excluir(id)) {
+                return Resultado.naoEncontrado("Usuário não encontrado!");
+            }
+            
+            ESTATISTICAS.invalidar();
+            System.out.println("✓ Usuário ID " + id + " foi desativado");
+            return Resultado.sucesso(null, "Usuário excluído com sucesso!");
+            
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao excluir usuário", e);
+        }
+    }
+    
+    /**
+     * Exclui (desativa) um usuário do sistema; exige sessão de administrador.
+     * 
+     * @param sessao Sessão de quem faz a exclusão
+     * @param id ID do usuário
+     * @return Como excluir(int), ou NAO_AUTENTICADO/PROIBIDO
+     */
+    public Resultado<Void> excluir(Sessao sessao, int id) {
+        Resultado<Void> recusa = autorizar(sessao, true);
+        return recusa != null ? recusa : excluir(id);
+    }
+    
+    /**
+     * Reativa um usuário previamente desativado.
+     * 
+     * @param id ID do usuário
+     * @return Sucesso ou NAO_ENCONTRADO
+     */
+    public Resultado<Void> reativar(int id) {
+        try {
+            if (!usuarioDAO.reativar(id)) {
+                return Resultado.naoEncontrado("Usuário não encontrado!");
+            }
+            
+            ESTATISTICAS.invalidar();
+            System.out.println("✓ Usuário ID " + id + " foi reativado");
+            return Resultado.sucesso(null, "Usuário reativado com sucesso!");
+            
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao reativar usuário", e);
+        }
+    }
+    
+    /**
+     * Reativa um usuário previamente desativado; exige sessão de administrador.
+     * 
+     * @param sessao Sessão de quem faz a reativação
+     * @param id ID do usuário
+     * @return Como reativar(int), ou NAO_AUTENTICADO/PROIBIDO
+     */
+    public Resultado<Void> reativar(Sessao sessao, int id) {
+        Resultado<Void> recusa = autorizar(sessao, true);
+        return recusa != null ? recusa : reativar(id);
+    }
+    
+    /**
+     * Exclui permanentemente um usuário. A confirmação, se houver, é
+     * responsabilidade de quem chama.
+     * CUIDADO: Esta ação é irreversível!
+     * 
+     * @param id ID do usuário
+     * @return Sucesso ou NAO_ENCONTRADO
+     */
+    public Resultado<Void> excluirPermanentemente(int id) {
+        try {
+            if (!usuarioDAO.excluirPermanentemente(id)) {
+                return Resultado.naoEncontrado("Usuário não encontrado!");
+            }
+            
+            ESTATISTICAS.invalidar();
+            System.out.println("✓ Usuário ID " + id + " foi excluído permanentemente");
+            return Resultado.sucesso(null, "Usuário excluído PERMANENTEMENTE!");
+            
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao excluir usuário permanentemente", e);
+        }
+    }
+    
+    /**
+     * Exclui permanentemente um usuário; exige sessão de administrador.
+     * CUIDADO: Esta ação é irreversível!
+     * 
+     * @param sessao Sessão de quem faz a exclusão
+     * @param id ID do usuário
+     * @return Como excluirPermanentemente(int), ou NAO_AUTENTICADO/PROIBIDO
+     */
+    public Resultado<Void> excluirPermanentemente(Sessao sessao, int id) {
+        Resultado<Void> recusa = autorizar(sessao, true);
+        return recusa != null ? recusa : excluirPermanentemente(id);
+    }
+    
+    // ==================== MÉTODOS ESTATÍSTICOS ====================
+    
+    /**
+     * Retorna o total de usuários ativos.
+     * 
+     * @return Quantidade de usuários ativos
+     */
+    public Resultado<Integer> contarUsuariosAtivos() {
+        try {
+            return Resultado.sucesso(usuarioDAO.contarUsuariosAtivos());
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao contar usuários", e);
+        }
+    }
+    
+    /**
+     * Retorna o total de usuários por perfil.
+     * 
+     * @param perfil Perfil a contar
+     * @return Quantidade de usuários
+     */
+    public Resultado<Integer> contarPorPerfil(Perfil perfil) {
+        try {
+            return Resultado.sucesso(usuarioDAO.contarPorPerfil(perfil));
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao contar usuários por perfil", e);
+        }
+    }
+    
+    /**
+     * Retorna total, ativos, inativos e ativos por perfil obtidos em uma única consulta.
+     * O resultado fica em cache por alguns segundos e é invalidado pelas gravações
+     * feitas por este serviço.
+     * 
+     * @return Estatísticas
+     */
+    public Resultado<EstatisticasUsuarios> obterEstatisticas() {
+        try {
+            return Resultado.sucesso(ESTATISTICAS.obter());
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao obter estatísticas", e);
+        }
+    }
+    
+    /**
+     * Retorna as estatísticas incluindo a distribuição de usuários ativos por país.
+     * Não usa cache, pois o agrupamento por país é consultado apenas sob demanda.
+     * 
+     * @return Estatísticas com contagem por país
+     */
+    public Resultado<EstatisticasUsuarios> obterEstatisticasPorPais() {
+        try {
+            return Resultado.sucesso(usuarioDAO.obterEstatisticas(true));
+        } catch (SQLException e) {
+            return erroDeBanco("Erro ao obter estatísticas por país", e);
+        }
+    }
+    
+    // ==================== MÉTODOS AUXILIARES ====================
+    
+    private static Resultado<Usuario> encontrado(Usuario usuario) {
+        return usuario != null ? Resultado.sucesso(usuario) : Resultado.naoEncontrado("Usuário não encontrado!");
+    }
+    
+    /**
+     * Registra o erro de banco no log e o converte em resultado.
+     * 
+     * @param contexto Operação que falhou (ex.: "Erro ao listar usuários")
+     * @param e Erro ocorrido
+     * @return Resultado com a situação ERRO
+     */
+    private static <T> Resultado<T> erroDeBanco(String contexto, SQLException e) {
+        System.err.println("✗ " + contexto + ": " + e.getMessage());
+        e.printStackTrace();
+        return Resultado.erro(contexto + ": " + e.getMessage());
+    }
+}
@@ -0,0 +1,121 @@
+package util;
+
+import org.mindrot.jbcrypt.BCrypt;
+
+/**
+ * BCrypt (jBCrypt), formato "$2a$CC$" + 53 caracteres de salt e hash.
+ * 
+ * O BCrypt considera apenas os primeiros 72 bytes da senha: senhas mais longas que
+ * compartilham esse início geram o mesmo hash. Os algoritmos PBKDF2 e scrypt não
+ * têm esse limite.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class AlgoritmoBCrypt implements AlgoritmoSenha {
+    
+    private static final int TAMANHO_HASH = 60;
+    
+    private volatile int custo;
+    
+    /**
+     * @param custo Custo dos novos hashes (log2 do número de rounds), entre 4 e 31
+     */
+    public AlgoritmoBCrypt(int custo) {
+        this.custo = custo;
+    }
+    
+    /**
+     * @return Custo dos novos hashes
+     */
+    public int getCusto() {
+        return custo;
+    }
+    
+    /**
+     * @param custo Novo custo dos hashes (ex.: após a calibração)
+     */
+    public void setCusto(int custo) {
+        this.custo = custo;
+    }
+    
+    @Override
+    public String getNome() {
+        return "bcrypt";
+    }
+    
+    @Override
+    public boolean reconhece(String hash) {
+        // $2a$, $2b$ ou $2y$, custo com dois dígitos e exatamente 60 caracteres
+        if (hash == null || hash.length() != TAMANHO_HASH || !hash.startsWith("$2")) {
+            return false;
+        }
+        char variante = hash.charAt(2);
+        if (!((variante == 'a' || variante == 'b' || variante == 'y')
+              && hash.charAt(3) == '$'
+              && Character.isDigit(hash.charAt(4)) && Character.isDigit(hash.charAt(5))
+              && hash.charAt(6) == '$')) {
+            return false;
+        }
+        int custoHash = (hash.charAt(4) - '0') * 10 + (hash.charAt(5) - '0');
+        if (custoHash < 4 || custoHash > 31) {
+            return false;
+        }
+        // Salt e hash no alfabeto Base64 do BCrypt (./A-Za-z0-9)
+        for (int i = 7; i < TAMANHO_HASH; i++) {
+            char c = hash.charAt(i);
+            if (!(c == '.' || c == '/' || (c >= 'A' && c <= 'Z') || (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9'))) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String criptografar(String senha) {
+        return criptografar(senha, custo);
+    }
+    
+    /**
+     * @param senha Senha em texto plano
+     * @param custo Custo deste hash
+     * @return Hash BCrypt
+     */
+    public String criptografar(String senha, int custo) {
+        return BCrypt.hashpw(senha, BCrypt.gensalt(custo));
+    }
+    
+    @Override
+    public boolean verificar(String senha, String hash) {
+        try {
+            return BCrypt.checkpw(senha, hash);
+        } catch (IllegalArgumentException e) {
+            // Hash malformado
+            return false;
+        }
+    }
+    
+    @Override
+    public boolean precisaRehash(String hash) {
+        // O custo é calibrado por host: um host mais lento não rebaixa os hashes de um mais rápido
+        return obterCusto(hash) < custo;
+    }
+    
+    /**
+     * Lê o custo de um hash BCrypt ("$2a$10$..." → 10).
+     * 
+     * @param hash Hash armazenado
+     * @return Custo do hash ou -1 se não for um hash BCrypt
+     */
+    public int obterCusto(String hash) {
+        if (!reconhece(hash)) {
+            return -1;
+        }
+        return (hash.charAt(4) - '0') * 10 + (hash.charAt(5) - '0');
+    }
+    
+    @Override
+    public String toString() {
+        return "bcrypt (custo " + custo + ")";
+    }
+}
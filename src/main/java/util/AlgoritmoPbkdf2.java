@@ -0,0 +1,237 @@
+package util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.DigestException;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * PBKDF2-HMAC-SHA256 (RFC 8018) com as classes do próprio JDK, no formato
+ * "$pbkdf2-sha256$v=1$i=ITERACOES$SALT$HASH" (salt e hash em Base64 sem padding).
+ * 
+ * O SecretKeyFactory e o Mac do JDK alocam um array a cada HMAC, ou seja, a cada
+ * uma das centenas de milhares de iterações. Aqui o HMAC é montado sobre o
+ * MessageDigest de cada thread, com os buffers reaproveitados, e as iterações
+ * rodam sem alocar memória.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class AlgoritmoPbkdf2 implements AlgoritmoSenha {
+    
+    private static final String PREFIXO = "$pbkdf2-sha256$v=1$";
+    private static final int BLOCO_SHA256 = 64;
+    private static final int TAMANHO_SALT = 16;
+    private static final int TAMANHO_HASH = 32;
+    private static final int ITERACOES_MAXIMAS = 100_000_000;
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64 = Base64.getEncoder().withoutPadding();
+    
+    // SHA-256 e buffers por thread (as threads do ExecutorSenhas são fixas)
+    private static final ThreadLocal<Estado> ESTADO = ThreadLocal.withInitial(Estado::new);
+    
+    private final int iteracoes;
+    
+    /**
+     * @param iteracoes Iterações dos novos hashes
+     */
+    public AlgoritmoPbkdf2(int iteracoes) {
+        if (iteracoes < 1 || iteracoes > ITERACOES_MAXIMAS) {
+            throw new IllegalArgumentException("Iterações do PBKDF2 inválidas: " + iteracoes);
+        }
+        this.iteracoes = iteracoes;
+    }
+    
+    @Override
+    public String getNome() {
+        return "pbkdf2";
+    }
+    
+    @Override
+    public boolean reconhece(String hash) {
+        // Estrutura completa: iterações no limite, salt e hash em Base64 com os tamanhos gerados
+        String[] partes = partes(hash);
+        return partes != null
+               && lerIteracoes(partes[0]) >= 1
+               && decodificar(partes[1], TAMANHO_SALT) != null
+               && decodificar(partes[2], TAMANHO_HASH) != null;
+    }
+    
+    @Override
+    public String criptografar(String senha) {
+        byte[] salt = new byte[TAMANHO_SALT];
+        RANDOM.nextBytes(salt);
+        byte[] hash = new byte[TAMANHO_HASH];
+        byte[] bytesSenha = senha.getBytes(StandardCharsets.UTF_8);
+        derivar(bytesSenha, salt, iteracoes, hash);
+        Arrays.fill(bytesSenha, (byte) 0);
+        
+        return PREFIXO + "i=" + iteracoes + "$" + BASE64.encodeToString(salt) + "$" + BASE64.encodeToString(hash);
+    }
+    
+    @Override
+    public boolean verificar(String senha, String hash) {
+        // PREFIXO, "i=N", salt, hash
+        String[] partes = partes(hash);
+        if (partes == null) {
+            return false;
+        }
+        int iteracoesHash = lerIteracoes(partes[0]);
+        byte[] salt = decodificar(partes[1], TAMANHO_SALT);
+        byte[] esperado = decodificar(partes[2], TAMANHO_HASH);
+        if (iteracoesHash < 1 || salt == null || esperado == null) {
+            return false;
+        }
+        byte[] calculado = new byte[esperado.length];
+        byte[] bytesSenha = senha.getBytes(StandardCharsets.UTF_8);
+        derivar(bytesSenha, salt, iteracoesHash, calculado);
+        Arrays.fill(bytesSenha, (byte) 0);
+        return MessageDigest.isEqual(esperado, calculado);
+    }
+    
+    @Override
+    public boolean precisaRehash(String hash) {
+        String[] partes = partes(hash);
+        return partes == null || lerIteracoes(partes[0]) < iteracoes;
+    }
+    
+    @Override
+    public String toString() {
+        return "pbkdf2-sha256 (" + iteracoes + " iterações)";
+    }
+    
+    /**
+     * Separa "i=N", salt e hash do texto após o prefixo.
+     */
+    private static String[] partes(String hash) {
+        if (hash == null || !hash.startsWith(PREFIXO)) {
+            return null;
+        }
+        String[] partes = hash.substring(PREFIXO.length()).split("\\$");
+        return partes.length == 3 ? partes : null;
+    }
+    
+    /**
+     * Decodifica um campo Base64 sem padding com o tamanho esperado.
+     * 
+     * @return Bytes do campo ou null se o Base64 for inválido ou o tamanho diferente
+     */
+    static byte[] decodificar(String campo, int tamanho) {
+        // Base64 sem padding de n bytes tem exatamente ceil(4n/3) caracteres
+        if (campo.length() != (tamanho * 4 + 2) / 3) {
+            return null;
+        }
+        try {
+            byte[] bytes = Base64.getDecoder().decode(campo);
+            return bytes.length == tamanho ? bytes : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private static int lerIteracoes(String parametro) {
+        if (!parametro.startsWith("i=")) {
+            return -1;
+        }
+        try {
+            int valor = Integer.parseInt(parametro, 2, parametro.length(), 10);
+            return valor <= ITERACOES_MAXIMAS ? valor : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+    
+    // ==================== PBKDF2 ====================
+    
+    /**
+     * Deriva saida.length bytes da senha (PBKDF2-HMAC-SHA256). Também usado pelo
+     * scrypt, que deriva blocos de tamanho arbitrário com uma iteração.
+     * 
+     * @param senha Senha em UTF-8
+     * @param salt Salt
+     * @param iteracoes Número de iterações
+     * @param saida Destino da chave derivada
+     */
+    static void derivar(byte[] senha, byte[] salt, int iteracoes, byte[] saida) {
+        Estado estado = ESTADO.get();
+        MessageDigest sha256 = estado.sha256;
+        byte[] ipad = estado.ipad;
+        byte[] opad = estado.opad;
+        byte[] u = estado.u;
+        byte[] t = estado.t;
+        byte[] contador = estado.contador;
+        
+        try {
+            // Chave do HMAC (RFC 2104): a senha, ou o SHA-256 dela se passar de um bloco,
+            // completada com zeros e combinada com 0x36 (interna) e 0x5c (externa)
+            byte[] chave = senha.length > BLOCO_SHA256 ? sha256.digest(senha) : senha;
+            Arrays.fill(ipad, (byte) 0x36);
+            Arrays.fill(opad, (byte) 0x5c);
+            for (int k = 0; k < chave.length; k++) {
+                ipad[k] ^= chave[k];
+                opad[k] ^= chave[k];
+            }
+            
+            int tamanho = u.length;
+            for (int bloco = 1, posicao = 0; posicao < saida.length; bloco++, posicao += tamanho) {
+                // U1 = HMAC(senha, salt || INT(bloco))
+                contador[0] = (byte) (bloco >>> 24);
+                contador[1] = (byte) (bloco >>> 16);
+                contador[2] = (byte) (bloco >>> 8);
+                contador[3] = (byte) bloco;
+                sha256.update(ipad);
+                sha256.update(salt);
+                sha256.update(contador);
+                sha256.digest(u, 0, tamanho);
+                sha256.update(opad);
+                sha256.update(u);
+                sha256.digest(u, 0, tamanho);
+                System.arraycopy(u, 0, t, 0, tamanho);
+                
+                // Ui = HMAC(senha, Ui-1); T = U1 ^ U2 ^ ... ^ Uc
+                for (int i = 1; i < iteracoes; i++) {
+                    sha256.update(ipad);
+                    sha256.update(u);
+                    sha256.digest(u, 0, tamanho);
+                    sha256.update(opad);
+                    sha256.update(u);
+                    sha256.digest(u, 0, tamanho);
+                    for (int k = 0; k < tamanho; k++) {
+                        t[k] ^= u[k];
+                    }
+                }
+                System.arraycopy(t, 0, saida, posicao, Math.min(tamanho, saida.length - posicao));
+            }
+        } catch (DigestException e) {
+            throw new IllegalStateException("Falha no PBKDF2", e);
+        } finally {
+            Arrays.fill(ipad, (byte) 0);
+            Arrays.fill(opad, (byte) 0);
+            Arrays.fill(u, (byte) 0);
+            Arrays.fill(t, (byte) 0);
+        }
+    }
+    
+    private static final class Estado {
+        final MessageDigest sha256;
+        final byte[] ipad = new byte[BLOCO_SHA256];
+        final byte[] opad = new byte[BLOCO_SHA256];
+        final byte[] u;
+        final byte[] t;
+        final byte[] contador = new byte[4];
+        
+        Estado() {
+            try {
+                sha256 = MessageDigest.getInstance("SHA-256");
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("SHA-256 indisponível", e);
+            }
+            u = new byte[sha256.getDigestLength()];
+            t = new byte[sha256.getDigestLength()];
+        }
+    }
+}
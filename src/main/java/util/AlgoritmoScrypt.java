@@ -0,0 +1,276 @@
+package util;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * scrypt (RFC 7914), algoritmo que exige memória além de CPU: cada hash ocupa
+ * 128 * r * 2^ln bytes (16 MiB com ln=14 e r=8), o que encarece ataques com GPU
+ * e hardware dedicado. Implementado sobre o PBKDF2 de {@link AlgoritmoPbkdf2},
+ * sem dependências externas.
+ * 
+ * Formato: "$scrypt$v=1$ln=LN,r=R,p=P$SALT$HASH" (salt e hash em Base64 sem padding).
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class AlgoritmoScrypt implements AlgoritmoSenha {
+    
+    private static final String PREFIXO = "$scrypt$v=1$";
+    private static final int TAMANHO_SALT = 16;
+    private static final int TAMANHO_HASH = 32;
+    
+    // Limites aceitos ao ler um hash, para um valor corrompido não alocar gigabytes
+    private static final int LN_MAXIMO = 24;
+    private static final int R_MAXIMO = 32;
+    private static final int P_MAXIMO = 16;
+    
+    private static final SecureRandom RANDOM = new SecureRandom();
+    private static final Base64.Encoder BASE64 = Base64.getEncoder().withoutPadding();
+    
+    private final int ln;
+    private final int r;
+    private final int p;
+    
+    /**
+     * @param ln log2 do custo de CPU e memória (N = 2^ln)
+     * @param r Tamanho do bloco
+     * @param p Paralelismo (blocos calculados em sequência)
+     */
+    public AlgoritmoScrypt(int ln, int r, int p) {
+        if (!parametrosValidos(ln, r, p)) {
+            throw new IllegalArgumentException("Parâmetros do scrypt inválidos: ln=" + ln + ", r=" + r + ", p=" + p);
+        }
+        this.ln = ln;
+        this.r = r;
+        this.p = p;
+    }
+    
+    @Override
+    public String getNome() {
+        return "scrypt";
+    }
+    
+    @Override
+    public boolean reconhece(String hash) {
+        // Estrutura completa: parâmetros no limite, salt e hash em Base64 com os tamanhos gerados
+        String[] partes = partes(hash);
+        return partes != null
+               && lerParametros(partes[0]) != null
+               && AlgoritmoPbkdf2.decodificar(partes[1], TAMANHO_SALT) != null
+               && AlgoritmoPbkdf2.decodificar(partes[2], TAMANHO_HASH) != null;
+    }
+    
+    @Override
+    public String criptografar(String senha) {
+        byte[] salt = new byte[TAMANHO_SALT];
+        RANDOM.nextBytes(salt);
+        byte[] hash = scrypt(senha, salt, ln, r, p, TAMANHO_HASH);
+        
+        return PREFIXO + "ln=" + ln + ",r=" + r + ",p=" + p + "$"
+               + BASE64.encodeToString(salt) + "$" + BASE64.encodeToString(hash);
+    }
+    
+    @Override
+    public boolean verificar(String senha, String hash) {
+        String[] partes = partes(hash);
+        int[] parametros = partes != null ? lerParametros(partes[0]) : null;
+        if (parametros == null) {
+            return false;
+        }
+        byte[] salt = AlgoritmoPbkdf2.decodificar(partes[1], TAMANHO_SALT);
+        byte[] esperado = AlgoritmoPbkdf2.decodificar(partes[2], TAMANHO_HASH);
+        if (salt == null || esperado == null) {
+            return false;
+        }
+        byte[] calculado = scrypt(senha, salt, parametros[0], parametros[1], parametros[2], esperado.length);
+        return MessageDigest.isEqual(esperado, calculado);
+    }
+    
+    @Override
+    public boolean precisaRehash(String hash) {
+        String[] partes = partes(hash);
+        int[] parametros = partes != null ? lerParametros(partes[0]) : null;
+        return parametros == null || parametros[0] < ln || parametros[1] < r || parametros[2] < p;
+    }
+    
+    @Override
+    public String toString() {
+        return "scrypt (ln=" + ln + ", r=" + r + ", p=" + p + ")";
+    }
+    
+    /**
+     * Separa os parâmetros, o salt e o hash do texto após o prefixo.
+     */
+    private static String[] partes(String hash) {
+        if (hash == null || !hash.startsWith(PREFIXO)) {
+            return null;
+        }
+        String[] partes = hash.substring(PREFIXO.length()).split("\\$");
+        return partes.length == 3 ? partes : null;
+    }
+    
+    /**
+     * Lê "ln=14,r=8,p=1".
+     * 
+     * @return {ln, r, p} ou null se inválidos
+     */
+    private static int[] lerParametros(String texto) {
+        String[] itens = texto.split(",");
+        if (itens.length != 3 || !itens[0].startsWith("ln=") || !itens[1].startsWith("r=") || !itens[2].startsWith("p=")) {
+            return null;
+        }
+        try {
+            int ln = Integer.parseInt(itens[0], 3, itens[0].length(), 10);
+            int r = Integer.parseInt(itens[1], 2, itens[1].length(), 10);
+            int p = Integer.parseInt(itens[2], 2, itens[2].length(), 10);
+            return parametrosValidos(ln, r, p) ? new int[] { ln, r, p } : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+    
+    private static boolean parametrosValidos(int ln, int r, int p) {
+        return ln >= 1 && ln <= LN_MAXIMO && r >= 1 && r <= R_MAXIMO && p >= 1 && p <= P_MAXIMO;
+    }
+    
+    // ==================== SCRYPT ====================
+    
+    /**
+     * Calcula o scrypt: B = PBKDF2(senha, salt, 1, p * 128 * r); cada bloco de B
+     * passa pelo ROMix; o resultado é PBKDF2(senha, B, 1, tamanho).
+     */
+    static byte[] scrypt(String senha, byte[] salt, int ln, int r, int p, int tamanho) {
+        byte[] bytesSenha = senha.getBytes(StandardCharsets.UTF_8);
+        int tamanhoBloco = 128 * r;
+        byte[] b = new byte[p * tamanhoBloco];
+        byte[] saida = new byte[tamanho];
+        
+        try {
+            AlgoritmoPbkdf2.derivar(bytesSenha, salt, 1, b);
+            
+            int n = 1 << ln;
+            int[] x = new int[32 * r];
+            int[] y = new int[32 * r];
+            int[] v = new int[32 * r * n];
+            int[] bloco = new int[16];
+            int[] trabalho = new int[16];
+            for (int i = 0; i < p; i++) {
+                romix(b, i * tamanhoBloco, r, n, x, y, v, bloco, trabalho);
+            }
+            AlgoritmoPbkdf2.derivar(bytesSenha, b, 1, saida);
+            return saida;
+        } finally {
+            Arrays.fill(bytesSenha, (byte) 0);
+            Arrays.fill(b, (byte) 0);
+        }
+    }
+    
+    /**
+     * ROMix sobre o bloco de 128 * r bytes que começa em inicio, no próprio array.
+     */
+    private static void romix(byte[] b, int inicio, int r, int n, int[] x, int[] y, int[] v,
+                              int[] bloco, int[] trabalho) {
+        int palavras = 32 * r;
+        
+        // Bytes em little-endian
+        for (int k = 0; k < palavras; k++) {
+            int posicao = inicio + k * 4;
+            x[k] = (b[posicao] & 0xff) | (b[posicao + 1] & 0xff) << 8
+                   | (b[posicao + 2] & 0xff) << 16 | (b[posicao + 3] & 0xff) << 24;
+        }
+        
+        // V[i] = X; X = BlockMix(X)
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(x, 0, v, i * palavras, palavras);
+            blockMix(x, y, r, bloco, trabalho);
+        }
+        
+        // j = Integerify(X) mod N; X = BlockMix(X ^ V[j])
+        for (int i = 0; i < n; i++) {
+            int j = x[(2 * r - 1) * 16] & (n - 1);
+            int base = j * palavras;
+            for (int k = 0; k < palavras; k++) {
+                x[k] ^= v[base + k];
+            }
+            blockMix(x, y, r, bloco, trabalho);
+        }
+        
+        for (int k = 0; k < palavras; k++) {
+            int posicao = inicio + k * 4;
+            b[posicao] = (byte) x[k];
+            b[posicao + 1] = (byte) (x[k] >>> 8);
+            b[posicao + 2] = (byte) (x[k] >>> 16);
+            b[posicao + 3] = (byte) (x[k] >>> 24);
+        }
+    }
+    
+    /**
+     * BlockMix com Salsa20/8 sobre os 2r blocos de 16 palavras de x; os blocos pares
+     * do resultado vão para a primeira metade e os ímpares para a segunda.
+     */
+    private static void blockMix(int[] x, int[] y, int r, int[] bloco, int[] trabalho) {
+        System.arraycopy(x, (2 * r - 1) * 16, bloco, 0, 16);
+        
+        for (int i = 0; i < 2 * r; i++) {
+            for (int k = 0; k < 16; k++) {
+                bloco[k] ^= x[i * 16 + k];
+            }
+            salsa20_8(bloco, trabalho);
+            System.arraycopy(bloco, 0, y, (i / 2 + (i % 2) * r) * 16, 16);
+        }
+        System.arraycopy(y, 0, x, 0, 32 * r);
+    }
+    
+    /**
+     * Função central do Salsa20 com 8 rodadas, aplicada em bloco.
+     */
+    private static void salsa20_8(int[] bloco, int[] x) {
+        System.arraycopy(bloco, 0, x, 0, 16);
+        
+        for (int i = 8; i > 0; i -= 2) {
+            // Colunas
+            x[4] ^= Integer.rotateLeft(x[0] + x[12], 7);
+            x[8] ^= Integer.rotateLeft(x[4] + x[0], 9);
+            x[12] ^= Integer.rotateLeft(x[8] + x[4], 13);
+            x[0] ^= Integer.rotateLeft(x[12] + x[8], 18);
+            x[9] ^= Integer.rotateLeft(x[5] + x[1], 7);
+            x[13] ^= Integer.rotateLeft(x[9] + x[5], 9);
+            x[1] ^= Integer.rotateLeft(x[13] + x[9], 13);
+            x[5] ^= Integer.rotateLeft(x[1] + x[13], 18);
+            x[14] ^= Integer.rotateLeft(x[10] + x[6], 7);
+            x[2] ^= Integer.rotateLeft(x[14] + x[10], 9);
+            x[6] ^= Integer.rotateLeft(x[2] + x[14], 13);
+            x[10] ^= Integer.rotateLeft(x[6] + x[2], 18);
+            x[3] ^= Integer.rotateLeft(x[15] + x[11], 7);
+            x[7] ^= Integer.rotateLeft(x[3] + x[15], 9);
+            x[11] ^= Integer.rotateLeft(x[7] + x[3], 13);
+            x[15] ^= Integer.rotateLeft(x[11] + x[7], 18);
+            
+            // Linhas
+            x[1] ^= Integer.rotateLeft(x[0] + x[3], 7);
+            x[2] ^= Integer.rotateLeft(x[1] + x[0], 9);
+            x[3] ^= Integer.rotateLeft(x[2] + x[1], 13);
+            x[0] ^= Integer.rotateLeft(x[3] + x[2], 18);
+            x[6] ^= Integer.rotateLeft(x[5] + x[4], 7);
+            x[7] ^= Integer.rotateLeft(x[6] + x[5], 9);
+            x[4] ^= Integer.rotateLeft(x[7] + x[6], 13);
+            x[5] ^= Integer.rotateLeft(x[4] + x[7], 18);
+            x[11] ^= Integer.rotateLeft(x[10] + x[9], 7);
+            x[8] ^= Integer.rotateLeft(x[11] + x[10], 9);
+            x[9] ^= Integer.rotateLeft(x[8] + x[11], 13);
+            x[10] ^= Integer.rotateLeft(x[9] + x[8], 18);
+            x[12] ^= Integer.rotateLeft(x[15] + x[14], 7);
+            x[13] ^= Integer.rotateLeft(x[12] + x[15], 9);
+            x[14] ^= Integer.rotateLeft(x[13] + x[12], 13);
+            x[15] ^= Integer.rotateLeft(x[14] + x[13], 18);
+        }
+        
+        for (int k = 0; k < 16; k++) {
+            bloco[k] += x[k];
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package util;
+
+/**
+ * Algoritmo de hash de senhas.
+ * 
+ * Cada hash gerado descreve a si mesmo: começa por um prefixo que identifica o
+ * algoritmo e a versão do formato, seguido dos parâmetros, do salt e do hash
+ * (ex.: "$2a$10$...", "$pbkdf2-sha256$v=1$i=600000$salt$hash"). Assim hashes de
+ * algoritmos e parâmetros diferentes convivem no banco e cada um é verificado
+ * com o algoritmo que declara.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public interface AlgoritmoSenha {
+    
+    /**
+     * @return Nome do algoritmo (ex.: "bcrypt"), usado em -Dsenha.algoritmo
+     */
+    String getNome();
+    
+    /**
+     * Verifica, sem expressão regular, se o hash foi gerado por este algoritmo: além do
+     * prefixo, confere a estrutura completa (parâmetros, salt e hash), para que um texto
+     * qualquer que apenas comece pelo prefixo não seja tomado por um hash.
+     * 
+     * @param hash Hash armazenado (pode ser null)
+     * @return true se o hash pertence a este algoritmo
+     */
+    boolean reconhece(String hash);
+    
+    /**
+     * Gera o hash de uma senha com salt aleatório e os parâmetros configurados.
+     * 
+     * @param senha Senha em texto plano (não vazia)
+     * @return Hash no formato do algoritmo
+     */
+    String criptografar(String senha);
+    
+    /**
+     * Verifica uma senha contra um hash deste algoritmo.
+     * 
+     * @param senha Senha em texto plano
+     * @param hash Hash armazenado
+     * @return true se a senha confere; false também se o hash estiver malformado
+     */
+    boolean verificar(String senha, String hash);
+    
+    /**
+     * @param hash Hash deste algoritmo
+     * @return true se o hash foi gerado com parâmetros mais fracos que os configurados
+     *         (parâmetros mais fortes, ex.: de um host mais rápido, são mantidos)
+     */
+    boolean precisaRehash(String hash);
+}
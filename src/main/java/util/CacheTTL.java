@@ -0,0 +1,172 @@
+package util;
+
+import java.sql.SQLException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Cache de um único valor com tempo de vida (TTL) e atualização antecipada.
+ * 
+ * Dentro do TTL o valor é devolvido sem consultar a origem. Quando passa da fração
+ * de atualização antecipada, o valor atual ainda é devolvido e uma recarga é disparada
+ * em segundo plano, para que o próximo acesso não espere pelo banco.
+ * Após o TTL (ou após invalidar()), o acesso recarrega de forma síncrona.
+ * 
+ * A recarga síncrona usa ReentrantLock em vez de synchronized: a consulta ao banco
+ * acontece com a trava ocupada e, em threads virtuais (API HTTP), um monitor
+ * prenderia a thread de plataforma durante toda a consulta.
+ * 
+ * @param <T> Tipo do valor armazenado
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class CacheTTL<T> {
+    
+    /**
+     * Origem dos dados do cache.
+     * 
+     * @param <T> Tipo do valor carregado
+     */
+    @FunctionalInterface
+    public interface Carregador<T> {
+        T carregar() throws SQLException;
+    }
+    
+    // Thread compartilhada pelas recargas em segundo plano de todos os caches
+    private static final ExecutorService RECARGA = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "cache-ttl-recarga");
+        t.setDaemon(true);
+        return t;
+    });
+    
+    private final Carregador<T> carregador;
+    private final long ttlMs;
+    private final long atualizacaoAntecipadaMs;
+    
+    private volatile Entrada<T> entrada;
+    private volatile long geracao;
+    private final AtomicBoolean recarregando = new AtomicBoolean(false);
+    private final ReentrantLock trava = new ReentrantLock();
+    
+    /**
+     * Cria um cache vazio.
+     * 
+     * @param carregador Origem dos dados
+     * @param ttlMs Tempo de vida do valor em milissegundos
+     * @param fracaoAtualizacaoAntecipada Fração do TTL (0 a 1) a partir da qual a recarga
+     *                                    em segundo plano é disparada
+     */
+    public CacheTTL(Carregador<T> carregador, long ttlMs, double fracaoAtualizacaoAntecipada) {
+        if (fracaoAtualizacaoAntecipada <= 0 || fracaoAtualizacaoAntecipada > 1) {
+            throw new IllegalArgumentException("Fração de atualização antecipada deve estar em (0, 1]");
+        }
+        this.carregador = carregador;
+        this.ttlMs = ttlMs;
+        this.atualizacaoAntecipadaMs = (long) (ttlMs * fracaoAtualizacaoAntecipada);
+    }
+    
+    /**
+     * Retorna o valor em cache, recarregando se expirado ou ausente.
+     * 
+     * @return Valor atual
+     * @throws SQLException Se a recarga síncrona falhar
+     */
+    public T obter() throws SQLException {
+        Entrada<T> atual = entrada;
+        long agora = System.currentTimeMillis();
+        
+        if (atual != null && atual.geracao == geracao) {
+            long idade = agora - atual.carregadoEm;
+            if (idade < ttlMs) {
+                if (idade >= atualizacaoAntecipadaMs) {
+                    recarregarEmSegundoPlano();
+                }
+                return atual.valor;
+            }
+        }
+        
+        return recarregar();
+    }
+    
+    /**
+     * Descarta o valor em cache. O próximo acesso recarrega da origem
+     * e recargas em andamento iniciadas antes da invalidação são ignoradas.
+     */
+    public void invalidar() {
+        trava.lock();
+        try {
+            geracao++;
+            entrada = null;
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    /**
+     * Recarrega de forma síncrona; acessos concorrentes aguardam a mesma carga.
+     */
+    private T recarregar() throws SQLException {
+        trava.lock();
+        try {
+            // Outra thread pode ter recarregado enquanto esta aguardava o lock
+            Entrada<T> atual = entrada;
+            if (atual != null && atual.geracao == geracao
+                    && System.currentTimeMillis() - atual.carregadoEm < ttlMs) {
+                return atual.valor;
+            }
+            
+            long geracaoCarga = geracao;
+            T valor = carregador.carregar();
+            entrada = new Entrada<>(valor, System.currentTimeMillis(), geracaoCarga);
+            return valor;
+        } finally {
+            trava.unlock();
+        }
+    }
+    
+    /**
+     * Dispara uma recarga assíncrona se nenhuma estiver em andamento.
+     */
+    private void recarregarEmSegundoPlano() {
+        if (!recarregando.compareAndSet(false, true)) {
+            return;
+        }
+        
+        long geracaoCarga = geracao;
+        RECARGA.execute(() -> {
+            try {
+                T valor = carregador.carregar();
+                trava.lock();
+                try {
+                    // Descarta o resultado se o cache foi invalidado durante a carga
+                    if (geracao == geracaoCarga) {
+                        entrada = new Entrada<>(valor, System.currentTimeMillis(), geracaoCarga);
+                    }
+                } finally {
+                    trava.unlock();
+                }
+            } catch (SQLException | RuntimeException e) {
+                System.err.println("✗ Falha ao recarregar cache em segundo plano: " + e.getMessage());
+            } finally {
+                recarregando.set(false);
+            }
+        });
+    }
+    
+    /**
+     * Valor armazenado com o instante e a geração em que foi carregado.
+     */
+    private static final class Entrada<T> {
+        final T valor;
+        final long carregadoEm;
+        final long geracao;
+        
+        Entrada(T valor, long carregadoEm, long geracao) {
+            this.valor = valor;
+            this.carregadoEm = carregadoEm;
+            this.geracao = geracao;
+        }
+    }
+}
@@ -0,0 +1,225 @@
+package util;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Executor dedicado ao BCrypt (hash e verificação de senhas).
+ * 
+ * O BCrypt ocupa um núcleo por dezenas de milissegundos a cada chamada; executado na
+ * thread de quem chama, uma rajada de logins ocupa todos os núcleos e atrasa o resto
+ * do processo. Aqui as chamadas rodam em um número fixo de threads (um núcleo fica
+ * livre para o restante da aplicação) com fila limitada: com a fila cheia a tarefa é
+ * recusada na hora com {@link SobrecargaException}, em vez de acumular espera.
+ * 
+ * Configurável por propriedades de sistema: senha.threads (padrão: núcleos - 1, mínimo 1)
+ * e senha.fila (padrão: 16 tarefas por thread). Expõe métricas via JMX
+ * (ver {@link ExecutorSenhasMXBean}).
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class ExecutorSenhas implements ExecutorSenhasMXBean {
+    
+    private static final int THREADS_PADRAO = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+    private static final int FILA_POR_THREAD = 16;
+    
+    private final int threads;
+    private final int capacidadeFila;
+    private final ThreadPoolExecutor executor;
+    
+    // Métricas
+    private final Histograma espera = new Histograma();
+    private final Histograma duracao = new Histograma();
+    private final LongAdder concluidas = new LongAdder();
+    private final LongAdder recusadas = new LongAdder();
+    
+    /**
+     * Cria o executor com as threads e a fila informadas.
+     * 
+     * @param threads Quantidade de threads
+     * @param capacidadeFila Quantidade máxima de tarefas aguardando
+     */
+    public ExecutorSenhas(int threads, int capacidadeFila) {
+        if (threads < 1 || capacidadeFila < 1) {
+            throw new IllegalArgumentException("Executor de senhas inválido: threads=" + threads
+                                               + ", fila=" + capacidadeFila);
+        }
+        this.threads = threads;
+        this.capacidadeFila = capacidadeFila;
+        
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacidadeFila),
+                r -> {
+                    Thread t = new Thread(r, "senhas-" + contador.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+    
+    /**
+     * @return Instância compartilhada pela aplicação, registrada no JMX
+     */
+    public static ExecutorSenhas getInstancia() {
+        return Instancia.EXECUTOR;
+    }
+    
+    private static class Instancia {
+        static final ExecutorSenhas EXECUTOR = criar();
+        
+        private static ExecutorSenhas criar() {
+            int threads = Integer.getInteger("senha.threads", THREADS_PADRAO);
+            int fila = Integer.getInteger("senha.fila", threads * FILA_POR_THREAD);
+            ExecutorSenhas executor = new ExecutorSenhas(threads, fila);
+            executor.registrarMBean();
+            return executor;
+        }
+    }
+    
+    // ==================== EXECUÇÃO ====================
+    
+    /**
+     * Agenda uma tarefa de BCrypt.
+     * 
+     * @param <T> Tipo do resultado
+     * @param tarefa Hash ou verificação
+     * @return Resultado; falha com SobrecargaException se a fila estiver cheia
+     */
+    public <T> CompletableFuture<T> executar(Supplier<T> tarefa) {
+        CompletableFuture<T> resultado = new CompletableFuture<>();
+        long enfileiradaEm = System.nanoTime();
+        
+        try {
+            executor.execute(() -> {
+                long inicio = System.nanoTime();
+                espera.registrar(inicio - enfileiradaEm);
+                
+                // Quem desistiu (ex.: cadastro recusado por email duplicado) não gasta CPU
+                if (resultado.isDone()) {
+                    return;
+                }
+                try {
+                    resultado.complete(tarefa.get());
+                } catch (RuntimeException | Error e) {
+                    resultado.completeExceptionally(e);
+                } finally {
+                    duracao.registrar(System.nanoTime() - inicio);
+                    concluidas.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            recusadas.increment();
+            resultado.completeExceptionally(new SobrecargaException(
+                    "Muitas operações de senha simultâneas (" + getProfundidadeFila() + " na fila). Tente novamente em instantes."));
+        }
+        return resultado;
+    }
+    
+    // ==================== JMX ====================
+    
+    /**
+     * Registra o executor no MBeanServer da plataforma como "util:type=ExecutorSenhas".
+     * Falhas de registro apenas são registradas no log.
+     */
+    public void registrarMBean() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objeto = new ObjectName("util:type=ExecutorSenhas");
+            if (!servidor.isRegistered(objeto)) {
+                servidor.registerMBean(this, objeto);
+            }
+        } catch (JMException e) {
+            System.err.println("✗ Não foi possível registrar o MBean do executor de senhas: " + e.getMessage());
+        }
+    }
+    
+    // ==================== MÉTRICAS (ExecutorSenhasMXBean) ====================
+    
+    @Override
+    public int getThreads() {
+        return threads;
+    }
+    
+    @Override
+    public int getEmExecucao() {
+        return executor.getActiveCount();
+    }
+    
+    @Override
+    public int getProfundidadeFila() {
+        return executor.getQueue().size();
+    }
+    
+    @Override
+    public int getCapacidadeFila() {
+        return capacidadeFila;
+    }
+    
+    @Override
+    public long getConcluidas() {
+        return concluidas.sum();
+    }
+    
+    @Override
+    public long getRecusadas() {
+        return recusadas.sum();
+    }
+    
+    @Override
+    public double getEsperaMediaMs() {
+        return espera.getMediaMs();
+    }
+    
+    @Override
+    public double getEsperaP99Ms() {
+        return espera.getPercentilMs(99);
+    }
+    
+    @Override
+    public double getEsperaMaximaMs() {
+        return espera.getMaximoMs();
+    }
+    
+    @Override
+    public double getHashMedioMs() {
+        return duracao.getMediaMs();
+    }
+    
+    @Override
+    public double getHashP99Ms() {
+        return duracao.getPercentilMs(99);
+    }
+    
+    @Override
+    public double getHashMaximoMs() {
+        return duracao.getMaximoMs();
+    }
+    
+    @Override
+    public void limparHistogramas() {
+        espera.limpar();
+        duracao.limpar();
+    }
+    
+    @Override
+    public String getResumo() {
+        return "Executor de senhas:\n" +
+               "  Threads: " + threads + ", em execução=" + getEmExecucao()
+               + ", fila=" + getProfundidadeFila() + "/" + capacidadeFila + "\n" +
+               "  Espera na fila: " + espera.getResumo() + "\n" +
+               "  BCrypt: " + duracao.getResumo() + "\n" +
+               "  Concluídas: " + getConcluidas() + ", recusadas: " + getRecusadas();
+    }
+}
@@ -0,0 +1,89 @@
+package util;
+
+/**
+ * Interface de monitoramento (JMX) do executor de BCrypt.
+ * Visível em ferramentas como JConsole e VisualVM sob o domínio "util".
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public interface ExecutorSenhasMXBean {
+    
+    // ==================== OCUPAÇÃO ====================
+    
+    /**
+     * @return Quantidade de threads dedicadas ao BCrypt
+     */
+    int getThreads();
+    
+    /**
+     * @return Tarefas em execução no momento
+     */
+    int getEmExecucao();
+    
+    /**
+     * @return Tarefas aguardando na fila
+     */
+    int getProfundidadeFila();
+    
+    /**
+     * @return Capacidade da fila (acima dela as tarefas são recusadas)
+     */
+    int getCapacidadeFila();
+    
+    // ==================== CONTADORES ====================
+    
+    /**
+     * @return Quantidade de tarefas concluídas
+     */
+    long getConcluidas();
+    
+    /**
+     * @return Quantidade de tarefas recusadas por fila cheia
+     */
+    long getRecusadas();
+    
+    // ==================== TEMPOS ====================
+    
+    /**
+     * @return Tempo médio na fila antes de executar (ms)
+     */
+    double getEsperaMediaMs();
+    
+    /**
+     * @return Percentil 99 do tempo na fila (ms)
+     */
+    double getEsperaP99Ms();
+    
+    /**
+     * @return Maior tempo na fila (ms)
+     */
+    double getEsperaMaximaMs();
+    
+    /**
+     * @return Tempo médio de um hash ou verificação (ms)
+     */
+    double getHashMedioMs();
+    
+    /**
+     * @return Percentil 99 do tempo de um hash ou verificação (ms)
+     */
+    double getHashP99Ms();
+    
+    /**
+     * @return Maior tempo de um hash ou verificação (ms)
+     */
+    double getHashMaximoMs();
+    
+    // ==================== OPERAÇÕES ====================
+    
+    /**
+     * @return Resumo textual de todas as métricas
+     */
+    String getResumo();
+    
+    /**
+     * Zera os histogramas de tempo.
+     */
+    void limparHistogramas();
+}
@@ -0,0 +1,361 @@
+package util;
+
+import model.Usuario;
+import model.Usuario.Perfil;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Emite e valida as sessões dos usuários autenticados.
+ * 
+ * Após o login, o usuário recebe um token opaco (32 bytes aleatórios em Base64). As
+ * operações seguintes apresentam a sessão e são autorizadas pelo ID e perfil guardados
+ * nela: uma consulta ao mapa em memória, sem BCrypt e sem acesso ao banco.
+ * 
+ * A expiração é deslizante: a sessão expira após o tempo configurado sem uso. Para
+ * não gravar a cada validação, o último acesso só é atualizado quando avança ao menos
+ * {@value #RESOLUCAO_ACESSO_MS} ms. As sessões expiradas são descartadas ao serem
+ * apresentadas e, periodicamente, por uma varredura feita por quem cria ou valida.
+ * 
+ * Um índice por usuário permite encerrar todas as sessões de um usuário quando a senha
+ * ou o perfil dele muda ou quando ele é excluído (ver UsuarioDAO). Emissão e
+ * encerramento de sessões de um mesmo usuário são atômicos entre si.
+ * 
+ * Configurável pela propriedade de sistema sessao.expiracaoMs (padrão: 30 min).
+ * Expõe métricas via JMX (ver {@link GerenciadorSessoesMXBean}).
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class GerenciadorSessoes implements GerenciadorSessoesMXBean {
+    
+    private static final int BYTES_TOKEN = 32;
+    private static final long RESOLUCAO_ACESSO_MS = 1_000;
+    
+    private static final SecureRandom ALEATORIO = new SecureRandom();
+    private static final Base64.Encoder CODIFICADOR = Base64.getUrlEncoder().withoutPadding();
+    
+    private final long expiracaoMs;
+    private final long intervaloLimpezaMs;
+    private final LongSupplier relogio;
+    
+    private final ConcurrentHashMap<String, Sessao> sessoes = new ConcurrentHashMap<>();
+    
+    // Tokens por usuário; cada conjunto só é lido e alterado dentro de compute
+    private final ConcurrentHashMap<Integer, Set<String>> porUsuario = new ConcurrentHashMap<>();
+    
+    private final AtomicBoolean limpando = new AtomicBoolean(false);
+    private final AtomicLong proximaLimpeza;
+    
+    // Métricas
+    private final LongAdder criadas = new LongAdder();
+    private final LongAdder validadas = new LongAdder();
+    private final LongAdder recusadas = new LongAdder();
+    private final LongAdder invalidadas = new LongAdder();
+    private final LongAdder expiradas = new LongAdder();
+    
+    /**
+     * Cria o gerenciador.
+     * 
+     * @param expiracaoMs Tempo sem uso após o qual a sessão expira, em milissegundos
+     */
+    public GerenciadorSessoes(long expiracaoMs) {
+        this(expiracaoMs, () -> System.nanoTime() / 1_000_000);
+    }
+    
+    /**
+     * Cria o gerenciador com um relógio próprio (em milissegundos), para simular a passagem do tempo.
+     */
+    GerenciadorSessoes(long expiracaoMs, LongSupplier relogio) {
+        if (expiracaoMs < 1) {
+            throw new IllegalArgumentException("Expiração de sessão inválida: " + expiracaoMs);
+        }
+        this.expiracaoMs = expiracaoMs;
+        this.intervaloLimpezaMs = Math.max(RESOLUCAO_ACESSO_MS, expiracaoMs / 4);
+        this.relogio = relogio;
+        this.proximaLimpeza = new AtomicLong(relogio.getAsLong() + intervaloLimpezaMs);
+    }
+    
+    /**
+     * @return Instância compartilhada pela aplicação, registrada no JMX
+     */
+    public static GerenciadorSessoes getInstancia() {
+        return Instancia.GERENCIADOR;
+    }
+    
+    private static class Instancia {
+        static final GerenciadorSessoes GERENCIADOR = criar();
+        
+        private static GerenciadorSessoes criar() {
+            GerenciadorSessoes gerenciador = new GerenciadorSessoes(
+                    Long.getLong("sessao.expiracaoMs", 30 * 60_000L));
+            gerenciador.registrarMBean();
+            return gerenciador;
+        }
+    }
+    
+    // ==================== SESSÕES ====================
+    
+    /**
+     * Emite uma sessão para um usuário recém-autenticado.
+     * 
+     * @param usuario Usuário autenticado (com ID e perfil)
+     * @return Nova sessão
+     */
+    public Sessao criar(Usuario usuario) {
+        long agora = relogio.getAsLong();
+        Sessao sessao = new Sessao(gerarToken(), usuario.getId(), usuario.getPerfil(), agora);
+        
+        porUsuario.compute(sessao.getUsuarioId(), (id, tokens) -> {
+            if (tokens == null) {
+                tokens = new HashSet<>();
+            }
+            tokens.add(sessao.getToken());
+            sessoes.put(sessao.getToken(), sessao);
+            return tokens;
+        });
+        criadas.increment();
+        
+        limparSeNecessario(agora);
+        return sessao;
+    }
+    
+    /**
+     * Valida um token apresentado e renova a expiração da sessão.
+     * 
+     * @param token Token recebido do cliente
+     * @return Sessão ativa ou null se o token for desconhecido, encerrado ou expirado
+     */
+    public Sessao validar(String token) {
+        if (token == null || token.isEmpty()) {
+            recusadas.increment();
+            return null;
+        }
+        
+        long agora = relogio.getAsLong();
+        limparSeNecessario(agora);
+        
+        Sessao sessao = sessoes.get(token);
+        if (sessao == null) {
+            recusadas.increment();
+            return null;
+        }
+        if (isExpirada(sessao, agora)) {
+            if (remover(sessao)) {
+                expiradas.increment();
+            }
+            recusadas.increment();
+            return null;
+        }
+        
+        if (agora - sessao.getUltimoAcesso() >= RESOLUCAO_ACESSO_MS) {
+            sessao.setUltimoAcesso(agora);
+        }
+        validadas.increment();
+        return sessao;
+    }
+    
+    /**
+     * Valida uma sessão mantida pelo cliente (ex.: pela tela principal).
+     * 
+     * @param sessao Sessão obtida no login (pode ser null)
+     * @return A mesma sessão, se ainda ativa; senão, null
+     */
+    public Sessao validar(Sessao sessao) {
+        return validar(sessao == null ? null : sessao.getToken());
+    }
+    
+    /**
+     * Encerra uma sessão (logout).
+     * 
+     * @param sessao Sessão a encerrar (pode ser null)
+     */
+    public void encerrar(Sessao sessao) {
+        if (sessao != null) {
+            remover(sessao);
+        }
+    }
+    
+    /**
+     * Encerra todas as sessões de um usuário. Deve ser chamado sempre que a senha ou o
+     * perfil do usuário mudar ou quando ele for excluído.
+     * 
+     * @param usuarioId ID do usuário
+     * @return Quantidade de sessões encerradas
+     */
+    public int invalidarUsuario(int usuarioId) {
+        int[] encerradas = { 0 };
+        porUsuario.computeIfPresent(usuarioId, (id, tokens) -> {
+            for (String token : tokens) {
+                if (sessoes.remove(token) != null) {
+                    encerradas[0]++;
+                }
+            }
+            return null;
+        });
+        invalidadas.add(encerradas[0]);
+        return encerradas[0];
+    }
+    
+    /**
+     * Encerra as sessões do usuário cujo perfil guardado difere do atual.
+     * 
+     * @param usuarioId ID do usuário
+     * @param perfil Perfil gravado no banco
+     * @return Quantidade de sessões encerradas
+     */
+    public int invalidarUsuarioSePerfilMudou(int usuarioId, Perfil perfil) {
+        int[] encerradas = { 0 };
+        porUsuario.computeIfPresent(usuarioId, (id, tokens) -> {
+            tokens.removeIf(token -> {
+                Sessao sessao = sessoes.get(token);
+                if (sessao == null || sessao.getPerfil() != perfil) {
+                    if (sessoes.remove(token) != null) {
+                        encerradas[0]++;
+                    }
+                    return true;
+                }
+                return false;
+            });
+            return tokens.isEmpty() ? null : tokens;
+        });
+        invalidadas.add(encerradas[0]);
+        return encerradas[0];
+    }
+    
+    private boolean remover(Sessao sessao) {
+        boolean[] removida = { false };
+        porUsuario.computeIfPresent(sessao.getUsuarioId(), (id, tokens) -> {
+            tokens.remove(sessao.getToken());
+            removida[0] = sessoes.remove(sessao.getToken(), sessao);
+            return tokens.isEmpty() ? null : tokens;
+        });
+        return removida[0];
+    }
+    
+    private boolean isExpirada(Sessao sessao, long agora) {
+        return agora - sessao.getUltimoAcesso() > expiracaoMs;
+    }
+    
+    private static String gerarToken() {
+        byte[] bytes = new byte[BYTES_TOKEN];
+        ALEATORIO.nextBytes(bytes);
+        return CODIFICADOR.encodeToString(bytes);
+    }
+    
+    // ==================== LIMPEZA ====================
+    
+    /**
+     * Descarta as sessões expiradas a cada quarto do tempo de expiração.
+     * Apenas uma thread limpa por vez; as demais seguem sem esperar.
+     */
+    private void limparSeNecessario(long agora) {
+        long proxima = proximaLimpeza.get();
+        if (agora < proxima || !proximaLimpeza.compareAndSet(proxima, agora + intervaloLimpezaMs)) {
+            return;
+        }
+        if (!limpando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            for (Sessao sessao : sessoes.values()) {
+                if (isExpirada(sessao, agora) && remover(sessao)) {
+                    expiradas.increment();
+                }
+            }
+        } finally {
+            limpando.set(false);
+        }
+    }
+    
+    // ==================== JMX ====================
+    
+    /**
+     * Registra o gerenciador no MBeanServer da plataforma como "util:type=GerenciadorSessoes".
+     * Falhas de registro apenas são registradas no log.
+     */
+    public void registrarMBean() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objeto = new ObjectName("util:type=GerenciadorSessoes");
+            if (!servidor.isRegistered(objeto)) {
+                servidor.registerMBean(this, objeto);
+            }
+        } catch (JMException e) {
+            System.err.println("✗ Não foi possível registrar o MBean de sessões: " + e.getMessage());
+        }
+    }
+    
+    // ==================== MÉTRICAS (GerenciadorSessoesMXBean) ====================
+    
+    @Override
+    public int getSessoesAtivas() {
+        return sessoes.size();
+    }
+    
+    @Override
+    public int getUsuariosComSessao() {
+        return porUsuario.size();
+    }
+    
+    @Override
+    public long getTempoExpiracaoMs() {
+        return expiracaoMs;
+    }
+    
+    @Override
+    public long getCriadas() {
+        return criadas.sum();
+    }
+    
+    @Override
+    public long getValidadas() {
+        return validadas.sum();
+    }
+    
+    @Override
+    public long getRecusadas() {
+        return recusadas.sum();
+    }
+    
+    @Override
+    public long getInvalidadas() {
+        return invalidadas.sum();
+    }
+    
+    @Override
+    public long getExpiradas() {
+        return expiradas.sum();
+    }
+    
+    @Override
+    public void encerrarTodas() {
+        for (Integer usuarioId : porUsuario.keySet()) {
+            porUsuario.computeIfPresent(usuarioId, (id, tokens) -> {
+                tokens.forEach(sessoes::remove);
+                return null;
+            });
+        }
+    }
+    
+    @Override
+    public String getResumo() {
+        return "Sessões:\n" +
+               "  Ativas: " + getSessoesAtivas() + " de " + getUsuariosComSessao() + " usuários, expiração="
+               + expiracaoMs / 1000 + "s\n" +
+               "  Criadas: " + getCriadas() + ", validadas=" + getValidadas() + ", recusadas=" + getRecusadas() + "\n" +
+               "  Invalidadas: " + getInvalidadas() + ", expiradas=" + getExpiradas();
+    }
+}
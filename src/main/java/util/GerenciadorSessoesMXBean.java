@@ -0,0 +1,67 @@
+package util;
+
+/**
+ * Interface de monitoramento (JMX) das sessões de usuários.
+ * Visível em ferramentas como JConsole e VisualVM sob o domínio "util".
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public interface GerenciadorSessoesMXBean {
+    
+    // ==================== OCUPAÇÃO ====================
+    
+    /**
+     * @return Sessões em memória (inclui as expiradas ainda não descartadas)
+     */
+    int getSessoesAtivas();
+    
+    /**
+     * @return Usuários com ao menos uma sessão
+     */
+    int getUsuariosComSessao();
+    
+    /**
+     * @return Tempo sem uso após o qual a sessão expira, em milissegundos
+     */
+    long getTempoExpiracaoMs();
+    
+    // ==================== CONTADORES ====================
+    
+    /**
+     * @return Sessões emitidas
+     */
+    long getCriadas();
+    
+    /**
+     * @return Validações de token aceitas
+     */
+    long getValidadas();
+    
+    /**
+     * @return Validações recusadas (token desconhecido, encerrado ou expirado)
+     */
+    long getRecusadas();
+    
+    /**
+     * @return Sessões encerradas por alteração ou exclusão do usuário
+     */
+    long getInvalidadas();
+    
+    /**
+     * @return Sessões descartadas por expiração
+     */
+    long getExpiradas();
+    
+    // ==================== OPERAÇÕES ====================
+    
+    /**
+     * @return Resumo textual de todas as métricas
+     */
+    String getResumo();
+    
+    /**
+     * Encerra todas as sessões (todos os usuários precisarão entrar novamente).
+     */
+    void encerrarTodas();
+}
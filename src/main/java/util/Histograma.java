@@ -0,0 +1,122 @@
+package util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histograma de durações seguro para uso concorrente e sem bloqueios.
+ * Agrupa as amostras em faixas de potência de 2 (em microssegundos),
+ * o que mantém memória fixa e permite estimar percentis com erro máximo de 2x.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class Histograma {
+    
+    // Faixa i contém durações até 2^i microssegundos (última faixa acumula o excedente)
+    private static final int QUANTIDADE_FAIXAS = 40;
+    
+    private final LongAdder[] faixas = new LongAdder[QUANTIDADE_FAIXAS];
+    private final LongAdder contagem = new LongAdder();
+    private final LongAdder somaNanos = new LongAdder();
+    private final LongAccumulator maximoNanos = new LongAccumulator(Long::max, 0);
+    
+    /**
+     * Cria um histograma vazio.
+     */
+    public Histograma() {
+        for (int i = 0; i < QUANTIDADE_FAIXAS; i++) {
+            faixas[i] = new LongAdder();
+        }
+    }
+    
+    /**
+     * Registra uma amostra.
+     * 
+     * @param nanos Duração em nanossegundos
+     */
+    public void registrar(long nanos) {
+        if (nanos < 0) {
+            nanos = 0;
+        }
+        
+        long micros = TimeUnit.NANOSECONDS.toMicros(nanos);
+        int indice = micros == 0 ? 0 : 64 - Long.numberOfLeadingZeros(micros);
+        faixas[Math.min(indice, QUANTIDADE_FAIXAS - 1)].increment();
+        
+        contagem.increment();
+        somaNanos.add(nanos);
+        maximoNanos.accumulate(nanos);
+    }
+    
+    /**
+     * @return Quantidade de amostras registradas
+     */
+    public long getContagem() {
+        return contagem.sum();
+    }
+    
+    /**
+     * @return Duração média em milissegundos
+     */
+    public double getMediaMs() {
+        long n = contagem.sum();
+        return n == 0 ? 0.0 : somaNanos.sum() / (double) n / 1_000_000.0;
+    }
+    
+    /**
+     * @return Maior duração registrada em milissegundos
+     */
+    public double getMaximoMs() {
+        return maximoNanos.get() / 1_000_000.0;
+    }
+    
+    /**
+     * Estima um percentil pelo limite superior da faixa correspondente.
+     * 
+     * @param percentil Percentil desejado (0 a 100)
+     * @return Duração estimada em milissegundos
+     */
+    public double getPercentilMs(double percentil) {
+        long total = contagem.sum();
+        if (total == 0) {
+            return 0.0;
+        }
+        
+        long alvo = (long) Math.ceil(total * percentil / 100.0);
+        long acumulado = 0;
+        
+        for (int i = 0; i < QUANTIDADE_FAIXAS; i++) {
+            acumulado += faixas[i].sum();
+            if (acumulado >= alvo) {
+                // Nunca informa um valor maior que o máximo real observado
+                return Math.min((1L << i) / 1000.0, getMaximoMs());
+            }
+        }
+        return getMaximoMs();
+    }
+    
+    /**
+     * Zera todas as amostras.
+     */
+    public void limpar() {
+        for (LongAdder faixa : faixas) {
+            faixa.reset();
+        }
+        contagem.reset();
+        somaNanos.reset();
+        maximoNanos.reset();
+    }
+    
+    /**
+     * Retorna um resumo das amostras em formato legível.
+     * 
+     * @return String com contagem, média, p50, p95, p99 e máximo
+     */
+    public String getResumo() {
+        return String.format("n=%d, média=%.2f ms, p50=%.2f ms, p95=%.2f ms, p99=%.2f ms, máx=%.2f ms",
+                             getContagem(), getMediaMs(), getPercentilMs(50), getPercentilMs(95),
+                             getPercentilMs(99), getMaximoMs());
+    }
+}
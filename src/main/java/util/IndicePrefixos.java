@@ -0,0 +1,435 @@
+package util;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Índice de prefixos para autocompletar: encontra os IDs cujo texto tem uma palavra
+ * que começa com o que foi digitado, em ordem alfabética, sem varrer todos os textos.
+ * 
+ * Cada entrada é um long (posição do texto + deslocamento da palavra) em um array
+ * ordenado pelo sufixo do texto a partir da palavra; a busca é uma busca binária
+ * seguida da leitura das entradas vizinhas. Inserções vão para um array auxiliar
+ * menor, mantido ordenado enquanto é pequeno e mesclado ao principal quando cresce
+ * (ou na próxima busca, após uma carga em lote); remoções apenas marcam o texto
+ * como removido até a próxima mescla.
+ * 
+ * Textos e prefixos são normalizados como em IndiceTrigramas (sem acentos e em minúsculas).
+ * Seguro para uso concorrente: buscas simultâneas não se bloqueiam; alterações são exclusivas.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class IndicePrefixos {
+    
+    // Até este tamanho o auxiliar é mantido ordenado a cada inserção; acima dele as
+    // inserções são apenas acrescentadas e o auxiliar é mesclado ao principal
+    private static final int AUXILIAR_MINIMO = 4096;
+    
+    // Textos por posição: normalizado (usado na ordenação) e original (para exibição)
+    private String[] normalizados = new String[16];
+    private String[] originais = new String[16];
+    private int[] idsPorPosicao = new int[16];
+    private int posicoes;
+    private final BitSet removidas = new BitSet();
+    private int quantidadeRemovidas;
+    private final Map<Integer, Integer> posicaoPorId = new HashMap<>();
+    
+    // Entradas ordenadas e entradas recentes (ordenadas apenas quando auxiliarOrdenado)
+    private long[] principal = new long[0];
+    private long[] auxiliar = new long[64];
+    private int tamanhoAuxiliar;
+    private boolean auxiliarOrdenado = true;
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    // ==================== ATUALIZAÇÃO ====================
+    
+    /**
+     * Associa (ou substitui) o texto de um ID. São indexados o início do texto
+     * e o início de cada palavra (após espaço ou quebra de linha).
+     * 
+     * @param id Identificador
+     * @param texto Texto a indexar (é devolvido por getTexto)
+     */
+    public void definir(int id, String texto) {
+        String original = texto == null ? "" : texto;
+        String normalizado = IndiceTrigramas.normalizar(original);
+        
+        lock.writeLock().lock();
+        try {
+            removerInterno(id);
+            
+            int posicao = novaPosicao(id, normalizado, original);
+            for (int i = 0; i < normalizado.length(); i++) {
+                if (!Character.isWhitespace(normalizado.charAt(i))
+                        && (i == 0 || Character.isWhitespace(normalizado.charAt(i - 1)))) {
+                    adicionarAuxiliar(entrada(posicao, i));
+                }
+            }
+            
+            if (tamanhoAuxiliar > Math.max(AUXILIAR_MINIMO, principal.length / 2)) {
+                mesclar();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove um ID do índice.
+     * 
+     * @param id Identificador
+     */
+    public void remover(int id) {
+        lock.writeLock().lock();
+        try {
+            removerInterno(id);
+            
+            // Evita que textos removidos ocupem mais memória que os válidos
+            if (quantidadeRemovidas > AUXILIAR_MINIMO && quantidadeRemovidas * 2 > posicoes) {
+                mesclar();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove todos os IDs.
+     */
+    public void limpar() {
+        lock.writeLock().lock();
+        try {
+            normalizados = new String[16];
+            originais = new String[16];
+            idsPorPosicao = new int[16];
+            posicoes = 0;
+            removidas.clear();
+            quantidadeRemovidas = 0;
+            posicaoPorId.clear();
+            principal = new long[0];
+            auxiliar = new long[64];
+            tamanhoAuxiliar = 0;
+            auxiliarOrdenado = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // ==================== CONSULTA ====================
+    
+    /**
+     * Retorna os primeiros IDs, em ordem alfabética da palavra encontrada, cujo
+     * texto tem uma palavra que começa com o prefixo (após normalização).
+     * 
+     * @param prefixo Início da palavra (pode conter espaços, ex.: "joao s")
+     * @param limite Quantidade máxima de IDs
+     * @return IDs encontrados, sem repetição
+     */
+    public int[] buscar(String prefixo, int limite) {
+        String normalizado = IndiceTrigramas.normalizar(prefixo).stripLeading();
+        if (normalizado.isEmpty() || limite <= 0) {
+            return new int[0];
+        }
+        
+        while (true) {
+            lock.readLock().lock();
+            try {
+                if (auxiliarOrdenado) {
+                    return buscarOrdenado(normalizado, limite);
+                }
+            } finally {
+                lock.readLock().unlock();
+            }
+            
+            // Carga em lote desde a última busca: mescla e tenta de novo
+            consolidar();
+        }
+    }
+    
+    /**
+     * Mescla as inserções pendentes ao array principal. Chamado após uma carga em lote
+     * evita que a primeira busca pague a ordenação.
+     */
+    public void consolidar() {
+        lock.writeLock().lock();
+        try {
+            if (tamanhoAuxiliar > 0 || quantidadeRemovidas > 0) {
+                mesclar();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * @param id Identificador
+     * @return Texto original associado ao ID ou null se não estiver no índice
+     */
+    public String getTexto(int id) {
+        lock.readLock().lock();
+        try {
+            Integer posicao = posicaoPorId.get(id);
+            return posicao == null ? null : originais[posicao];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return Quantidade de IDs indexados
+     */
+    public int getQuantidade() {
+        lock.readLock().lock();
+        try {
+            return posicaoPorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Estima a memória ocupada pelo índice (textos, arrays de entradas e mapa de IDs),
+     * considerando referências compactadas de 4 bytes.
+     * 
+     * @return Bytes aproximados
+     */
+    public long estimarMemoriaBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 8L * (principal.length + auxiliar.length) + 12L * normalizados.length;
+            for (int i = 0; i < posicoes; i++) {
+                // String com array de bytes (Latin-1); o original só conta se difere do normalizado
+                bytes += 40 + normalizados[i].length();
+                if (originais[i] != normalizados[i]) {
+                    bytes += 40 + originais[i].length();
+                }
+            }
+            // Entrada do HashMap + dois Integer + tabela
+            return bytes + (32 + 16 + 16 + 4L) * posicaoPorId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // ==================== MÉTODOS AUXILIARES PRIVADOS ====================
+    
+    private static long entrada(int posicao, int deslocamento) {
+        return ((long) posicao << 32) | deslocamento;
+    }
+    
+    private static int posicao(long entrada) {
+        return (int) (entrada >>> 32);
+    }
+    
+    private static int deslocamento(long entrada) {
+        return (int) entrada;
+    }
+    
+    private int novaPosicao(int id, String normalizado, String original) {
+        if (posicoes == normalizados.length) {
+            int capacidade = posicoes * 2;
+            normalizados = Arrays.copyOf(normalizados, capacidade);
+            originais = Arrays.copyOf(originais, capacidade);
+            idsPorPosicao = Arrays.copyOf(idsPorPosicao, capacidade);
+        }
+        normalizados[posicoes] = normalizado;
+        // Reaproveita a mesma String quando o texto já está normalizado
+        originais[posicoes] = original.equals(normalizado) ? normalizado : original;
+        idsPorPosicao[posicoes] = id;
+        posicaoPorId.put(id, posicoes);
+        return posicoes++;
+    }
+    
+    private void removerInterno(int id) {
+        Integer posicao = posicaoPorId.remove(id);
+        if (posicao != null) {
+            removidas.set(posicao);
+            quantidadeRemovidas++;
+        }
+    }
+    
+    private void adicionarAuxiliar(long entrada) {
+        if (tamanhoAuxiliar == auxiliar.length) {
+            auxiliar = Arrays.copyOf(auxiliar, tamanhoAuxiliar * 2);
+        }
+        if (!auxiliarOrdenado || tamanhoAuxiliar >= AUXILIAR_MINIMO) {
+            auxiliar[tamanhoAuxiliar++] = entrada;
+            auxiliarOrdenado = false;
+            return;
+        }
+        
+        // Auxiliar pequeno: insere na posição ordenada
+        int inicio = 0;
+        int fim = tamanhoAuxiliar;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (comparar(auxiliar[meio], entrada) < 0) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        System.arraycopy(auxiliar, inicio, auxiliar, inicio + 1, tamanhoAuxiliar - inicio);
+        auxiliar[inicio] = entrada;
+        tamanhoAuxiliar++;
+    }
+    
+    /**
+     * Compara os sufixos das duas entradas; empates são desfeitos pela posição.
+     */
+    private int comparar(long a, long b) {
+        String textoA = normalizados[posicao(a)];
+        String textoB = normalizados[posicao(b)];
+        int i = deslocamento(a);
+        int j = deslocamento(b);
+        while (i < textoA.length() && j < textoB.length()) {
+            int diferenca = textoA.charAt(i++) - textoB.charAt(j++);
+            if (diferenca != 0) {
+                return diferenca;
+            }
+        }
+        int restante = (textoA.length() - i) - (textoB.length() - j);
+        return restante != 0 ? restante : Integer.compare(posicao(a), posicao(b));
+    }
+    
+    /**
+     * Compara o sufixo da entrada, limitado ao tamanho do prefixo, com o prefixo.
+     * 
+     * @return 0 se o sufixo começa com o prefixo, negativo se vem antes, positivo se vem depois
+     */
+    private int compararComPrefixo(long entrada, String prefixo) {
+        String texto = normalizados[posicao(entrada)];
+        int i = deslocamento(entrada);
+        for (int k = 0; k < prefixo.length(); k++, i++) {
+            if (i == texto.length()) {
+                return -1;
+            }
+            int diferenca = texto.charAt(i) - prefixo.charAt(k);
+            if (diferenca != 0) {
+                return diferenca;
+            }
+        }
+        return 0;
+    }
+    
+    /**
+     * @return Índice da primeira entrada cujo sufixo não vem antes do prefixo
+     */
+    private int primeiraComPrefixo(long[] entradas, int tamanho, String prefixo) {
+        int inicio = 0;
+        int fim = tamanho;
+        while (inicio < fim) {
+            int meio = (inicio + fim) >>> 1;
+            if (compararComPrefixo(entradas[meio], prefixo) < 0) {
+                inicio = meio + 1;
+            } else {
+                fim = meio;
+            }
+        }
+        return inicio;
+    }
+    
+    /**
+     * Percorre os dois arrays a partir do prefixo, na ordem combinada, ignorando
+     * textos removidos e IDs repetidos (várias palavras do mesmo texto).
+     */
+    private int[] buscarOrdenado(String prefixo, int limite) {
+        Set<Integer> encontrados = new LinkedHashSet<>();
+        int i = primeiraComPrefixo(principal, principal.length, prefixo);
+        int j = primeiraComPrefixo(auxiliar, tamanhoAuxiliar, prefixo);
+        
+        while (encontrados.size() < limite) {
+            boolean temPrincipal = i < principal.length && compararComPrefixo(principal[i], prefixo) == 0;
+            boolean temAuxiliar = j < tamanhoAuxiliar && compararComPrefixo(auxiliar[j], prefixo) == 0;
+            long entrada;
+            if (temPrincipal && (!temAuxiliar || comparar(principal[i], auxiliar[j]) < 0)) {
+                entrada = principal[i++];
+            } else if (temAuxiliar) {
+                entrada = auxiliar[j++];
+            } else {
+                break;
+            }
+            
+            if (!removidas.get(posicao(entrada))) {
+                encontrados.add(idsPorPosicao[posicao(entrada)]);
+            }
+        }
+        return encontrados.stream().mapToInt(Integer::intValue).toArray();
+    }
+    
+    private void ordenarAuxiliar() {
+        if (auxiliarOrdenado) {
+            return;
+        }
+        Long[] entradas = new Long[tamanhoAuxiliar];
+        for (int i = 0; i < tamanhoAuxiliar; i++) {
+            entradas[i] = auxiliar[i];
+        }
+        Arrays.sort(entradas, this::comparar);
+        for (int i = 0; i < tamanhoAuxiliar; i++) {
+            auxiliar[i] = entradas[i];
+        }
+        auxiliarOrdenado = true;
+    }
+    
+    /**
+     * Mescla o auxiliar no principal, descartando as entradas de textos removidos
+     * e renumerando as posições restantes (a ordem relativa é preservada).
+     */
+    private void mesclar() {
+        ordenarAuxiliar();
+        
+        // Nova numeração das posições válidas
+        int[] novaPosicao = new int[posicoes];
+        int validas = 0;
+        for (int p = 0; p < posicoes; p++) {
+            novaPosicao[p] = removidas.get(p) ? -1 : validas++;
+        }
+        
+        long[] mescladas = new long[principal.length + tamanhoAuxiliar];
+        int quantidade = 0;
+        int i = 0, j = 0;
+        while (i < principal.length || j < tamanhoAuxiliar) {
+            long entrada;
+            if (j == tamanhoAuxiliar || (i < principal.length && comparar(principal[i], auxiliar[j]) < 0)) {
+                entrada = principal[i++];
+            } else {
+                entrada = auxiliar[j++];
+            }
+            int nova = novaPosicao[posicao(entrada)];
+            if (nova >= 0) {
+                mescladas[quantidade++] = entrada(nova, deslocamento(entrada));
+            }
+        }
+        
+        int capacidade = Math.max(16, validas + validas / 4);
+        String[] novosNormalizados = new String[capacidade];
+        String[] novosOriginais = new String[capacidade];
+        int[] novosIds = new int[capacidade];
+        for (int p = 0; p < posicoes; p++) {
+            if (novaPosicao[p] >= 0) {
+                novosNormalizados[novaPosicao[p]] = normalizados[p];
+                novosOriginais[novaPosicao[p]] = originais[p];
+                novosIds[novaPosicao[p]] = idsPorPosicao[p];
+                posicaoPorId.put(idsPorPosicao[p], novaPosicao[p]);
+            }
+        }
+        
+        normalizados = novosNormalizados;
+        originais = novosOriginais;
+        idsPorPosicao = novosIds;
+        posicoes = validas;
+        removidas.clear();
+        quantidadeRemovidas = 0;
+        principal = Arrays.copyOf(mescladas, quantidade);
+        auxiliar = new long[64];
+        tamanhoAuxiliar = 0;
+    }
+}
@@ -0,0 +1,313 @@
+package util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * Índice invertido de trigramas para busca por substring em memória.
+ * Associa um texto a cada ID e responde "quais IDs contêm o termo" intersectando
+ * as listas de IDs dos trigramas do termo, sem varrer todos os textos.
+ * 
+ * Textos e termos são normalizados (sem acentos e em minúsculas), de modo que
+ * "joao" encontra "João" e "CONCEIÇÃO" encontra "Conceicao".
+ * 
+ * Seguro para uso concorrente: buscas simultâneas não se bloqueiam; alterações
+ * são exclusivas.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class IndiceTrigramas {
+    
+    private static final Pattern MARCAS_DIACRITICAS = Pattern.compile("\\p{M}+");
+    
+    // Texto normalizado de cada ID (usado para confirmar os candidatos)
+    private final Map<Integer, String> textos = new HashMap<>();
+    
+    // Trigrama (3 chars em 48 bits) -> IDs ordenados que o contêm
+    private final Map<Long, ListaIds> listas = new HashMap<>();
+    
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    
+    /**
+     * Remove acentos e converte para minúsculas.
+     * 
+     * @param texto Texto original
+     * @return Texto normalizado ou "" se nulo
+     */
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return "";
+        }
+        if (texto.chars().allMatch(c -> c < 0x80)) {
+            return texto.toLowerCase(Locale.ROOT);  // ASCII: não há acentos a remover
+        }
+        String decomposto = Normalizer.normalize(texto, Normalizer.Form.NFD);
+        return MARCAS_DIACRITICAS.matcher(decomposto).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+    
+    // ==================== ATUALIZAÇÃO ====================
+    
+    /**
+     * Associa (ou substitui) o texto de um ID.
+     * 
+     * @param id Identificador
+     * @param texto Texto a indexar
+     */
+    public void definir(int id, String texto) {
+        String normalizado = normalizar(texto);
+        
+        lock.writeLock().lock();
+        try {
+            String anterior = textos.put(id, normalizado);
+            if (normalizado.equals(anterior)) {
+                return;
+            }
+            if (anterior != null) {
+                for (long trigrama : trigramas(anterior)) {
+                    removerDaLista(trigrama, id);
+                }
+            }
+            for (long trigrama : trigramas(normalizado)) {
+                listas.computeIfAbsent(trigrama, t -> new ListaIds()).adicionar(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove um ID do índice.
+     * 
+     * @param id Identificador
+     */
+    public void remover(int id) {
+        lock.writeLock().lock();
+        try {
+            String anterior = textos.remove(id);
+            if (anterior != null) {
+                for (long trigrama : trigramas(anterior)) {
+                    removerDaLista(trigrama, id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    /**
+     * Remove todos os IDs.
+     */
+    public void limpar() {
+        lock.writeLock().lock();
+        try {
+            textos.clear();
+            listas.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+    
+    // ==================== CONSULTA ====================
+    
+    /**
+     * Retorna os IDs cujo texto contém o termo (após normalização).
+     * Termos com menos de 3 caracteres não formam trigramas e são resolvidos
+     * por varredura dos textos em memória.
+     * 
+     * @param termo Substring procurada
+     * @return IDs em ordem crescente
+     */
+    public int[] buscar(String termo) {
+        String normalizado = normalizar(termo);
+        
+        lock.readLock().lock();
+        try {
+            if (normalizado.length() < 3) {
+                return varrer(normalizado);
+            }
+            
+            // Intersecta a partir da menor lista para reduzir as comparações
+            List<ListaIds> doTermo = new ArrayList<>();
+            for (long trigrama : trigramas(normalizado)) {
+                ListaIds lista = listas.get(trigrama);
+                if (lista == null) {
+                    return new int[0];
+                }
+                doTermo.add(lista);
+            }
+            doTermo.sort((a, b) -> Integer.compare(a.tamanho, b.tamanho));
+            
+            int[] candidatos = Arrays.copyOf(doTermo.get(0).ids, doTermo.get(0).tamanho);
+            int quantidade = candidatos.length;
+            for (int i = 1; i < doTermo.size() && quantidade > 0; i++) {
+                quantidade = intersectar(candidatos, quantidade, doTermo.get(i));
+            }
+            
+            // Trigramas em comum não garantem a substring: confirma no texto
+            int encontrados = 0;
+            for (int i = 0; i < quantidade; i++) {
+                if (textos.get(candidatos[i]).contains(normalizado)) {
+                    candidatos[encontrados++] = candidatos[i];
+                }
+            }
+            return Arrays.copyOf(candidatos, encontrados);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @param id Identificador
+     * @return true se o ID está no índice
+     */
+    public boolean contem(int id) {
+        lock.readLock().lock();
+        try {
+            return textos.containsKey(id);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * @return Quantidade de IDs indexados
+     */
+    public int getQuantidade() {
+        lock.readLock().lock();
+        try {
+            return textos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    /**
+     * Estima a memória ocupada pelo índice (textos, mapas e listas de IDs),
+     * considerando referências compactadas de 4 bytes.
+     * 
+     * @return Bytes aproximados
+     */
+    public long estimarMemoriaBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (String texto : textos.values()) {
+                // Entrada do HashMap + Integer + String com array de bytes (Latin-1)
+                bytes += 32 + 16 + 24 + 16 + texto.length();
+            }
+            for (ListaIds lista : listas.values()) {
+                // Entrada do HashMap + Long + ListaIds + int[]
+                bytes += 32 + 24 + 24 + 16 + 4L * lista.ids.length;
+            }
+            return bytes + 16L * (textos.size() + listas.size());  // tabelas dos HashMaps
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+    
+    // ==================== MÉTODOS AUXILIARES PRIVADOS ====================
+    
+    /**
+     * Trigramas distintos do texto, cada um com 3 chars de 16 bits em um long.
+     */
+    private static Set<Long> trigramas(String texto) {
+        Set<Long> resultado = new HashSet<>();
+        for (int i = 0; i + 3 <= texto.length(); i++) {
+            resultado.add(((long) texto.charAt(i) << 32) | ((long) texto.charAt(i + 1) << 16) | texto.charAt(i + 2));
+        }
+        return resultado;
+    }
+    
+    private void removerDaLista(long trigrama, int id) {
+        ListaIds lista = listas.get(trigrama);
+        if (lista != null && lista.remover(id) && lista.tamanho == 0) {
+            listas.remove(trigrama);
+        }
+    }
+    
+    /**
+     * Mantém em candidatos[0..quantidade) apenas os IDs presentes na lista.
+     * 
+     * @return Nova quantidade de candidatos
+     */
+    private static int intersectar(int[] candidatos, int quantidade, ListaIds lista) {
+        int mantidos = 0;
+        int inicio = 0;
+        for (int i = 0; i < quantidade; i++) {
+            int posicao = Arrays.binarySearch(lista.ids, inicio, lista.tamanho, candidatos[i]);
+            if (posicao >= 0) {
+                candidatos[mantidos++] = candidatos[i];
+                inicio = posicao + 1;
+            } else {
+                inicio = -posicao - 1;
+            }
+        }
+        return mantidos;
+    }
+    
+    private int[] varrer(String normalizado) {
+        int[] ids = new int[textos.size()];
+        int encontrados = 0;
+        for (Map.Entry<Integer, String> entrada : textos.entrySet()) {
+            if (entrada.getValue().contains(normalizado)) {
+                ids[encontrados++] = entrada.getKey();
+            }
+        }
+        ids = Arrays.copyOf(ids, encontrados);
+        Arrays.sort(ids);
+        return ids;
+    }
+    
+    /**
+     * Lista de IDs ordenada, em um array de int que cresce sob demanda.
+     */
+    private static final class ListaIds {
+        int[] ids = new int[4];
+        int tamanho;
+        
+        void adicionar(int id) {
+            // Caso comum na carga inicial e em inserções: ID maior que todos
+            if (tamanho == 0 || id > ids[tamanho - 1]) {
+                garantirCapacidade();
+                ids[tamanho++] = id;
+                return;
+            }
+            
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao >= 0) {
+                return;
+            }
+            posicao = -posicao - 1;
+            garantirCapacidade();
+            System.arraycopy(ids, posicao, ids, posicao + 1, tamanho - posicao);
+            ids[posicao] = id;
+            tamanho++;
+        }
+        
+        boolean remover(int id) {
+            int posicao = Arrays.binarySearch(ids, 0, tamanho, id);
+            if (posicao < 0) {
+                return false;
+            }
+            System.arraycopy(ids, posicao + 1, ids, posicao, tamanho - posicao - 1);
+            tamanho--;
+            return true;
+        }
+        
+        private void garantirCapacidade() {
+            if (tamanho == ids.length) {
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
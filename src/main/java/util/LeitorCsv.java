@@ -0,0 +1,111 @@
+package util;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Leitor de CSV (RFC 4180) que processa um registro por vez, sem carregar o arquivo em memória.
+ * Aceita campos entre aspas com vírgulas, aspas duplicadas ("") e quebras de linha,
+ * e finais de linha LF ou CRLF.
+ *
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class LeitorCsv implements Closeable {
+
+    private final BufferedReader reader;
+    private long linhaAtual = 1;
+    private long linhaRegistro;
+
+    /**
+     * Cria um leitor sobre a entrada informada.
+     *
+     * @param entrada Texto CSV (é fechado por close())
+     */
+    public LeitorCsv(Reader entrada) {
+        this.reader = entrada instanceof BufferedReader ? (BufferedReader) entrada : new BufferedReader(entrada);
+    }
+
+    /**
+     * Lê o próximo registro.
+     *
+     * @return Campos do registro ou null no fim do arquivo
+     * @throws IOException Se houver erro de leitura ou aspas não fechadas
+     */
+    public String[] lerRegistro() throws IOException {
+        int c = reader.read();
+        if (c == -1) {
+            return null;
+        }
+
+        linhaRegistro = linhaAtual;
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        boolean entreAspas = false;
+
+        while (true) {
+            if (entreAspas) {
+                if (c == -1) {
+                    throw new IOException("Aspas não fechadas no registro iniciado na linha " + linhaRegistro);
+                }
+                if (c == '"') {
+                    reader.mark(1);
+                    int proximo = reader.read();
+                    if (proximo == '"') {
+                        campo.append('"');
+                    } else {
+                        entreAspas = false;
+                        reader.reset();
+                    }
+                } else {
+                    if (c == '\n') {
+                        linhaAtual++;
+                    }
+                    campo.append((char) c);
+                }
+            } else if (c == '"' && campo.length() == 0) {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                if (c == '\n') {
+                    linhaAtual++;
+                }
+                break;
+            } else if (c == '\r') {
+                // Ignora o CR de finais de linha CRLF
+                reader.mark(1);
+                if (reader.read() != '\n') {
+                    reader.reset();
+                    campo.append('\r');
+                } else {
+                    linhaAtual++;
+                    break;
+                }
+            } else {
+                campo.append((char) c);
+            }
+            c = reader.read();
+        }
+
+        campos.add(campo.toString());
+        return campos.toArray(new String[0]);
+    }
+
+    /**
+     * @return Número da linha (a partir de 1) em que começa o último registro lido
+     */
+    public long getLinhaRegistro() {
+        return linhaRegistro;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
@@ -0,0 +1,411 @@
+package util;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Limita as tentativas de login por email e por cliente (ex.: endereço IP), para
+ * que ataques de força bruta e de credenciais vazadas não consumam CPU com BCrypt.
+ * 
+ * A tentativa é contada antes da verificação da senha, sem acessar o banco: com o
+ * limite de uma chave atingido, as próximas são recusadas na hora. Um login bem-sucedido
+ * devolve a tentativa e zera o histórico do email.
+ * 
+ * Por chave, as tentativas são contadas em janela deslizante (janela atual mais a
+ * fração restante da anterior). A partir de {@value #TENTATIVAS_SEM_ESPERA} tentativas
+ * a próxima só é aceita após uma espera que dobra a cada tentativa; ao atingir o
+ * limite, a chave fica bloqueada pelo tempo de bloqueio.
+ * 
+ * Cada chave é alterada sob uma de {@value #FAIXAS} travas escolhida pelo hash da
+ * chave, então logins de emails diferentes raramente disputam a mesma trava. As chaves
+ * ociosas são descartadas e o total em memória é limitado pela capacidade.
+ * 
+ * Configurável por propriedades de sistema: login.limiteEmail (padrão: 5),
+ * login.limiteCliente (20), login.janelaMs (15 min), login.bloqueioMs (15 min),
+ * login.esperaBaseMs (1 s) e login.capacidade (100 mil chaves). Expõe métricas via
+ * JMX (ver {@link LimitadorLoginMXBean}).
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class LimitadorLogin implements LimitadorLoginMXBean {
+    
+    private static final int FAIXAS = 64;
+    private static final int TENTATIVAS_SEM_ESPERA = 3;
+    
+    private final int limiteEmail;
+    private final int limiteCliente;
+    private final long janelaMs;
+    private final long bloqueioMs;
+    private final long esperaBaseMs;
+    private final int capacidade;
+    private final LongSupplier relogio;
+    
+    private final ConcurrentHashMap<String, Estado> estados = new ConcurrentHashMap<>();
+    private final Object[] travas = new Object[FAIXAS];
+    private final AtomicBoolean limpando = new AtomicBoolean(false);
+    private final AtomicInteger novasDesdeLimpeza = new AtomicInteger();
+    
+    // Métricas
+    private final LongAdder permitidas = new LongAdder();
+    private final LongAdder recusadasPorEspera = new LongAdder();
+    private final LongAdder recusadasPorBloqueio = new LongAdder();
+    private final LongAdder descartadas = new LongAdder();
+    
+    /**
+     * Cria o limitador.
+     * 
+     * @param limiteEmail Tentativas por email na janela antes do bloqueio
+     * @param limiteCliente Tentativas por cliente na janela antes do bloqueio
+     * @param janelaMs Tamanho da janela deslizante, em milissegundos
+     * @param bloqueioMs Duração do bloqueio, em milissegundos
+     * @param esperaBaseMs Primeira espera progressiva, em milissegundos
+     * @param capacidade Quantidade máxima de chaves em memória
+     */
+    public LimitadorLogin(int limiteEmail, int limiteCliente, long janelaMs, long bloqueioMs,
+                          long esperaBaseMs, int capacidade) {
+        this(limiteEmail, limiteCliente, janelaMs, bloqueioMs, esperaBaseMs, capacidade,
+             () -> System.nanoTime() / 1_000_000);
+    }
+    
+    /**
+     * Cria o limitador com um relógio próprio (em milissegundos), para simular a passagem do tempo.
+     */
+    LimitadorLogin(int limiteEmail, int limiteCliente, long janelaMs, long bloqueioMs,
+                   long esperaBaseMs, int capacidade, LongSupplier relogio) {
+        if (limiteEmail < 1 || limiteCliente < 1 || janelaMs < 1 || bloqueioMs < 0
+            || esperaBaseMs < 0 || capacidade < 1) {
+            throw new IllegalArgumentException("Limitador de login inválido");
+        }
+        this.limiteEmail = limiteEmail;
+        this.limiteCliente = limiteCliente;
+        this.janelaMs = janelaMs;
+        this.bloqueioMs = bloqueioMs;
+        this.esperaBaseMs = esperaBaseMs;
+        this.capacidade = capacidade;
+        this.relogio = relogio;
+        for (int i = 0; i < FAIXAS; i++) {
+            travas[i] = new Object();
+        }
+    }
+    
+    /**
+     * @return Instância compartilhada pela aplicação, registrada no JMX
+     */
+    public static LimitadorLogin getInstancia() {
+        return Instancia.LIMITADOR;
+    }
+    
+    private static class Instancia {
+        static final LimitadorLogin LIMITADOR = criar();
+        
+        private static LimitadorLogin criar() {
+            LimitadorLogin limitador = new LimitadorLogin(
+                    Integer.getInteger("login.limiteEmail", 5),
+                    Integer.getInteger("login.limiteCliente", 20),
+                    Long.getLong("login.janelaMs", 15 * 60_000L),
+                    Long.getLong("login.bloqueioMs", 15 * 60_000L),
+                    Long.getLong("login.esperaBaseMs", 1_000L),
+                    Integer.getInteger("login.capacidade", 100_000));
+            limitador.registrarMBean();
+            return limitador;
+        }
+    }
+    
+    // ==================== TENTATIVAS ====================
+    
+    /**
+     * Registra uma tentativa de login, se o email e o cliente ainda puderem tentar.
+     * Deve ser chamado antes de qualquer acesso ao banco ou verificação de senha.
+     * 
+     * @param email Email informado
+     * @param cliente Identificador do cliente (ex.: endereço IP)
+     * @return 0 se a tentativa foi liberada; senão, milissegundos até a próxima permitida
+     */
+    public long tentar(String email, String cliente) {
+        String chaveEmail = chaveEmail(email);
+        String chaveCliente = chaveCliente(cliente);
+        long agora = relogio.getAsLong();
+        
+        // Trava as duas faixas em ordem fixa: verificar e contar é atômico para o par
+        int faixaEmail = faixa(chaveEmail);
+        int faixaCliente = faixa(chaveCliente);
+        Object primeira = travas[Math.min(faixaEmail, faixaCliente)];
+        Object segunda = travas[Math.max(faixaEmail, faixaCliente)];
+        
+        long espera;
+        synchronized (primeira) {
+            synchronized (segunda) {
+                // Tentativas recusadas não criam chaves novas
+                Estado porEmail = estados.get(chaveEmail);
+                Estado porCliente = estados.get(chaveCliente);
+                
+                espera = Math.max(porEmail != null ? porEmail.espera(agora) : 0,
+                                  porCliente != null ? porCliente.espera(agora) : 0);
+                if (espera == 0) {
+                    obterEstado(chaveEmail, porEmail, agora).contar(agora, limiteEmail);
+                    obterEstado(chaveCliente, porCliente, agora).contar(agora, limiteCliente);
+                    permitidas.increment();
+                } else if ((porEmail != null && porEmail.isBloqueado(agora))
+                           || (porCliente != null && porCliente.isBloqueado(agora))) {
+                    recusadasPorBloqueio.increment();
+                } else {
+                    recusadasPorEspera.increment();
+                }
+            }
+        }
+        
+        limparSeNecessario();
+        return espera;
+    }
+    
+    /**
+     * Registra um login bem-sucedido: zera o histórico do email e devolve a
+     * tentativa ao cliente.
+     * 
+     * @param email Email autenticado
+     * @param cliente Identificador do cliente
+     */
+    public void registrarSucesso(String email, String cliente) {
+        String chaveEmail = chaveEmail(email);
+        synchronized (travas[faixa(chaveEmail)]) {
+            estados.remove(chaveEmail);
+        }
+        
+        String chaveCliente = chaveCliente(cliente);
+        synchronized (travas[faixa(chaveCliente)]) {
+            Estado porCliente = estados.get(chaveCliente);
+            if (porCliente != null) {
+                porCliente.devolver();
+            }
+        }
+    }
+    
+    private Estado obterEstado(String chave, Estado estado, long agora) {
+        if (estado == null) {
+            estado = new Estado(agora);
+            estados.put(chave, estado);
+            novasDesdeLimpeza.incrementAndGet();
+        }
+        return estado;
+    }
+    
+    private static String chaveEmail(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+    
+    private static String chaveCliente(String cliente) {
+        return "cliente:" + (cliente == null ? "" : cliente);
+    }
+    
+    private static int faixa(String chave) {
+        return (chave.hashCode() & 0x7fffffff) % FAIXAS;
+    }
+    
+    /**
+     * Contadores de uma chave. Acessado apenas sob a trava da faixa da chave.
+     */
+    private final class Estado {
+        long inicioJanela;
+        int janelaAtual;
+        int janelaAnterior;
+        long liberadoEm;
+        long bloqueadoAte;
+        long ultimoAcesso;
+        
+        Estado(long agora) {
+            inicioJanela = agora;
+            ultimoAcesso = agora;
+        }
+        
+        /**
+         * @return 0 se pode tentar agora; senão, milissegundos de espera
+         */
+        long espera(long agora) {
+            ultimoAcesso = agora;
+            return Math.max(0, Math.max(bloqueadoAte, liberadoEm) - agora);
+        }
+        
+        /**
+         * Conta a tentativa e calcula a espera ou o bloqueio para a próxima.
+         */
+        void contar(long agora, int limite) {
+            avancarJanela(agora);
+            janelaAtual++;
+            
+            int tentativas = estimativa(agora);
+            if (tentativas >= limite) {
+                bloqueadoAte = agora + bloqueioMs;
+            } else if (tentativas >= TENTATIVAS_SEM_ESPERA) {
+                int expoente = Math.min(tentativas - TENTATIVAS_SEM_ESPERA, 30);
+                liberadoEm = agora + Math.min(esperaBaseMs << expoente, bloqueioMs);
+            }
+        }
+        
+        /**
+         * Desfaz a contagem de uma tentativa que terminou em sucesso.
+         */
+        void devolver() {
+            if (janelaAtual > 0) {
+                janelaAtual--;
+            }
+        }
+        
+        /**
+         * Tentativas na janela deslizante: a atual mais a parte da anterior que
+         * ainda está dentro dos últimos janelaMs.
+         */
+        int estimativa(long agora) {
+            long restante = janelaMs - (agora - inicioJanela);
+            return janelaAtual + (int) (janelaAnterior * restante / janelaMs);
+        }
+        
+        void avancarJanela(long agora) {
+            long decorrido = agora - inicioJanela;
+            if (decorrido < janelaMs) {
+                return;
+            }
+            janelaAnterior = decorrido < 2 * janelaMs ? janelaAtual : 0;
+            janelaAtual = 0;
+            inicioJanela = agora - decorrido % janelaMs;
+        }
+        
+        boolean isOcioso(long agora) {
+            return agora - ultimoAcesso > 2 * janelaMs && bloqueadoAte <= agora;
+        }
+        
+        boolean isBloqueado(long agora) {
+            return bloqueadoAte > agora;
+        }
+    }
+    
+    // ==================== LIMPEZA ====================
+    
+    /**
+     * Descarta as chaves ociosas a cada capacidade/4 chaves novas ou ao atingir a
+     * capacidade. Se ainda assim faltar espaço (muitas chaves ativas, como numa
+     * enumeração de emails), descarta também as que não estão bloqueadas.
+     * Apenas uma thread limpa por vez; as demais seguem sem esperar.
+     */
+    private void limparSeNecessario() {
+        if (novasDesdeLimpeza.get() < Math.max(1, capacidade / 4) && estados.size() < capacidade) {
+            return;
+        }
+        if (!limpando.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            novasDesdeLimpeza.set(0);
+            long agora = relogio.getAsLong();
+            descartar(agora, false);
+            if (estados.size() >= capacidade) {
+                descartar(agora, true);
+            }
+        } finally {
+            limpando.set(false);
+        }
+    }
+    
+    private void descartar(long agora, boolean ativas) {
+        for (String chave : estados.keySet()) {
+            synchronized (travas[faixa(chave)]) {
+                Estado estado = estados.get(chave);
+                if (estado != null && (estado.isOcioso(agora) || (ativas && !estado.isBloqueado(agora)))) {
+                    estados.remove(chave);
+                    descartadas.increment();
+                }
+            }
+        }
+    }
+    
+    // ==================== JMX ====================
+    
+    /**
+     * Registra o limitador no MBeanServer da plataforma como "util:type=LimitadorLogin".
+     * Falhas de registro apenas são registradas no log.
+     */
+    public void registrarMBean() {
+        try {
+            MBeanServer servidor = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objeto = new ObjectName("util:type=LimitadorLogin");
+            if (!servidor.isRegistered(objeto)) {
+                servidor.registerMBean(this, objeto);
+            }
+        } catch (JMException e) {
+            System.err.println("✗ Não foi possível registrar o MBean do limitador de login: " + e.getMessage());
+        }
+    }
+    
+    // ==================== MÉTRICAS (LimitadorLoginMXBean) ====================
+    
+    @Override
+    public int getChavesMonitoradas() {
+        return estados.size();
+    }
+    
+    @Override
+    public int getChavesBloqueadas() {
+        long agora = relogio.getAsLong();
+        int bloqueadas = 0;
+        for (String chave : estados.keySet()) {
+            synchronized (travas[faixa(chave)]) {
+                Estado estado = estados.get(chave);
+                if (estado != null && estado.isBloqueado(agora)) {
+                    bloqueadas++;
+                }
+            }
+        }
+        return bloqueadas;
+    }
+    
+    @Override
+    public int getCapacidade() {
+        return capacidade;
+    }
+    
+    @Override
+    public long getPermitidas() {
+        return permitidas.sum();
+    }
+    
+    @Override
+    public long getRecusadasPorEspera() {
+        return recusadasPorEspera.sum();
+    }
+    
+    @Override
+    public long getRecusadasPorBloqueio() {
+        return recusadasPorBloqueio.sum();
+    }
+    
+    @Override
+    public long getChavesDescartadas() {
+        return descartadas.sum();
+    }
+    
+    @Override
+    public void desbloquearTodos() {
+        for (String chave : estados.keySet()) {
+            synchronized (travas[faixa(chave)]) {
+                estados.remove(chave);
+            }
+        }
+    }
+    
+    @Override
+    public String getResumo() {
+        return "Limitador de login:\n" +
+               "  Chaves: " + getChavesMonitoradas() + "/" + capacidade + ", bloqueadas=" + getChavesBloqueadas() + "\n" +
+               "  Permitidas: " + getPermitidas() + ", recusadas por espera=" + getRecusadasPorEspera()
+               + ", por bloqueio=" + getRecusadasPorBloqueio() + "\n" +
+               "  Chaves descartadas: " + getChavesDescartadas();
+    }
+}
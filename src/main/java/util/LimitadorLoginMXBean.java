@@ -0,0 +1,62 @@
+package util;
+
+/**
+ * Interface de monitoramento (JMX) do limitador de tentativas de login.
+ * Visível em ferramentas como JConsole e VisualVM sob o domínio "util".
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public interface LimitadorLoginMXBean {
+    
+    // ==================== OCUPAÇÃO ====================
+    
+    /**
+     * @return Emails e clientes com tentativas recentes em memória
+     */
+    int getChavesMonitoradas();
+    
+    /**
+     * @return Emails e clientes bloqueados no momento
+     */
+    int getChavesBloqueadas();
+    
+    /**
+     * @return Quantidade máxima de chaves em memória
+     */
+    int getCapacidade();
+    
+    // ==================== CONTADORES ====================
+    
+    /**
+     * @return Tentativas liberadas para verificação de senha
+     */
+    long getPermitidas();
+    
+    /**
+     * @return Tentativas recusadas por espera progressiva (backoff)
+     */
+    long getRecusadasPorEspera();
+    
+    /**
+     * @return Tentativas recusadas por bloqueio temporário
+     */
+    long getRecusadasPorBloqueio();
+    
+    /**
+     * @return Chaves descartadas por ociosidade ou por falta de espaço
+     */
+    long getChavesDescartadas();
+    
+    // ==================== OPERAÇÕES ====================
+    
+    /**
+     * @return Resumo textual de todas as métricas
+     */
+    String getResumo();
+    
+    /**
+     * Remove todos os contadores e bloqueios (ex.: após um falso positivo).
+     */
+    void desbloquearTodos();
+}
@@ -1,10 +1,24 @@
 package util;
 
-import org.mindrot.jbcrypt.BCrypt;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.locks.LockSupport;
 
 /**
- * Classe utilitária para criptografia e validação de senhas usando BCrypt.
- * BCrypt é um algoritmo de hash de senha seguro com salt automático.
+ * Classe utilitária para criptografia e validação de senhas.
+ * 
+ * Os novos hashes usam o algoritmo configurado em -Dsenha.algoritmo: bcrypt (padrão),
+ * pbkdf2 (PBKDF2-HMAC-SHA256) ou scrypt. Cada hash declara o próprio algoritmo e
+ * parâmetros (ver {@link AlgoritmoSenha}), então a verificação usa o algoritmo do
+ * hash armazenado e hashes antigos continuam válidos após a troca do padrão.
+ * 
+ * Os métodos "Async" executam o hash no {@link ExecutorSenhas} (threads e fila
+ * limitadas) e são os usados pelo login e pelo cadastro; os demais executam
+ * na thread de quem chama.
  * 
  * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
  * @version 1.0
@@ -18,6 +32,39 @@ public class PasswordUtil {
      */
     private static final int BCRYPT_ROUNDS = 10;
     
+    // Limites da calibração: abaixo do mínimo o hash fica fraco demais, qualquer que
+    // seja o hardware; o máximo é o do próprio BCrypt
+    private static final int CUSTO_MINIMO = 10;
+    private static final int CUSTO_MAXIMO = 31;
+    private static final long ORCAMENTO_PADRAO_MS = 100;
+    private static final int AMOSTRAS_CALIBRACAO = 5;
+    
+    // Parâmetros padrão dos demais algoritmos: PBKDF2 com 600 mil iterações e scrypt
+    // com 16 MiB por hash (2^14 * 128 * 8)
+    private static final int PBKDF2_ITERACOES = 600_000;
+    private static final int SCRYPT_LN = 14;
+    private static final int SCRYPT_R = 8;
+    private static final int SCRYPT_P = 1;
+    
+    // Pausa do lote quando a fila do executor está cheia só com tarefas de outros chamadores
+    private static final long ESPERA_SOBRECARGA_NS = 5_000_000;
+    
+    /**
+     * BCrypt com custo inicial senha.custo (padrão: BCRYPT_ROUNDS), ajustado
+     * por {@link #calibrarCusto(long)}.
+     */
+    private static final AlgoritmoBCrypt BCRYPT = new AlgoritmoBCrypt(Integer.getInteger("senha.custo", BCRYPT_ROUNDS));
+    
+    private static final List<AlgoritmoSenha> ALGORITMOS = List.of(
+            BCRYPT,
+            new AlgoritmoPbkdf2(Integer.getInteger("senha.pbkdf2.iteracoes", PBKDF2_ITERACOES)),
+            new AlgoritmoScrypt(Integer.getInteger("senha.scrypt.ln", SCRYPT_LN),
+                                Integer.getInteger("senha.scrypt.r", SCRYPT_R),
+                                Integer.getInteger("senha.scrypt.p", SCRYPT_P)));
+    
+    // Algoritmo dos novos hashes; hashes de outros algoritmos são refeitos no login
+    private static final AlgoritmoSenha PADRAO = selecionarPadrao(System.getProperty("senha.algoritmo", "bcrypt"));
+    
     /**
      * Construtor privado para impedir instanciação.
      * Esta é uma classe utilitária com métodos estáticos.
@@ -26,8 +73,40 @@ public class PasswordUtil {
         throw new UnsupportedOperationException("Classe utilitária não deve ser instanciada");
     }
     
+    private static AlgoritmoSenha selecionarPadrao(String nome) {
+        for (AlgoritmoSenha algoritmo : ALGORITMOS) {
+            if (algoritmo.getNome().equalsIgnoreCase(nome)) {
+                return algoritmo;
+            }
+        }
+        throw new IllegalArgumentException("Algoritmo de senha desconhecido: " + nome
+                                           + " (use bcrypt, pbkdf2 ou scrypt)");
+    }
+    
     /**
-     * Criptografa uma senha usando BCrypt.
+     * Identifica pelo prefixo o algoritmo que gerou um hash.
+     * 
+     * @param senhaHash Hash armazenado
+     * @return Algoritmo do hash ou null se não for um hash conhecido (ex.: texto plano)
+     */
+    public static AlgoritmoSenha identificarAlgoritmo(String senhaHash) {
+        for (AlgoritmoSenha algoritmo : ALGORITMOS) {
+            if (algoritmo.reconhece(senhaHash)) {
+                return algoritmo;
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * @return Algoritmo usado nos novos hashes
+     */
+    public static AlgoritmoSenha getAlgoritmoPadrao() {
+        return PADRAO;
+    }
+    
+    /**
+     * Criptografa uma senha com o algoritmo padrão.
      * Gera automaticamente um salt único para cada senha.
      * 
      * @param senhaTextoPlano Senha em texto plano
@@ -39,11 +118,94 @@ public class PasswordUtil {
             throw new IllegalArgumentException("Senha não pode ser nula ou vazia");
         }
         
-        return BCrypt.hashpw(senhaTextoPlano, BCrypt.gensalt(BCRYPT_ROUNDS));
+        return PADRAO.criptografar(senhaTextoPlano);
     }
     
     /**
-     * Verifica se uma senha em texto plano corresponde ao hash armazenado.
+     * Criptografa uma senha usando BCrypt com o custo informado.
+     * Cada unidade a mais de custo dobra o tempo do hash.
+     * 
+     * @param senhaTextoPlano Senha em texto plano
+     * @param custo Custo (log2 do número de rounds), entre 4 e 31
+     * @return Senha criptografada (hash)
+     * @throws IllegalArgumentException se a senha for nula ou vazia ou o custo for inválido
+     */
+    public static String criptografarSenha(String senhaTextoPlano, int custo) {
+        if (senhaTextoPlano == null || senhaTextoPlano.isEmpty()) {
+            throw new IllegalArgumentException("Senha não pode ser nula ou vazia");
+        }
+        
+        return BCRYPT.criptografar(senhaTextoPlano, custo);
+    }
+    
+    /**
+     * Criptografa várias senhas no executor de senhas, com no máximo metade das suas
+     * threads ocupadas pelo lote: logins e cadastros individuais continuam sendo atendidos.
+     * Com a fila cheia, espera um hash do lote terminar em vez de recusar.
+     * Todas são tratadas como texto plano, mesmo as que pareçam um hash.
+     * 
+     * @param senhas Senhas em texto plano
+     * @return Hashes na mesma ordem da lista de entrada
+     * @throws IllegalArgumentException se alguma senha for nula ou vazia
+     */
+    public static List<String> criptografarSenhas(List<String> senhas) {
+        ExecutorSenhas executor = ExecutorSenhas.getInstancia();
+        int maximoEmAndamento = Math.max(1, executor.getThreads() / 2);
+        List<CompletableFuture<String>> hashes = new ArrayList<>(senhas.size());
+        Deque<CompletableFuture<String>> emAndamento = new ArrayDeque<>();
+        
+        try {
+            for (String senha : senhas) {
+                CompletableFuture<String> hash;
+                do {
+                    if (emAndamento.size() >= maximoEmAndamento) {
+                        aguardar(emAndamento.removeFirst());
+                    }
+                    hash = executor.executar(() -> criptografarSenha(senha));
+                } while (recusadoPorSobrecarga(hash, emAndamento));
+                hashes.add(hash);
+                emAndamento.addLast(hash);
+            }
+            
+            List<String> resultado = new ArrayList<>(hashes.size());
+            for (CompletableFuture<String> hash : hashes) {
+                resultado.add(aguardar(hash));
+            }
+            return resultado;
+            
+        } catch (RuntimeException | Error e) {
+            // Hashes ainda na fila são descartados sem gastar CPU
+            hashes.forEach(hash -> hash.cancel(false));
+            throw e;
+        }
+    }
+    
+    /**
+     * Indica se o executor recusou a tarefa por estar com a fila cheia (com tarefas de
+     * outros chamadores). Nesse caso espera um hash do lote terminar ou, se não houver,
+     * um instante antes de tentar de novo.
+     */
+    private static boolean recusadoPorSobrecarga(CompletableFuture<String> hash,
+                                                 Deque<CompletableFuture<String>> emAndamento) {
+        if (!hash.isCompletedExceptionally()) {
+            return false;
+        }
+        try {
+            aguardar(hash);
+            return false;
+        } catch (SobrecargaException e) {
+            if (emAndamento.isEmpty()) {
+                LockSupport.parkNanos(ESPERA_SOBRECARGA_NS);
+            } else {
+                aguardar(emAndamento.removeFirst());
+            }
+            return true;
+        }
+    }
+    
+    /**
+     * Verifica se uma senha em texto plano corresponde ao hash armazenado,
+     * com o algoritmo que o hash declara.
      * 
      * @param senhaTextoPlano Senha digitada pelo usuário
      * @param senhaHash Senha criptografada armazenada no banco
@@ -54,33 +216,162 @@ public class PasswordUtil {
             return false;
         }
         
-        if (senhaHash == null || senhaHash.isEmpty()) {
-            return false;
+        // Hash desconhecido ou senha não criptografada
+        AlgoritmoSenha algoritmo = identificarAlgoritmo(senhaHash);
+        return algoritmo != null && algoritmo.verificar(senhaTextoPlano, senhaHash);
+    }
+    
+    // ==================== CALIBRAÇÃO DO CUSTO ====================
+    
+    /**
+     * @return Custo usado nos novos hashes
+     */
+    public static int getCustoAtual() {
+        return BCRYPT.getCusto();
+    }
+    
+    /**
+     * Lê o custo de um hash BCrypt ("$2a$10$..." → 10).
+     * 
+     * @param senhaHash Hash armazenado
+     * @return Custo do hash ou -1 se não for um hash BCrypt
+     */
+    public static int obterCusto(String senhaHash) {
+        return BCRYPT.obterCusto(senhaHash);
+    }
+    
+    /**
+     * Indica se um hash foi gerado com outro algoritmo ou com parâmetros mais fracos
+     * que os atuais e deve ser refeito no próximo login (quando a senha em texto plano
+     * é conhecida).
+     * 
+     * @param senhaHash Hash armazenado
+     * @return true se o hash é conhecido e é de outro algoritmo ou mais fraco que o atual
+     */
+    public static boolean precisaRehash(String senhaHash) {
+        AlgoritmoSenha algoritmo = identificarAlgoritmo(senhaHash);
+        return algoritmo != null && (algoritmo != PADRAO || algoritmo.precisaRehash(senhaHash));
+    }
+    
+    /**
+     * Calibra o custo na inicialização, conforme as propriedades de sistema:
+     * senha.custo fixa o custo (sem calibrar); senão mede este host com o
+     * orçamento senha.orcamentoMs (padrão: 100 ms).
+     * 
+     * Executa no {@link ExecutorSenhas}, em segundo plano: até terminar, os hashes
+     * usam o custo padrão.
+     */
+    public static void calibrarNaInicializacao() {
+        if (PADRAO != BCRYPT) {
+            System.out.println("✓ Algoritmo de senha: " + PADRAO);
+            return;
+        }
+        if (Integer.getInteger("senha.custo") != null) {
+            System.out.println("✓ Custo do BCrypt fixado em " + BCRYPT.getCusto() + " (senha.custo)");
+            return;
+        }
+        long orcamentoMs = Long.getLong("senha.orcamentoMs", ORCAMENTO_PADRAO_MS);
+        ExecutorSenhas.getInstancia().executar(() -> calibrarCusto(orcamentoMs))
+                .exceptionally(e -> {
+                    System.err.println("✗ Erro ao calibrar o custo do BCrypt: " + e.getMessage());
+                    return BCRYPT.getCusto();
+                });
+    }
+    
+    /**
+     * Mede o tempo do hash neste host e adota o maior custo cujo p99 fica dentro
+     * do orçamento, nunca abaixo de {@value #CUSTO_MINIMO}.
+     * 
+     * Cada unidade de custo dobra o tempo, então a medição sobe a partir do mínimo
+     * e para no primeiro custo que estoura o orçamento. O tempo medido é o de um
+     * hash isolado; a espera na fila sob carga é limitada pelo ExecutorSenhas.
+     * 
+     * @param orcamentoMs Tempo máximo aceitável de um hash (p99), em milissegundos
+     * @return Custo adotado
+     */
+    public static int calibrarCusto(long orcamentoMs) {
+        // Aquecimento (JIT) antes de medir
+        criptografarSenha("calibracao", 4);
+        
+        int escolhido = CUSTO_MINIMO;
+        for (int custo = CUSTO_MINIMO; custo <= CUSTO_MAXIMO; custo++) {
+            Histograma tempos = new Histograma();
+            for (int i = 0; i < AMOSTRAS_CALIBRACAO; i++) {
+                long inicio = System.nanoTime();
+                criptografarSenha("calibracao", custo);
+                tempos.registrar(System.nanoTime() - inicio);
+            }
+            
+            double p99 = tempos.getPercentilMs(99);
+            if (p99 > orcamentoMs) {
+                if (custo == CUSTO_MINIMO) {
+                    System.err.println("✗ BCrypt com custo " + custo + " leva " + String.format("%.0f", p99)
+                                       + " ms (orçamento: " + orcamentoMs + " ms); mantendo o custo mínimo");
+                }
+                break;
+            }
+            escolhido = custo;
         }
         
+        BCRYPT.setCusto(escolhido);
+        System.out.println("✓ Custo do BCrypt calibrado: " + escolhido + " (orçamento: " + orcamentoMs + " ms)");
+        return escolhido;
+    }
+    
+    // ==================== EXECUÇÃO NO EXECUTOR DEDICADO ====================
+    
+    /**
+     * Criptografa uma senha no executor de senhas.
+     * 
+     * @param senhaTextoPlano Senha em texto plano
+     * @return Hash; falha com SobrecargaException se o executor estiver saturado
+     */
+    public static CompletableFuture<String> criptografarSenhaAsync(String senhaTextoPlano) {
+        return ExecutorSenhas.getInstancia().executar(() -> criptografarSenha(senhaTextoPlano));
+    }
+    
+    /**
+     * Verifica uma senha no executor de senhas.
+     * 
+     * @param senhaTextoPlano Senha digitada pelo usuário
+     * @param senhaHash Senha criptografada armazenada no banco
+     * @return true se a senha está correta; falha com SobrecargaException se o executor estiver saturado
+     */
+    public static CompletableFuture<Boolean> verificarSenhaAsync(String senhaTextoPlano, String senhaHash) {
+        return ExecutorSenhas.getInstancia().executar(() -> verificarSenha(senhaTextoPlano, senhaHash));
+    }
+    
+    /**
+     * Aguarda o resultado de uma operação assíncrona, relançando a exceção original
+     * (ex.: SobrecargaException) em vez de CompletionException.
+     * 
+     * @param <T> Tipo do resultado
+     * @param operacao Operação em andamento
+     * @return Resultado da operação
+     */
+    public static <T> T aguardar(CompletableFuture<T> operacao) {
         try {
-            return BCrypt.checkpw(senhaTextoPlano, senhaHash);
-        } catch (IllegalArgumentException e) {
-            // Hash inválido ou senha não criptografada
-            return false;
+            return operacao.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            if (e.getCause() instanceof Error erro) {
+                throw erro;
+            }
+            throw e;
         }
     }
     
     /**
-     * Verifica se uma string é um hash BCrypt válido.
+     * Verifica se uma string é um hash de algum dos algoritmos suportados.
      * Útil para verificar se uma senha já está criptografada.
      * 
      * @param senha String a ser verificada
-     * @return true se for um hash BCrypt válido, false caso contrário
+     * @return true se for um hash conhecido, false caso contrário
      */
     public static boolean isSenhaCriptografada(String senha) {
-        if (senha == null || senha.isEmpty()) {
-            return false;
-        }
-        
-        // Hash BCrypt começa com $2a$, $2b$ ou $2y$
-        // e tem exatamente 60 caracteres
-        return senha.matches("^\\$2[aby]\\$\\d{2}\\$.{53}$");
+        return identificarAlgoritmo(senha) != null;
     }
     
     /**
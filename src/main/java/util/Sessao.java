@@ -0,0 +1,74 @@
+package util;
+
+import model.Usuario.Perfil;
+
+/**
+ * Sessão de um usuário autenticado, emitida por {@link GerenciadorSessoes}.
+ * 
+ * Guarda o ID e o perfil do usuário no momento do login, para que as verificações de
+ * autorização não consultem o banco. Alterações de senha, de perfil ou a exclusão do
+ * usuário encerram as suas sessões.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public final class Sessao {
+    
+    private final String token;
+    private final int usuarioId;
+    private final Perfil perfil;
+    
+    // Atualizado a cada uso (expiração deslizante)
+    private volatile long ultimoAcesso;
+    
+    Sessao(String token, int usuarioId, Perfil perfil, long agora) {
+        this.token = token;
+        this.usuarioId = usuarioId;
+        this.perfil = perfil;
+        this.ultimoAcesso = agora;
+    }
+    
+    /**
+     * @return Token opaco que identifica a sessão
+     */
+    public String getToken() {
+        return token;
+    }
+    
+    /**
+     * @return ID do usuário autenticado
+     */
+    public int getUsuarioId() {
+        return usuarioId;
+    }
+    
+    /**
+     * @return Perfil do usuário no momento do login
+     */
+    public Perfil getPerfil() {
+        return perfil;
+    }
+    
+    /**
+     * @return true se o usuário autenticado é administrador
+     */
+    public boolean isAdmin() {
+        return perfil == Perfil.admin;
+    }
+    
+    long getUltimoAcesso() {
+        return ultimoAcesso;
+    }
+    
+    void setUltimoAcesso(long ultimoAcesso) {
+        this.ultimoAcesso = ultimoAcesso;
+    }
+    
+    /**
+     * Não expõe o token, para que ele não apareça em logs.
+     */
+    @Override
+    public String toString() {
+        return "Sessao{usuarioId=" + usuarioId + ", perfil=" + perfil + "}";
+    }
+}
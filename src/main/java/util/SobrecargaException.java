@@ -0,0 +1,21 @@
+package util;
+
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Indica que uma tarefa foi recusada porque a fila de trabalho está cheia.
+ * O chamador deve informar que o sistema está ocupado e pedir nova tentativa,
+ * em vez de aguardar.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class SobrecargaException extends RejectedExecutionException {
+    
+    /**
+     * @param mensagem Descrição da sobrecarga
+     */
+    public SobrecargaException(String mensagem) {
+        super(mensagem);
+    }
+}
@@ -0,0 +1,125 @@
+package util;
+
+import model.Usuario;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Regras de validação dos dados de usuário.
+ * Compartilhadas pelo cadastro interativo (UsuarioController) e pela importação em lote;
+ * os métodos retornam a mensagem de erro em vez de exibi-la.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class ValidadorUsuario {
+    
+    /**
+     * Construtor privado para impedir instanciação.
+     * Esta é uma classe utilitária com métodos estáticos.
+     */
+    private ValidadorUsuario() {
+        throw new UnsupportedOperationException("Classe utilitária não deve ser instanciada");
+    }
+    
+    /**
+     * Verifica os dados básicos de um usuário.
+     * 
+     * @param usuario Usuario a ser verificado
+     * @return Mensagem do primeiro erro ou null se válido
+     */
+    public static String verificarUsuario(Usuario usuario) {
+        List<String> erros = listarErros(usuario);
+        return erros.isEmpty() ? null : erros.get(0);
+    }
+    
+    /**
+     * Verifica os dados básicos de um usuário, campo a campo, sem parar no primeiro erro.
+     * 
+     * @param usuario Usuario a ser verificado
+     * @return Mensagens de erro, uma por campo inválido (vazia se válido)
+     */
+    public static List<String> listarErros(Usuario usuario) {
+        if (usuario == null) {
+            return List.of("Dados do usuário inválidos!");
+        }
+        
+        List<String> erros = new ArrayList<>(0);
+        
+        // Valida nome
+        if (usuario.getNome() == null || usuario.getNome().trim().isEmpty()) {
+            erros.add("Nome é obrigatório!");
+        } else if (usuario.getNome().trim().length() < 3) {
+            erros.add("Nome deve ter no mínimo 3 caracteres!");
+        }
+        
+        // Valida email
+        if (usuario.getEmail() == null || usuario.getEmail().trim().isEmpty()) {
+            erros.add("Email é obrigatório!");
+        } else if (!usuario.isEmailValido()) {
+            erros.add("Email inválido! Use o formato: exemplo@dominio.com");
+        }
+        
+        // Valida telefone (se fornecido)
+        if (usuario.getTelefone() != null && !usuario.getTelefone().trim().isEmpty()) {
+            if (!validarTelefone(usuario.getTelefone())) {
+                erros.add("Telefone inválido! Use o formato internacional: +55 51 99999-9999");
+            }
+        }
+        
+        // Valida perfil
+        if (usuario.getPerfil() == null) {
+            erros.add("Perfil é obrigatório!");
+        }
+        
+        return erros;
+    }
+    
+    /**
+     * Verifica uma senha.
+     * 
+     * @param senha Senha a ser verificada
+     * @return Mensagem de erro ou null se válida
+     */
+    public static String verificarSenha(String senha) {
+        if (senha == null || senha.isEmpty()) {
+            return "Senha é obrigatória!";
+        }
+        
+        if (senha.length() < 6) {
+            return "Senha deve ter no mínimo 6 caracteres!";
+        }
+        
+        if (senha.length() > 50) {
+            return "Senha deve ter no máximo 50 caracteres!";
+        }
+        
+        // Avalia força da senha
+        String forcaSenha = PasswordUtil.avaliarForcaSenha(senha);
+        if (forcaSenha.equals("Senha muito fraca (mínimo 6 caracteres)")) {
+            return forcaSenha;
+        }
+        
+        return null;
+    }
+    
+    /**
+     * Valida formato de telefone internacional.
+     * 
+     * @param telefone Telefone a ser validado
+     * @return true se válido, false caso contrário
+     */
+    public static boolean validarTelefone(String telefone) {
+        if (telefone == null || telefone.trim().isEmpty()) {
+            return true; // Telefone é opcional
+        }
+        
+        // Remove espaços para validação
+        String tel = telefone.replaceAll("\\s", "");
+        
+        // Formato básico: deve começar com + e ter números
+        return tel.matches("^\\+\\d{1,3}\\s?\\d{2,3}\\s?\\d{4,5}-?\\d{4}$") ||
+               tel.matches("^\\+\\d{10,15}$");
+    }
+}
@@ -2,6 +2,7 @@ package view;
 
 import controller.UsuarioController;
 import model.Usuario;
+import util.PasswordUtil;
 
 import javax.swing.*;
 import java.awt.*;
@@ -382,8 +383,8 @@ public class LoginView extends JFrame {
             JOptionPane.INFORMATION_MESSAGE
         );
         
-        // Abre tela principal
-        MainView mainView = new MainView(usuario);
+        // Abre tela principal com a sessão do usuário
+        MainView mainView = new MainView(usuario, controller.abrirSessao(usuario));
         mainView.setVisible(true);
         
         // Fecha tela de login
@@ -401,6 +402,9 @@ public class LoginView extends JFrame {
             e.printStackTrace();
         }
         
+        // Ajusta o custo do BCrypt a este host em segundo plano
+        PasswordUtil.calibrarNaInicializacao();
+        
         // Executa a interface na Event Dispatch Thread
         SwingUtilities.invokeLater(() -> {
             LoginView loginView = new LoginView();
@@ -1,14 +1,21 @@
 package view;
 
 import controller.UsuarioController;
+import model.AlteracaoUsuario;
+import model.EstatisticasUsuarios;
+import model.SugestaoUsuario;
 import model.Usuario;
+import model.UsuarioResumo;
+import util.Sessao;
 
 import javax.swing.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import javax.swing.table.DefaultTableCellRenderer;
-import javax.swing.table.DefaultTableModel;
 import javax.swing.table.JTableHeader;
 import java.awt.*;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * Tela principal do sistema com listagem de usuários.
@@ -19,32 +26,58 @@ import java.util.List;
  */
 public class MainView extends JFrame {
     
-    // Usuário logado
+    // Usuário logado e sua sessão (autoriza as operações sem consultar o banco)
     private Usuario usuarioLogado;
+    private Sessao sessao;
     
     // Controller
     private UsuarioController controller;
     
     // Componentes da tabela
     private JTable tabelaUsuarios;
-    private DefaultTableModel tableModel;
+    private ModeloTabelaUsuarios tableModel;
     
     // Componentes de interface
     private JButton btnNovo, btnEditar, btnExcluir, btnAtualizar, btnSair;
     private JTextField txtBusca;
     private JButton btnBuscar, btnLimparBusca;
+    
+    // Sugestões exibidas abaixo do campo de busca enquanto o usuário digita
+    private JPopupMenu popupSugestoes;
+    private JList<SugestaoUsuario> listaSugestoes;
+    private DefaultListModel<SugestaoUsuario> modeloSugestoes;
+    private String textoSugestaoAplicada;
     private JLabel lblTotal, lblAdmin, lblUser;
+    
+    // Contadores exibidos: lidos do banco ao atualizar e ajustados localmente a cada alteração
+    private int totalAtivos, totalAdmins, totalUsers;
     private JLabel lblUsuarioLogado;
+    private JLabel lblCarregando;
+    
+    // Consultas ao banco rodam fora da EDT; uma nova carga da tabela (lista ou busca)
+    // cancela a anterior, cujo resultado é descartado ao chegar
+    private SwingWorker<List<UsuarioResumo>, Void> cargaTabela;
+    private SwingWorker<EstatisticasUsuarios, Void> cargaEstatisticas;
+    private int tarefasEmAndamento;
+    
+    // Alterações feitas por outros usuários chegam por consulta periódica incremental
+    private static final int INTERVALO_SINCRONIZACAO_MS = 5_000;
+    private SincronizadorUsuarios sincronizador;
     
     /**
      * Construtor da tela principal.
      * 
      * @param usuarioLogado Usuario que está logado no sistema
+     * @param sessao Sessão emitida no login
      */
-    public MainView(Usuario usuarioLogado) {
+    public MainView(Usuario usuarioLogado, Sessao sessao) {
         this.usuarioLogado = usuarioLogado;
+        this.sessao = sessao;
         this.controller = new UsuarioController();
+        controller.prepararBusca();
         inicializarComponentes();
+        sincronizador = new SincronizadorUsuarios(controller, INTERVALO_SINCRONIZACAO_MS, this::aplicarAlteracoes);
+        sincronizador.iniciar();
         carregarUsuarios();
         atualizarEstatisticas();
     }
@@ -169,17 +202,133 @@ public class MainView extends JFrame {
             carregarUsuarios();
         });
         
-        // Enter para buscar
-        txtBusca.addActionListener(e -> buscarUsuarios());
+        lblCarregando = new JLabel("⏳ Carregando...");
+        lblCarregando.setFont(new Font("Arial", Font.ITALIC, 12));
+        lblCarregando.setForeground(new Color(66, 139, 202));
+        lblCarregando.setVisible(false);
+        
+        // Enter para buscar (ou escolher a sugestão selecionada)
+        txtBusca.addActionListener(e -> {
+            if (popupSugestoes.isVisible() && listaSugestoes.getSelectedValue() != null) {
+                aplicarSugestao(listaSugestoes.getSelectedValue());
+            } else {
+                popupSugestoes.setVisible(false);
+                buscarUsuarios();
+            }
+        });
+        
+        configurarSugestoes();
         
         panel.add(lblBusca);
         panel.add(txtBusca);
         panel.add(btnBuscar);
         panel.add(btnLimparBusca);
+        panel.add(lblCarregando);
         
         return panel;
     }
     
+    /**
+     * Configura a lista de sugestões do campo de busca: atualizada a cada tecla
+     * (sem consultar o banco), navegável com as setas e fechada com Esc.
+     */
+    private void configurarSugestoes() {
+        modeloSugestoes = new DefaultListModel<>();
+        listaSugestoes = new JList<>(modeloSugestoes);
+        listaSugestoes.setFont(new Font("Arial", Font.PLAIN, 13));
+        listaSugestoes.setSelectionMode(ListSelectionModel.SINGLE_SELECTION);
+        listaSugestoes.setFocusable(false);
+        listaSugestoes.addMouseListener(new java.awt.event.MouseAdapter() {
+            public void mouseClicked(java.awt.event.MouseEvent evt) {
+                int indice = listaSugestoes.locationToIndex(evt.getPoint());
+                if (indice >= 0) {
+                    aplicarSugestao(modeloSugestoes.get(indice));
+                }
+            }
+        });
+        
+        popupSugestoes = new JPopupMenu();
+        popupSugestoes.setFocusable(false);
+        popupSugestoes.add(new JScrollPane(listaSugestoes));
+        
+        txtBusca.getDocument().addDocumentListener(new DocumentListener() {
+            public void insertUpdate(DocumentEvent e) {
+                SwingUtilities.invokeLater(() -> atualizarSugestoes());
+            }
+            public void removeUpdate(DocumentEvent e) {
+                SwingUtilities.invokeLater(() -> atualizarSugestoes());
+            }
+            public void changedUpdate(DocumentEvent e) {
+            }
+        });
+        
+        txtBusca.addKeyListener(new java.awt.event.KeyAdapter() {
+            public void keyPressed(java.awt.event.KeyEvent evt) {
+                if (!popupSugestoes.isVisible()) {
+                    return;
+                }
+                int selecionado = listaSugestoes.getSelectedIndex();
+                switch (evt.getKeyCode()) {
+                    case java.awt.event.KeyEvent.VK_DOWN:
+                        listaSugestoes.setSelectedIndex(Math.min(selecionado + 1, modeloSugestoes.size() - 1));
+                        evt.consume();
+                        break;
+                    case java.awt.event.KeyEvent.VK_UP:
+                        listaSugestoes.setSelectedIndex(Math.max(selecionado - 1, 0));
+                        evt.consume();
+                        break;
+                    case java.awt.event.KeyEvent.VK_ESCAPE:
+                        popupSugestoes.setVisible(false);
+                        evt.consume();
+                        break;
+                    default:
+                        break;
+                }
+            }
+        });
+    }
+    
+    /**
+     * Atualiza a lista de sugestões com o texto atual do campo de busca.
+     */
+    private void atualizarSugestoes() {
+        String texto = txtBusca.getText();
+        List<SugestaoUsuario> sugestoes = texto.trim().length() < 2 || !txtBusca.isFocusOwner()
+                                          || texto.equals(textoSugestaoAplicada)
+                ? List.of()
+                : controller.sugerirUsuarios(texto);
+        
+        if (sugestoes.isEmpty()) {
+            popupSugestoes.setVisible(false);
+            return;
+        }
+        
+        modeloSugestoes.clear();
+        modeloSugestoes.addAll(sugestoes);
+        listaSugestoes.setVisibleRowCount(sugestoes.size());
+        listaSugestoes.clearSelection();
+        popupSugestoes.setPopupSize(txtBusca.getWidth(), listaSugestoes.getPreferredScrollableViewportSize().height + 4);
+        
+        if (!popupSugestoes.isVisible()) {
+            popupSugestoes.show(txtBusca, 0, txtBusca.getHeight());
+        }
+        txtBusca.requestFocusInWindow();
+    }
+    
+    /**
+     * Exibe na tabela apenas o usuário sugerido.
+     */
+    private void aplicarSugestao(SugestaoUsuario sugestao) {
+        popupSugestoes.setVisible(false);
+        textoSugestaoAplicada = sugestao.getNome();
+        txtBusca.setText(sugestao.getNome());
+        
+        carregarTabela(() -> {
+            Usuario usuario = controller.buscarPorId(sugestao.getId());
+            return usuario != null ? List.of(UsuarioResumo.de(usuario)) : List.of();
+        }, null);
+    }
+    
     /**
      * Cria o painel com a tabela de usuários.
      */
@@ -195,14 +344,8 @@ public class MainView extends JFrame {
         lblTitulo.setBackground(new Color(240, 240, 240));
         lblTitulo.setOpaque(true);
         
-        // Colunas da tabela
-        String[] colunas = {"ID", "Nome", "Email", "Telefone", "Perfil", "Cidade", "Estado", "País"};
-        tableModel = new DefaultTableModel(colunas, 0) {
-            @Override
-            public boolean isCellEditable(int row, int column) {
-                return false;
-            }
-        };
+        // Modelo virtual: carrega apenas as páginas visíveis
+        tableModel = new ModeloTabelaUsuarios(controller, this::iniciarTarefa, this::concluirTarefa);
         
         // Configurações da tabela
         tabelaUsuarios = new JTable(tableModel);
@@ -287,8 +430,13 @@ public class MainView extends JFrame {
         btnEditar.addActionListener(e -> editarUsuario());
         btnExcluir.addActionListener(e -> excluirUsuario());
         btnAtualizar.addActionListener(e -> {
-            carregarUsuarios();
-            atualizarEstatisticas();
+            if (tableModel.isExibindoTodos()) {
+                // Busca só o que mudou desde a última sincronização
+                sincronizador.sincronizarAgora();
+            } else {
+                carregarUsuarios();
+                atualizarEstatisticas();
+            }
         });
         
         // Desabilita exclusão se não for admin
@@ -384,29 +532,94 @@ public class MainView extends JFrame {
     }
     
     /**
-     * Carrega todos os usuários na tabela.
+     * Exibe todos os usuários na tabela; as páginas são carregadas
+     * em segundo plano conforme a tabela é rolada.
      */
     public void carregarUsuarios() {
-        tableModel.setRowCount(0);
-        List<Usuario> usuarios = controller.listarTodos();
-        
-        for (Usuario usuario : usuarios) {
-            Object[] row = {
-                usuario.getId(),
-                usuario.getNome(),
-                usuario.getEmail(),
-                usuario.getTelefone() != null ? usuario.getTelefone() : "-",
-                usuario.getPerfil().name(),
-                usuario.getCidade() != null ? usuario.getCidade() : "-",
-                usuario.getEstado() != null ? usuario.getEstado() : "-",
-                usuario.getPais() != null ? usuario.getPais() : "-"
-            };
-            tableModel.addRow(row);
+        if (cargaTabela != null) {
+            cargaTabela.cancel(false);
+        }
+        tableModel.exibirTodos();
+    }
+    
+    /**
+     * Executa a consulta fora da EDT e preenche a tabela com o resultado.
+     * Uma carga anterior ainda em andamento é cancelada.
+     * 
+     * @param consulta Consulta ao controller
+     * @param termoBusca Termo exibido se nada for encontrado ou null para não avisar
+     */
+    private void carregarTabela(Supplier<List<UsuarioResumo>> consulta, String termoBusca) {
+        if (cargaTabela != null) {
+            cargaTabela.cancel(false);
         }
+        iniciarTarefa();
+        
+        cargaTabela = new SwingWorker<List<UsuarioResumo>, Void>() {
+            @Override
+            protected List<UsuarioResumo> doInBackground() {
+                return consulta.get();
+            }
+            
+            @Override
+            protected void done() {
+                concluirTarefa();
+                if (isCancelled()) {
+                    return;  // substituída por uma carga mais recente
+                }
+                try {
+                    List<UsuarioResumo> usuarios = get();
+                    preencherTabela(usuarios);
+                    
+                    if (termoBusca != null && usuarios.isEmpty()) {
+                        JOptionPane.showMessageDialog(MainView.this, 
+                            "Nenhum usuário encontrado com o termo: " + termoBusca,
+                            "Busca", 
+                            JOptionPane.INFORMATION_MESSAGE);
+                    }
+                } catch (Exception e) {
+                    exibirErroCarga(e);
+                }
+            }
+        };
+        cargaTabela.execute();
     }
     
     /**
-     * Busca usuários por nome.
+     * Mostra o indicador de carregamento enquanto houver consultas em andamento.
+     */
+    private void iniciarTarefa() {
+        if (tarefasEmAndamento++ == 0) {
+            lblCarregando.setVisible(true);
+            tabelaUsuarios.setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        }
+    }
+    
+    private void concluirTarefa() {
+        if (--tarefasEmAndamento == 0) {
+            lblCarregando.setVisible(false);
+            tabelaUsuarios.setCursor(Cursor.getDefaultCursor());
+        }
+    }
+    
+    private void exibirErroCarga(Exception e) {
+        Throwable causa = e.getCause() != null ? e.getCause() : e;
+        JOptionPane.showMessageDialog(this, 
+            "Erro ao carregar dados: " + causa.getMessage(),
+            "Erro", 
+            JOptionPane.ERROR_MESSAGE);
+        e.printStackTrace();
+    }
+    
+    /**
+     * Substitui o conteúdo da tabela pelos usuários informados.
+     */
+    private void preencherTabela(List<UsuarioResumo> usuarios) {
+        tableModel.exibirLista(usuarios);
+    }
+    
+    /**
+     * Busca usuários por parte do nome ou do email.
      */
     private void buscarUsuarios() {
         String termo = txtBusca.getText().trim();
@@ -416,42 +629,107 @@ public class MainView extends JFrame {
             return;
         }
         
-        tableModel.setRowCount(0);
-        List<Usuario> usuarios = controller.buscarPorNome(termo);
-        
-        for (Usuario usuario : usuarios) {
-            Object[] row = {
-                usuario.getId(),
-                usuario.getNome(),
-                usuario.getEmail(),
-                usuario.getTelefone() != null ? usuario.getTelefone() : "-",
-                usuario.getPerfil().name(),
-                usuario.getCidade() != null ? usuario.getCidade() : "-",
-                usuario.getEstado() != null ? usuario.getEstado() : "-",
-                usuario.getPais() != null ? usuario.getPais() : "-"
-            };
-            tableModel.addRow(row);
+        carregarTabela(() -> controller.buscarResumosPorNomeOuEmail(termo), termo);
+    }
+    
+    /**
+     * Atualiza as estatísticas exibidas (em segundo plano).
+     */
+    void atualizarEstatisticas() {
+        if (cargaEstatisticas != null) {
+            cargaEstatisticas.cancel(false);
         }
+        iniciarTarefa();
         
-        if (usuarios.isEmpty()) {
-            JOptionPane.showMessageDialog(this, 
-                "Nenhum usuário encontrado com o termo: " + termo,
-                "Busca", 
-                JOptionPane.INFORMATION_MESSAGE);
+        cargaEstatisticas = new SwingWorker<EstatisticasUsuarios, Void>() {
+            @Override
+            protected EstatisticasUsuarios doInBackground() {
+                return controller.obterEstatisticas();
+            }
+            
+            @Override
+            protected void done() {
+                concluirTarefa();
+                if (isCancelled()) {
+                    return;
+                }
+                try {
+                    EstatisticasUsuarios estatisticas = get();
+                    totalAtivos = estatisticas.getAtivos();
+                    totalAdmins = estatisticas.getAtivosPorPerfil(Usuario.Perfil.admin);
+                    totalUsers = estatisticas.getAtivosPorPerfil(Usuario.Perfil.user);
+                    exibirEstatisticas();
+                } catch (Exception e) {
+                    exibirErroCarga(e);
+                }
+            }
+        };
+        cargaEstatisticas.execute();
+    }
+    
+    private void exibirEstatisticas() {
+        lblTotal.setText("📊 Total: " + totalAtivos);
+        lblAdmin.setText("⚙️ Admins: " + totalAdmins);
+        lblUser.setText("👤 Users: " + totalUsers);
+    }
+    
+    /**
+     * Soma (ou subtrai) usuários ativos de um perfil nos contadores exibidos.
+     */
+    private void contarPerfil(Usuario.Perfil perfil, int quantidade) {
+        if (perfil == Usuario.Perfil.admin) {
+            totalAdmins += quantidade;
+        } else {
+            totalUsers += quantidade;
         }
     }
     
+    // ==================== ALTERAÇÕES INCREMENTAIS ====================
+    
     /**
-     * Atualiza as estatísticas exibidas.
+     * Exibe um usuário recém-cadastrado sem recarregar a tabela nem as estatísticas.
+     * 
+     * @param usuario Usuário cadastrado (com ID)
      */
-    void atualizarEstatisticas() {
-        int total = controller.contarUsuariosAtivos();
-        int admins = controller.contarPorPerfil(Usuario.Perfil.admin);
-        int users = controller.contarPorPerfil(Usuario.Perfil.user);
-        
-        lblTotal.setText("📊 Total: " + total);
-        lblAdmin.setText("⚙️ Admins: " + admins);
-        lblUser.setText("👤 Users: " + users);
+    void usuarioCadastrado(Usuario usuario) {
+        tableModel.inserir(UsuarioResumo.de(usuario));
+        totalAtivos++;
+        contarPerfil(usuario.getPerfil(), 1);
+        exibirEstatisticas();
+    }
+    
+    /**
+     * Atualiza a linha de um usuário editado e, se o perfil mudou, os contadores.
+     * 
+     * @param usuario Usuário atualizado
+     * @param perfilAnterior Perfil antes da edição
+     */
+    void usuarioAtualizado(Usuario usuario, Usuario.Perfil perfilAnterior) {
+        tableModel.atualizar(UsuarioResumo.de(usuario));
+        if (usuario.getPerfil() != perfilAnterior) {
+            contarPerfil(perfilAnterior, -1);
+            contarPerfil(usuario.getPerfil(), 1);
+            exibirEstatisticas();
+        }
+    }
+    
+    /**
+     * Aplica na tabela as alterações recebidas pela sincronização e relê as estatísticas
+     * (os contadores não podem ser ajustados localmente sem o estado anterior dos usuários).
+     */
+    private void aplicarAlteracoes(List<AlteracaoUsuario> alteracoes) {
+        tableModel.aplicarAlteracoes(alteracoes);
+        atualizarEstatisticas();
+    }
+    
+    /**
+     * Remove da tabela um usuário excluído e desconta dos contadores.
+     */
+    private void usuarioExcluido(UsuarioResumo usuario) {
+        tableModel.remover(usuario.getId());
+        totalAtivos--;
+        contarPerfil(usuario.getPerfil(), -1);
+        exibirEstatisticas();
     }
     
     /**
@@ -467,8 +745,9 @@ public class MainView extends JFrame {
      */
     private void editarUsuario() {
         int selectedRow = tabelaUsuarios.getSelectedRow();
+        UsuarioResumo selecionado = selectedRow == -1 ? null : tableModel.getUsuario(selectedRow);
         
-        if (selectedRow == -1) {
+        if (selecionado == null) {
             JOptionPane.showMessageDialog(this, 
                 "Selecione um usuário na tabela para editar!",
                 "Aviso", 
@@ -476,13 +755,33 @@ public class MainView extends JFrame {
             return;
         }
         
-        int userId = (int) tableModel.getValueAt(selectedRow, 0);
-        Usuario usuario = controller.buscarPorId(userId);
+        int userId = selecionado.getId();
+        btnEditar.setEnabled(false);
+        iniciarTarefa();
         
-        if (usuario != null) {
-            UsuarioFormView form = new UsuarioFormView(this, usuario, usuarioLogado);
-            form.setVisible(true);
-        }
+        // Busca o usuário completo fora da EDT e abre o formulário ao concluir
+        SwingWorker<Usuario, Void> worker = new SwingWorker<Usuario, Void>() {
+            @Override
+            protected Usuario doInBackground() {
+                return controller.buscarPorId(userId);
+            }
+            
+            @Override
+            protected void done() {
+                concluirTarefa();
+                btnEditar.setEnabled(true);
+                try {
+                    Usuario usuario = get();
+                    if (usuario != null) {
+                        UsuarioFormView form = new UsuarioFormView(MainView.this, usuario, usuarioLogado);
+                        form.setVisible(true);
+                    }
+                } catch (Exception e) {
+                    exibirErroCarga(e);
+                }
+            }
+        };
+        worker.execute();
     }
     
     /**
@@ -490,8 +789,9 @@ public class MainView extends JFrame {
      */
     private void excluirUsuario() {
         int selectedRow = tabelaUsuarios.getSelectedRow();
+        UsuarioResumo selecionado = selectedRow == -1 ? null : tableModel.getUsuario(selectedRow);
         
-        if (selectedRow == -1) {
+        if (selecionado == null) {
             JOptionPane.showMessageDialog(this, 
                 "Selecione um usuário na tabela para excluir!",
                 "Aviso", 
@@ -499,7 +799,7 @@ public class MainView extends JFrame {
             return;
         }
         
-        int userId = (int) tableModel.getValueAt(selectedRow, 0);
+        int userId = selecionado.getId();
         
         // Não permite excluir o próprio usuário
         if (userId == usuarioLogado.getId()) {
@@ -510,9 +810,8 @@ public class MainView extends JFrame {
             return;
         }
         
-        if (controller.excluir(userId)) {
-            carregarUsuarios();
-            atualizarEstatisticas();
+        if (controller.excluir(sessao, userId)) {
+            usuarioExcluido(selecionado);
         }
     }
     
@@ -529,7 +828,9 @@ public class MainView extends JFrame {
         );
         
         if (confirmacao == JOptionPane.YES_OPTION) {
+            controller.encerrarSessao(sessao);
             System.out.println("✓ Logout realizado: " + usuarioLogado.getEmail());
+            sincronizador.parar();
             new LoginView().setVisible(true);
             dispose();
         }
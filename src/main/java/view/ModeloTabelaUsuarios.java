@@ -0,0 +1,573 @@
+package view;
+
+import controller.UsuarioController;
+import model.AlteracaoUsuario;
+import model.CursorPagina;
+import model.Pagina;
+import model.UsuarioResumo;
+
+import javax.swing.*;
+import javax.swing.table.AbstractTableModel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Modelo da tabela de usuários da tela principal.
+ * 
+ * No modo "todos" conhece apenas o total de usuários ativos e carrega sob demanda,
+ * fora da EDT, as páginas que a tabela pede para desenhar. Mantém um número limitado
+ * de páginas em memória (LRU), pré-carrega as páginas vizinhas e exibe linhas
+ * provisórias enquanto uma página não chega. As páginas são lidas por cursor (nome, id)
+ * a partir do cursor conhecido mais próximo, de modo que a rolagem contínua nunca usa OFFSET.
+ * 
+ * No modo "lista" exibe uma lista já carregada (ex.: resultado de uma busca).
+ * 
+ * Cadastros, edições e exclusões feitos pela tela são aplicados diretamente nas linhas
+ * em memória (inserir/atualizar/remover), com eventos só das linhas afetadas, sem reler a tabela.
+ * 
+ * Todos os métodos devem ser chamados na EDT.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class ModeloTabelaUsuarios extends AbstractTableModel {
+    
+    private static final String[] COLUNAS = {"ID", "Nome", "Email", "Telefone", "Perfil", "Cidade", "Estado", "País"};
+    
+    // 200 linhas por página e até 50 páginas em memória (10 mil linhas) em qualquer tamanho de tabela
+    private static final int TAMANHO_PAGINA = 200;
+    private static final int MAXIMO_PAGINAS_EM_MEMORIA = 50;
+    
+    // Cargas simultâneas e fila de páginas pedidas (as mais recentes primeiro)
+    private static final int MAXIMO_CARGAS_SIMULTANEAS = 2;
+    private static final int MAXIMO_PENDENTES = 8;
+    
+    // Mesma ordem das consultas do banco (nome, id)
+    private static final Comparator<UsuarioResumo> ORDEM =
+            Comparator.comparing(UsuarioResumo::getNome, String.CASE_INSENSITIVE_ORDER)
+                      .thenComparingInt(UsuarioResumo::getId);
+    
+    private final UsuarioController controller;
+    private final Runnable aoIniciarCarga;
+    private final Runnable aoConcluirCarga;
+    
+    // Modo lista
+    private List<UsuarioResumo> lista;
+    
+    // Modo todos
+    private int totalLinhas;
+    private final Map<Integer, List<UsuarioResumo>> paginas =
+            new LinkedHashMap<Integer, List<UsuarioResumo>>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Integer, List<UsuarioResumo>> maisAntiga) {
+                    return size() > MAXIMO_PAGINAS_EM_MEMORIA;
+                }
+            };
+    // Cursor que antecede cada página conhecida (a página 0 não precisa de cursor)
+    private final TreeMap<Integer, CursorPagina> cursores = new TreeMap<>();
+    private final Deque<Integer> pendentes = new ArrayDeque<>();
+    private final Set<Integer> emCarga = new HashSet<>();
+    private final Set<Integer> falhas = new HashSet<>();
+    
+    // Incrementada a cada recarga: respostas de cargas anteriores são descartadas
+    private int geracao;
+    
+    /**
+     * Cria o modelo vazio.
+     * 
+     * @param controller Controller usado para consultar o total e as páginas
+     * @param aoIniciarCarga Chamado na EDT quando uma consulta começa (indicador de carga)
+     * @param aoConcluirCarga Chamado na EDT quando a consulta termina
+     */
+    public ModeloTabelaUsuarios(UsuarioController controller, Runnable aoIniciarCarga, Runnable aoConcluirCarga) {
+        this.controller = controller;
+        this.aoIniciarCarga = aoIniciarCarga;
+        this.aoConcluirCarga = aoConcluirCarga;
+        this.lista = List.of();
+    }
+    
+    // ==================== MODOS ====================
+    
+    /**
+     * Exibe uma lista já carregada (ex.: resultado de busca).
+     * 
+     * @param usuarios Usuários a exibir
+     */
+    public void exibirLista(List<UsuarioResumo> usuarios) {
+        descartarPaginas();
+        lista = new ArrayList<>(usuarios);
+        fireTableDataChanged();
+    }
+    
+    /**
+     * Exibe todos os usuários ativos: consulta o total em segundo plano e
+     * carrega as páginas conforme a tabela as exibe.
+     */
+    public void exibirTodos() {
+        descartarPaginas();
+        lista = null;
+        totalLinhas = 0;
+        fireTableDataChanged();
+        contar();
+    }
+    
+    /**
+     * Consulta o total de usuários ativos em segundo plano e avisa a tabela ao concluir.
+     */
+    private void contar() {
+        int geracaoCarga = geracao;
+        aoIniciarCarga.run();
+        new SwingWorker<Integer, Void>() {
+            @Override
+            protected Integer doInBackground() {
+                return controller.contarUsuariosAtivos();
+            }
+            
+            @Override
+            protected void done() {
+                aoConcluirCarga.run();
+                if (geracaoCarga != geracao) {
+                    return;
+                }
+                try {
+                    totalLinhas = get();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                    totalLinhas = 0;
+                }
+                fireTableDataChanged();
+            }
+        }.execute();
+    }
+    
+    /**
+     * @return true se o modelo está exibindo todos os usuários (e não uma lista)
+     */
+    public boolean isExibindoTodos() {
+        return lista == null;
+    }
+    
+    /**
+     * Retorna o usuário da linha, se já estiver carregado.
+     * 
+     * @param linha Índice da linha no modelo
+     * @return Usuário ou null se a página da linha ainda não foi carregada
+     */
+    public UsuarioResumo getUsuario(int linha) {
+        if (lista != null) {
+            return linha >= 0 && linha < lista.size() ? lista.get(linha) : null;
+        }
+        List<UsuarioResumo> pagina = paginas.get(linha / TAMANHO_PAGINA);
+        int posicao = linha % TAMANHO_PAGINA;
+        return pagina != null && posicao < pagina.size() ? pagina.get(posicao) : null;
+    }
+    
+    // ==================== ALTERAÇÕES INCREMENTAIS ====================
+    
+    /**
+     * Insere um usuário recém-cadastrado na sua posição da ordenação.
+     * 
+     * @param usuario Usuário cadastrado
+     */
+    public void inserir(UsuarioResumo usuario) {
+        if (lista != null) {
+            int indice = Collections.binarySearch(lista, usuario, ORDEM);
+            int linha = indice < 0 ? -(indice + 1) : indice;
+            lista.add(linha, usuario);
+            fireTableRowsInserted(linha, linha);
+            return;
+        }
+        
+        int linha = localizarPosicao(usuario);
+        totalLinhas++;
+        if (linha < 0) {
+            // Posição fora das páginas carregadas: só o banco sabe onde a linha entra
+            descartarPaginas();
+            fireTableDataChanged();
+            return;
+        }
+        deslocar(linha, usuario);
+        fireTableRowsInserted(linha, linha);
+    }
+    
+    /**
+     * Substitui os dados de um usuário exibido. Se a mudança de nome altera a
+     * posição na ordenação, a linha é removida e inserida na nova posição.
+     * 
+     * @param usuario Usuário com os dados atualizados
+     */
+    public void atualizar(UsuarioResumo usuario) {
+        int linha = localizar(usuario.getId());
+        if (linha < 0) {
+            if (lista == null) {
+                // Fora da memória: um novo nome pode ter deslocado as páginas carregadas
+                descartarPaginas();
+                fireTableDataChanged();
+            }
+            return;
+        }
+        
+        if (!mantemPosicao(linha, usuario)) {
+            remover(usuario.getId());
+            inserir(usuario);
+            return;
+        }
+        
+        if (lista != null) {
+            lista.set(linha, usuario);
+        } else {
+            paginas.get(linha / TAMANHO_PAGINA).set(linha % TAMANHO_PAGINA, usuario);
+        }
+        fireTableRowsUpdated(linha, linha);
+    }
+    
+    /**
+     * Remove um usuário excluído (desativado).
+     * 
+     * @param id ID do usuário
+     */
+    public void remover(int id) {
+        int linha = localizar(id);
+        if (lista != null) {
+            if (linha >= 0) {
+                lista.remove(linha);
+                fireTableRowsDeleted(linha, linha);
+            }
+            return;
+        }
+        
+        totalLinhas = Math.max(0, totalLinhas - 1);
+        if (linha < 0) {
+            descartarPaginas();
+            fireTableDataChanged();
+            return;
+        }
+        deslocar(linha, null);
+        fireTableRowsDeleted(linha, linha);
+    }
+    
+    /**
+     * Aplica alterações feitas por outros processos (sincronização incremental).
+     * Linhas em memória são atualizadas ou removidas no lugar; na lista, usuários que
+     * não estão nela são ignorados. No modo "todos", uma alteração de usuário fora das
+     * páginas carregadas (novo, reativado, renomeado ou desativado) pode mudar o total
+     * e as posições: as páginas são descartadas e o total é recontado, sem reler a tabela.
+     * 
+     * @param alteracoes Alterações em ordem de data
+     */
+    public void aplicarAlteracoes(List<AlteracaoUsuario> alteracoes) {
+        if (lista == null && alteracoes.stream().anyMatch(alteracao -> localizar(alteracao.getId()) < 0)) {
+            descartarPaginas();
+            contar();
+            return;
+        }
+        
+        for (AlteracaoUsuario alteracao : alteracoes) {
+            if (localizar(alteracao.getId()) < 0) {
+                continue;
+            }
+            if (alteracao.isAtivo()) {
+                atualizar(alteracao.getUsuario());
+            } else {
+                remover(alteracao.getId());
+            }
+        }
+    }
+    
+    /**
+     * @return Linha do usuário com o ID informado ou -1 se ele não está em memória
+     */
+    private int localizar(int id) {
+        if (lista != null) {
+            for (int i = 0; i < lista.size(); i++) {
+                if (lista.get(i).getId() == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+        for (Map.Entry<Integer, List<UsuarioResumo>> pagina : paginas.entrySet()) {
+            List<UsuarioResumo> itens = pagina.getValue();
+            for (int i = 0; i < itens.size(); i++) {
+                if (itens.get(i).getId() == id) {
+                    return pagina.getKey() * TAMANHO_PAGINA + i;
+                }
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * Procura nas páginas carregadas a linha em que um novo usuário entra.
+     * A posição só é certa se a linha anterior e a seguinte estão em memória
+     * (ou se ela fica no início ou no fim da tabela).
+     * 
+     * @return Linha de inserção ou -1 se a posição não pode ser determinada
+     */
+    private int localizarPosicao(UsuarioResumo usuario) {
+        // Cópia em ordem de página (get no mapa do LRU alteraria a ordem de acesso)
+        TreeMap<Integer, List<UsuarioResumo>> carregadas = new TreeMap<>();
+        paginas.forEach(carregadas::put);
+        
+        for (Map.Entry<Integer, List<UsuarioResumo>> entrada : carregadas.entrySet()) {
+            int pagina = entrada.getKey();
+            List<UsuarioResumo> itens = entrada.getValue();
+            int indice = Collections.binarySearch(itens, usuario, ORDEM);
+            int posicao = indice < 0 ? -(indice + 1) : indice;
+            int linha = pagina * TAMANHO_PAGINA + posicao;
+            
+            if (posicao > 0 && posicao < itens.size()) {
+                return linha;
+            }
+            if (posicao == 0) {
+                List<UsuarioResumo> anterior = carregadas.get(pagina - 1);
+                if (pagina == 0 || (anterior != null && ORDEM.compare(anterior.get(anterior.size() - 1), usuario) < 0)) {
+                    return linha;
+                }
+            }
+            if (posicao == itens.size() && linha == totalLinhas) {
+                return linha;
+            }
+        }
+        return -1;
+    }
+    
+    /**
+     * @return true se o usuário atualizado continua entre as linhas vizinhas
+     */
+    private boolean mantemPosicao(int linha, UsuarioResumo usuario) {
+        if (getUsuario(linha).getNome().equalsIgnoreCase(usuario.getNome())) {
+            return true;
+        }
+        UsuarioResumo anterior = linha > 0 ? getUsuario(linha - 1) : null;
+        UsuarioResumo seguinte = linha + 1 < getRowCount() ? getUsuario(linha + 1) : null;
+        
+        // Vizinho que existe mas não está em memória: não dá para comparar
+        if ((linha > 0 && anterior == null) || (linha + 1 < getRowCount() && seguinte == null)) {
+            return false;
+        }
+        return (anterior == null || ORDEM.compare(anterior, usuario) < 0)
+                && (seguinte == null || ORDEM.compare(usuario, seguinte) < 0);
+    }
+    
+    /**
+     * Insere (novo != null) ou remove a linha informada nas páginas carregadas. As páginas
+     * contíguas a partir da página da linha passam a primeira ou a última linha para a vizinha;
+     * as páginas depois da primeira lacuna ficariam deslocadas e são descartadas, assim
+     * como os cursores que deixaram de valer. O total de linhas já deve estar ajustado.
+     */
+    private void deslocar(int linha, UsuarioResumo novo) {
+        int primeira = linha / TAMANHO_PAGINA;
+        int ultima = primeira;
+        while (paginas.containsKey(ultima)) {
+            ultima++;
+        }
+        ultima--;
+        
+        List<UsuarioResumo> linhas = new ArrayList<>();
+        for (int pagina = primeira; pagina <= ultima; pagina++) {
+            linhas.addAll(paginas.get(pagina));
+        }
+        int posicao = linha - primeira * TAMANHO_PAGINA;
+        if (novo != null) {
+            linhas.add(posicao, novo);
+        } else {
+            linhas.remove(posicao);
+        }
+        
+        // Redistribui; a linha que sobra no fim de uma inserção pertence à página seguinte,
+        // que não está em memória, e é lida do banco quando ela carregar
+        for (int pagina = primeira; pagina <= ultima; pagina++) {
+            int inicio = (pagina - primeira) * TAMANHO_PAGINA;
+            List<UsuarioResumo> itens = new ArrayList<>(
+                    linhas.subList(Math.min(inicio, linhas.size()), Math.min(inicio + TAMANHO_PAGINA, linhas.size())));
+            boolean completa = itens.size() == TAMANHO_PAGINA
+                    || (!itens.isEmpty() && pagina * TAMANHO_PAGINA + itens.size() == totalLinhas);
+            
+            if (completa) {
+                paginas.put(pagina, itens);
+            } else {
+                paginas.remove(pagina);
+            }
+            if (itens.size() == TAMANHO_PAGINA) {
+                UsuarioResumo ultimo = itens.get(TAMANHO_PAGINA - 1);
+                cursores.put(pagina + 1, new CursorPagina(ultimo.getNome(), ultimo.getId()));
+            } else {
+                cursores.remove(pagina + 1);
+            }
+        }
+        
+        int limite = Math.max(primeira, ultima + 1);
+        cursores.tailMap(limite, false).clear();
+        paginas.keySet().removeIf(pagina -> pagina > limite);
+        
+        // Cargas em andamento leriam a posição antiga
+        geracao++;
+        emCarga.clear();
+        pendentes.clear();
+        falhas.clear();
+    }
+    
+    // ==================== TABLE MODEL ====================
+    
+    @Override
+    public int getRowCount() {
+        return lista != null ? lista.size() : totalLinhas;
+    }
+    
+    @Override
+    public int getColumnCount() {
+        return COLUNAS.length;
+    }
+    
+    @Override
+    public String getColumnName(int coluna) {
+        return COLUNAS[coluna];
+    }
+    
+    @Override
+    public boolean isCellEditable(int linha, int coluna) {
+        return false;
+    }
+    
+    @Override
+    public Object getValueAt(int linha, int coluna) {
+        UsuarioResumo usuario = getUsuario(linha);
+        if (usuario == null) {
+            solicitarPagina(linha / TAMANHO_PAGINA);
+            return coluna == 1 ? "Carregando..." : "";
+        }
+        
+        if (lista == null) {
+            // Página exibida: prepara as vizinhas para a rolagem continuar sem espera
+            int pagina = linha / TAMANHO_PAGINA;
+            preCarregar(pagina + 1);
+            preCarregar(pagina - 1);
+        }
+        
+        switch (coluna) {
+            case 0: return usuario.getId();
+            case 1: return usuario.getNome();
+            case 2: return usuario.getEmail();
+            case 3: return usuario.getTelefone() != null ? usuario.getTelefone() : "-";
+            case 4: return usuario.getPerfil().name();
+            case 5: return usuario.getCidade() != null ? usuario.getCidade() : "-";
+            case 6: return usuario.getEstado() != null ? usuario.getEstado() : "-";
+            case 7: return usuario.getPais() != null ? usuario.getPais() : "-";
+            default: return null;
+        }
+    }
+    
+    // ==================== CARGA DE PÁGINAS ====================
+    
+    /**
+     * Pede uma página visível: entra no início da fila.
+     */
+    private void solicitarPagina(int pagina) {
+        if (lista != null || !precisaCarregar(pagina)) {
+            return;
+        }
+        pendentes.remove(pagina);
+        pendentes.addFirst(pagina);
+        
+        // Pedidos antigos (rolagem que já passou) saem da fila
+        while (pendentes.size() > MAXIMO_PENDENTES) {
+            pendentes.removeLast();
+        }
+        iniciarCargas();
+    }
+    
+    /**
+     * Pede uma página vizinha: entra no fim da fila, depois das visíveis.
+     */
+    private void preCarregar(int pagina) {
+        if (pagina < 0 || pagina * TAMANHO_PAGINA >= totalLinhas
+                || !precisaCarregar(pagina) || pendentes.contains(pagina)
+                || pendentes.size() >= MAXIMO_PENDENTES) {
+            return;
+        }
+        pendentes.addLast(pagina);
+        iniciarCargas();
+    }
+    
+    private boolean precisaCarregar(int pagina) {
+        return !paginas.containsKey(pagina) && !emCarga.contains(pagina) && !falhas.contains(pagina);
+    }
+    
+    private void iniciarCargas() {
+        while (emCarga.size() < MAXIMO_CARGAS_SIMULTANEAS && !pendentes.isEmpty()) {
+            carregarPagina(pendentes.removeFirst());
+        }
+    }
+    
+    /**
+     * Carrega a página a partir do cursor conhecido mais próximo antes dela.
+     */
+    private void carregarPagina(int pagina) {
+        Map.Entry<Integer, CursorPagina> anterior = cursores.floorEntry(pagina);
+        CursorPagina apos = anterior != null ? anterior.getValue() : null;
+        int pular = (pagina - (anterior != null ? anterior.getKey() : 0)) * TAMANHO_PAGINA;
+        int geracaoCarga = geracao;
+        
+        emCarga.add(pagina);
+        aoIniciarCarga.run();
+        
+        new SwingWorker<Pagina<UsuarioResumo>, Void>() {
+            @Override
+            protected Pagina<UsuarioResumo> doInBackground() {
+                return controller.listarPaginaResumos(apos, pular, TAMANHO_PAGINA, true, null);
+            }
+            
+            @Override
+            protected void done() {
+                aoConcluirCarga.run();
+                if (geracaoCarga != geracao) {
+                    return;
+                }
+                emCarga.remove(pagina);
+                
+                Pagina<UsuarioResumo> resultado = null;
+                try {
+                    resultado = get();
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+                
+                if (resultado == null || resultado.getItens().isEmpty()) {
+                    // Erro (já exibido pelo controller) ou tabela encolheu: não tenta de novo até recarregar
+                    falhas.add(pagina);
+                } else {
+                    // Cópia editável: atualizar() substitui linhas da página no lugar
+                    paginas.put(pagina, new ArrayList<>(resultado.getItens()));
+                    if (resultado.temProxima()) {
+                        cursores.put(pagina + 1, resultado.getProximoCursor());
+                    }
+                    int primeira = pagina * TAMANHO_PAGINA;
+                    int ultima = Math.min(primeira + TAMANHO_PAGINA, totalLinhas) - 1;
+                    if (primeira <= ultima) {
+                        fireTableRowsUpdated(primeira, ultima);
+                    }
+                }
+                iniciarCargas();
+            }
+        }.execute();
+    }
+    
+    private void descartarPaginas() {
+        geracao++;
+        paginas.clear();
+        cursores.clear();
+        pendentes.clear();
+        emCarga.clear();
+        falhas.clear();
+    }
+}
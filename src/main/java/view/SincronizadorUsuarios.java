@@ -0,0 +1,154 @@
+package view;
+
+import controller.UsuarioController;
+import model.AlteracaoUsuario;
+
+import javax.swing.*;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Mantém os dados da tela atualizados consultando periodicamente, fora da EDT,
+ * apenas os usuários alterados desde a última consulta (data_atualizacao e
+ * exclusões permanentes), em vez de reler a tabela inteira.
+ * 
+ * A marca é a data da última alteração recebida, mas cada consulta recua uma janela
+ * de sobreposição antes dela: uma transação que grava data_atualizacao e só confirma
+ * depois de outra alteração mais nova já ter avançado a marca ficaria para sempre
+ * abaixo dela. As alterações repetidas pela janela são reconhecidas pelo par
+ * (ID, data) já aplicado e ignoradas; a alteração seguinte de um usuário tem data
+ * maior e passa.
+ * 
+ * Cada consulta também aplica as alterações aos caches do DAO e às sessões
+ * (UsuarioController.sincronizarAlteradosDesde).
+ * 
+ * Todos os métodos devem ser chamados na EDT; as alterações são entregues na EDT.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class SincronizadorUsuarios {
+    
+    // Recuo de toda consulta em relação à marca: cobre transações confirmadas até esse
+    // tempo depois de gravar data_atualizacao e, na primeira consulta, as alterações
+    // gravadas enquanto a tela fazia a primeira carga
+    private static final Duration JANELA_SOBREPOSICAO = Duration.ofSeconds(5);
+    
+    private final UsuarioController controller;
+    private final Consumer<List<AlteracaoUsuario>> aoAlterar;
+    private final Timer timer;
+    
+    private Instant marca;
+    // Data da última alteração aplicada de cada usuário dentro da janela de sobreposição
+    private final Map<Integer, Instant> aplicadosNaJanela = new HashMap<>();
+    private SwingWorker<List<AlteracaoUsuario>, Void> consulta;
+    
+    /**
+     * Cria o sincronizador parado.
+     * 
+     * @param controller Controller usado nas consultas
+     * @param intervaloMs Intervalo entre consultas, em milissegundos
+     * @param aoAlterar Recebe na EDT as alterações novas (nunca uma lista vazia)
+     */
+    public SincronizadorUsuarios(UsuarioController controller, int intervaloMs,
+                                 Consumer<List<AlteracaoUsuario>> aoAlterar) {
+        this.controller = controller;
+        this.aoAlterar = aoAlterar;
+        this.timer = new Timer(intervaloMs, e -> sincronizarAgora());
+    }
+    
+    /**
+     * Lê a marca inicial e começa as consultas periódicas.
+     */
+    public void iniciar() {
+        timer.start();
+        sincronizarAgora();
+    }
+    
+    /**
+     * Interrompe as consultas periódicas; uma consulta em andamento é descartada.
+     */
+    public void parar() {
+        timer.stop();
+        if (consulta != null) {
+            consulta.cancel(false);
+            consulta = null;
+        }
+    }
+    
+    /**
+     * Consulta as alterações imediatamente (ex.: botão de atualizar), se não
+     * houver uma consulta em andamento.
+     */
+    public void sincronizarAgora() {
+        if (consulta != null) {
+            return;
+        }
+        
+        Instant desde = marca;
+        consulta = new SwingWorker<List<AlteracaoUsuario>, Void>() {
+            private Instant marcaInicial;
+            
+            @Override
+            protected List<AlteracaoUsuario> doInBackground() {
+                if (desde == null) {
+                    marcaInicial = controller.obterInstanteAtual();
+                    return List.of();
+                }
+                return controller.sincronizarAlteradosDesde(desde.minus(JANELA_SOBREPOSICAO));
+            }
+            
+            @Override
+            protected void done() {
+                if (isCancelled()) {
+                    return;
+                }
+                consulta = null;
+                try {
+                    List<AlteracaoUsuario> alteracoes = get();
+                    if (desde == null) {
+                        marca = marcaInicial;
+                    } else if (alteracoes != null) {
+                        // Erro (null) mantém a marca: a próxima consulta tenta de novo
+                        aplicar(alteracoes);
+                    }
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        };
+        consulta.execute();
+    }
+    
+    /**
+     * Avança a marca e entrega as alterações que ainda não foram aplicadas.
+     */
+    private void aplicar(List<AlteracaoUsuario> alteracoes) {
+        List<AlteracaoUsuario> novas = new ArrayList<>();
+        for (AlteracaoUsuario alteracao : alteracoes) {
+            Instant data = alteracao.getData();
+            Instant aplicada = aplicadosNaJanela.get(alteracao.getId());
+            if (aplicada != null && !data.isAfter(aplicada)) {
+                continue;
+            }
+            aplicadosNaJanela.put(alteracao.getId(), data);
+            if (data.isAfter(marca)) {
+                marca = data;
+            }
+            novas.add(alteracao);
+        }
+        
+        // Alterações anteriores à janela não voltam nas próximas consultas
+        Instant limite = marca.minus(JANELA_SOBREPOSICAO);
+        aplicadosNaJanela.values().removeIf(data -> data.isBefore(limite));
+        
+        if (!novas.isEmpty()) {
+            aoAlterar.accept(novas);
+        }
+    }
+}
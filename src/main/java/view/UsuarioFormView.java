@@ -435,6 +435,7 @@ public class UsuarioFormView extends JDialog {
      */
     private void salvar() {
         Usuario usuarioSalvar = usuario != null ? usuario : new Usuario();
+        Usuario.Perfil perfilAnterior = usuarioSalvar.getPerfil();
         
         // Preenche dados básicos
         usuarioSalvar.setNome(txtNome.getText().trim());
@@ -475,19 +476,46 @@ public class UsuarioFormView extends JDialog {
             usuarioSalvar.setSenha(senha);
         }
         
-        // Salva no banco
-        boolean sucesso;
-        if (usuario == null) {
-            sucesso = controller.cadastrar(usuarioSalvar);
-        } else {
-            sucesso = controller.atualizar(usuarioSalvar);
-        }
-        
-        if (sucesso) {
-            parentView.carregarUsuarios();
-            parentView.atualizarEstatisticas();
-            dispose();
-        }
+        // Salva no banco fora da EDT; os botões ficam desabilitados até concluir
+        String textoSalvar = btnSalvar.getText();
+        btnSalvar.setEnabled(false);
+        btnCancelar.setEnabled(false);
+        btnSalvar.setText("⏳ Salvando...");
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+        
+        SwingWorker<Usuario, Void> worker = new SwingWorker<Usuario, Void>() {
+            @Override
+            protected Usuario doInBackground() {
+                return usuario == null ? controller.cadastrar(usuarioSalvar) : controller.atualizar(usuarioSalvar);
+            }
+            
+            @Override
+            protected void done() {
+                setCursor(Cursor.getDefaultCursor());
+                btnSalvar.setText(textoSalvar);
+                btnSalvar.setEnabled(true);
+                btnCancelar.setEnabled(true);
+                try {
+                    Usuario salvo = get();
+                    if (salvo != null) {
+                        // Aplica só a linha alterada, sem recarregar a tabela
+                        if (usuario == null) {
+                            parentView.usuarioCadastrado(salvo);
+                        } else {
+                            parentView.usuarioAtualizado(salvo, perfilAnterior);
+                        }
+                        dispose();
+                    }
+                } catch (Exception e) {
+                    JOptionPane.showMessageDialog(UsuarioFormView.this, 
+                        "Erro ao salvar usuário: " + e.getMessage(), 
+                        "Erro", 
+                        JOptionPane.ERROR_MESSAGE);
+                    e.printStackTrace();
+                }
+            }
+        };
+        worker.execute();
     }
     
     /**
@@ -0,0 +1,110 @@
+package util;
+
+import model.Usuario;
+import model.Usuario.Perfil;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Testes do GerenciadorSessoes: threads validando sessões de vários usuários enquanto
+ * outra thread encerra as sessões de um deles, e expiração deslizante com relógio simulado.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class GerenciadorSessoesTest {
+    
+    private static final int THREADS = 16;
+    private static final int USUARIOS = 100;
+    private static final int SESSOES_POR_USUARIO = 10;
+    private static final int VALIDACOES_POR_THREAD = 200_000;
+    
+    @Test
+    public void sessaoInvalidadaNaoVoltaASerAceita() throws InterruptedException {
+        GerenciadorSessoes gerenciador = new GerenciadorSessoes(60_000);
+        List<Sessao> emitidas = new ArrayList<>();
+        for (int u = 1; u <= USUARIOS; u++) {
+            Usuario usuario = usuario(u, u == 1 ? Perfil.admin : Perfil.user);
+            for (int s = 0; s < SESSOES_POR_USUARIO; s++) {
+                emitidas.add(gerenciador.criar(usuario));
+            }
+        }
+        
+        CountDownLatch largada = new CountDownLatch(1);
+        AtomicBoolean invalidado = new AtomicBoolean(false);
+        LongAdder aceitasAposInvalidacao = new LongAdder();
+        List<Thread> threads = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int deslocamento = t;
+            Thread th = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < VALIDACOES_POR_THREAD; i++) {
+                    Sessao sessao = emitidas.get((i + deslocamento * 31) % emitidas.size());
+                    boolean jaInvalidado = invalidado.get();
+                    if (gerenciador.validar(sessao.getToken()) != null && jaInvalidado && sessao.getUsuarioId() == 1) {
+                        aceitasAposInvalidacao.increment();
+                    }
+                }
+            });
+            th.start();
+            threads.add(th);
+        }
+        
+        largada.countDown();
+        Thread.sleep(20);
+        int encerradas = gerenciador.invalidarUsuario(1);
+        invalidado.set(true);
+        for (Thread th : threads) {
+            th.join();
+        }
+        
+        assertEquals(SESSOES_POR_USUARIO, encerradas);
+        assertEquals(0, aceitasAposInvalidacao.sum());
+        assertEquals((USUARIOS - 1) * SESSOES_POR_USUARIO, gerenciador.getSessoesAtivas());
+        assertEquals(USUARIOS - 1, gerenciador.getUsuariosComSessao());
+        for (Sessao sessao : emitidas) {
+            if (sessao.getUsuarioId() == 1) {
+                assertNull(gerenciador.validar(sessao));
+            } else {
+                assertNotNull(gerenciador.validar(sessao));
+            }
+        }
+    }
+    
+    @Test
+    public void expiracaoDeslizante() {
+        // O uso renova a sessão; a inatividade além do prazo a encerra
+        long[] agora = { 0 };
+        GerenciadorSessoes gerenciador = new GerenciadorSessoes(10_000, () -> agora[0]);
+        Sessao sessao = gerenciador.criar(usuario(1, Perfil.user));
+        for (int i = 0; i < 5; i++) {
+            agora[0] += 8_000;
+            assertNotNull("renovada até " + agora[0] + " ms", gerenciador.validar(sessao));
+        }
+        agora[0] += 10_001;
+        
+        assertNull(gerenciador.validar(sessao));
+        assertEquals(1, gerenciador.getExpiradas());
+        assertEquals(0, gerenciador.getSessoesAtivas());
+    }
+    
+    private static Usuario usuario(int id, Perfil perfil) {
+        Usuario usuario = new Usuario();
+        usuario.setId(id);
+        usuario.setPerfil(perfil);
+        return usuario;
+    }
+}
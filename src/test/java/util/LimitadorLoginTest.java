@@ -0,0 +1,113 @@
+package util;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Testes de concorrência do LimitadorLogin: muitas threads tentando ao mesmo tempo
+ * o mesmo email, emails diferentes do mesmo cliente e emails e clientes aleatórios
+ * (para a capacidade). Conferem que os limites valem exatamente sob disputa.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class LimitadorLoginTest {
+    
+    private static final int THREADS = 64;
+    private static final int TENTATIVAS_POR_THREAD = 500;
+    
+    @Test
+    public void mesmoEmailLiberaApenasLimiteEmail() throws InterruptedException {
+        LimitadorLogin limitador = new LimitadorLogin(5, 1_000_000, 60_000, 60_000, 0, 100_000);
+        long liberadas = disputar((t, i) -> limitador.tentar("alvo@exemplo.com", "cliente-" + t + "-" + i));
+        
+        assertEquals(5, liberadas);
+        assertEquals(5, limitador.getPermitidas());
+        assertEquals(THREADS * TENTATIVAS_POR_THREAD - 5, limitador.getRecusadasPorBloqueio());
+    }
+    
+    @Test
+    public void mesmoClienteLiberaApenasLimiteCliente() throws InterruptedException {
+        LimitadorLogin limitador = new LimitadorLogin(1_000_000, 20, 60_000, 60_000, 0, 100_000);
+        long liberadas = disputar((t, i) -> limitador.tentar("usuario-" + t + "-" + i + "@exemplo.com", "10.0.0.1"));
+        
+        assertEquals(20, liberadas);
+        assertEquals(20, limitador.getPermitidas());
+    }
+    
+    @Test
+    public void chavesAleatoriasFicamLimitadasPelaCapacidade() throws InterruptedException {
+        int capacidade = 10_000;
+        LimitadorLogin limitador = new LimitadorLogin(5, 20, 60_000, 60_000, 1_000, capacidade);
+        long liberadas = disputar((t, i) -> limitador.tentar("u" + t + "-" + i + "@exemplo.com", "ip-" + t + "-" + i));
+        
+        // Cada tentativa usa chaves novas: todas são liberadas e as antigas descartadas.
+        // Chaves criadas durante a última limpeza podem passar da capacidade, no
+        // máximo duas (email e cliente) por thread
+        assertEquals(THREADS * TENTATIVAS_POR_THREAD, liberadas);
+        assertTrue(limitador.getChavesDescartadas() > 0);
+        assertTrue("chaves em memória: " + limitador.getChavesMonitoradas(),
+                   limitador.getChavesMonitoradas() <= capacidade + 2 * THREADS);
+    }
+    
+    @Test
+    public void esperaProgressivaEBloqueio() {
+        // Relógio simulado: cada tentativa é feita assim que liberada;
+        // a 3ª e a 4ª impõem espera e a 5ª bloqueia
+        long[] agora = { 0 };
+        LimitadorLogin limitador = new LimitadorLogin(5, 100, 60_000, 300_000, 1_000, 1_000, () -> agora[0]);
+        List<Long> esperas = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            long espera;
+            while ((espera = limitador.tentar("ana@exemplo.com", "local")) > 0) {
+                esperas.add(espera);
+                agora[0] += espera;
+            }
+        }
+        
+        assertEquals(List.of(1_000L, 2_000L, 300_000L), esperas);
+        assertEquals(6, limitador.getPermitidas());
+    }
+    
+    private interface Tentativa {
+        long tentar(int thread, int indice);
+    }
+    
+    /**
+     * Dispara todas as threads ao mesmo tempo e conta as tentativas liberadas.
+     */
+    private static long disputar(Tentativa tentativa) throws InterruptedException {
+        CountDownLatch largada = new CountDownLatch(1);
+        LongAdder liberadas = new LongAdder();
+        List<Thread> threads = new ArrayList<>(THREADS);
+        for (int t = 0; t < THREADS; t++) {
+            int thread = t;
+            Thread th = new Thread(() -> {
+                try {
+                    largada.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < TENTATIVAS_POR_THREAD; i++) {
+                    if (tentativa.tentar(thread, i) == 0) {
+                        liberadas.increment();
+                    }
+                }
+            });
+            th.start();
+            threads.add(th);
+        }
+        largada.countDown();
+        for (Thread th : threads) {
+            th.join();
+        }
+        return liberadas.sum();
+    }
+}
@@ -0,0 +1,113 @@
+package view;
+
+import controller.UsuarioController;
+import model.AlteracaoUsuario;
+import model.CursorPagina;
+import model.Pagina;
+import model.Usuario.Perfil;
+import model.UsuarioResumo;
+import org.junit.Test;
+
+import javax.swing.SwingUtilities;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Testes do ModeloTabelaUsuarios no modo "todos": páginas lidas do controller
+ * (imutáveis, como as do banco) e alteradas no lugar pela tela.
+ * 
+ * @author Emerson Meneses Inocente <emerson_inocente@hotmail.com>
+ * @version 1.0
+ */
+public class ModeloTabelaUsuariosTest {
+    
+    private static final List<UsuarioResumo> USUARIOS = List.of(
+            resumo(1, "Ana", "ana@exemplo.com"),
+            resumo(2, "Bruno", "bruno@exemplo.com"),
+            resumo(3, "Carla", "carla@exemplo.com"));
+    
+    /**
+     * Controller que responde com uma página fixa, sem banco.
+     */
+    private static class ControllerFixo extends UsuarioController {
+        @Override
+        public int contarUsuariosAtivos() {
+            return USUARIOS.size();
+        }
+        
+        @Override
+        public Pagina<UsuarioResumo> listarPaginaResumos(CursorPagina apos, int pular, int tamanho,
+                                                        Boolean ativo, Perfil perfil) {
+            return new Pagina<>(USUARIOS, null);
+        }
+    }
+    
+    @Test
+    public void atualizarLinhaDePaginaCarregada() throws Exception {
+        ModeloTabelaUsuarios modelo = carregarPagina();
+        UsuarioResumo editado = resumo(2, "Bruno", "bruno.novo@exemplo.com");
+        
+        naEdt(() -> {
+            modelo.atualizar(editado);
+            return null;
+        });
+        
+        assertEquals("bruno.novo@exemplo.com", naEdt(() -> modelo.getUsuario(1)).getEmail());
+        assertEquals(3, (int) naEdt(modelo::getRowCount));
+    }
+    
+    @Test
+    public void aplicarAlteracoesEmPaginaCarregada() throws Exception {
+        ModeloTabelaUsuarios modelo = carregarPagina();
+        UsuarioResumo editado = resumo(3, "Carla", "carla.nova@exemplo.com");
+        
+        naEdt(() -> {
+            modelo.aplicarAlteracoes(List.of(AlteracaoUsuario.alterado(editado, Instant.now())));
+            return null;
+        });
+        
+        assertEquals("carla.nova@exemplo.com", naEdt(() -> modelo.getUsuario(2)).getEmail());
+    }
+    
+    /**
+     * Exibe todos os usuários e espera o total e a primeira página chegarem.
+     */
+    private static ModeloTabelaUsuarios carregarPagina() throws Exception {
+        ModeloTabelaUsuarios modelo = naEdt(() -> {
+            ModeloTabelaUsuarios m = new ModeloTabelaUsuarios(new ControllerFixo(), () -> { }, () -> { });
+            m.exibirTodos();
+            return m;
+        });
+        esperar(() -> naEdt(modelo::getRowCount) == USUARIOS.size());
+        naEdt(() -> modelo.getValueAt(0, 1));
+        esperar(() -> naEdt(() -> modelo.getUsuario(0)) != null);
+        return modelo;
+    }
+    
+    private interface Condicao {
+        boolean valida() throws Exception;
+    }
+    
+    private static void esperar(Condicao condicao) throws Exception {
+        long limite = System.nanoTime() + 5_000_000_000L;
+        while (!condicao.valida()) {
+            assertTrue("tempo esgotado esperando a carga", System.nanoTime() < limite);
+            Thread.sleep(10);
+        }
+    }
+    
+    private static <T> T naEdt(Supplier<T> acao) throws Exception {
+        AtomicReference<T> resultado = new AtomicReference<>();
+        SwingUtilities.invokeAndWait(() -> resultado.set(acao.get()));
+        return resultado.get();
+    }
+    
+    private static UsuarioResumo resumo(int id, String nome, String email) {
+        return new UsuarioResumo(id, nome, email, "", Perfil.user, "", "", "", true);
+    }
+}